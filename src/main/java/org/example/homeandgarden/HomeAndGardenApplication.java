@@ -2,11 +2,18 @@ package org.example.homeandgarden;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.ZoneOffset;
+import java.util.TimeZone;
 
 @SpringBootApplication
+@EnableScheduling
 public class HomeAndGardenApplication {
 
 	public static void main(String[] args) {
+		// TIMESTAMP columns hold UTC, also for JDBC code, CURRENT_TIMESTAMP of the session and LocalDate.now()
+		TimeZone.setDefault(TimeZone.getTimeZone(ZoneOffset.UTC));
 		SpringApplication.run(HomeAndGardenApplication.class, args);
 	}
 
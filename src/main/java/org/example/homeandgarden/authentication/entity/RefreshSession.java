@@ -0,0 +1,60 @@
+package org.example.homeandgarden.authentication.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.homeandgarden.user.entity.User;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * One logged-in device of a user. Only the SHA-256 hash of the refresh token id is stored.
+ */
+@Entity
+@Table(name = "refresh_sessions")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RefreshSession implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_hash", updatable = false, nullable = false)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", updatable = false, nullable = false)
+    private User user;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * The id is assigned by the application, so new sessions are inserted directly instead of being merged.
+     */
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.homeandgarden.authentication.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.homeandgarden.authentication.entity.RefreshSession;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshSessionRepository extends JpaRepository<RefreshSession, String> {
+
+    @Query("SELECT session FROM RefreshSession session JOIN FETCH session.user WHERE session.tokenHash = :tokenHash")
+    Optional<RefreshSession> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshSession session WHERE session.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshSession session WHERE session.user.userId = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Deletes up to {@code batchSize} expired sessions, skipping rows locked by a concurrent sweep or refresh.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_sessions"))
+    @Query(value = """
+            DELETE FROM refresh_sessions
+            WHERE token_hash IN (SELECT token_hash FROM refresh_sessions
+                                 WHERE expires_at < :now
+                                 LIMIT :batchSize
+                                 FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
+}
@@ -1,11 +1,14 @@
 package org.example.homeandgarden.authentication.service;
 
+import io.jsonwebtoken.Claims;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.example.homeandgarden.authentication.dto.*;
+import org.example.homeandgarden.authentication.entity.RefreshSession;
 import org.example.homeandgarden.email.service.EmailService;
 import org.example.homeandgarden.exception.DataAlreadyExistsException;
 import org.example.homeandgarden.exception.DataNotFoundException;
+import org.example.homeandgarden.exception.PasswordHashingUnavailableException;
 import org.example.homeandgarden.exception.UserDisabledException;
 import org.example.homeandgarden.exception.UserLockedException;
 import org.example.homeandgarden.security.config.JwtService;
@@ -37,6 +40,7 @@ public class AuthServiceImpl implements AuthService {
     private final UserMapper userMapper;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshSessionService refreshSessionService;
 
     @Value("${app.password-reset.base-url}")
     private String resetBaseUrl;
@@ -73,6 +77,8 @@ public class AuthServiceImpl implements AuthService {
         try {
             authentication = authenticationManager
                     .authenticate(new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+        } catch (PasswordHashingUnavailableException exception) {
+            throw exception;
         } catch (AuthenticationException exception) {
             throw new BadCredentialsException("Invalid email or password. Please log in again.");
         }
@@ -80,13 +86,12 @@ public class AuthServiceImpl implements AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        final String accessToken = jwtService.generateAccessToken(userDetails.getUsername());
-        final String refreshToken = jwtService.generateRefreshToken(userDetails.getUsername());
 
         User logedInUser = userRepository.findByEmail(userDetails.getUsername()).orElseThrow(() -> new DataNotFoundException(String.format("User with email: %s, was not found.", userDetails.getUsername())));
 
-        logedInUser.setRefreshToken(refreshToken);
-        userRepository.saveAndFlush(logedInUser);
+        final String sessionId = refreshSessionService.openSession(logedInUser);
+        final String accessToken = jwtService.generateAccessToken(logedInUser, sessionId);
+        final String refreshToken = jwtService.generateRefreshToken(userDetails.getUsername(), sessionId);
 
         return LoginResponse.builder()
                 .accessToken(accessToken)
@@ -103,16 +108,17 @@ public class AuthServiceImpl implements AuthService {
         }
 
         final String refreshToken = refreshRequest.getRefreshToken();
-        if (!jwtService.isRefreshTokenValid(refreshToken)) {
-            throw new BadCredentialsException("Invalid or expired refresh token. Please log in.");
-        }
+        Claims claims = jwtService.verifyRefreshToken(refreshToken).orElseThrow(() -> new BadCredentialsException("Invalid or expired refresh token. Please log in."));
 
-        String email = jwtService.getUserEmailFromRefreshToken(refreshToken);
-        if (email == null) {
-            throw new BadCredentialsException("Token does not contain a user identifier. Please log in.");
+        final String sessionId = claims.getId();
+        if (sessionId == null) {
+            throw new BadCredentialsException("Token does not contain a session identifier. Please log in.");
         }
 
-        User existingUser = userRepository.findByEmail(email).orElseThrow(() -> new DataNotFoundException(String.format("User with email: %s, associated with refresh token, not found. Please log in.", email)));
+        RefreshSession refreshSession = refreshSessionService.findActiveSession(sessionId).orElseThrow(() -> new BadCredentialsException("Refresh token mismatch or reuse detected. Please log in."));
+
+        User existingUser = refreshSession.getUser();
+        String email = existingUser.getEmail();
 
         if (!existingUser.getIsEnabled()) {
             throw new UserDisabledException(String.format("User with email: %s, is disabled.", email));
@@ -121,13 +127,7 @@ public class AuthServiceImpl implements AuthService {
             throw new UserLockedException(String.format("User with email: %s, is locked.", email));
         }
 
-        if (!refreshToken.equals(existingUser.getRefreshToken())) {
-            existingUser.setRefreshToken(null);
-            userRepository.saveAndFlush(existingUser);
-            throw new BadCredentialsException("Refresh token mismatch or reuse detected. Please log in.");
-        }
-
-        final String newAccessToken = jwtService.generateAccessToken(email);
+        final String newAccessToken = jwtService.generateAccessToken(existingUser, sessionId);
 
         return RefreshResponse.builder()
                 .accessToken(newAccessToken)
@@ -0,0 +1,68 @@
+package org.example.homeandgarden.authentication.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.authentication.entity.RefreshSession;
+import org.example.homeandgarden.authentication.repository.RefreshSessionRepository;
+import org.example.homeandgarden.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshSessionService {
+
+    private final RefreshSessionRepository refreshSessionRepository;
+
+    @Value("${jwt.refresh-token.expiration}")
+    private Integer refreshTokenExpiration;
+
+    /**
+     * Opens a new session for the user and returns its id, which goes into the refresh and access tokens.
+     */
+    public String openSession(User user) {
+
+        String sessionId = UUID.randomUUID().toString();
+
+        RefreshSession refreshSession = RefreshSession.builder()
+                .tokenHash(hash(sessionId))
+                .user(user)
+                .expiresAt(Instant.now().plusMillis(refreshTokenExpiration))
+                .build();
+        refreshSessionRepository.save(refreshSession);
+
+        return sessionId;
+    }
+
+    /**
+     * Returns the session with its user, if it was not closed and has not expired yet.
+     */
+    public Optional<RefreshSession> findActiveSession(String sessionId) {
+        return refreshSessionRepository.findWithUserByTokenHash(hash(sessionId))
+                .filter(session -> session.getExpiresAt().isAfter(Instant.now()));
+    }
+
+    public boolean closeSession(String sessionId) {
+        return refreshSessionRepository.deleteByTokenHash(hash(sessionId)) > 0;
+    }
+
+    public int closeAllSessions(UUID userId) {
+        return refreshSessionRepository.deleteAllByUserId(userId);
+    }
+
+    private static String hash(String sessionId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sessionId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available.", exception);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.homeandgarden.authentication.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homeandgarden.authentication.repository.RefreshSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Periodically removes expired refresh sessions in small batches, each in its own short transaction,
+ * so the sweep never holds many row locks or blocks concurrent logins and refreshes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshSessionSweeper {
+
+    private final RefreshSessionRepository refreshSessionRepository;
+
+    @Value("${app.refresh-sessions.sweep.batch-size:500}")
+    private Integer batchSize;
+
+    @Value("${app.refresh-sessions.sweep.max-batches:100}")
+    private Integer maxBatches;
+
+    @Scheduled(initialDelayString = "${app.refresh-sessions.sweep.interval:PT10M}", fixedDelayString = "${app.refresh-sessions.sweep.interval:PT10M}")
+    public void deleteExpiredSessions() {
+
+        Instant now = Instant.now();
+        int deletedTotal = 0;
+        int batches = 0;
+        int deleted;
+        do {
+            deleted = refreshSessionRepository.deleteExpiredBatch(now, batchSize);
+            deletedTotal += deleted;
+            batches++;
+        } while (deleted == batchSize && batches < maxBatches);
+
+        if (deletedTotal > 0) {
+            log.info("Deleted {} expired refresh sessions in {} batches.", deletedTotal, batches);
+        }
+    }
+}
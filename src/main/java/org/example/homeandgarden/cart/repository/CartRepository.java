@@ -5,6 +5,8 @@ import org.example.homeandgarden.product.entity.Product;
 import org.example.homeandgarden.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -13,7 +15,12 @@ import java.util.UUID;
 
 public interface CartRepository extends JpaRepository<CartItem, UUID>, PagingAndSortingRepository<CartItem, UUID> {
 
+        @EntityGraph(attributePaths = "product")
         Page<CartItem> findByUserUserId(UUID userId, Pageable pageable);
+
+        @EntityGraph(attributePaths = "product")
+        Slice<CartItem> findSliceByUserUserId(UUID userId, Pageable pageable);
+
         Optional<CartItem> findByUserAndProduct(User user, Product product);
 
 }
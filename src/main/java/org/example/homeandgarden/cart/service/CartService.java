@@ -5,11 +5,16 @@ import org.example.homeandgarden.cart.dto.CartItemResponse;
 import org.example.homeandgarden.cart.dto.CartItemUpdateRequest;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
 
 public interface CartService {
 
     Page<CartItemResponse> getUserCartItems(String userId, Integer size, Integer page, String order, String sortBy);
-    Page<CartItemResponse> getMyCartItems(String email, Integer size, Integer page, String order, String sortBy);
+    Slice<CartItemResponse> getUserCartItemsSlice(String userId, Integer size, Integer page, String order, String sortBy);
+    Page<CartItemResponse> getMyCartItems(UUID userId, Integer size, Integer page, String order, String sortBy);
+    Slice<CartItemResponse> getMyCartItemsSlice(UUID userId, Integer size, Integer page, String order, String sortBy);
     CartItemResponse addCartItem(String email, CartItemCreateRequest cartItemCreateRequest);
     CartItemResponse updateCartItem(String email, String cartItemId, CartItemUpdateRequest cartItemUpdateRequest);
     MessageResponse removeCarItem(String email, String cartItemId);
@@ -17,6 +17,7 @@ import org.example.homeandgarden.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -37,6 +38,7 @@ public class CartServiceImpl implements CartService {
     private final ProductMapper productMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CartItemResponse> getUserCartItems(String userId, Integer size, Integer page, String order, String sortBy) {
         UUID id = UUID.fromString(userId);
         if (!userRepository.existsByUserId(id)) {
@@ -50,18 +52,41 @@ public class CartServiceImpl implements CartService {
     }
 
     @Override
-    public Page<CartItemResponse> getMyCartItems(String email, Integer size, Integer page, String order, String sortBy) {
+    @Transactional(readOnly = true)
+    public Slice<CartItemResponse> getUserCartItemsSlice(String userId, Integer size, Integer page, String order, String sortBy) {
+        UUID id = UUID.fromString(userId);
+        if (!userRepository.existsByUserId(id)) {
+            throw new DataNotFoundException(String.format("User with id: %s, was not found.", userId));
+        }
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        Slice<CartItem> cartSlice = cartRepository.findSliceByUserUserId(id, pageRequest);
 
-        User existingUser = userRepository.findByEmail(email).orElseThrow(() -> new DataNotFoundException(String.format("User with email: %s, was not found.", email)));
+        return cartSlice.map((item) -> cartMapper.cartItemToResponse(item,
+                productMapper.productToResponse(item.getProduct())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CartItemResponse> getMyCartItems(UUID userId, Integer size, Integer page, String order, String sortBy) {
 
-        UUID id = existingUser.getUserId();
         PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
-        Page<CartItem> cartPage = cartRepository.findByUserUserId(id, pageRequest);
+        Page<CartItem> cartPage = cartRepository.findByUserUserId(userId, pageRequest);
 
         return cartPage.map((item) -> cartMapper.cartItemToResponse(item,
                 productMapper.productToResponse(item.getProduct())));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CartItemResponse> getMyCartItemsSlice(UUID userId, Integer size, Integer page, String order, String sortBy) {
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        Slice<CartItem> cartSlice = cartRepository.findSliceByUserUserId(userId, pageRequest);
+
+        return cartSlice.map((item) -> cartMapper.cartItemToResponse(item,
+                productMapper.productToResponse(item.getProduct())));
+    }
+
     @Override
     @Transactional
     public CartItemResponse addCartItem(String email, CartItemCreateRequest cartItemCreateRequest) {
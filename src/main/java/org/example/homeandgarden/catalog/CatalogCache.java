@@ -0,0 +1,226 @@
+package org.example.homeandgarden.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.homeandgarden.category.dto.CategoryResponse;
+import org.example.homeandgarden.category.entity.enums.CategoryStatus;
+import org.example.homeandgarden.datasource.ReplicaRoutingDataSource;
+import org.example.homeandgarden.invalidation.CacheInvalidation;
+import org.example.homeandgarden.invalidation.CacheInvalidationHandler;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.product.dto.ProductResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the mapped catalog reads served to anonymous visitors: products by id, category statuses,
+ * products of a category and active categories. Entries expire after the configured TTL and are bounded in number.
+ * <p>
+ * Writes evict exactly the entries they affect once their transaction has committed. Product pages are cached under the
+ * generation of their category, which every eviction advances, so a page still being loaded from the old state when
+ * the eviction runs is stored under the old generation and never served again. Misses are loaded from the primary even in read-only transactions, so an entry evicted by a write is
+ * not reloaded from a replica that has not replayed the write yet.
+ * Each eviction is also published to the other instances, which evict the same entries when the transaction has
+ * committed; should the invalidation bus be unavailable, they see a change at the latest after the TTL.
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics tagged with the cache name.
+ */
+@Component
+public class CatalogCache implements MeterBinder, CacheInvalidationHandler {
+
+    private final Cache<UUID, ProductResponse> products;
+    private final Cache<UUID, CategoryStatus> categoryStatuses;
+    private final Cache<GenerationKey, Page<ProductResponse>> categoryProducts;
+    private final ConcurrentMap<UUID, Long> categoryGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<PageKey, Page<CategoryResponse>> activeCategories;
+    private final CacheInvalidationPublisher publisher;
+
+    public CatalogCache(
+            @Value("${app.catalog.cache.ttl:10m}") Duration ttl,
+            @Value("${app.catalog.cache.max-size:10000}") Integer maxSize,
+            CacheInvalidationPublisher publisher) {
+
+        this.products = newCache(ttl, maxSize);
+        this.categoryStatuses = newCache(ttl, maxSize);
+        this.categoryProducts = newCache(ttl, maxSize);
+        this.activeCategories = newCache(ttl, maxSize);
+        this.publisher = publisher;
+    }
+
+    private static <K, V> Cache<K, V> newCache(Duration ttl, Integer maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, products, "catalog.products");
+        CaffeineCacheMetrics.monitor(registry, categoryStatuses, "catalog.category-statuses");
+        CaffeineCacheMetrics.monitor(registry, categoryProducts, "catalog.category-products");
+        CaffeineCacheMetrics.monitor(registry, activeCategories, "catalog.active-categories");
+    }
+
+    public ProductResponse getProduct(UUID productId, Function<UUID, ProductResponse> loader) {
+        return products.get(productId, (key) -> ReplicaRoutingDataSource.usePrimary(() -> loader.apply(key)));
+    }
+
+    /**
+     * Returns the cached product without loading it on a miss.
+     */
+    public Optional<ProductResponse> findProduct(UUID productId) {
+        return Optional.ofNullable(products.getIfPresent(productId));
+    }
+
+    public CategoryStatus getCategoryStatus(UUID categoryId, Function<UUID, CategoryStatus> loader) {
+        return categoryStatuses.get(categoryId, (key) -> ReplicaRoutingDataSource.usePrimary(() -> loader.apply(key)));
+    }
+
+    public Page<ProductResponse> getCategoryProducts(CategoryProductsKey key, Function<CategoryProductsKey, Page<ProductResponse>> loader) {
+        GenerationKey generationKey = new GenerationKey(key, generation.get(), categoryGenerations.getOrDefault(key.categoryId(), 0L));
+        return categoryProducts.get(generationKey, (pageKey) -> ReplicaRoutingDataSource.usePrimary(() -> loader.apply(pageKey.key())));
+    }
+
+    public Page<CategoryResponse> getActiveCategories(PageKey key, Function<PageKey, Page<CategoryResponse>> loader) {
+        return activeCategories.get(key, (pageKey) -> ReplicaRoutingDataSource.usePrimary(() -> loader.apply(pageKey)));
+    }
+
+    /**
+     * Evicts a changed product and the product pages of its category.
+     */
+    public void evictProduct(UUID productId, UUID categoryId) {
+        afterCommit(() -> {
+            products.invalidate(productId);
+            removeCategoryProducts(categoryId);
+        });
+        publisher.publish(CacheInvalidation.product(productId, categoryId));
+    }
+
+    /**
+     * Evicts products changed by a bulk update and the product pages of their categories.
+     */
+    public void evictProducts(Collection<UUID> productIds, Collection<UUID> categoryIds) {
+        afterCommit(() -> {
+            products.invalidateAll(productIds);
+            categoryIds.forEach(this::removeCategoryProducts);
+        });
+        publisher.publish(CacheInvalidation.products());
+    }
+
+    /**
+     * Evicts the product pages of a category a product was added to.
+     */
+    public void evictCategoryProducts(UUID categoryId) {
+        afterCommit(() -> removeCategoryProducts(categoryId));
+        publisher.publish(CacheInvalidation.categoryProducts(categoryId));
+    }
+
+    /**
+     * Evicts the active category pages after a category was added or renamed.
+     */
+    public void evictActiveCategories() {
+        afterCommit(activeCategories::invalidateAll);
+        publisher.publish(CacheInvalidation.activeCategories());
+    }
+
+    /**
+     * Evicts the status and product pages of a category whose status changed, and the active category pages.
+     */
+    public void evictCategory(UUID categoryId) {
+        afterCommit(() -> removeCategory(categoryId));
+        publisher.publish(CacheInvalidation.category(categoryId));
+    }
+
+    /**
+     * Evicts the entries affected by a change made on another instance. Its transaction has already committed, so the
+     * entries are evicted right away.
+     */
+    @Override
+    public void evict(CacheInvalidation invalidation) {
+        switch (invalidation.type()) {
+            case PRODUCT -> {
+                products.invalidate(invalidation.id());
+                removeCategoryProducts(invalidation.categoryId());
+            }
+            case PRODUCTS -> {
+                products.invalidateAll();
+                removeAllCategoryProducts();
+            }
+            case CATEGORY_PRODUCTS -> removeCategoryProducts(invalidation.categoryId());
+            case CATEGORY -> removeCategory(invalidation.id());
+            case ACTIVE_CATEGORIES -> activeCategories.invalidateAll();
+            case USER, REVOKED_ACCESS_TOKEN -> {
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        products.invalidateAll();
+        categoryStatuses.invalidateAll();
+        removeAllCategoryProducts();
+        activeCategories.invalidateAll();
+    }
+
+    private void removeCategory(UUID categoryId) {
+        if (categoryId != null) {
+            categoryStatuses.invalidate(categoryId);
+        }
+        removeCategoryProducts(categoryId);
+        activeCategories.invalidateAll();
+    }
+
+    private void removeCategoryProducts(UUID categoryId) {
+        if (categoryId != null) {
+            categoryGenerations.merge(categoryId, 1L, Long::sum);
+        }
+        categoryProducts.asMap().keySet().removeIf(generationKey -> Objects.equals(generationKey.key().categoryId(), categoryId));
+    }
+
+    private void removeAllCategoryProducts() {
+        generation.incrementAndGet();
+        categoryProducts.invalidateAll();
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    public record CategoryProductsKey(UUID categoryId, BigDecimal minPrice, BigDecimal maxPrice, Integer size, Integer page, String order, String sortBy) {
+    }
+
+    private record GenerationKey(CategoryProductsKey key, long generation, long categoryGeneration) {
+    }
+
+    public record PageKey(Integer size, Integer page, String order, String sortBy) {
+    }
+}
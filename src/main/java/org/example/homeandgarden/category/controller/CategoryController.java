@@ -15,19 +15,23 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.homeandgarden.product.dto.ProductResponse;
 import org.example.homeandgarden.product.service.ProductService;
+import org.example.homeandgarden.shared.ConditionalGet;
+import org.example.homeandgarden.shared.CursorPageResponse;
 import org.example.homeandgarden.shared.ErrorResponse;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.example.homeandgarden.swagger.GroupFourErrorResponses;
 import org.example.homeandgarden.swagger.GroupOneErrorResponses;
 import org.example.homeandgarden.swagger.GroupTwoErrorResponses;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 @RestController
 @RequestMapping(value = "/categories")
@@ -44,10 +48,11 @@ public class CategoryController {
 
     @Operation(summary = "Get all categories with pagination and sorting", description = "Retrieves a paginated and sortable list of categories . Allows specifying page size, page number, sort order, and sort field.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved categories", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CategoryResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Categories not modified since the version identified by 'If-None-Match'.", content = @Content)
     @GroupFourErrorResponses
     @PreAuthorize("permitAll()")
     @GetMapping
-    public ResponseEntity<Page<CategoryResponse>> getAllActiveCategories(
+    public ResponseEntity<Slice<CategoryResponse>> getAllActiveCategories(
 
             @RequestParam(value = "size", defaultValue = "10")
             @Min(value = 1, message = "Invalid parameter: Size must be greater than or equal to 1")
@@ -67,18 +72,31 @@ public class CategoryController {
             @RequestParam(value = "sortBy", defaultValue = "createdAt")
             @Pattern(regexp = "^(categoryName|createdAt|updatedAt)$", message = "Invalid value: Must be one of the following: 'categoryName', 'createdAt', 'updatedAt'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"categoryName", "createdAt", "updatedAt"}))
-            String sortBy) {
+            String sortBy,
+
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal,
+
+            WebRequest webRequest) {
 
-        Page<CategoryResponse> pageResponse = categoryService.getAllActiveCategories(size, page, order, sortBy);
+        Slice<CategoryResponse> pageResponse = withTotal
+                ? categoryService.getAllActiveCategories(size, page, order, sortBy)
+                : categoryService.getAllActiveCategoriesSlice(size, page, order, sortBy);
+        if (ConditionalGet.isNotModified(webRequest, pageResponse, CategoryResponse::getCategoryId,
+                category -> Objects.requireNonNullElse(category.getUpdatedAt(), category.getCreatedAt()))) {
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
     @Operation(summary = "Get products by category with filtering, pagination and sorting", description = "Fetches a paginated and sortable list of products belonging to a specific category, with optional filtering by price range. Allows specifying page size, page number, sort order, and sort field.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved products for the category, possibly an empty list if no matches.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Products of the category not modified since the version identified by 'If-None-Match'.", content = @Content)
     @GroupFourErrorResponses
     @PreAuthorize("permitAll()")
     @GetMapping("/{categoryId}/products")
-    public ResponseEntity<Page<ProductResponse>> getCategoryProducts(
+    public ResponseEntity<Slice<ProductResponse>> getCategoryProducts(
 
             @PathVariable
             @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
@@ -117,9 +135,71 @@ public class CategoryController {
             @RequestParam(value = "sortBy", defaultValue = "addedAt")
             @Pattern(regexp = "^(productName|listPrice|currentPrice|addedAt|updatedAt)$", message = "Invalid value: Must be one of the following: 'productName', 'listPrice', 'currentPrice', 'addedAt', 'updatedAt'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"productName", "listPrice", "currentPrice", "addedAt", "updatedAt"}))
+            String sortBy,
+
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal,
+
+            WebRequest webRequest) {
+
+        Slice<ProductResponse> pageResponse = withTotal
+                ? productService.getCategoryProducts(categoryId, minPrice, maxPrice, size, page, order, sortBy)
+                : productService.getCategoryProductsSlice(categoryId, minPrice, maxPrice, size, page, order, sortBy);
+        if (ConditionalGet.isNotModified(webRequest, pageResponse, ProductResponse::getProductId,
+                product -> Objects.requireNonNullElse(product.getUpdatedAt(), product.getAddedAt()))) {
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
+        return new ResponseEntity<>(pageResponse, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get products by category with filtering and cursor pagination", description = "Fetches products belonging to a specific category page by page with a seek query, so deep pages are as fast as the first one. Pass an empty 'after' for the first page and the returned 'nextCursor' for the following ones, keeping the other parameters unchanged.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved products for the category, possibly an empty list if no matches.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponse.class)))
+    @GroupFourErrorResponses
+    @PreAuthorize("permitAll()")
+    @GetMapping(value = "/{categoryId}/products", params = "after")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getCategoryProductsAfter(
+
+            @PathVariable
+            @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
+            @Parameter(description = "Unique category id (UUID)")
+            String categoryId,
+
+            @RequestParam(value = "minPrice",defaultValue = "0.0")
+            @DecimalMin(value = "0.0", message = "Minimal price must be non-negative")
+            @DecimalMax(value = "999999.99", message = "Minimal price must be less than or equal to 999999.99")
+            @Digits(integer = 6, fraction = 2, message = "Minimal price must have up to 6 digits and 2 decimal places")
+            @Parameter(description = "Minimal price for the filter range")
+            BigDecimal minPrice,
+
+            @RequestParam(value = "maxPrice",defaultValue = "999999.0")
+            @DecimalMin(value = "0.0", message = "Maximal price must be non-negative")
+            @DecimalMax(value = "999999.99", message = "Maximal price must be less than or equal to 999999.99")
+            @Digits(integer = 6, fraction = 2, message = "Maximal price must have up to 6 digits and 2 decimal places")
+            @Parameter(description = "Maximal price for the filter range")
+            BigDecimal maxPrice,
+
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Invalid parameter: Size must be greater than or equal to 1")
+            @Parameter(description = "Number of elements per one page")
+            Integer size,
+
+            @RequestParam(value = "after")
+            @Pattern(regexp = "^[A-Za-z0-9_-]{0,1024}$", message = "Invalid cursor: Pass the 'nextCursor' of the previous page unchanged, or an empty value for the first page")
+            @Parameter(description = "Opaque cursor from 'nextCursor' of the previous page, empty for the first page")
+            String after,
+
+            @RequestParam(value = "order", defaultValue = "ASC")
+            @Pattern(regexp = "^(ASC|DESC|asc|desc)$", message = "Invalid order: Must be 'ASC' or 'DESC' ('asc' or 'desc')")
+            @Parameter(description = "Sort order: 'asc' for ascending, 'desc' for descending", schema = @Schema(allowableValues = {"ASC", "DESC", "asc", "desc"}))
+            String order,
+
+            @RequestParam(value = "sortBy", defaultValue = "addedAt")
+            @Pattern(regexp = "^(productName|listPrice|currentPrice|addedAt)$", message = "Invalid value: Must be one of the following: 'productName', 'listPrice', 'currentPrice', 'addedAt'")
+            @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"productName", "listPrice", "currentPrice", "addedAt"}))
             String sortBy) {
 
-        Page<ProductResponse> pageResponse = productService.getCategoryProducts(categoryId, minPrice, maxPrice, size, page, order, sortBy);
+        CursorPageResponse<ProductResponse> pageResponse = productService.getCategoryProductsAfter(categoryId, minPrice, maxPrice, size, after, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -132,7 +212,7 @@ public class CategoryController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping("/status")
-    public ResponseEntity<Page<CategoryResponse>> getCategoriesByStatus(
+    public ResponseEntity<Slice<CategoryResponse>> getCategoriesByStatus(
 
             @RequestParam(value = "categoryStatus", required = false)
             @Pattern(regexp = "^(ACTIVE|INACTIVE|active|inactive)$", message = "Invalid order categoryStatus: Must be one of the: 'ACTIVE' or 'INACTIVE' or ('active' or 'inactive')")
@@ -157,9 +237,15 @@ public class CategoryController {
             @RequestParam(value = "sortBy", defaultValue = "createdAt")
             @Pattern(regexp = "^(categoryName|createdAt|updatedAt)$", message = "Invalid value: Must be one of the following: 'categoryName', 'createdAt', 'updatedAt'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"categoryName", "createdAt", "updatedAt"}))
-            String sortBy) {
+            String sortBy,
+
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
 
-        Page<CategoryResponse> pageResponse = categoryService.getCategoriesByStatus(categoryStatus, size, page, order, sortBy);
+        Slice<CategoryResponse> pageResponse = withTotal
+                ? categoryService.getCategoriesByStatus(categoryStatus, size, page, order, sortBy)
+                : categoryService.getCategoriesByStatusSlice(categoryStatus, size, page, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -201,7 +287,7 @@ public class CategoryController {
         return new ResponseEntity<>(updatedCategory, HttpStatus.OK);
     }
 
-    @Operation(summary = "Set category status ('ACTIVE' or 'INACTIVE')", description = "Updates the status of a specific category identified by its unique id. A category can be set to 'ACTIVE' or 'INACTIVE'.")
+    @Operation(summary = "Set category status ('ACTIVE' or 'INACTIVE')", description = "Updates the status of a specific category identified by its unique id. A category can be set to 'ACTIVE' or 'INACTIVE'. Deactivating a category sets its available products to 'OUT_OF_STOCK'; reactivating it leaves the product statuses unchanged.")
     @ApiResponse(responseCode = "200", description = "Category status successfully updated.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageResponse.class)))
     @GroupOneErrorResponses
     @SecurityRequirement(name = "JWT")
@@ -1,10 +1,14 @@
 package org.example.homeandgarden.category.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.homeandgarden.category.entity.Category;
 import org.example.homeandgarden.category.entity.enums.CategoryStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 import java.util.UUID;
@@ -12,6 +16,11 @@ import java.util.UUID;
 public interface CategoryRepository extends JpaRepository<Category, UUID>, PagingAndSortingRepository<Category, UUID> {
 
     boolean existsByCategoryName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Category> findAllByCategoryStatus(CategoryStatus status, Pageable pageable);
 
+    Slice<Category> findSliceByCategoryStatus(CategoryStatus status, Pageable pageable);
+    Slice<Category> findSliceByCategoryIdIsNotNull(Pageable pageable);
+
 }
@@ -4,11 +4,14 @@ import org.example.homeandgarden.category.dto.CategoryRequest;
 import org.example.homeandgarden.category.dto.CategoryResponse;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface CategoryService {
 
     Page<CategoryResponse> getAllActiveCategories(Integer size, Integer page, String order, String sortBy);
+    Slice<CategoryResponse> getAllActiveCategoriesSlice(Integer size, Integer page, String order, String sortBy);
     Page<CategoryResponse> getCategoriesByStatus(String categoryStatus, Integer size, Integer page, String order, String sortBy);
+    Slice<CategoryResponse> getCategoriesByStatusSlice(String categoryStatus, Integer size, Integer page, String order, String sortBy);
     CategoryResponse addCategory(CategoryRequest categoryRequest);
     CategoryResponse updateCategory(String categoryId, CategoryRequest categoryRequest);
     MessageResponse setCategoryStatus(String categoryId, String categoryStatus);
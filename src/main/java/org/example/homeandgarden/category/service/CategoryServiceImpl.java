@@ -1,6 +1,7 @@
 package org.example.homeandgarden.category.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.catalog.CatalogCache;
 import org.example.homeandgarden.category.dto.CategoryRequest;
 import org.example.homeandgarden.category.dto.CategoryResponse;
 import org.example.homeandgarden.category.entity.Category;
@@ -9,11 +10,17 @@ import org.example.homeandgarden.category.mapper.CategoryMapper;
 import org.example.homeandgarden.category.repository.CategoryRepository;
 import org.example.homeandgarden.exception.DataAlreadyExistsException;
 import org.example.homeandgarden.exception.DataNotFoundException;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.service.ProductBulkService;
+import org.example.homeandgarden.shared.EstimatedSlice;
 import org.example.homeandgarden.shared.MessageResponse;
+import org.example.homeandgarden.shared.RowCountEstimator;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -22,14 +29,30 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final RowCountEstimator rowCountEstimator;
+    private final CatalogCache catalogCache;
+    private final ProductBulkService productBulkService;
+
+    private static final String CATEGORIES_TABLE = "categories";
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CategoryResponse> getAllActiveCategories(Integer size, Integer page, String order, String sortBy) {
+        return catalogCache.getActiveCategories(new CatalogCache.PageKey(size, page, order, sortBy), (key) -> {
+            Pageable pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+            return categoryRepository.findAllByCategoryStatus(CategoryStatus.ACTIVE, pageRequest).map(categoryMapper::categoryToResponse);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CategoryResponse> getAllActiveCategoriesSlice(Integer size, Integer page, String order, String sortBy) {
         Pageable pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
-        return categoryRepository.findAllByCategoryStatus(CategoryStatus.ACTIVE, pageRequest).map(categoryMapper::categoryToResponse);
+        return categoryRepository.findSliceByCategoryStatus(CategoryStatus.ACTIVE, pageRequest).map(categoryMapper::categoryToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CategoryResponse> getCategoriesByStatus(String categoryStatus, Integer size, Integer page, String order, String sortBy) {
         Pageable pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
         if(categoryStatus == null) {
@@ -40,6 +63,20 @@ public class CategoryServiceImpl implements CategoryService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CategoryResponse> getCategoriesByStatusSlice(String categoryStatus, Integer size, Integer page, String order, String sortBy) {
+        Pageable pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        if(categoryStatus == null) {
+            Slice<CategoryResponse> slice = categoryRepository.findSliceByCategoryIdIsNotNull(pageRequest).map(categoryMapper::categoryToResponse);
+            return new EstimatedSlice<>(slice, rowCountEstimator.estimate(CATEGORIES_TABLE, Map.of()));
+        } else {
+            CategoryStatus status = CategoryStatus.valueOf(categoryStatus.toUpperCase());
+            Slice<CategoryResponse> slice = categoryRepository.findSliceByCategoryStatus(status, pageRequest).map(categoryMapper::categoryToResponse);
+            return new EstimatedSlice<>(slice, rowCountEstimator.estimate(CATEGORIES_TABLE, Map.of("category_status", status.name())));
+        }
+    }
+
     @Override
     @Transactional
     public CategoryResponse addCategory(CategoryRequest categoryRequest) {
@@ -49,6 +86,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
         Category categoryToAdd = categoryMapper.requestToCategory(categoryRequest);
         Category addedCategory = categoryRepository.saveAndFlush(categoryToAdd);
+        catalogCache.evictActiveCategories();
         return categoryMapper.categoryToResponse(addedCategory);
     }
 
@@ -66,6 +104,7 @@ public class CategoryServiceImpl implements CategoryService {
         existingCategory.setCategoryName(categoryRequest.getCategoryName());
 
         Category updatedCategory = categoryRepository.saveAndFlush(existingCategory);
+        catalogCache.evictActiveCategories();
         return categoryMapper.categoryToResponse(updatedCategory);
     }
 
@@ -83,6 +122,10 @@ public class CategoryServiceImpl implements CategoryService {
 
         existingCategory.setCategoryStatus(status);
         Category updatedCategory = categoryRepository.saveAndFlush(existingCategory);
+        if (status.equals(CategoryStatus.INACTIVE)) {
+            productBulkService.changeCategoryStatuses(id, EnumSet.of(ProductStatus.AVAILABLE), ProductStatus.OUT_OF_STOCK);
+        }
+        catalogCache.evictCategory(id);
 
         return MessageResponse.builder()
                 .message(String.format("Status '%s' was set for category with id: %s.", updatedCategory.getCategoryStatus().name(), updatedCategory.getCategoryId().toString()))
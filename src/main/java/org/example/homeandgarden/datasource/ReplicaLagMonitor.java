@@ -0,0 +1,88 @@
+package org.example.homeandgarden.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Checks how far the replica's replay is behind the primary and reports the replica as usable while the lag is within
+ * the configured maximum. The replica counts as unusable until the first check succeeds, and again after a failed
+ * check or a failed connection attempt, until the next check succeeds.
+ * <p>
+ * A replica that has replayed everything it received has no lag, even when the primary has been idle for a while.
+ * An instance that is not in recovery (a plain second PostgreSQL used as a stand-in) always has no lag.
+ * The lag is published as the {@code app.datasource.replica.lag} gauge, in seconds, {@code NaN} while unreachable.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLag = maxLag;
+
+        Gauge.builder("app.datasource.replica.lag", this, (monitor) -> monitor.lagSeconds)
+                .description("Replay lag of the read replica behind the primary")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT5S}")
+    public void checkLag() {
+
+        boolean wasUsable = replicaUsable;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            replicaUsable = lagSeconds <= maxLag.toMillis() / 1000.0;
+        } catch (DataAccessException exception) {
+            lagSeconds = Double.NaN;
+            replicaUsable = false;
+            if (wasUsable) {
+                log.warn("⚠️ Read replica is unreachable, reads go to the primary: {}", exception.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+
+        if (wasUsable && !replicaUsable) {
+            log.warn("⚠️ Read replica is {} s behind (max {}), reads go to the primary.", lagSeconds, maxLag);
+        } else if (!wasUsable && replicaUsable) {
+            log.info("Read replica is {} s behind, reads go to the replica.", lagSeconds);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Sends reads to the primary until the next check, after a replica connection could not be obtained.
+     */
+    public void markUnavailable(Exception exception) {
+        if (replicaUsable) {
+            replicaUsable = false;
+            log.warn("⚠️ Read replica connection failed, reads go to the primary: {}", exception.getMessage());
+        }
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
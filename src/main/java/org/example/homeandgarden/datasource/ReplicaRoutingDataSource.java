@@ -0,0 +1,76 @@
+package org.example.homeandgarden.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends the connections of read-only transactions to the replica and all others to the primary. Reads stay on the
+ * primary while the {@link ReplicaLagMonitor} reports the replica as too far behind or unreachable, inside
+ * {@link #usePrimary(Supplier)}, and when a replica connection can not be obtained.
+ * <p>
+ * The transaction is only known to be read-only once it has begun, so this data source has to be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which asks for the connection at the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {PRIMARY, REPLICA}
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs reads that must see the latest committed writes, e.g. the loaders of caches evicted on commit, against the primary.
+     */
+    public static <T> T usePrimary(Supplier<T> read) {
+        if (PRIMARY_ONLY.get() != null) {
+            return read.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean replicaRead = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && PRIMARY_ONLY.get() == null
+                && lagMonitor.isReplicaUsable();
+        return replicaRead ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.PRIMARY) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException exception) {
+            lagMonitor.markUnavailable(exception);
+            return primary.getConnection();
+        }
+    }
+}
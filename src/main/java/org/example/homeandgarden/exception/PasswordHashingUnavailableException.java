@@ -0,0 +1,7 @@
+package org.example.homeandgarden.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+public class PasswordHashingUnavailableException extends AuthenticationServiceException {
+    public PasswordHashingUnavailableException(String message) { super(message); }
+}
@@ -0,0 +1,82 @@
+package org.example.homeandgarden.invalidation;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A change that makes cached data stale on every instance: the kind of change and the ids it affects, if any.
+ * Encoded as {@code TYPE:id:categoryId} (empty for a missing id), followed by {@code :expiresAt} in epoch milliseconds
+ * when set, in the notifications of the invalidation bus.
+ */
+public record CacheInvalidation(Type type, UUID id, UUID categoryId, Instant expiresAt) {
+
+    public enum Type {
+        /** A product changed: {@code id} is the product, {@code categoryId} its category. */
+        PRODUCT,
+        /** Products changed in bulk. */
+        PRODUCTS,
+        /** A product was added to the category {@code categoryId}. */
+        CATEGORY_PRODUCTS,
+        /** The status of the category {@code id} changed. */
+        CATEGORY,
+        /** A category was added or renamed. */
+        ACTIVE_CATEGORIES,
+        /** The token version of the user {@code id} changed (lock, role change, unregister). */
+        USER,
+        /** The access token with the jti {@code id} was revoked on logout; it expires at {@code expiresAt}. */
+        REVOKED_ACCESS_TOKEN
+    }
+
+    public static CacheInvalidation product(UUID productId, UUID categoryId) {
+        return new CacheInvalidation(Type.PRODUCT, productId, categoryId, null);
+    }
+
+    public static CacheInvalidation products() {
+        return new CacheInvalidation(Type.PRODUCTS, null, null, null);
+    }
+
+    public static CacheInvalidation categoryProducts(UUID categoryId) {
+        return new CacheInvalidation(Type.CATEGORY_PRODUCTS, null, categoryId, null);
+    }
+
+    public static CacheInvalidation category(UUID categoryId) {
+        return new CacheInvalidation(Type.CATEGORY, categoryId, null, null);
+    }
+
+    public static CacheInvalidation activeCategories() {
+        return new CacheInvalidation(Type.ACTIVE_CATEGORIES, null, null, null);
+    }
+
+    public static CacheInvalidation user(UUID userId) {
+        return new CacheInvalidation(Type.USER, userId, null, null);
+    }
+
+    public static CacheInvalidation revokedAccessToken(UUID tokenId, Instant expiresAt) {
+        return new CacheInvalidation(Type.REVOKED_ACCESS_TOKEN, tokenId, null, expiresAt);
+    }
+
+    public String encode() {
+        String encoded = type.name() + ":" + encode(id) + ":" + encode(categoryId);
+        return expiresAt == null ? encoded : encoded + ":" + expiresAt.toEpochMilli();
+    }
+
+    /**
+     * Parses an encoded invalidation, throwing {@link IllegalArgumentException} when it is malformed or of an unknown type.
+     */
+    public static CacheInvalidation decode(String value) {
+        String[] parts = value.split(":", -1);
+        if (parts.length != 3 && parts.length != 4) {
+            throw new IllegalArgumentException(String.format("Invalid cache invalidation: '%s'.", value));
+        }
+        Instant expiresAt = parts.length == 4 ? Instant.ofEpochMilli(Long.parseLong(parts[3])) : null;
+        return new CacheInvalidation(Type.valueOf(parts[0]), decodeId(parts[1]), decodeId(parts[2]), expiresAt);
+    }
+
+    private static String encode(UUID id) {
+        return id == null ? "" : id.toString();
+    }
+
+    private static UUID decodeId(String value) {
+        return value.isEmpty() ? null : UUID.fromString(value);
+    }
+}
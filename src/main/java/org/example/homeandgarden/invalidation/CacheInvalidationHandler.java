@@ -0,0 +1,18 @@
+package org.example.homeandgarden.invalidation;
+
+/**
+ * A local cache that is kept consistent with the other instances by the {@link CacheInvalidationListener}.
+ * Both methods are called on the listener thread, outside any transaction.
+ */
+public interface CacheInvalidationHandler {
+
+    /**
+     * Evicts the local entries affected by a change made on another instance.
+     */
+    void evict(CacheInvalidation invalidation);
+
+    /**
+     * Evicts all local entries, after changes made on other instances may have been missed.
+     */
+    void evictAll();
+}
@@ -0,0 +1,202 @@
+package org.example.homeandgarden.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Listens for the notifications of the {@link CacheInvalidationPublisher} of other instances on a dedicated connection
+ * to the primary, outside the connection pool, and passes them to the local {@link CacheInvalidationHandler}s.
+ * <p>
+ * PostgreSQL does not keep notifications for a listener that is not connected, so the listener evicts all local caches
+ * every time it has (re)connected: changes made while it was not listening are not known.
+ * The connection is checked with a query whenever no notification arrived within the poll timeout.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache-invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private final DataSourceProperties dataSourceProperties;
+    private final List<CacheInvalidationHandler> handlers;
+    private final String instanceId;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final Counter receivedCounter;
+    private final Counter flushCounter;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public CacheInvalidationListener(
+            DataSourceProperties dataSourceProperties,
+            List<CacheInvalidationHandler> handlers,
+            CacheInvalidationPublisher publisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache-invalidation.poll-timeout:PT10S}") Duration pollTimeout,
+            @Value("${app.cache-invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+
+        this.dataSourceProperties = dataSourceProperties;
+        this.handlers = handlers;
+        this.instanceId = publisher.getInstanceId();
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.receivedCounter = Counter.builder("app.cache.invalidation.received")
+                .description("Cache invalidations received from other instances")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder("app.cache.invalidation.flushes")
+                .description("Evictions of all local caches after the invalidation listener (re)connected or received an unknown invalidation")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        thread = new Thread(this::listen, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        closeConnection();
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try {
+                connection = connect();
+                evictAll();
+                log.info("Listening for cache invalidations on channel '{}'.", CacheInvalidationPublisher.CHANNEL);
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException exception) {
+                if (running) {
+                    log.warn("⚠️ Cache invalidation listener lost its connection, reconnecting in {}: {}", reconnectDelay, exception.getMessage());
+                }
+            } finally {
+                closeConnection();
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        properties.setProperty("ApplicationName", "cache-invalidation-listener");
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("socketTimeout", String.valueOf(Math.max(30, pollTimeout.multipliedBy(3).toSeconds())));
+
+        Connection newConnection = DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+        newConnection.setAutoCommit(true);
+        try (Statement statement = newConnection.createStatement()) {
+            statement.execute("LISTEN " + CacheInvalidationPublisher.CHANNEL);
+        }
+        return newConnection;
+    }
+
+    private void receive(PGConnection pgConnection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+            if (notifications == null || notifications.length == 0) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                handle(notification.getParameter());
+            }
+        }
+    }
+
+    /**
+     * Passes a notification of another instance to the handlers. A notification that can not be parsed, e.g. sent by
+     * a newer version during a rolling deployment, evicts all local caches.
+     */
+    void handle(String payload) {
+        int separator = payload.indexOf(' ');
+        if (separator > 0 && payload.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+
+        CacheInvalidation invalidation;
+        try {
+            invalidation = CacheInvalidation.decode(payload.substring(separator + 1));
+        } catch (IllegalArgumentException exception) {
+            log.warn("⚠️ Unknown cache invalidation '{}', evicting all local caches.", payload);
+            evictAll();
+            return;
+        }
+
+        receivedCounter.increment();
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                handler.evict(invalidation);
+            } catch (RuntimeException exception) {
+                log.error("⚠️ Cache invalidation {} failed in {}: {}", invalidation, handler.getClass().getSimpleName(), exception.getMessage());
+            }
+        }
+    }
+
+    void evictAll() {
+        flushCounter.increment();
+        for (CacheInvalidationHandler handler : handlers) {
+            try {
+                handler.evictAll();
+            } catch (RuntimeException exception) {
+                log.error("⚠️ Evicting all entries failed in {}: {}", handler.getClass().getSimpleName(), exception.getMessage());
+            }
+        }
+    }
+
+    private void closeConnection() {
+        Connection currentConnection = connection;
+        connection = null;
+        if (currentConnection != null) {
+            try {
+                currentConnection.close();
+            } catch (SQLException exception) {
+                log.debug("Closing the cache invalidation connection failed: {}", exception.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.homeandgarden.invalidation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Announces changes to the other instances with PostgreSQL {@code NOTIFY}. Inside a transaction the notification is sent
+ * on its connection, and PostgreSQL delivers it only when the transaction commits (and never after a rollback), so
+ * other instances can not reload the old state after evicting it. Identical notifications of one transaction are
+ * delivered once.
+ * <p>
+ * Each notification carries the id of the sending instance, which skips its own notifications: its caches are evicted
+ * by the writes themselves.
+ */
+@Component
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache_invalidation";
+
+    private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.cache-invalidation.enabled:true}") boolean enabled) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public void publish(CacheInvalidation invalidation) {
+        if (enabled) {
+            jdbcTemplate.query(NOTIFY, (resultSet) -> null, CHANNEL, instanceId + " " + invalidation.encode());
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.homeandgarden.invalidation;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.category.entity.Category;
+import org.example.homeandgarden.product.entity.Product;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the Hibernate second-level cache entries of products and categories changed on another instance. Hibernate
+ * only invalidates the query cache for changes made through the local instance, so a change of a category also evicts
+ * the cached query results.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidationHandler implements CacheInvalidationHandler {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void evict(CacheInvalidation invalidation) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        switch (invalidation.type()) {
+            case PRODUCT -> cache.evictEntityData(Product.class, invalidation.id());
+            case PRODUCTS -> cache.evictEntityData(Product.class);
+            case CATEGORY -> {
+                cache.evictEntityData(Category.class, invalidation.id());
+                cache.evictQueryRegions();
+            }
+            case ACTIVE_CATEGORIES -> {
+                cache.evictEntityData(Category.class);
+                cache.evictQueryRegions();
+            }
+            case CATEGORY_PRODUCTS, USER, REVOKED_ACCESS_TOKEN -> {
+            }
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+}
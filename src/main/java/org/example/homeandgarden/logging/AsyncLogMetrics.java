@@ -0,0 +1,65 @@
+package org.example.homeandgarden.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Publishes queue depth and dropped event counts of the {@link MeteredAsyncAppender}s attached to the root logger.
+ * Nothing is registered when the active logging profile writes synchronously.
+ */
+@Component
+public class AsyncLogMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (MeteredAsyncAppender appender : findAsyncAppenders()) {
+            String name = appender.getName();
+
+            Gauge.builder("logging.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .tag("appender", name)
+                    .description("Log events waiting to be written")
+                    .register(registry);
+            Gauge.builder("logging.async.queue.remaining", appender, MeteredAsyncAppender::getRemainingCapacity)
+                    .tag("appender", name)
+                    .description("Free slots left in the log event queue")
+                    .register(registry);
+            FunctionCounter.builder("logging.async.events.dropped", appender, MeteredAsyncAppender::getDiscardedEventCount)
+                    .tags("appender", name, "reason", "threshold")
+                    .description("Log events of level INFO and below discarded because the queue was filling up")
+                    .register(registry);
+            FunctionCounter.builder("logging.async.events.dropped", appender, MeteredAsyncAppender::getDroppedEventCount)
+                    .tags("appender", name, "reason", "queue_full")
+                    .description("Log events dropped because the queue was full")
+                    .register(registry);
+        }
+    }
+
+    private List<MeteredAsyncAppender> findAsyncAppenders() {
+        List<MeteredAsyncAppender> appenders = new ArrayList<>();
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return appenders;
+        }
+
+        Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        Iterator<Appender<ILoggingEvent>> iterator = rootLogger.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof MeteredAsyncAppender appender) {
+                appenders.add(appender);
+            }
+        }
+        return appenders;
+    }
+}
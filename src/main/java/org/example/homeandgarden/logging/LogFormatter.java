@@ -0,0 +1,78 @@
+package org.example.homeandgarden.logging;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Formats method arguments and results for the log only when a message is actually written,
+ * replacing large values with a short summary (type, size, page info) and truncating long ones.
+ */
+public final class LogFormatter {
+
+    private LogFormatter() {
+    }
+
+    public static Object arguments(Object[] args, int maxLength) {
+        return new Object() {
+            @Override
+            public String toString() {
+                StringBuilder builder = new StringBuilder("[");
+                for (int i = 0; i < args.length; i++) {
+                    if (i > 0) {
+                        builder.append(", ");
+                    }
+                    builder.append(summarize(args[i], maxLength));
+                }
+                return builder.append(']').toString();
+            }
+        };
+    }
+
+    public static Object result(Object result, int maxLength) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return summarize(result, maxLength);
+            }
+        };
+    }
+
+    static String summarize(Object value, int maxLength) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof ResponseEntity<?> responseEntity) {
+            return String.format("ResponseEntity[status=%d, body=%s]", responseEntity.getStatusCode().value(), summarize(responseEntity.getBody(), maxLength));
+        }
+        if (value instanceof Page<?> page) {
+            return String.format("Page<%s>[number=%d, size=%d, elements=%d, totalElements=%d, totalPages=%d]",
+                    elementType(page.getContent()), page.getNumber(), page.getSize(), page.getNumberOfElements(), page.getTotalElements(), page.getTotalPages());
+        }
+        if (value instanceof Slice<?> slice) {
+            return String.format("Slice<%s>[number=%d, size=%d, elements=%d, hasNext=%b]",
+                    elementType(slice.getContent()), slice.getNumber(), slice.getSize(), slice.getNumberOfElements(), slice.hasNext());
+        }
+        if (value instanceof Collection<?> collection) {
+            return String.format("%s<%s>[size=%d]", value.getClass().getSimpleName(), elementType(collection), collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return String.format("%s[size=%d]", value.getClass().getSimpleName(), map.size());
+        }
+        return truncate(String.valueOf(value), maxLength);
+    }
+
+    private static String elementType(Collection<?> collection) {
+        return collection.isEmpty() ? "?" : collection.iterator().next().getClass().getSimpleName();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength) + "...(" + value.length() + " chars)";
+    }
+}
@@ -5,52 +5,109 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Aspect
 @Component
 public class LoggingAspect {
 
+    private static final String CONTROLLER_LAYER = "CONTROLLER";
+    private static final String SERVICE_LAYER = "SERVICE";
+
+    private final LoggingMode mode;
+    private final double controllerSampleRate;
+    private final double serviceSampleRate;
+    private final int maxValueLength;
+
+    public LoggingAspect(
+            @Value("${app.logging.aspect.mode:FULL}") LoggingMode mode,
+            @Value("${app.logging.aspect.controller-sample-rate:1.0}") double controllerSampleRate,
+            @Value("${app.logging.aspect.service-sample-rate:1.0}") double serviceSampleRate,
+            @Value("${app.logging.aspect.max-value-length:300}") int maxValueLength) {
+
+        this.mode = mode;
+        this.controllerSampleRate = controllerSampleRate;
+        this.serviceSampleRate = serviceSampleRate;
+        this.maxValueLength = maxValueLength;
+    }
+
     @Around("@within(org.springframework.web.bind.annotation.RestController) || @within(org.springframework.stereotype.Service)")
     public Object logExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         String methodName = joinPoint.getSignature().getName();
         String className = joinPoint.getTarget().getClass().getSimpleName();
-        String argsAsString = Arrays.toString(joinPoint.getArgs());
-        String layer = className.contains("Controller") ? "CONTROLLER" : "SERVICE";
-
-        if (MDC.get("REQUEST_ID") == null) {
+        String layer = className.contains("Controller") ? CONTROLLER_LAYER : SERVICE_LAYER;
 
-            MDC.put("REQUEST_ID", UUID.randomUUID().toString());
+        boolean requestIdCreated = MDC.get(MDCFields.REQUEST_ID.getFieldName()) == null;
+        if (requestIdCreated) {
+            MDCFields.REQUEST_ID.put(RequestIdGenerator.next());
         }
 
-        MDC.put("LAYER", layer);
-        MDC.put("METHOD", methodName);
+        String previousLayer = MDC.get(MDCFields.LAYER.getFieldName());
+        String previousMethod = MDC.get(MDCFields.METHOD.getFieldName());
 
-        log.info("[START] {} | args={}", className + "." + methodName, argsAsString);
+        boolean sampled = log.isInfoEnabled() && isSampled(layer);
+        if (sampled) {
+            MDCFields.LAYER.put(layer);
+            MDCFields.METHOD.put(methodName);
+            log.info("[START] {}.{} | args={}", className, methodName, LogFormatter.arguments(joinPoint.getArgs(), maxValueLength));
+        }
 
         try {
             Object result = joinPoint.proceed();
-            long duration = System.currentTimeMillis() - startTime;
-            MDC.put("DURATION", duration + "ms");
 
-            log.info("[END] {} | duration={} ms | result={}", className + "." + methodName, duration, result);
+            if (sampled) {
+                long duration = elapsedMillis(startTime);
+                MDCFields.DURATION.put(duration + "ms");
+                log.info("[END] {}.{} | duration={} ms | result={}", className, methodName, duration, LogFormatter.result(result, maxValueLength));
+            }
             return result;
 
         } catch (Exception exception) {
-            long duration = System.currentTimeMillis() - startTime;
-            MDC.put("DURATION", duration + "ms");
+            long duration = elapsedMillis(startTime);
+            MDCFields.LAYER.put(layer);
+            MDCFields.METHOD.put(methodName);
+            MDCFields.DURATION.put(duration + "ms");
 
-            log.error("[ERROR] {} | duration={} ms | args={} | message={}", className + "." + methodName, duration, argsAsString, exception.getMessage(), exception);
+            log.error("[ERROR] {}.{} | duration={} ms | args={} | message={}", className, methodName, duration, LogFormatter.arguments(joinPoint.getArgs(), maxValueLength), exception.getMessage(), exception);
             throw exception;
 
         } finally {
-            MDC.clear();
+            restore(MDCFields.LAYER, previousLayer);
+            restore(MDCFields.METHOD, previousMethod);
+            MDCFields.DURATION.remove();
+            if (requestIdCreated) {
+                MDCFields.REQUEST_ID.remove();
+            }
+        }
+    }
+
+    private boolean isSampled(String layer) {
+        return switch (mode) {
+            case FULL -> true;
+            case ERRORS_ONLY -> false;
+            case SAMPLED -> {
+                double sampleRate = CONTROLLER_LAYER.equals(layer) ? controllerSampleRate : serviceSampleRate;
+                yield sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+            }
+        };
+    }
+
+    private static long elapsedMillis(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    private static void restore(MDCFields field, String previousValue) {
+        if (previousValue == null) {
+            field.remove();
+        } else {
+            field.put(previousValue);
         }
     }
 }
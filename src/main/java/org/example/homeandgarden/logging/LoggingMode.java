@@ -0,0 +1,19 @@
+package org.example.homeandgarden.logging;
+
+public enum LoggingMode {
+
+    /**
+     * Every controller and service call is logged.
+     */
+    FULL,
+
+    /**
+     * Calls are logged with the sample rate configured for their layer.
+     */
+    SAMPLED,
+
+    /**
+     * Only failed calls are logged.
+     */
+    ERRORS_ONLY
+}
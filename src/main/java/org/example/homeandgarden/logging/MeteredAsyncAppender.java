@@ -0,0 +1,59 @@
+package org.example.homeandgarden.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback {@link AsyncAppender} that counts the events it drops instead of dropping them silently.
+ * <p>
+ * Events of level INFO and below are discarded once the remaining queue capacity falls under the discarding
+ * threshold, and with {@code neverBlock} any event is dropped when the queue is full, so a burst of logging
+ * never makes a request thread wait for disk or console I/O. The counts are published by {@link AsyncLogMetrics}.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discardedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+
+    private int effectiveDiscardingThreshold;
+
+    @Override
+    public void start() {
+        super.start();
+        // the threshold is applied in append() so the discarded events can be counted
+        effectiveDiscardingThreshold = getDiscardingThreshold();
+        setDiscardingThreshold(0);
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remainingCapacity = getRemainingCapacity();
+
+        if (remainingCapacity < effectiveDiscardingThreshold && isDiscardable(event)) {
+            discardedEvents.increment();
+            return;
+        }
+        if (isNeverBlock() && remainingCapacity == 0) {
+            droppedEvents.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    /**
+     * Events of level INFO and below discarded because the queue was filling up.
+     */
+    public long getDiscardedEventCount() {
+        return discardedEvents.sum();
+    }
+
+    /**
+     * Events of any level dropped because the queue was full and the appender is configured never to block.
+     * A few more may be lost without being counted when several threads race for the last free slot.
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+}
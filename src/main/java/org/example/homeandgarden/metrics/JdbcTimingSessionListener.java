@@ -0,0 +1,44 @@
+package org.example.homeandgarden.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing JDBC statements and batches, and the time a JDBC connection was held between its
+ * acquisition from the pool and its release, to the {@link SqlStatementStatistics} of the current thread.
+ * Hibernate creates one instance per session from the {@code hibernate.session.events.auto} property.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long executionStart;
+    private long connectionAcquired;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStatistics.recordJdbcTime(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStatistics.recordJdbcTime(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        connectionAcquired = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionReleaseEnd() {
+        SqlStatementStatistics.recordConnectionHold(System.nanoTime() - connectionAcquired);
+    }
+}
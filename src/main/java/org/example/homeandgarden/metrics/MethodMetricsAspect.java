@@ -0,0 +1,70 @@
+package org.example.homeandgarden.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a {@link Timer} named {@value #METRIC_NAME} for every controller and service method,
+ * tagged by class, method, outcome and exception type.
+ * Histogram buckets and SLO boundaries are configured with the {@code management.metrics.distribution.*} properties.
+ */
+@Aspect
+@Component
+public class MethodMetricsAspect {
+
+    static final String METRIC_NAME = "app.method.execution";
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String ERROR = "ERROR";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Timers resolved once per class, method and exception, so a call does not rebuild and look up its tags.
+     */
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController) || @within(org.springframework.stereotype.Service)")
+    public Object timeExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startTime = System.nanoTime();
+        Class<?> exceptionType = null;
+
+        try {
+            return joinPoint.proceed();
+
+        } catch (Throwable exception) {
+            exceptionType = exception.getClass();
+            throw exception;
+
+        } finally {
+            TimerKey key = new TimerKey(joinPoint.getTarget().getClass(), joinPoint.getSignature().getName(), exceptionType);
+            timers.computeIfAbsent(key, this::registerTimer).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer registerTimer(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .description("Execution time of controller and service methods")
+                .tag("class", key.targetClass().getSimpleName())
+                .tag("method", key.method())
+                .tag("outcome", key.exceptionType() == null ? SUCCESS : ERROR)
+                .tag("exception", key.exceptionType() == null ? NO_EXCEPTION : key.exceptionType().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(Class<?> targetClass, String method, Class<?> exceptionType) {
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.homeandgarden.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into the {@link SqlStatementStatistics} of the current thread.
+ * Registered with the {@code hibernate.session_factory.statement_inspector} property; the SQL is returned unchanged.
+ */
+public class SqlStatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStatistics.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.homeandgarden.metrics;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * SQL activity of the current thread between {@link #start()} and {@link #stop()}: statements sent to the database,
+ * entities loaded from their results, the time spent executing them and the time JDBC connections were held.
+ * <p>
+ * Collected per HTTP request by {@link SqlStatisticsFilter} and usable from tests to assert how many statements a call issues.
+ * Statements executed on threads without an active collection are ignored.
+ */
+public final class SqlStatementStatistics {
+
+    private static final ThreadLocal<SqlStatementStatistics> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+
+    private int statementCount;
+    private int entityLoadCount;
+    private long jdbcNanos;
+    private long connectionHoldNanos;
+    private final Map<String, Integer> statementShapes = new HashMap<>();
+
+    private SqlStatementStatistics() {
+    }
+
+    /**
+     * Starts a new collection for the current thread, replacing any previous one.
+     */
+    public static SqlStatementStatistics start() {
+        SqlStatementStatistics statistics = new SqlStatementStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static Optional<SqlStatementStatistics> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static void recordStatement(String sql) {
+        SqlStatementStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statementCount++;
+            statistics.statementShapes.merge(shapeOf(sql), 1, Integer::sum);
+        }
+    }
+
+    static void recordEntityLoad() {
+        SqlStatementStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoadCount++;
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        SqlStatementStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.jdbcNanos += nanos;
+        }
+    }
+
+    static void recordConnectionHold(long nanos) {
+        SqlStatementStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.connectionHoldNanos += nanos;
+        }
+    }
+
+    /**
+     * Reduces a statement to its shape: literals and bind parameter lists collapsed, whitespace and case normalized,
+     * so the same query issued for different ids counts as one shape.
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public int getEntityLoadCount() {
+        return entityLoadCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * Time between acquiring JDBC connections from the pool and releasing them, whether or not statements were running.
+     */
+    public long getConnectionHoldNanos() {
+        return connectionHoldNanos;
+    }
+
+    /**
+     * Statement shapes executed more than {@code threshold} times, the usual sign of an N+1 query pattern.
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        statementShapes.forEach((shape, count) -> {
+            if (count > threshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.homeandgarden.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the {@link SqlStatementStatistics} of every HTTP request, publishes them per endpoint
+ * and warns about requests that repeat the same statement more than the configured number of times.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatisticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStatistics.stop();
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+
+        DistributionSummary.builder("app.request.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getStatementCount());
+        DistributionSummary.builder("app.request.sql.entities")
+                .description("Entities loaded from query results per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getEntityLoadCount());
+        Timer.builder("app.request.sql.time")
+                .description("Time spent executing SQL statements per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("app.request.db.connection.hold")
+                .description("Time JDBC connections were held from the pool per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getConnectionHoldNanos(), TimeUnit.NANOSECONDS);
+
+        Map<String, Integer> repeatedStatements = statistics.getRepeatedStatements(repeatedStatementThreshold);
+        if (!repeatedStatements.isEmpty()) {
+            Counter.builder("app.request.sql.repeated")
+                    .description("HTTP requests that repeated the same SQL statement more than the threshold (N+1 suspects)")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            repeatedStatements.forEach((shape, count) ->
+                    log.warn("⚠️ Repeated SQL: {} executions | Endpoint: {} {} | Statement: {}", count, method, uri, shape));
+        }
+    }
+}
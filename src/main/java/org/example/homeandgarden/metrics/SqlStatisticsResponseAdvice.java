@@ -0,0 +1,47 @@
+package org.example.homeandgarden.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When enabled, adds the SQL statistics of the request to the response as the {@value #HEADER_NAME} header,
+ * e.g. {@code statements=3; entities=20; time=4ms}. Meant for local debugging and tests, off by default.
+ */
+@RestControllerAdvice
+public class SqlStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "X-SQL-Statistics";
+
+    private final boolean enabled;
+
+    public SqlStatisticsResponseAdvice(@Value("${app.sql.debug-header.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType, @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType, @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+
+        SqlStatementStatistics.current().ifPresent(statistics -> response.getHeaders().set(HEADER_NAME,
+                String.format("statements=%d; entities=%d; time=%dms",
+                        statistics.getStatementCount(),
+                        statistics.getEntityLoadCount(),
+                        TimeUnit.NANOSECONDS.toMillis(statistics.getJdbcNanos()))));
+        return body;
+    }
+}
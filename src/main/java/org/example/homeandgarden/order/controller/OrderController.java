@@ -18,15 +18,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.example.homeandgarden.security.entity.UserDetailsImpl;
+import org.example.homeandgarden.shared.ConditionalGet;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.example.homeandgarden.swagger.GroupOneErrorResponses;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.Optional;
 
 @RestController
 @RequestMapping(value = "/orders")
@@ -47,7 +52,7 @@ public class OrderController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("isAuthenticated()")
     @GetMapping(value = "/me/{orderId}/orderItems")
-    public ResponseEntity<Page<OrderItemResponse>> getMyOrderItems(
+    public ResponseEntity<Slice<OrderItemResponse>> getMyOrderItems(
 
             @AuthenticationPrincipal
             UserDetailsImpl userDetails,
@@ -75,10 +80,16 @@ public class OrderController {
             @RequestParam(value = "sortBy", defaultValue = "priceAtPurchase")
             @Pattern(regexp = "^(quantity|priceAtPurchase)$", message = "Invalid value: Must be either: 'quantity' or 'priceAtPurchase'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"quantity", "priceAtPurchase"}))
-            String sortBy) {
+            String sortBy,
+
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
 
         String email = userDetails.getUsername();
-        Page<OrderItemResponse> pageResponse = orderItemService.getMyOrderItems(email, orderId, size, page, order, sortBy);
+        Slice<OrderItemResponse> pageResponse = withTotal
+                ? orderItemService.getMyOrderItems(email, orderId, size, page, order, sortBy)
+                : orderItemService.getMyOrderItemsSlice(email, orderId, size, page, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -105,6 +116,7 @@ public class OrderController {
 
     @Operation(summary = "Get the status of an order", description = "Fetches the current status of a specific order identified by its unique ID.")
     @ApiResponse(responseCode = "200", description = "Order status successfully retrieved.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Order status not modified since the version identified by 'If-None-Match' or 'If-Modified-Since'.", content = @Content)
     @GroupOneErrorResponses
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("isAuthenticated()")
@@ -117,9 +129,16 @@ public class OrderController {
             @PathVariable
             @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
             @Parameter(description = "Unique order id (UUID)")
-            String orderId) {
+            String orderId,
+
+            WebRequest webRequest) {
 
         String email = userDetails.getUsername();
+        Optional<Instant> lastModified = orderService.findMyOrderLastModified(email, orderId);
+        if (lastModified.isPresent() && ConditionalGet.isNotModified(webRequest, orderId, lastModified.get())) {
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
+
         MessageResponse messageResponse = orderService.getMyOrderStatus(email, orderId);
         return new ResponseEntity<>(messageResponse, HttpStatus.OK);
     }
@@ -199,7 +218,7 @@ public class OrderController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping(value = "/{orderId}/orderItems")
-    public ResponseEntity<Page<OrderItemResponse>> getUserOrderItems(
+    public ResponseEntity<Slice<OrderItemResponse>> getUserOrderItems(
 
             @PathVariable
             @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
@@ -224,9 +243,15 @@ public class OrderController {
             @RequestParam(value = "sortBy", defaultValue = "priceAtPurchase")
             @Pattern(regexp = "^(quantity|priceAtPurchase)$", message = "Invalid value: Must be either: 'quantity' or 'priceAtPurchase'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"quantity", "priceAtPurchase"}))
-            String sortBy) {
+            String sortBy,
 
-        Page<OrderItemResponse> pageResponse = orderItemService.getUserOrderItems(orderId, size, page, order, sortBy);
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        Slice<OrderItemResponse> pageResponse = withTotal
+                ? orderItemService.getUserOrderItems(orderId, size, page, order, sortBy)
+                : orderItemService.getUserOrderItemsSlice(orderId, size, page, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -250,6 +275,7 @@ public class OrderController {
 
     @Operation(summary = "Get the status of an order", description = "Fetches the current status of a specific order identified by its unique ID.")
     @ApiResponse(responseCode = "200", description = "Order status successfully retrieved.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Order status not modified since the version identified by 'If-None-Match' or 'If-Modified-Since'.", content = @Content)
     @GroupOneErrorResponses
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
@@ -259,7 +285,14 @@ public class OrderController {
             @PathVariable
             @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
             @Parameter(description = "Unique order id (UUID)")
-            String orderId) {
+            String orderId,
+
+            WebRequest webRequest) {
+
+        Optional<Instant> lastModified = orderService.findOrderLastModified(orderId);
+        if (lastModified.isPresent() && ConditionalGet.isNotModified(webRequest, orderId, lastModified.get())) {
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
 
         MessageResponse messageResponse = orderService.getOrderStatus(orderId);
         return new ResponseEntity<>(messageResponse, HttpStatus.OK);
@@ -5,6 +5,7 @@ import org.example.homeandgarden.cart.entity.CartItem;
 import org.example.homeandgarden.order.dto.OrderItemResponse;
 import org.example.homeandgarden.order.entity.Order;
 import org.example.homeandgarden.order.entity.OrderItem;
+import org.example.homeandgarden.order.entity.OrderItemProjection;
 import org.example.homeandgarden.product.dto.ProductResponse;
 import org.example.homeandgarden.product.entity.Product;
 import org.springframework.stereotype.Component;
@@ -26,15 +27,23 @@ public class OrderItemMapper {
                 .build();
     }
 
-    public OrderItemResponse orderItemToResponse(
-            OrderItem orderItem,
-            ProductResponse product) {
+    public OrderItemResponse orderItemProjectionToResponse(OrderItemProjection orderItemProjection) {
 
         return OrderItemResponse.builder()
-                .orderItemId(orderItem.getOrderItemId())
-                .quantity(orderItem.getQuantity())
-                .priceAtPurchase(orderItem.getPriceAtPurchase())
-                .product(product)
+                .orderItemId(orderItemProjection.getOrderItemId())
+                .quantity(orderItemProjection.getQuantity())
+                .priceAtPurchase(orderItemProjection.getPriceAtPurchase())
+                .product(ProductResponse.builder()
+                        .productId(orderItemProjection.getProductId())
+                        .productName(orderItemProjection.getProductName())
+                        .description(orderItemProjection.getDescription())
+                        .listPrice(orderItemProjection.getListPrice())
+                        .currentPrice(orderItemProjection.getCurrentPrice())
+                        .productStatus(orderItemProjection.getProductStatus())
+                        .imageUrl(orderItemProjection.getImageUrl())
+                        .addedAt(orderItemProjection.getAddedAt())
+                        .updatedAt(orderItemProjection.getUpdatedAt())
+                        .build())
                 .build();
     }
 }
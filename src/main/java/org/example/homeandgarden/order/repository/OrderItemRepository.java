@@ -1,14 +1,46 @@
 package org.example.homeandgarden.order.repository;
 
 import org.example.homeandgarden.order.entity.OrderItem;
+import org.example.homeandgarden.order.entity.OrderItemProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, UUID>, PagingAndSortingRepository<OrderItem, UUID> {
 
-    Page<OrderItem> findByOrderOrderId(UUID orderId, Pageable pageable);
+    String ORDER_ITEM_LIST_QUERY = """
+            SELECT new org.example.homeandgarden.order.entity.OrderItemProjection(
+            orderItem.orderItemId,
+            orderItem.quantity,
+            orderItem.priceAtPurchase,
+            product.productId,
+            product.productName,
+            product.description,
+            product.listPrice,
+            product.currentPrice,
+            product.productStatus,
+            product.imageUrl,
+            product.addedAt,
+            product.updatedAt
+            )
+            FROM OrderItem orderItem
+            JOIN orderItem.product product
+            WHERE orderItem.order.orderId = :orderId
+            """;
+
+    @Query(value = ORDER_ITEM_LIST_QUERY, countQuery = """
+            SELECT COUNT(orderItem)
+            FROM OrderItem orderItem
+            WHERE orderItem.order.orderId = :orderId
+            """)
+    Page<OrderItemProjection> findOrderItemList(@Param("orderId") UUID orderId, Pageable pageable);
+
+    @Query(ORDER_ITEM_LIST_QUERY)
+    Slice<OrderItemProjection> findOrderItemListSlice(@Param("orderId") UUID orderId, Pageable pageable);
 }
@@ -1,15 +1,45 @@
 package org.example.homeandgarden.order.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.homeandgarden.order.entity.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<Order, UUID>, PagingAndSortingRepository<Order, UUID> {
 
     Page<Order> findByUserUserId(UUID userId, Pageable pageable);
+    Slice<Order> findSliceByUserUserId(UUID userId, Pageable pageable);
+    Window<Order> findByUserUserId(UUID userId, ScrollPosition position, Limit limit, Sort sort);
     boolean existsByOrderId(UUID orderId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Order> findForUpdateByOrderId(UUID orderId);
+
+    @Query("""
+            SELECT COALESCE(order.updatedAt, order.createdAt)
+            FROM Order order
+            WHERE order.orderId = :orderId
+            """)
+    Optional<Instant> findLastModifiedByOrderId(@Param("orderId") UUID orderId);
+
+    @Query("""
+            SELECT COALESCE(order.updatedAt, order.createdAt)
+            FROM Order order
+            WHERE order.orderId = :orderId and order.user.email = :email
+            """)
+    Optional<Instant> findLastModifiedByOrderIdAndUserEmail(@Param("orderId") UUID orderId, @Param("email") String email);
 }
@@ -4,17 +4,17 @@ import lombok.RequiredArgsConstructor;
 import org.example.homeandgarden.exception.DataNotFoundException;
 import org.example.homeandgarden.order.dto.OrderItemResponse;
 import org.example.homeandgarden.order.entity.Order;
-import org.example.homeandgarden.order.entity.OrderItem;
+import org.example.homeandgarden.order.entity.OrderItemProjection;
 import org.example.homeandgarden.order.mapper.OrderItemMapper;
 import org.example.homeandgarden.order.repository.OrderItemRepository;
 import org.example.homeandgarden.order.repository.OrderRepository;
-import org.example.homeandgarden.product.mapper.ProductMapper;
-
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -26,9 +26,9 @@ public class OrderItemServiceImpl implements OrderItemService {
     private final OrderRepository orderRepository;
 
     private final OrderItemMapper orderItemMapper;
-    private final ProductMapper productMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<OrderItemResponse> getUserOrderItems(String orderId, Integer size, Integer page, String order, String sortBy) {
 
         UUID id = UUID.fromString(orderId);
@@ -36,13 +36,27 @@ public class OrderItemServiceImpl implements OrderItemService {
             throw new DataNotFoundException(String.format("Order with id: %s, was not found.", orderId));
         }
         PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
-        Page<OrderItem> orderItemPage = orderItemRepository.findByOrderOrderId(id, pageRequest);
+        Page<OrderItemProjection> orderItemPage = orderItemRepository.findOrderItemList(id, pageRequest);
+
+        return orderItemPage.map(orderItemMapper::orderItemProjectionToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<OrderItemResponse> getUserOrderItemsSlice(String orderId, Integer size, Integer page, String order, String sortBy) {
+
+        UUID id = UUID.fromString(orderId);
+        if (!orderRepository.existsByOrderId(id)) {
+            throw new DataNotFoundException(String.format("Order with id: %s, was not found.", orderId));
+        }
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        Slice<OrderItemProjection> orderItemSlice = orderItemRepository.findOrderItemListSlice(id, pageRequest);
 
-        return orderItemPage.map((item) -> orderItemMapper.orderItemToResponse(item,
-                productMapper.productToResponse(item.getProduct())));
+        return orderItemSlice.map(orderItemMapper::orderItemProjectionToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<OrderItemResponse> getMyOrderItems(String email, String orderId, Integer size, Integer page, String order, String sortBy) {
 
         UUID id = UUID.fromString(orderId);
@@ -53,9 +67,25 @@ public class OrderItemServiceImpl implements OrderItemService {
         }
 
         PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
-        Page<OrderItem> orderItemPage = orderItemRepository.findByOrderOrderId(id, pageRequest);
+        Page<OrderItemProjection> orderItemPage = orderItemRepository.findOrderItemList(id, pageRequest);
+
+        return orderItemPage.map(orderItemMapper::orderItemProjectionToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<OrderItemResponse> getMyOrderItemsSlice(String email, String orderId, Integer size, Integer page, String order, String sortBy) {
+
+        UUID id = UUID.fromString(orderId);
+        Order existingOrder = orderRepository.findById(id).orElseThrow(() -> new DataNotFoundException(String.format("Order with id: %s, was not found.", orderId)));
+
+        if (!existingOrder.getUser().getEmail().equals(email)) {
+            throw new AccessDeniedException(String.format("Order with id: %s, does not belong to the user with email: %s.", orderId, email));
+        }
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        Slice<OrderItemProjection> orderItemSlice = orderItemRepository.findOrderItemListSlice(id, pageRequest);
 
-        return orderItemPage.map((item) -> orderItemMapper.orderItemToResponse(item,
-                productMapper.productToResponse(item.getProduct())));
+        return orderItemSlice.map(orderItemMapper::orderItemProjectionToResponse);
     }
 }
@@ -3,17 +3,28 @@ package org.example.homeandgarden.order.service;
 import org.example.homeandgarden.order.dto.OrderCreateRequest;
 import org.example.homeandgarden.order.dto.OrderResponse;
 import org.example.homeandgarden.order.dto.OrderUpdateRequest;
+import org.example.homeandgarden.shared.CursorPageResponse;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface OrderService {
 
     Page<OrderResponse> getUserOrders (String userId, Integer size, Integer page, String order, String sortBy);
-    Page<OrderResponse> getMyOrders(String email, Integer size, Integer page, String order, String sortBy);
+    Slice<OrderResponse> getUserOrdersSlice(String userId, Integer size, Integer page, String order, String sortBy);
+    CursorPageResponse<OrderResponse> getUserOrdersAfter(String userId, Integer size, String after, String order, String sortBy);
+    Page<OrderResponse> getMyOrders(UUID userId, Integer size, Integer page, String order, String sortBy);
+    Slice<OrderResponse> getMyOrdersSlice(UUID userId, Integer size, Integer page, String order, String sortBy);
     OrderResponse getOrderById(String orderId);
     OrderResponse getMyOrderById(String email, String orderId);
     MessageResponse getOrderStatus(String orderId);
     MessageResponse getMyOrderStatus(String email, String orderId);
+    Optional<Instant> findOrderLastModified(String orderId);
+    Optional<Instant> findMyOrderLastModified(String email, String orderId);
     OrderResponse addOrder(String email, OrderCreateRequest orderCreateRequest);
     OrderResponse updateOrder(String email, String orderId, OrderUpdateRequest orderUpdateRequest);
     MessageResponse cancelOrder(String email, String orderId);
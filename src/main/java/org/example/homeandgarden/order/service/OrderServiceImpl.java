@@ -12,16 +12,19 @@ import org.example.homeandgarden.order.mapper.OrderMapper;
 import org.example.homeandgarden.order.repository.OrderRepository;
 import org.example.homeandgarden.exception.*;
 import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.product.service.DailyRevenueService;
+import org.example.homeandgarden.product.service.ProductSalesStatsService;
+import org.example.homeandgarden.shared.CursorPageResponse;
+import org.example.homeandgarden.shared.KeysetCursor;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.example.homeandgarden.user.entity.User;
 import org.example.homeandgarden.user.repository.UserRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.*;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -36,7 +39,11 @@ public class OrderServiceImpl implements OrderService{
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
 
+    private final ProductSalesStatsService productSalesStatsService;
+    private final DailyRevenueService dailyRevenueService;
+
     @Override
+    @Transactional(readOnly = true)
     public Page<OrderResponse> getUserOrders(String userId, Integer size, Integer page, String order, String sortBy) {
         UUID id = UUID.fromString(userId);
         if (!userRepository.existsByUserId(id)) {
@@ -49,18 +56,54 @@ public class OrderServiceImpl implements OrderService{
     }
 
     @Override
-    public Page<OrderResponse> getMyOrders(String email, Integer size, Integer page, String order, String sortBy) {
+    @Transactional(readOnly = true)
+    public Slice<OrderResponse> getUserOrdersSlice(String userId, Integer size, Integer page, String order, String sortBy) {
+        UUID id = UUID.fromString(userId);
+        if (!userRepository.existsByUserId(id)) {
+            throw new DataNotFoundException(String.format("User with id: %s, was not found.", userId));
+        }
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        Slice<Order> orderSlice = orderRepository.findSliceByUserUserId(id, pageRequest);
 
-        User existingUser = userRepository.findByEmail(email).orElseThrow(() -> new DataNotFoundException(String.format("User with email: %s, was not found.", email)));
+        return orderSlice.map(orderMapper::orderToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderResponse> getUserOrdersAfter(String userId, Integer size, String after, String order, String sortBy) {
+        UUID id = UUID.fromString(userId);
+        if (!userRepository.existsByUserId(id)) {
+            throw new DataNotFoundException(String.format("User with id: %s, was not found.", userId));
+        }
+        ScrollPosition position = KeysetCursor.decode(after, Set.of(sortBy, "orderId"));
+        Sort.Direction direction = Sort.Direction.fromString(order);
+        Window<Order> orderWindow = orderRepository.findByUserUserId(id, position, Limit.of(size), Sort.by(direction, sortBy).and(Sort.by(direction, "orderId")));
+
+        return KeysetCursor.toResponse(orderWindow, orderMapper::orderToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<OrderResponse> getMyOrders(UUID userId, Integer size, Integer page, String order, String sortBy) {
 
-        UUID id = existingUser.getUserId();
         PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
-        Page<Order> orderPage = orderRepository.findByUserUserId(id, pageRequest);
+        Page<Order> orderPage = orderRepository.findByUserUserId(userId, pageRequest);
 
         return orderPage.map(orderMapper::orderToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Slice<OrderResponse> getMyOrdersSlice(UUID userId, Integer size, Integer page, String order, String sortBy) {
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        Slice<Order> orderSlice = orderRepository.findSliceByUserUserId(userId, pageRequest);
+
+        return orderSlice.map(orderMapper::orderToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public OrderResponse getOrderById(String orderId) {
 
         UUID id = UUID.fromString(orderId);
@@ -69,6 +112,7 @@ public class OrderServiceImpl implements OrderService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderResponse getMyOrderById(String email, String orderId) {
 
         UUID id = UUID.fromString(orderId);
@@ -82,6 +126,7 @@ public class OrderServiceImpl implements OrderService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public MessageResponse getOrderStatus(String orderId) {
 
         UUID id = UUID.fromString(orderId);
@@ -93,6 +138,7 @@ public class OrderServiceImpl implements OrderService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public MessageResponse getMyOrderStatus(String email, String orderId) {
 
         UUID id = UUID.fromString(orderId);
@@ -107,6 +153,22 @@ public class OrderServiceImpl implements OrderService{
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findOrderLastModified(String orderId) {
+
+        UUID id = UUID.fromString(orderId);
+        return orderRepository.findLastModifiedByOrderId(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findMyOrderLastModified(String email, String orderId) {
+
+        UUID id = UUID.fromString(orderId);
+        return orderRepository.findLastModifiedByOrderIdAndUserEmail(id, email);
+    }
+
     @Override
     @Transactional
     public OrderResponse addOrder(String email, OrderCreateRequest orderCreateRequest) {
@@ -127,6 +189,7 @@ public class OrderServiceImpl implements OrderService{
 
         orderToAdd.getOrderItems().addAll(orderItems);
         Order addedOrder = orderRepository.saveAndFlush(orderToAdd);
+        productSalesStatsService.recordOrderPlaced(addedOrder);
 
         cartRepository.deleteAllInBatch(cart);
         return orderMapper.orderToResponse(addedOrder);
@@ -169,7 +232,7 @@ public class OrderServiceImpl implements OrderService{
     @Transactional
     public MessageResponse cancelOrder(String email, String orderId) {
         UUID id = UUID.fromString(orderId);
-        Order existingOrder = orderRepository.findById(id).orElseThrow(() -> new DataNotFoundException(String.format("Order with id: %s, was not found.", orderId)));
+        Order existingOrder = orderRepository.findForUpdateByOrderId(id).orElseThrow(() -> new DataNotFoundException(String.format("Order with id: %s, was not found.", orderId)));
 
         if (!existingOrder.getUser().getEmail().equals(email)) {
             throw new AccessDeniedException(String.format("Order with id: %s, does not belong to the user with email: %s.", orderId, email));
@@ -181,6 +244,7 @@ public class OrderServiceImpl implements OrderService{
 
         existingOrder.setOrderStatus(OrderStatus.CANCELED);
         Order updatedOrder = orderRepository.saveAndFlush(existingOrder);
+        productSalesStatsService.recordStatusChange(updatedOrder, OrderStatus.CREATED);
 
         return MessageResponse.builder()
                 .message(String.format("Order with id: %s was canceled.", updatedOrder.getOrderId().toString()))
@@ -192,9 +256,9 @@ public class OrderServiceImpl implements OrderService{
     public MessageResponse toggleOrderStatus(String orderId) {
 
         UUID id = UUID.fromString(orderId);
-        Order existingOrder = orderRepository.findById(id).orElseThrow(() -> new DataNotFoundException(String.format("Order with id: %s, was not found.", orderId)));
+        Order existingOrder = orderRepository.findForUpdateByOrderId(id).orElseThrow(() -> new DataNotFoundException(String.format("Order with id: %s, was not found.", orderId)));
 
-        String initialStatus = existingOrder.getOrderStatus().name();
+        OrderStatus initialStatus = existingOrder.getOrderStatus();
 
         Set<OrderStatus> finalStatuses = EnumSet.of(
                 OrderStatus.CANCELED,
@@ -212,9 +276,11 @@ public class OrderServiceImpl implements OrderService{
         }
 
         Order updatedOrder = orderRepository.saveAndFlush(existingOrder);
+        productSalesStatsService.recordStatusChange(updatedOrder, initialStatus);
+        dailyRevenueService.recordStatusChange(updatedOrder, initialStatus);
 
         return MessageResponse.builder()
-                .message(String.format("Order with id: %s was updated from status '%s' to status '%s'.", orderId, initialStatus, updatedOrder.getOrderStatus().name()))
+                .message(String.format("Order with id: %s was updated from status '%s' to status '%s'.", orderId, initialStatus.name(), updatedOrder.getOrderStatus().name()))
                 .build();
     }
 }
@@ -9,19 +9,34 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import org.example.homeandgarden.product.dto.*;
+import org.example.homeandgarden.product.service.ProductImportService;
 import org.example.homeandgarden.product.service.ProductService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.shared.ConditionalGet;
+import org.example.homeandgarden.shared.CursorPageResponse;
 import org.example.homeandgarden.shared.MessageResponse;
+import org.example.homeandgarden.swagger.GroupFourErrorResponses;
 import org.example.homeandgarden.swagger.GroupThreeErrorResponses;
 import org.example.homeandgarden.swagger.GroupOneErrorResponses;
 import org.example.homeandgarden.swagger.GroupTwoErrorResponses;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 
 @RestController
@@ -32,12 +47,14 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
 
     // 🌐 Public access endpoints — no authentication required (accessible to all users)
 
     @Operation(summary = "Get product by id", description = "Fetches the details of a single product using its unique identifier (UUID).")
     @ApiResponse(responseCode = "200", description = "Product successfully retrieved.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponse.class)))
+    @ApiResponse(responseCode = "304", description = "Product not modified since the version identified by 'If-None-Match' or 'If-Modified-Since'.", content = @Content)
     @GroupThreeErrorResponses
     @PreAuthorize("permitAll()")
     @GetMapping(value = "/{productId}")
@@ -46,12 +63,71 @@ public class ProductController {
             @PathVariable
             @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
             @Parameter(description = "Unique product id (UUID)")
-            String productId) {
+            String productId,
+
+            WebRequest webRequest) {
+
+        Optional<Instant> lastModified = productService.findProductLastModified(productId);
+        if (lastModified.isPresent() && ConditionalGet.isNotModified(webRequest, productId, lastModified.get())) {
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
 
         ProductResponse existingProduct = productService.getProductById(productId);
         return new ResponseEntity<>(existingProduct, HttpStatus.OK);
     }
 
+    @Operation(summary = "Search products by text with filtering and cursor pagination", description = "Searches product names and descriptions with full-text matching and tolerates typos in product names, best matches first. Allows filtering by category, product status and price range. Pass an empty 'after' for the first page and the returned 'nextCursor' for the following ones, keeping the other parameters unchanged.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved matching products, possibly an empty list if no matches.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponse.class)))
+    @GroupFourErrorResponses
+    @PreAuthorize("permitAll()")
+    @GetMapping(value = "/search")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> searchProducts(
+
+            @RequestParam(value = "query")
+            @NotBlank(message = "Search query is required")
+            @Size(max = 100, message = "Search query must be at most 100 characters long")
+            @Parameter(description = "Words to search for in product names and descriptions")
+            String query,
+
+            @RequestParam(value = "categoryId", required = false)
+            @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
+            @Parameter(description = "Unique category id (UUID) to search in, all categories if absent")
+            String categoryId,
+
+            @RequestParam(value = "productStatus", defaultValue = "AVAILABLE")
+            @Pattern(regexp = "^(AVAILABLE|OUT_OF_STOCK|SOLD_OUT|available|out_of_stock|sold_out)$", message = "Invalid product status: Must be one of the: 'AVAILABLE', 'OUT_OF_STOCK' or 'SOLD_OUT' ('available', 'out_of_stock' or 'sold_out')")
+            @Parameter(description = "Status of the product in the system", schema = @Schema(allowableValues = {"AVAILABLE", "OUT_OF_STOCK", "SOLD_OUT", "available", "out_of_stock", "sold_out"}))
+            String productStatus,
+
+            @RequestParam(value = "minPrice",defaultValue = "0.0")
+            @DecimalMin(value = "0.0", message = "Minimal price must be non-negative")
+            @DecimalMax(value = "999999.99", message = "Minimal price must be less than or equal to 999999.99")
+            @Digits(integer = 6, fraction = 2, message = "Minimal price must have up to 6 digits and 2 decimal places")
+            @Parameter(description = "Minimal price for the filter range")
+            BigDecimal minPrice,
+
+            @RequestParam(value = "maxPrice",defaultValue = "999999.0")
+            @DecimalMin(value = "0.0", message = "Maximal price must be non-negative")
+            @DecimalMax(value = "999999.99", message = "Maximal price must be less than or equal to 999999.99")
+            @Digits(integer = 6, fraction = 2, message = "Maximal price must have up to 6 digits and 2 decimal places")
+            @Parameter(description = "Maximal price for the filter range")
+            BigDecimal maxPrice,
+
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Invalid parameter: Size must be greater than or equal to 1")
+            @Max(value = 100, message = "Invalid parameter: Size must be less than or equal to 100")
+            @Parameter(description = "Number of elements per one page")
+            Integer size,
+
+            @RequestParam(value = "after", defaultValue = "")
+            @Pattern(regexp = "^[A-Za-z0-9_-]{0,1024}$", message = "Invalid cursor: Pass the 'nextCursor' of the previous page unchanged, or an empty value for the first page")
+            @Parameter(description = "Opaque cursor from 'nextCursor' of the previous page, empty for the first page")
+            String after) {
+
+        CursorPageResponse<ProductResponse> pageResponse = productService.searchProducts(query, categoryId, productStatus, minPrice, maxPrice, size, after);
+        return new ResponseEntity<>(pageResponse, HttpStatus.OK);
+    }
+
 
     // 👮 Admin access endpoints — restricted to users with administrative privileges
 
@@ -61,7 +137,7 @@ public class ProductController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping("/status")
-    public ResponseEntity<Page<ProductResponse>> getProductsByStatus(
+    public ResponseEntity<Slice<ProductResponse>> getProductsByStatus(
 
             @RequestParam(value = "productStatus", required = false)
             @Pattern(regexp = "^(AVAILABLE|OUT_OF_STOCK|SOLD_OUT|available|out_of_stock|sold_out)$", message = "Invalid order orderStatus: Must be one of the: 'AVAILABLE', 'OUT_OF_STOCK' or 'SOLD_OUT' ('available', 'out_of_stock' or 'sold_out')")
@@ -86,9 +162,52 @@ public class ProductController {
             @RequestParam(value = "sortBy", defaultValue = "addedAt")
             @Pattern(regexp = "^(productName|listPrice|currentPrice|addedAt|updatedAt)$", message = "Invalid value: Must be one of the following: 'productName', 'listPrice', 'currentPrice', 'addedAt', 'updatedAt'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"productName", "listPrice", "currentPrice", "addedAt", "updatedAt"}))
+            String sortBy,
+
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        Slice<ProductResponse> pageResponse = withTotal
+                ? productService.getProductsByStatus(productStatus, size, page, order, sortBy)
+                : productService.getProductsByStatusSlice(productStatus, size, page, order, sortBy);
+        return new ResponseEntity<>(pageResponse, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get products by status with cursor pagination", description = "Retrieves products based on their status ('AVAILABLE', 'OUT_OF_STOCK' or 'SOLD_OUT') page by page with a seek query, so deep pages are as fast as the first one. Pass an empty 'after' for the first page and the returned 'nextCursor' for the following ones, keeping the other parameters unchanged.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved products, possibly an empty list if no matches.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponse.class)))
+    @GroupTwoErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @GetMapping(value = "/status", params = "after")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getProductsByStatusAfter(
+
+            @RequestParam(value = "productStatus", required = false)
+            @Pattern(regexp = "^(AVAILABLE|OUT_OF_STOCK|SOLD_OUT|available|out_of_stock|sold_out)$", message = "Invalid order orderStatus: Must be one of the: 'AVAILABLE', 'OUT_OF_STOCK' or 'SOLD_OUT' ('available', 'out_of_stock' or 'sold_out')")
+            @Parameter(description = "Status of the product in the system")
+            String productStatus,
+
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Invalid parameter: Size must be greater than or equal to 1")
+            @Parameter(description = "Number of elements per one page")
+            Integer size,
+
+            @RequestParam(value = "after")
+            @Pattern(regexp = "^[A-Za-z0-9_-]{0,1024}$", message = "Invalid cursor: Pass the 'nextCursor' of the previous page unchanged, or an empty value for the first page")
+            @Parameter(description = "Opaque cursor from 'nextCursor' of the previous page, empty for the first page")
+            String after,
+
+            @RequestParam(value = "order", defaultValue = "ASC")
+            @Pattern(regexp = "^(ASC|DESC|asc|desc)$", message = "Invalid order: Must be 'ASC' or 'DESC' ('asc' or 'desc')")
+            @Parameter(description = "Sort order: 'asc' for ascending, 'desc' for descending", schema = @Schema(allowableValues = {"ASC", "DESC", "asc", "desc"}))
+            String order,
+
+            @RequestParam(value = "sortBy", defaultValue = "addedAt")
+            @Pattern(regexp = "^(productName|listPrice|addedAt)$", message = "Invalid value: Must be one of the following: 'productName', 'listPrice', 'addedAt'")
+            @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"productName", "listPrice", "addedAt"}))
             String sortBy) {
 
-        Page<ProductResponse> pageResponse = productService.getProductsByStatus(productStatus, size, page, order, sortBy);
+        CursorPageResponse<ProductResponse> pageResponse = productService.getProductsByStatusAfter(productStatus, size, after, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -98,7 +217,7 @@ public class ProductController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping(value = "/top")
-    public ResponseEntity<Page<ProductProjectionResponse>> getTopProducts(
+    public ResponseEntity<Slice<ProductProjectionResponse>> getTopProducts(
 
             @RequestParam(value = "status", defaultValue = "PAID")
             @Pattern(regexp = "^(PAID|CANCELED|paid|canceled)$", message = "Invalid status: Must be 'PAID' or 'CANCELED' ('paid' or 'canceled')")
@@ -113,9 +232,15 @@ public class ProductController {
             @RequestParam(value = "page", defaultValue = "0")
             @Min(value = 0, message = "Invalid parameter: Page numeration starts from 0")
             @Parameter(description = "Page number to display")
-            Integer page) {
+            Integer page,
 
-        Page<ProductProjectionResponse> pageResponse = productService.getTopProducts(status, size, page);
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        Slice<ProductProjectionResponse> pageResponse = withTotal
+                ? productService.getTopProducts(status, size, page)
+                : productService.getTopProductsSlice(status, size, page);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -125,7 +250,7 @@ public class ProductController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping(value = "/pending")
-    public ResponseEntity<Page<ProductProjectionResponse>> getPendingProducts(
+    public ResponseEntity<Slice<ProductProjectionResponse>> getPendingProducts(
 
             @RequestParam(value = "orderStatus", defaultValue = "CREATED")
             @Pattern(regexp = "^(CREATED|PAID|ON_THE_WAY|created|paid|on_the_way)$", message = "Invalid order orderStatus: Must be 'CREATED', 'PAID' or 'ON_THE_WAY' ('created', 'paid' or 'on_the_way')")
@@ -145,9 +270,15 @@ public class ProductController {
             @RequestParam(value = "page", defaultValue = "0")
             @Min(value = 0, message = "Invalid parameter: Page numeration starts from 0")
             @Parameter(description = "Page number to display")
-            Integer page) {
+            Integer page,
 
-        Page<ProductProjectionResponse> pageResponse = productService.getPendingProducts(orderStatus, days, size, page);
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        Slice<ProductProjectionResponse> pageResponse = withTotal
+                ? productService.getPendingProducts(orderStatus, days, size, page)
+                : productService.getPendingProductsSlice(orderStatus, days, size, page);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -173,6 +304,50 @@ public class ProductController {
         return new ResponseEntity<>(productProfitResponse, HttpStatus.OK);
     }
 
+    @Operation(summary = "Calculate profit per day for a specified period", description = "Retrieves the profit of every day with delivered orders in a defined time period, oldest day first. Allows specifying the unit of time ('DAY', 'WEEK', 'MONTH' or 'YEAR') and the duration (e.g., 7 days, 12 months).")
+    @ApiResponse(responseCode = "200", description = "Daily profit successfully calculated and retrieved.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductDailyProfitResponse.class)))
+    @GroupTwoErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @GetMapping(value = "/profit/daily")
+    public ResponseEntity<List<ProductDailyProfitResponse>> getDailyProfitByPeriod(
+
+            @RequestParam(value = "timeUnit", defaultValue = "DAY")
+            @Pattern(regexp = "^(DAY|WEEK|MONTH|YEAR|day|week|month|year)$", message = "Invalid type of period: Must be 'DAY', 'WEEK', 'MONTH' or 'YEAR' ('day', 'week', 'month' or 'year')")
+            @Parameter(description = "Time unit for profit calculating", schema = @Schema(allowableValues = {"DAY", "WEEK", "MONTH", "YEAR", "day", "week", "month", "year"}))
+            String timeUnit,
+
+            @RequestParam(value = "timePeriod", defaultValue = "10")
+            @Positive(message = "Duration must be a positive number")
+            @Parameter(description = "Time period for profit calculating")
+            Integer timePeriod) {
+
+        List<ProductDailyProfitResponse> dailyProfitResponse = productService.getDailyProfitByPeriod(timeUnit, timePeriod);
+        return new ResponseEntity<>(dailyProfitResponse, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Calculate profit per category for a specified period", description = "Retrieves the profit of every category with delivered orders in a defined time period, most profitable category first. Allows specifying the unit of time ('DAY', 'WEEK', 'MONTH' or 'YEAR') and the duration (e.g., 7 days, 12 months).")
+    @ApiResponse(responseCode = "200", description = "Category profit successfully calculated and retrieved.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductCategoryProfitResponse.class)))
+    @GroupTwoErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @GetMapping(value = "/profit/categories")
+    public ResponseEntity<List<ProductCategoryProfitResponse>> getCategoryProfitByPeriod(
+
+            @RequestParam(value = "timeUnit", defaultValue = "DAY")
+            @Pattern(regexp = "^(DAY|WEEK|MONTH|YEAR|day|week|month|year)$", message = "Invalid type of period: Must be 'DAY', 'WEEK', 'MONTH' or 'YEAR' ('day', 'week', 'month' or 'year')")
+            @Parameter(description = "Time unit for profit calculating", schema = @Schema(allowableValues = {"DAY", "WEEK", "MONTH", "YEAR", "day", "week", "month", "year"}))
+            String timeUnit,
+
+            @RequestParam(value = "timePeriod", defaultValue = "10")
+            @Positive(message = "Duration must be a positive number")
+            @Parameter(description = "Time period for profit calculating")
+            Integer timePeriod) {
+
+        List<ProductCategoryProfitResponse> categoryProfitResponse = productService.getCategoryProfitByPeriod(timeUnit, timePeriod);
+        return new ResponseEntity<>(categoryProfitResponse, HttpStatus.OK);
+    }
+
     @Operation(summary = "Add a new product", description = "Adds a new product into product catalog. The product details are provided in the request body.")
     @ApiResponse(responseCode = "201", description = "Product successfully added.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponse.class)))
     @GroupOneErrorResponses
@@ -189,6 +364,45 @@ public class ProductController {
         return new ResponseEntity<>(addedProduct, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Import products from CSV or NDJSON", description = "Adds many products to the catalog from a 'text/csv' body (header line with the columns categoryId, productName, description, listPrice, imageUrl) or an 'application/x-ndjson' body (one product per line, with the fields of the product creation request). The body is read as a stream and inserted in batches; rows that are invalid or name a missing or disabled category are skipped and listed in a downloadable reject file.")
+    @ApiResponse(responseCode = "201", description = "Import finished, possibly with rejected rows.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductImportResponse.class)))
+    @GroupOneErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Products to import", content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")})
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ProductImportResponse> importProducts(
+
+            @RequestHeader(HttpHeaders.CONTENT_TYPE)
+            String contentType,
+
+            InputStream inputStream) {
+
+        ProductImportResponse importResponse = productImportService.importProducts(inputStream, MediaType.parseMediaType(contentType));
+        return new ResponseEntity<>(importResponse, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Download the rejected rows of a product import", description = "Returns the CSV file (line, error, row) of the rows a product import skipped. Files are kept for a limited time after the import.")
+    @ApiResponse(responseCode = "200", description = "Reject file successfully retrieved.", content = @Content(mediaType = "text/csv"))
+    @GroupOneErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @GetMapping(value = "/import/{importId}/rejects")
+    public ResponseEntity<Resource> getImportRejects(
+
+            @PathVariable
+            @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
+            @Parameter(description = "Unique import id (UUID)")
+            String importId) {
+
+        Resource rejects = productImportService.getImportRejects(importId);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(ProductImportService.TEXT_CSV);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(String.format("product-import-%s-rejects.csv", importId)).build());
+        return new ResponseEntity<>(rejects, headers, HttpStatus.OK);
+    }
+
     @Operation(summary = "Update an existing product", description = "Modifies an existing product identified by its unique Id. The details that need to be updated are provided in the request body.")
     @ApiResponse(responseCode = "200", description = "Product successfully updated.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponse.class)))
     @GroupOneErrorResponses
@@ -231,4 +445,36 @@ public class ProductController {
         MessageResponse message = productService.setProductStatus(productId, productStatus);
         return new ResponseEntity<>(message, HttpStatus.OK);
     }
+
+    @Operation(summary = "Change the prices of many products", description = "Changes the current price of all products of a category, or of a list of products, by a percentage or by a fixed amount in one set-based update. Products without a current price are repriced from their list price, and prices do not go below 0.")
+    @ApiResponse(responseCode = "200", description = "Product prices successfully changed.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageResponse.class)))
+    @GroupOneErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PatchMapping(value = "/prices")
+    public ResponseEntity<MessageResponse> changeProductPrices(
+
+            @RequestBody
+            @Valid
+            ProductBulkPriceRequest productBulkPriceRequest) {
+
+        MessageResponse message = productService.changeProductPrices(productBulkPriceRequest);
+        return new ResponseEntity<>(message, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Set the status of many products ('AVAILABLE', 'OUT_OF_STOCK', or 'SOLD_OUT')", description = "Sets the status of all products of a category, or of a list of products, in one set-based update. Products that already have the status are left unchanged.")
+    @ApiResponse(responseCode = "200", description = "Product statuses successfully updated.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MessageResponse.class)))
+    @GroupOneErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @PatchMapping(value = "/status")
+    public ResponseEntity<MessageResponse> setProductsStatus(
+
+            @RequestBody
+            @Valid
+            ProductBulkStatusRequest productBulkStatusRequest) {
+
+        MessageResponse message = productService.setProductsStatus(productBulkStatusRequest);
+        return new ResponseEntity<>(message, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,44 @@
+package org.example.homeandgarden.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request for changing the current price of all products of a category or of a list of products")
+public class ProductBulkPriceRequest {
+
+    @JsonProperty("categoryId")
+    @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
+    @Schema(description = "Unique id (UUID) of the category whose products are repriced, instead of 'productIds'")
+    private String categoryId;
+
+    @JsonProperty("productIds")
+    @Size(min = 1, max = 10000, message = "Invalid product ids: Must contain 1 - 10000 ids")
+    @Schema(description = "Unique ids (UUID) of the products to reprice, instead of 'categoryId'")
+    private List<@Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format") String> productIds;
+
+    @JsonProperty("changeType")
+    @NotBlank(message = "Change type is required")
+    @Pattern(regexp = "^(PERCENTAGE|AMOUNT|percentage|amount)$", message = "Invalid change type: Must be 'PERCENTAGE' or 'AMOUNT' ('percentage' or 'amount')")
+    @Schema(description = "'PERCENTAGE' changes prices by a percentage of the current price, 'AMOUNT' by a fixed amount", allowableValues = {"PERCENTAGE", "AMOUNT", "percentage", "amount"})
+    private String changeType;
+
+    @JsonProperty("value")
+    @NotNull(message = "Value is required")
+    @DecimalMin(value = "-999999.99", message = "Value must be greater than or equal to -999999.99")
+    @DecimalMax(value = "999999.99", message = "Value must be less than or equal to 999999.99")
+    @Digits(integer = 6, fraction = 2, message = "Value must have up to 6 digits and 2 decimal places")
+    @Schema(description = "Signed percentage (from -100) or amount to change the prices by, e.g. -15 for a 15% discount; prices do not go below 0")
+    private BigDecimal value;
+}
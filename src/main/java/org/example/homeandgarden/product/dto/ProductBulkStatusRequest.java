@@ -0,0 +1,35 @@
+package org.example.homeandgarden.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request for setting the status of all products of a category or of a list of products")
+public class ProductBulkStatusRequest {
+
+    @JsonProperty("categoryId")
+    @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
+    @Schema(description = "Unique id (UUID) of the category whose products get the status, instead of 'productIds'")
+    private String categoryId;
+
+    @JsonProperty("productIds")
+    @Size(min = 1, max = 10000, message = "Invalid product ids: Must contain 1 - 10000 ids")
+    @Schema(description = "Unique ids (UUID) of the products that get the status, instead of 'categoryId'")
+    private List<@Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format") String> productIds;
+
+    @JsonProperty("productStatus")
+    @NotBlank(message = "Product status is required")
+    @Pattern(regexp = "^(AVAILABLE|OUT_OF_STOCK|SOLD_OUT|available|out_of_stock|sold_out)$", message = "Invalid product status: Must be one of the: 'AVAILABLE', 'OUT_OF_STOCK' or 'SOLD_OUT' ('available', 'out_of_stock' or 'sold_out')")
+    @Schema(description = "Status of the products in the system", allowableValues = {"AVAILABLE", "OUT_OF_STOCK", "SOLD_OUT", "available", "out_of_stock", "sold_out"})
+    private String productStatus;
+}
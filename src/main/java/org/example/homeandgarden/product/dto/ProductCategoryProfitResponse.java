@@ -0,0 +1,33 @@
+package org.example.homeandgarden.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Response for displaying the profit of one category")
+public class ProductCategoryProfitResponse {
+
+    @JsonProperty("categoryId")
+    @Schema(description = "Unique category id (UUID)")
+    private UUID categoryId;
+
+    @JsonProperty("categoryName")
+    @Schema(description = "Name of the category")
+    private String categoryName;
+
+    @JsonProperty("profit")
+    @Schema(description = "Profit of the category for a certain period")
+    private BigDecimal profit;
+}
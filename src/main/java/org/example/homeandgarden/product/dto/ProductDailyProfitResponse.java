@@ -0,0 +1,29 @@
+package org.example.homeandgarden.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Response for displaying the profit of one day")
+public class ProductDailyProfitResponse {
+
+    @JsonProperty("day")
+    @Schema(description = "Day the orders were created on")
+    private LocalDate day;
+
+    @JsonProperty("profit")
+    @Schema(description = "Profit of the day")
+    private BigDecimal profit;
+}
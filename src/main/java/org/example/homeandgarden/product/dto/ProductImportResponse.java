@@ -0,0 +1,36 @@
+package org.example.homeandgarden.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Response for displaying the outcome of a product import")
+public class ProductImportResponse {
+
+    @JsonProperty("importId")
+    @Schema(description = "Unique import id (UUID)")
+    private UUID importId;
+
+    @JsonProperty("importedCount")
+    @Schema(description = "Number of products added to the catalog")
+    private Long importedCount;
+
+    @JsonProperty("rejectedCount")
+    @Schema(description = "Number of rows that were not imported")
+    private Long rejectedCount;
+
+    @JsonProperty("rejectsUrl")
+    @Schema(description = "Url of the CSV file listing the rejected rows with their errors, absent when no row was rejected")
+    private String rejectsUrl;
+}
@@ -0,0 +1,21 @@
+package org.example.homeandgarden.product.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryRevenueProjection {
+
+    private UUID categoryId;
+    private String categoryName;
+    private BigDecimal revenue;
+
+}
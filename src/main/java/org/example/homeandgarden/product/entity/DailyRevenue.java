@@ -0,0 +1,67 @@
+package org.example.homeandgarden.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.homeandgarden.category.entity.Category;
+import org.example.homeandgarden.order.entity.enums.OrderStatus;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Units and revenue of the order items of one category, summed over the orders created on one day in {@link #ZONE}
+ * that are in one of the {@link org.example.homeandgarden.product.service.DailyRevenueService#TRACKED_STATUSES}.
+ * Rows are written only by the upserts of {@link org.example.homeandgarden.product.repository.DailyRevenueRepository}.
+ */
+@Entity
+@Table(name = "daily_revenue")
+@IdClass(DailyRevenue.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class DailyRevenue {
+
+    /**
+     * Zone of the days. Timestamps are written in UTC ({@code hibernate.jdbc.time_zone}), so casting
+     * {@code orders.created_at} to a date in the database gives the same day.
+     */
+    public static final ZoneOffset ZONE = ZoneOffset.UTC;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", updatable = false, nullable = false)
+    private OrderStatus orderStatus;
+
+    @Id
+    @Column(name = "day", updatable = false, nullable = false)
+    private LocalDate day;
+
+    @Id
+    @Column(name = "category_id", updatable = false, nullable = false)
+    private UUID categoryId;
+
+    @Column(name = "units", nullable = false)
+    private Long units;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", insertable = false, updatable = false)
+    private Category category;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private OrderStatus orderStatus;
+        private LocalDate day;
+        private UUID categoryId;
+    }
+}
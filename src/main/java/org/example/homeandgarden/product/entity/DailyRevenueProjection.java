@@ -0,0 +1,20 @@
+package org.example.homeandgarden.product.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyRevenueProjection {
+
+    private LocalDate day;
+    private BigDecimal revenue;
+
+}
@@ -7,6 +7,8 @@ import org.example.homeandgarden.cart.entity.CartItem;
 import org.example.homeandgarden.order.entity.OrderItem;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
 import org.example.homeandgarden.wishlist.entity.WishListItem;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,6 +20,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -58,8 +62,8 @@ public class Product {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
-   @ManyToOne
-   @JoinColumn(name = "category_id", nullable=false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable=false)
     private Category category;
 
     @OneToMany(mappedBy = "product",  fetch = FetchType.LAZY)
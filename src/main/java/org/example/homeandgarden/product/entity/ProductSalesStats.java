@@ -0,0 +1,56 @@
+package org.example.homeandgarden.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.homeandgarden.product.entity.enums.SalesBucket;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Units and revenue of one product summed over all order items of one {@link SalesBucket}.
+ * Rows are written only by the upserts of {@link org.example.homeandgarden.product.repository.ProductSalesStatsRepository}.
+ */
+@Entity
+@Table(name = "product_sales_stats")
+@IdClass(ProductSalesStats.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ProductSalesStats {
+
+    @Id
+    @Column(name = "product_id", updatable = false, nullable = false)
+    private UUID productId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sales_bucket", updatable = false, nullable = false)
+    private SalesBucket salesBucket;
+
+    @Column(name = "units", nullable = false)
+    private Long units;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", insertable = false, updatable = false)
+    private Product product;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private UUID productId;
+        private SalesBucket salesBucket;
+    }
+}
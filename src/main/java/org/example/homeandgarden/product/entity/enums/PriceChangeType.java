@@ -0,0 +1,18 @@
+package org.example.homeandgarden.product.entity.enums;
+
+import lombok.Getter;
+
+/**
+ * How a bulk price change is applied to the current price of a product.
+ */
+@Getter
+public enum PriceChangeType {
+    PERCENTAGE ("Percentage"),
+    AMOUNT ("Amount");
+
+    private final String value;
+
+    PriceChangeType(String value) {
+        this.value = value;
+    }
+}
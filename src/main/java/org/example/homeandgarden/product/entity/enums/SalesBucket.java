@@ -0,0 +1,28 @@
+package org.example.homeandgarden.product.entity.enums;
+
+import lombok.Getter;
+import org.example.homeandgarden.order.entity.enums.OrderStatus;
+
+/**
+ * Groups of order statuses that product sales are counted in.
+ */
+@Getter
+public enum SalesBucket {
+    OPEN ("Open"),
+    PAID ("Paid"),
+    CANCELED ("Canceled");
+
+    private final String value;
+
+    SalesBucket(String value) {
+        this.value = value;
+    }
+
+    public static SalesBucket of(OrderStatus orderStatus) {
+        return switch (orderStatus) {
+            case CREATED -> OPEN;
+            case PAID, ON_THE_WAY, DELIVERED -> PAID;
+            case CANCELED, RETURNED -> CANCELED;
+        };
+    }
+}
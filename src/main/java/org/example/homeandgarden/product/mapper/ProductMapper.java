@@ -3,8 +3,12 @@ package org.example.homeandgarden.product.mapper;
 import lombok.RequiredArgsConstructor;
 import org.example.homeandgarden.category.entity.Category;
 import org.example.homeandgarden.product.dto.*;
+import org.example.homeandgarden.product.entity.CategoryRevenueProjection;
+import org.example.homeandgarden.product.entity.DailyRevenueProjection;
 import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.product.entity.ProductListProjection;
 import org.example.homeandgarden.product.entity.ProductProjection;
+import org.example.homeandgarden.product.entity.ProductSearchProjection;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -40,6 +44,21 @@ public class ProductMapper {
                 .build();
     }
 
+    public ProductResponse productListProjectionToResponse(ProductListProjection productListProjection) {
+
+        return ProductResponse.builder()
+                .productId(productListProjection.getProductId())
+                .productName(productListProjection.getProductName())
+                .description(productListProjection.getDescription())
+                .listPrice(productListProjection.getListPrice())
+                .currentPrice(productListProjection.getCurrentPrice())
+                .productStatus(productListProjection.getProductStatus())
+                .imageUrl(productListProjection.getImageUrl())
+                .addedAt(productListProjection.getAddedAt())
+                .updatedAt(productListProjection.getUpdatedAt())
+                .build();
+    }
+
     public ProductProjectionResponse productProjectionToResponse(ProductProjection productProjection) {
         return ProductProjectionResponse.builder()
                 .productId(productProjection.getProductId())
@@ -54,4 +73,33 @@ public class ProductMapper {
                 .build();
     }
 
+    public ProductDailyProfitResponse dailyRevenueProjectionToResponse(DailyRevenueProjection dailyRevenueProjection) {
+        return ProductDailyProfitResponse.builder()
+                .day(dailyRevenueProjection.getDay())
+                .profit(dailyRevenueProjection.getRevenue())
+                .build();
+    }
+
+    public ProductCategoryProfitResponse categoryRevenueProjectionToResponse(CategoryRevenueProjection categoryRevenueProjection) {
+        return ProductCategoryProfitResponse.builder()
+                .categoryId(categoryRevenueProjection.getCategoryId())
+                .categoryName(categoryRevenueProjection.getCategoryName())
+                .profit(categoryRevenueProjection.getRevenue())
+                .build();
+    }
+
+    public ProductResponse productSearchProjectionToResponse(ProductSearchProjection productSearchProjection) {
+        return ProductResponse.builder()
+                .productId(productSearchProjection.getProductId())
+                .productName(productSearchProjection.getProductName())
+                .description(productSearchProjection.getDescription())
+                .listPrice(productSearchProjection.getListPrice())
+                .currentPrice(productSearchProjection.getCurrentPrice())
+                .productStatus(productSearchProjection.getProductStatus())
+                .imageUrl(productSearchProjection.getImageUrl())
+                .addedAt(productSearchProjection.getAddedAt())
+                .updatedAt(productSearchProjection.getUpdatedAt())
+                .build();
+    }
+
 }
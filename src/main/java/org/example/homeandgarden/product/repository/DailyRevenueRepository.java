@@ -0,0 +1,71 @@
+package org.example.homeandgarden.product.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.homeandgarden.product.entity.DailyRevenue;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface DailyRevenueRepository extends JpaRepository<DailyRevenue, DailyRevenue.Key> {
+
+    /**
+     * Adds the items of the order, or subtracts them when {@code sign} is -1, to the revenue of the day
+     * the order was created on, per category of the products, creating the rows on the first sale.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_revenue"))
+    @Query(value = """
+            INSERT INTO daily_revenue (order_status, day, category_id, units, revenue)
+            SELECT :orderStatus,
+                   CAST(orders.created_at AS DATE),
+                   products.category_id,
+                   :sign * SUM(order_items.quantity),
+                   :sign * SUM(order_items.quantity * order_items.price_at_purchase)
+            FROM order_items
+            JOIN orders ON orders.order_id = order_items.order_id
+            JOIN products ON products.product_id = order_items.product_id
+            WHERE order_items.order_id = :orderId
+            GROUP BY 2, 3
+            ORDER BY 3
+            ON CONFLICT (order_status, day, category_id) DO UPDATE SET
+            units = daily_revenue.units + EXCLUDED.units,
+            revenue = daily_revenue.revenue + EXCLUDED.revenue
+            """, nativeQuery = true)
+    void addOrderRevenue(@Param("orderId") UUID orderId, @Param("orderStatus") String orderStatus, @Param("sign") int sign);
+
+    /**
+     * Blocks concurrent upserts until the end of the transaction, so a reconciliation does not lose their changes.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_revenue"))
+    @Query(value = "LOCK TABLE daily_revenue IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForReconciliation();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_revenue"))
+    @Query(value = "DELETE FROM daily_revenue WHERE day >= :fromDay", nativeQuery = true)
+    int deleteFromDay(@Param("fromDay") LocalDate fromDay);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_revenue"))
+    @Query(value = """
+            INSERT INTO daily_revenue (order_status, day, category_id, units, revenue)
+            SELECT orders.order_status,
+                   CAST(orders.created_at AS DATE),
+                   products.category_id,
+                   SUM(order_items.quantity),
+                   SUM(order_items.quantity * order_items.price_at_purchase)
+            FROM order_items
+            JOIN orders ON orders.order_id = order_items.order_id
+            JOIN products ON products.product_id = order_items.product_id
+            WHERE orders.order_status IN ('DELIVERED', 'RETURNED') AND orders.created_at >= :fromDay
+            GROUP BY 1, 2, 3
+            """, nativeQuery = true)
+    int insertFromDay(@Param("fromDay") LocalDate fromDay);
+}
@@ -0,0 +1,45 @@
+package org.example.homeandgarden.product.repository;
+
+import org.example.homeandgarden.product.entity.enums.PriceChangeType;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ProductBulkRepository {
+
+    /**
+     * Changes the current price of the next products of the category after the given product id, at most {@code limit} of them,
+     * falling back to the list price for products without a current price. Prices are kept within 0 - 999999.99.
+     */
+    List<UpdatedProduct> changeCategoryPrices(UUID categoryId, PriceChangeType changeType, BigDecimal value, Instant updatedAt, UUID afterProductId, int limit);
+
+    /**
+     * Changes the current price of the given products like {@link #changeCategoryPrices}; unknown ids are skipped.
+     */
+    List<UpdatedProduct> changePrices(List<UUID> productIds, PriceChangeType changeType, BigDecimal value, Instant updatedAt);
+
+    /**
+     * Sets the status of the next products of the category in one of the given statuses after the given product id, at most {@code limit} of them.
+     */
+    List<UpdatedProduct> changeCategoryStatuses(UUID categoryId, Set<ProductStatus> fromStatuses, ProductStatus status, Instant updatedAt, UUID afterProductId, int limit);
+
+    /**
+     * Sets the status of the given products that are in one of the given statuses; unknown ids are skipped.
+     */
+    List<UpdatedProduct> changeStatuses(List<UUID> productIds, Set<ProductStatus> fromStatuses, ProductStatus status, Instant updatedAt);
+
+    /**
+     * Inserts the products as {@code AVAILABLE} with one batched statement, their current price being the list price.
+     */
+    void insertProducts(List<NewProduct> products, Instant addedAt);
+
+    record UpdatedProduct(UUID productId, UUID categoryId) {
+    }
+
+    record NewProduct(UUID productId, UUID categoryId, String productName, String description, BigDecimal listPrice, String imageUrl) {
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.homeandgarden.product.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.product.entity.enums.PriceChangeType;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based product writes. Each update is one {@code UPDATE ... RETURNING} statement over a chunk of products, whose rows are
+ * locked in product id order first, so concurrent bulk changes and single product updates cannot deadlock each other.
+ * {@code updated_at} is set explicitly, as these statements bypass the entity timestamps the ETags are derived from.
+ * For the same reason the updated products are evicted from the second-level cache, when the statement runs and again
+ * when the transaction completes, so a concurrent load can not cache the old state for longer than the transaction.
+ * Inserts are sent as one JDBC batch, which the driver rewrites into multi-row statements.
+ */
+@RequiredArgsConstructor
+public class ProductBulkRepositoryImpl implements ProductBulkRepository {
+
+    private static final String CHUNK_UPDATE = """
+            WITH chunk AS (
+                SELECT product.product_id
+                FROM products product
+                WHERE %s
+                ORDER BY product.product_id
+                %s
+                FOR UPDATE
+            )
+            UPDATE products product
+            SET %s, updated_at = :updatedAt
+            FROM chunk
+            WHERE product.product_id = chunk.product_id
+            RETURNING product.product_id, product.category_id
+            """;
+
+    private static final String CATEGORY_CHUNK = "product.category_id = :categoryId AND product.product_id > :afterProductId";
+    private static final String IDS_CHUNK = "product.product_id IN (:productIds)";
+    private static final String STATUS_FILTER = " AND product.product_status IN (:fromStatuses)";
+    private static final String LIMIT = "LIMIT :limit";
+
+    private static final String BASE_PRICE = "COALESCE(product.current_price, product.list_price)";
+    private static final String PRICE_BOUNDS = "current_price = LEAST(GREATEST(%s, 0), 999999.99)";
+    private static final String STATUS = "product_status = :status";
+
+    private static final String INSERT = """
+            INSERT INTO products (product_id, product_name, description, list_price, current_price, image_url, added_at, updated_at, product_status, category_id)
+            VALUES (:productId, :productName, :description, :listPrice, :listPrice, :imageUrl, :addedAt, :addedAt, :productStatus, :categoryId)
+            """;
+
+    private static final RowMapper<UpdatedProduct> ROW_MAPPER = (resultSet, rowNumber) -> new UpdatedProduct(
+            resultSet.getObject("product_id", UUID.class),
+            resultSet.getObject("category_id", UUID.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public List<UpdatedProduct> changeCategoryPrices(UUID categoryId, PriceChangeType changeType, BigDecimal value, Instant updatedAt, UUID afterProductId, int limit) {
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("categoryId", categoryId)
+                .addValue("afterProductId", afterProductId)
+                .addValue("limit", limit);
+        return update(CATEGORY_CHUNK, LIMIT, price(changeType, value, parameters), updatedAt, parameters);
+    }
+
+    @Override
+    public List<UpdatedProduct> changePrices(List<UUID> productIds, PriceChangeType changeType, BigDecimal value, Instant updatedAt) {
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("productIds", productIds);
+        return update(IDS_CHUNK, "", price(changeType, value, parameters), updatedAt, parameters);
+    }
+
+    @Override
+    public List<UpdatedProduct> changeCategoryStatuses(UUID categoryId, Set<ProductStatus> fromStatuses, ProductStatus status, Instant updatedAt, UUID afterProductId, int limit) {
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("categoryId", categoryId)
+                .addValue("afterProductId", afterProductId)
+                .addValue("limit", limit)
+                .addValue("fromStatuses", fromStatuses.stream().map(ProductStatus::name).toList())
+                .addValue("status", status.name());
+        return update(CATEGORY_CHUNK + STATUS_FILTER, LIMIT, STATUS, updatedAt, parameters);
+    }
+
+    @Override
+    public List<UpdatedProduct> changeStatuses(List<UUID> productIds, Set<ProductStatus> fromStatuses, ProductStatus status, Instant updatedAt) {
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("productIds", productIds)
+                .addValue("fromStatuses", fromStatuses.stream().map(ProductStatus::name).toList())
+                .addValue("status", status.name());
+        return update(IDS_CHUNK + STATUS_FILTER, "", STATUS, updatedAt, parameters);
+    }
+
+    @Override
+    public void insertProducts(List<NewProduct> products, Instant addedAt) {
+
+        LocalDateTime timestamp = LocalDateTime.ofInstant(addedAt, ZoneOffset.UTC);
+        MapSqlParameterSource[] batch = products.stream()
+                .map(product -> new MapSqlParameterSource()
+                        .addValue("productId", product.productId())
+                        .addValue("productName", product.productName())
+                        .addValue("description", product.description())
+                        .addValue("listPrice", product.listPrice())
+                        .addValue("imageUrl", product.imageUrl())
+                        .addValue("addedAt", timestamp)
+                        .addValue("productStatus", ProductStatus.AVAILABLE.name())
+                        .addValue("categoryId", product.categoryId()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+
+    private static String price(PriceChangeType changeType, BigDecimal value, MapSqlParameterSource parameters) {
+        parameters.addValue("value", value);
+        String newPrice = switch (changeType) {
+            case PERCENTAGE -> "ROUND(" + BASE_PRICE + " * (100 + :value) / 100, 2)";
+            case AMOUNT -> BASE_PRICE + " + :value";
+        };
+        return String.format(PRICE_BOUNDS, newPrice);
+    }
+
+    private List<UpdatedProduct> update(String chunkFilter, String chunkLimit, String assignment, Instant updatedAt, MapSqlParameterSource parameters) {
+        parameters.addValue("updatedAt", LocalDateTime.ofInstant(updatedAt, ZoneOffset.UTC));
+        List<UpdatedProduct> updatedProducts = jdbcTemplate.query(String.format(CHUNK_UPDATE, chunkFilter, chunkLimit, assignment), parameters, ROW_MAPPER);
+        evictFromSecondLevelCache(updatedProducts);
+        return updatedProducts;
+    }
+
+    private void evictFromSecondLevelCache(List<UpdatedProduct> updatedProducts) {
+        if (updatedProducts.isEmpty()) {
+            return;
+        }
+
+        Runnable eviction = () -> updatedProducts.forEach(product -> entityManagerFactory.getCache().evict(Product.class, product.productId()));
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
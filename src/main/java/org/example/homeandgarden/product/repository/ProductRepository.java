@@ -1,11 +1,20 @@
 package org.example.homeandgarden.product.repository;
 
 import org.example.homeandgarden.order.entity.enums.OrderStatus;
+import org.example.homeandgarden.product.entity.CategoryRevenueProjection;
+import org.example.homeandgarden.product.entity.DailyRevenueProjection;
 import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.product.entity.ProductListProjection;
 import org.example.homeandgarden.product.entity.ProductProjection;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.entity.enums.SalesBucket;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -13,16 +22,14 @@ import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface ProductRepository extends JpaRepository<Product, UUID>, PagingAndSortingRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, PagingAndSortingRepository<Product, UUID>, ProductSearchRepository, ProductBulkRepository {
 
-    Page<Product> findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(UUID categoryId, ProductStatus status, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
-
-    Page<Product> findAllByProductStatus(ProductStatus status, Pageable pageable);
-
-    @Query("""
+    String TOP_PRODUCTS_QUERY = """
             SELECT new org.example.homeandgarden.product.entity.ProductProjection(
             product.productId,
             product.productName,
@@ -32,27 +39,15 @@ public interface ProductRepository extends JpaRepository<Product, UUID>, PagingA
             product.imageUrl,
             product.addedAt,
             product.updatedAt,
-            SUM(orderItem.quantity)
+            stats.units
             )
-            FROM OrderItem orderItem
-            JOIN orderItem.product product
-            JOIN orderItem.order order
-            WHERE order.orderStatus IN :statuses
-            GROUP BY
-            product.productId,
-            product.productName,
-            product.listPrice,
-            product.currentPrice,
-            product.productStatus,
-            product.imageUrl,
-            product.addedAt,
-            product.updatedAt
-            ORDER BY SUM(orderItem.quantity) DESC
-            """)
-    Page<ProductProjection> findTopProducts(@Param("statuses") List<OrderStatus> statuses, Pageable pageable);
+            FROM ProductSalesStats stats
+            JOIN stats.product product
+            WHERE stats.salesBucket = :salesBucket AND stats.units > 0
+            ORDER BY stats.units DESC, stats.productId
+            """;
 
-
-    @Query("""
+    String PENDING_PRODUCTS_QUERY = """
             SELECT  new org.example.homeandgarden.product.entity.ProductProjection(
             product.productId,
             product.productName,
@@ -78,15 +73,119 @@ public interface ProductRepository extends JpaRepository<Product, UUID>, PagingA
             product.addedAt,
             product.updatedAt
             ORDER BY SUM(orderItem.quantity) DESC
+            """;
+
+    String PRODUCT_LIST_QUERY = """
+            SELECT new org.example.homeandgarden.product.entity.ProductListProjection(
+            product.productId,
+            product.productName,
+            product.description,
+            product.listPrice,
+            product.currentPrice,
+            product.productStatus,
+            product.imageUrl,
+            product.addedAt,
+            product.updatedAt
+            )
+            FROM Product product
+            """;
+
+    String PRODUCT_LIST_BY_STATUS_QUERY = PRODUCT_LIST_QUERY + """
+            WHERE product.productStatus = :status
+            """;
+
+    String CATEGORY_PRODUCT_LIST_QUERY = PRODUCT_LIST_QUERY + """
+            WHERE product.category.categoryId = :categoryId
+            AND product.productStatus = :status
+            AND product.currentPrice > :minPrice
+            AND product.currentPrice < :maxPrice
+            """;
+
+    @Query(value = PRODUCT_LIST_QUERY, countQuery = "SELECT COUNT(product) FROM Product product")
+    Page<ProductListProjection> findProductList(Pageable pageable);
+
+    @Query(PRODUCT_LIST_QUERY)
+    Slice<ProductListProjection> findProductListSlice(Pageable pageable);
+
+    @Query(value = PRODUCT_LIST_BY_STATUS_QUERY, countQuery = """
+            SELECT COUNT(product)
+            FROM Product product
+            WHERE product.productStatus = :status
             """)
+    Page<ProductListProjection> findProductListByStatus(@Param("status") ProductStatus status, Pageable pageable);
+
+    @Query(PRODUCT_LIST_BY_STATUS_QUERY)
+    Slice<ProductListProjection> findProductListSliceByStatus(@Param("status") ProductStatus status, Pageable pageable);
+
+    @Query(value = CATEGORY_PRODUCT_LIST_QUERY, countQuery = """
+            SELECT COUNT(product)
+            FROM Product product
+            WHERE product.category.categoryId = :categoryId
+            AND product.productStatus = :status
+            AND product.currentPrice > :minPrice
+            AND product.currentPrice < :maxPrice
+            """)
+    Page<ProductListProjection> findCategoryProductList(@Param("categoryId") UUID categoryId, @Param("status") ProductStatus status, @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice, Pageable pageable);
+
+    @Query(CATEGORY_PRODUCT_LIST_QUERY)
+    Slice<ProductListProjection> findCategoryProductListSlice(@Param("categoryId") UUID categoryId, @Param("status") ProductStatus status, @Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice, Pageable pageable);
+
+    Window<Product> findByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(UUID categoryId, ProductStatus status, BigDecimal minPrice, BigDecimal maxPrice, ScrollPosition position, Limit limit, Sort sort);
+
+    Window<Product> findByProductStatus(ProductStatus status, ScrollPosition position, Limit limit, Sort sort);
+
+    Window<Product> findByProductIdIsNotNull(ScrollPosition position, Limit limit, Sort sort);
+
+    @Query(TOP_PRODUCTS_QUERY)
+    Page<ProductProjection> findTopProducts(@Param("salesBucket") SalesBucket salesBucket, Pageable pageable);
+
+    @Query(TOP_PRODUCTS_QUERY)
+    Slice<ProductProjection> findTopProductsSlice(@Param("salesBucket") SalesBucket salesBucket, Pageable pageable);
+
+
+    @Query(PENDING_PRODUCTS_QUERY)
     Page<ProductProjection> findPendingProducts(@Param("status") OrderStatus status, @Param("cutoff") Instant cutoff, Pageable pageable);
 
+    @Query(PENDING_PRODUCTS_QUERY)
+    Slice<ProductProjection> findPendingProductsSlice(@Param("status") OrderStatus status, @Param("cutoff") Instant cutoff, Pageable pageable);
+
     @Query("""
-            SELECT SUM(orderItem.quantity*orderItem.priceAtPurchase)
-            FROM OrderItem orderItem
-            JOIN orderItem.product product
-            JOIN orderItem.order order
-            WHERE order.orderStatus = :status and order.createdAt >= :cutoff
+            SELECT SUM(dailyRevenue.revenue)
+            FROM DailyRevenue dailyRevenue
+            WHERE dailyRevenue.orderStatus = :status and dailyRevenue.day >= :fromDay
+            """)
+    BigDecimal findProfitByPeriod(@Param("status") OrderStatus status, @Param("fromDay") LocalDate fromDay);
+
+    @Query("""
+            SELECT new org.example.homeandgarden.product.entity.DailyRevenueProjection(
+            dailyRevenue.day,
+            SUM(dailyRevenue.revenue)
+            )
+            FROM DailyRevenue dailyRevenue
+            WHERE dailyRevenue.orderStatus = :status and dailyRevenue.day >= :fromDay
+            GROUP BY dailyRevenue.day
+            ORDER BY dailyRevenue.day
+            """)
+    List<DailyRevenueProjection> findDailyProfitByPeriod(@Param("status") OrderStatus status, @Param("fromDay") LocalDate fromDay);
+
+    @Query("""
+            SELECT new org.example.homeandgarden.product.entity.CategoryRevenueProjection(
+            category.categoryId,
+            category.categoryName,
+            SUM(dailyRevenue.revenue)
+            )
+            FROM DailyRevenue dailyRevenue
+            JOIN dailyRevenue.category category
+            WHERE dailyRevenue.orderStatus = :status and dailyRevenue.day >= :fromDay
+            GROUP BY category.categoryId, category.categoryName
+            ORDER BY SUM(dailyRevenue.revenue) DESC
+            """)
+    List<CategoryRevenueProjection> findCategoryProfitByPeriod(@Param("status") OrderStatus status, @Param("fromDay") LocalDate fromDay);
+
+    @Query("""
+            SELECT COALESCE(product.updatedAt, product.addedAt)
+            FROM Product product
+            WHERE product.productId = :productId
             """)
-    BigDecimal findProfitByPeriod(@Param("status") OrderStatus status, @Param("cutoff") Instant cutoff);
-}
\ No newline at end of file
+    Optional<Instant> findLastModifiedByProductId(@Param("productId") UUID productId);
+}
@@ -0,0 +1,32 @@
+package org.example.homeandgarden.product.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.homeandgarden.product.entity.ProductSalesStats;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface ProductSalesStatsRepository extends JpaRepository<ProductSalesStats, ProductSalesStats.Key> {
+
+    /**
+     * Adds the units and revenue, negative to subtract, to the counters of the product in the bucket,
+     * creating the row on the first sale.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_sales_stats"))
+    @Query(value = """
+            INSERT INTO product_sales_stats (product_id, sales_bucket, units, revenue, updated_at)
+            VALUES (:productId, :salesBucket, :units, :revenue, CURRENT_TIMESTAMP)
+            ON CONFLICT (product_id, sales_bucket) DO UPDATE SET
+            units = product_sales_stats.units + EXCLUDED.units,
+            revenue = product_sales_stats.revenue + EXCLUDED.revenue,
+            updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void addSales(@Param("productId") UUID productId, @Param("salesBucket") String salesBucket, @Param("units") long units, @Param("revenue") BigDecimal revenue);
+}
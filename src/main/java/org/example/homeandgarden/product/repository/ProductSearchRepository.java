@@ -0,0 +1,17 @@
+package org.example.homeandgarden.product.repository;
+
+import org.example.homeandgarden.product.entity.ProductSearchProjection;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProductSearchRepository {
+
+    /**
+     * Finds products whose name or description matches the text, or whose name is similar to it (typos),
+     * best matches first. Continues after the given rank and product id when both are set; a null category is not filtered.
+     */
+    List<ProductSearchProjection> searchProducts(String text, UUID categoryId, ProductStatus status, BigDecimal minPrice, BigDecimal maxPrice, Float afterRank, UUID afterProductId, int limit);
+}
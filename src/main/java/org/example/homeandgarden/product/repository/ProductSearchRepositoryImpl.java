@@ -0,0 +1,84 @@
+package org.example.homeandgarden.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.product.entity.ProductSearchProjection;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text and fuzzy product search on the generated {@code search_vector} column (GIN index) and the
+ * trigram index on {@code product_name}. Only the filters that are set are added to the statement,
+ * so the planner always sees plain, typed predicates.
+ */
+@RequiredArgsConstructor
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    private static final String RANKED_PRODUCTS = """
+            SELECT product.product_id, product.product_name, product.description, product.list_price, product.current_price,
+                   product.product_status, product.image_url, product.added_at, product.updated_at,
+                   ts_rank(product.search_vector, search.query) + word_similarity(:text, product.product_name) AS rank
+            FROM products product, websearch_to_tsquery('english', :text) AS search(query)
+            WHERE (product.search_vector @@ search.query OR :text <% product.product_name)
+              AND product.product_status = :status
+              AND product.current_price >= :minPrice
+              AND product.current_price <= :maxPrice
+            """;
+
+    private static final RowMapper<ProductSearchProjection> ROW_MAPPER = (resultSet, rowNumber) -> ProductSearchProjection.builder()
+            .productId(resultSet.getObject("product_id", UUID.class))
+            .productName(resultSet.getString("product_name"))
+            .description(resultSet.getString("description"))
+            .listPrice(resultSet.getBigDecimal("list_price"))
+            .currentPrice(resultSet.getBigDecimal("current_price"))
+            .productStatus(ProductStatus.valueOf(resultSet.getString("product_status")))
+            .imageUrl(resultSet.getString("image_url"))
+            .addedAt(toInstant(resultSet.getObject("added_at", LocalDateTime.class)))
+            .updatedAt(toInstant(resultSet.getObject("updated_at", LocalDateTime.class)))
+            .rank(resultSet.getFloat("rank"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProductSearchProjection> searchProducts(String text, UUID categoryId, ProductStatus status, BigDecimal minPrice, BigDecimal maxPrice, Float afterRank, UUID afterProductId, int limit) {
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("text", text)
+                .addValue("status", status.name())
+                .addValue("minPrice", minPrice)
+                .addValue("maxPrice", maxPrice)
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM (\n").append(RANKED_PRODUCTS);
+        if (categoryId != null) {
+            sql.append("  AND product.category_id = :categoryId\n");
+            parameters.addValue("categoryId", categoryId);
+        }
+        sql.append(") ranked\n");
+
+        if (afterRank != null && afterProductId != null) {
+            sql.append("WHERE (ranked.rank, ranked.product_id) < (:afterRank, :afterProductId)\n");
+            parameters.addValue("afterRank", afterRank);
+            parameters.addValue("afterProductId", afterProductId);
+        }
+        sql.append("ORDER BY ranked.rank DESC, ranked.product_id DESC\nLIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), parameters, ROW_MAPPER);
+    }
+
+    /**
+     * Timestamps are stored as UTC wall-clock time, as Hibernate writes them ({@code hibernate.jdbc.time_zone}).
+     */
+    private static Instant toInstant(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toInstant(ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.homeandgarden.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homeandgarden.product.entity.DailyRevenue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Nightly recomputes the recent days of the daily revenue rollup from the order items.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyRevenueReconciler {
+
+    private final DailyRevenueService dailyRevenueService;
+
+    @Value("${app.daily-revenue.reconcile.days:7}")
+    private Integer days;
+
+    @Scheduled(cron = "${app.daily-revenue.reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+
+        LocalDate fromDay = LocalDate.now(DailyRevenue.ZONE).minusDays(days);
+        int rows = dailyRevenueService.reconcile(fromDay);
+        log.info("Reconciled daily revenue since {}: {} rows.", fromDay, rows);
+    }
+}
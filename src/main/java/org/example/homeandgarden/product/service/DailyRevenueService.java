@@ -0,0 +1,53 @@
+package org.example.homeandgarden.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.order.entity.Order;
+import org.example.homeandgarden.order.entity.enums.OrderStatus;
+import org.example.homeandgarden.product.repository.DailyRevenueRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Keeps the daily revenue rollup in step with orders, so profit over a period sums one row per day and category
+ * instead of every order item of the period.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyRevenueService {
+
+    public static final Set<OrderStatus> TRACKED_STATUSES = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.RETURNED);
+
+    private final DailyRevenueRepository dailyRevenueRepository;
+
+    /**
+     * Moves the items of the order from the revenue of its previous status to the revenue of its current one.
+     * Runs in the transaction that changes the order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Order order, OrderStatus previousStatus) {
+
+        if (TRACKED_STATUSES.contains(previousStatus)) {
+            dailyRevenueRepository.addOrderRevenue(order.getOrderId(), previousStatus.name(), -1);
+        }
+        if (TRACKED_STATUSES.contains(order.getOrderStatus())) {
+            dailyRevenueRepository.addOrderRevenue(order.getOrderId(), order.getOrderStatus().name(), 1);
+        }
+    }
+
+    /**
+     * Recomputes the rollup from the order items for the days since {@code fromDay}, fixing any drift,
+     * e.g. after products were moved to another category. Returns the number of rows written.
+     */
+    @Transactional
+    public int reconcile(LocalDate fromDay) {
+
+        dailyRevenueRepository.lockForReconciliation();
+        dailyRevenueRepository.deleteFromDay(fromDay);
+        return dailyRevenueRepository.insertFromDay(fromDay);
+    }
+}
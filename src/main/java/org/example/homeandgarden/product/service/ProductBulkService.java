@@ -0,0 +1,96 @@
+package org.example.homeandgarden.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.catalog.CatalogCache;
+import org.example.homeandgarden.product.entity.enums.PriceChangeType;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.repository.ProductBulkRepository.UpdatedProduct;
+import org.example.homeandgarden.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Applies price and status changes to many products with set-based statements of at most the configured chunk size,
+ * instead of loading and saving every product. Runs in the transaction of the caller, so a bulk change is applied
+ * completely or not at all, and evicts the changed products from the catalog cache once it has committed.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProductBulkService {
+
+    private static final UUID FIRST_PRODUCT_ID = new UUID(0, 0);
+
+    // PostgreSQL orders uuids by their unsigned bytes, which matches the order of their canonical strings (unlike UUID.compareTo).
+    private static final Comparator<UUID> PRODUCT_ID_ORDER = Comparator.comparing(UUID::toString);
+
+    private final ProductRepository productRepository;
+    private final CatalogCache catalogCache;
+
+    @Value("${app.catalog.bulk.chunk-size:1000}")
+    private Integer chunkSize;
+
+    public int changeCategoryPrices(UUID categoryId, PriceChangeType changeType, BigDecimal value) {
+        Instant updatedAt = Instant.now();
+        return updateCategory(afterProductId -> productRepository.changeCategoryPrices(categoryId, changeType, value, updatedAt, afterProductId, chunkSize));
+    }
+
+    public int changePrices(Collection<UUID> productIds, PriceChangeType changeType, BigDecimal value) {
+        Instant updatedAt = Instant.now();
+        return updateProducts(productIds, chunk -> productRepository.changePrices(chunk, changeType, value, updatedAt));
+    }
+
+    public int changeCategoryStatuses(UUID categoryId, Set<ProductStatus> fromStatuses, ProductStatus status) {
+        Instant updatedAt = Instant.now();
+        return updateCategory(afterProductId -> productRepository.changeCategoryStatuses(categoryId, fromStatuses, status, updatedAt, afterProductId, chunkSize));
+    }
+
+    public int changeStatuses(Collection<UUID> productIds, Set<ProductStatus> fromStatuses, ProductStatus status) {
+        Instant updatedAt = Instant.now();
+        return updateProducts(productIds, chunk -> productRepository.changeStatuses(chunk, fromStatuses, status, updatedAt));
+    }
+
+    private int updateCategory(Function<UUID, List<UpdatedProduct>> chunkUpdate) {
+        List<UpdatedProduct> updatedProducts = new ArrayList<>();
+        UUID afterProductId = FIRST_PRODUCT_ID;
+        List<UpdatedProduct> chunk;
+        do {
+            chunk = chunkUpdate.apply(afterProductId);
+            updatedProducts.addAll(chunk);
+            afterProductId = chunk.stream().map(UpdatedProduct::productId).max(PRODUCT_ID_ORDER).orElse(afterProductId);
+        } while (chunk.size() == chunkSize);
+
+        return evict(updatedProducts);
+    }
+
+    private int updateProducts(Collection<UUID> productIds, Function<List<UUID>, List<UpdatedProduct>> chunkUpdate) {
+        List<UUID> sortedIds = productIds.stream().distinct().sorted(PRODUCT_ID_ORDER).toList();
+
+        List<UpdatedProduct> updatedProducts = new ArrayList<>();
+        for (int from = 0; from < sortedIds.size(); from += chunkSize) {
+            updatedProducts.addAll(chunkUpdate.apply(sortedIds.subList(from, Math.min(from + chunkSize, sortedIds.size()))));
+        }
+
+        return evict(updatedProducts);
+    }
+
+    private int evict(List<UpdatedProduct> updatedProducts) {
+        if (!updatedProducts.isEmpty()) {
+            Set<UUID> productIds = new HashSet<>();
+            Set<UUID> categoryIds = new HashSet<>();
+            updatedProducts.forEach(updatedProduct -> {
+                productIds.add(updatedProduct.productId());
+                categoryIds.add(updatedProduct.categoryId());
+            });
+            catalogCache.evictProducts(productIds, categoryIds);
+        }
+        return updatedProducts.size();
+    }
+}
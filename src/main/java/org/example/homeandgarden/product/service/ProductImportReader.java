@@ -0,0 +1,207 @@
+package org.example.homeandgarden.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.homeandgarden.product.dto.ProductCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Reads the rows of a product import one at a time from CSV (with a header line, RFC 4180 quoting) or from
+ * newline-delimited JSON, so an import of any size is never held in memory. Rows that can not be parsed are
+ * returned with an error instead of a request, to be rejected without stopping the import.
+ */
+public abstract class ProductImportReader {
+
+    static final List<String> CSV_COLUMNS = List.of("categoryId", "productName", "description", "listPrice", "imageUrl");
+
+    private static final int MAX_RECORD_LENGTH = 65536;
+
+    protected final BufferedReader reader;
+    protected long line;
+
+    private ProductImportReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    public static ProductImportReader csv(Reader reader) {
+        return new CsvReader(reader);
+    }
+
+    public static ProductImportReader ndjson(Reader reader, ObjectMapper objectMapper) {
+        return new NdjsonReader(reader, objectMapper);
+    }
+
+    /**
+     * Returns the next row, or {@code null} at the end of the input.
+     */
+    public final Row next() {
+        try {
+            return readRow();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    protected abstract Row readRow() throws IOException;
+
+    /**
+     * A row of the import: its first line in the input, its text as received and either the parsed request or the parse error.
+     */
+    public record Row(long line, String raw, ProductCreateRequest request, String error) {
+    }
+
+    private static final class NdjsonReader extends ProductImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        private NdjsonReader(Reader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected Row readRow() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+            } while (text != null && text.isBlank());
+
+            if (text == null) {
+                return null;
+            }
+            try {
+                return new Row(line, text, objectMapper.readValue(text, ProductCreateRequest.class), null);
+            } catch (JsonProcessingException exception) {
+                return new Row(line, text, null, "Invalid JSON: " + exception.getOriginalMessage());
+            }
+        }
+    }
+
+    private static final class CsvReader extends ProductImportReader {
+
+        private final StringBuilder raw = new StringBuilder();
+        private Map<String, Integer> columns;
+
+        private CsvReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        protected Row readRow() throws IOException {
+            if (columns == null) {
+                columns = readHeader();
+            }
+
+            List<String> fields;
+            do {
+                fields = readRecord();
+            } while (fields != null && fields.size() == 1 && fields.getFirst().isBlank());
+
+            if (fields == null) {
+                return null;
+            }
+            long firstLine = line - raw.chars().filter(character -> character == '\n').count();
+            if (fields.size() != columns.size()) {
+                return new Row(firstLine, raw.toString(), null, String.format("Expected %d fields, found %d.", columns.size(), fields.size()));
+            }
+
+            String listPrice = field(fields, "listPrice");
+            ProductCreateRequest request;
+            try {
+                request = ProductCreateRequest.builder()
+                        .categoryId(field(fields, "categoryId"))
+                        .productName(field(fields, "productName"))
+                        .description(field(fields, "description"))
+                        .listPrice(listPrice == null || listPrice.isBlank() ? null : new BigDecimal(listPrice.strip()))
+                        .imageUrl(field(fields, "imageUrl"))
+                        .build();
+            } catch (NumberFormatException exception) {
+                return new Row(firstLine, raw.toString(), null, String.format("Invalid list price: '%s'.", listPrice));
+            }
+            return new Row(firstLine, raw.toString(), request, null);
+        }
+
+        private Map<String, Integer> readHeader() throws IOException {
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("The import is empty, a CSV header line is required.");
+            }
+
+            Map<String, Integer> headerColumns = new HashMap<>();
+            for (int index = 0; index < header.size(); index++) {
+                headerColumns.put(header.get(index).strip(), index);
+            }
+            List<String> missingColumns = CSV_COLUMNS.stream().filter(column -> !headerColumns.containsKey(column)).toList();
+            if (!missingColumns.isEmpty()) {
+                throw new IllegalArgumentException(String.format("The CSV header misses the columns: %s.", String.join(", ", missingColumns)));
+            }
+            return headerColumns;
+        }
+
+        private String field(List<String> fields, String column) {
+            return fields.get(columns.get(column));
+        }
+
+        /**
+         * Reads the fields of one record, which spans several lines when a quoted field contains line breaks.
+         */
+        private List<String> readRecord() throws IOException {
+            raw.setLength(0);
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            int character = reader.read();
+            if (character == -1) {
+                return null;
+            }
+            line++;
+            while (character != -1) {
+                if (raw.length() >= MAX_RECORD_LENGTH) {
+                    throw new IllegalArgumentException(String.format("The CSV record at line %d is longer than %d characters, probably a quote is not closed.", line, MAX_RECORD_LENGTH));
+                }
+                if (quoted) {
+                    if (character == '"') {
+                        reader.mark(1);
+                        int nextCharacter = reader.read();
+                        if (nextCharacter == '"') {
+                            field.append('"');
+                            raw.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        if (character == '\n') {
+                            line++;
+                        }
+                        field.append((char) character);
+                    }
+                } else if (character == '"') {
+                    quoted = true;
+                } else if (character == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (character == '\n') {
+                    break;
+                } else if (character != '\r') {
+                    field.append((char) character);
+                }
+                raw.append((char) character);
+                character = reader.read();
+            }
+            if (!raw.isEmpty() && raw.charAt(raw.length() - 1) == '\r') {
+                raw.setLength(raw.length() - 1);
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.homeandgarden.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the rejected rows of product imports as CSV files ({@code line,error,row}) in a local directory, one file per import,
+ * written as the rows are rejected. Files older than the retention period are deleted periodically.
+ */
+@Slf4j
+@Component
+public class ProductImportRejectStore {
+
+    private static final String FILE_SUFFIX = "-rejects.csv";
+
+    private final Path directory;
+    private final Duration retention;
+
+    public ProductImportRejectStore(
+            @Value("${app.products.import.reject-dir:${java.io.tmpdir}/product-import-rejects}") String directory,
+            @Value("${app.products.import.reject-retention:P1D}") Duration retention) {
+
+        this.directory = Paths.get(directory);
+        this.retention = retention;
+    }
+
+    /**
+     * Opens the reject file of an import; the file is only created when the first row is rejected.
+     */
+    public RejectWriter open(UUID importId) {
+        return new RejectWriter(fileOf(importId));
+    }
+
+    public Optional<Path> find(UUID importId) {
+        Path file = fileOf(importId);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    @Scheduled(initialDelayString = "${app.products.import.reject-sweep-interval:PT1H}", fixedDelayString = "${app.products.import.reject-sweep-interval:PT1H}")
+    public void deleteExpiredRejects() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        Instant expiredBefore = Instant.now().minus(retention);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .filter(file -> isModifiedBefore(file, expiredBefore))
+                    .forEach(ProductImportRejectStore::delete);
+        } catch (IOException exception) {
+            log.warn("⚠️ Could not list the product import rejects in {}: {}", directory, exception.getMessage());
+        }
+    }
+
+    private Path fileOf(UUID importId) {
+        return directory.resolve(importId + FILE_SUFFIX);
+    }
+
+    private static boolean isModifiedBefore(Path file, Instant instant) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(instant);
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            log.warn("⚠️ Could not delete the product import rejects {}: {}", file, exception.getMessage());
+        }
+    }
+
+    public static final class RejectWriter implements Closeable {
+
+        private final Path file;
+        private BufferedWriter writer;
+        private long count;
+
+        private RejectWriter(Path file) {
+            this.file = file;
+        }
+
+        public void reject(long line, String error, String row) {
+            try {
+                if (writer == null) {
+                    Files.createDirectories(file.getParent());
+                    writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                    writer.write("line,error,row\n");
+                }
+                writer.write(line + "," + quote(error) + "," + quote(row) + "\n");
+                count++;
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+
+        private static String quote(String value) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+    }
+}
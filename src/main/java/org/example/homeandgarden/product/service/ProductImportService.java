@@ -0,0 +1,160 @@
+package org.example.homeandgarden.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homeandgarden.catalog.CatalogCache;
+import org.example.homeandgarden.category.entity.Category;
+import org.example.homeandgarden.category.entity.enums.CategoryStatus;
+import org.example.homeandgarden.category.repository.CategoryRepository;
+import org.example.homeandgarden.exception.DataNotFoundException;
+import org.example.homeandgarden.product.dto.ProductCreateRequest;
+import org.example.homeandgarden.product.dto.ProductImportResponse;
+import org.example.homeandgarden.product.repository.ProductBulkRepository.NewProduct;
+import org.example.homeandgarden.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Adds products to the catalog from a CSV or NDJSON stream. Rows are read, validated and inserted batch by batch,
+ * each batch with one JDBC batch statement in its own short transaction, so neither the import nor a database
+ * connection is held while the client is still sending. Categories are looked up once per import.
+ * Rows that are invalid or name a missing or inactive category are written to the reject file of the import.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final CatalogCache catalogCache;
+    private final ProductImportRejectStore rejectStore;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.products.import.batch-size:1000}")
+    private Integer batchSize;
+
+    public ProductImportResponse importProducts(InputStream inputStream, MediaType contentType) {
+
+        UUID importId = UUID.randomUUID();
+        Charset charset = Optional.ofNullable(contentType.getCharset()).orElse(StandardCharsets.UTF_8);
+        Reader reader = new InputStreamReader(inputStream, charset);
+        ProductImportReader importReader = contentType.isCompatibleWith(TEXT_CSV)
+                ? ProductImportReader.csv(reader)
+                : ProductImportReader.ndjson(reader, objectMapper);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<UUID, Optional<CategoryStatus>> categoryStatuses = new HashMap<>();
+        List<NewProduct> batch = new ArrayList<>(batchSize);
+        long importedCount = 0;
+        long lastLine = 0;
+
+        try (ProductImportRejectStore.RejectWriter rejects = rejectStore.open(importId)) {
+            for (ProductImportReader.Row row = importReader.next(); row != null; row = importReader.next()) {
+                lastLine = row.line();
+                String error = row.error() != null ? row.error() : validate(row.request(), categoryStatuses);
+                if (error != null) {
+                    rejects.reject(row.line(), error, row.raw());
+                    continue;
+                }
+
+                batch.add(toNewProduct(row.request()));
+                if (batch.size() == batchSize) {
+                    importedCount += insert(batch, transactionTemplate);
+                }
+            }
+            importedCount += insert(batch, transactionTemplate);
+
+            log.info("Imported {} products, rejected {} rows | Import: {}", importedCount, rejects.getCount(), importId);
+            return ProductImportResponse.builder()
+                    .importId(importId)
+                    .importedCount(importedCount)
+                    .rejectedCount(rejects.getCount())
+                    .rejectsUrl(rejects.getCount() > 0 ? String.format("/products/import/%s/rejects", importId) : null)
+                    .build();
+
+        } catch (DataAccessException exception) {
+            log.error("⚠️ Import {} stopped at line {}: {}", importId, lastLine, exception.getMostSpecificCause().getMessage());
+            throw new IllegalStateException(String.format("Import with id: %s, stopped after %d products were imported, the batch ending at line %d could not be inserted.", importId, importedCount, lastLine));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public Resource getImportRejects(String importId) {
+
+        UUID id = UUID.fromString(importId);
+        return rejectStore.find(id)
+                .map(FileSystemResource::new)
+                .orElseThrow(() -> new DataNotFoundException(String.format("Rejected rows of the import with id: %s, were not found.", importId)));
+    }
+
+    private String validate(ProductCreateRequest request, Map<UUID, Optional<CategoryStatus>> categoryStatuses) {
+
+        Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        UUID categoryId = UUID.fromString(request.getCategoryId());
+        Optional<CategoryStatus> categoryStatus = categoryStatuses.computeIfAbsent(categoryId, (key) -> categoryRepository.findById(key).map(Category::getCategoryStatus));
+        if (categoryStatus.isEmpty()) {
+            return String.format("Category with id: %s, was not found.", request.getCategoryId());
+        }
+        if (categoryStatus.get().equals(CategoryStatus.INACTIVE)) {
+            return String.format("Category with id: %s, is disabled and no product can be added to this category.", request.getCategoryId());
+        }
+        return null;
+    }
+
+    private static NewProduct toNewProduct(ProductCreateRequest request) {
+        return new NewProduct(
+                UUID.randomUUID(),
+                UUID.fromString(request.getCategoryId()),
+                request.getProductName(),
+                request.getDescription(),
+                request.getListPrice(),
+                request.getImageUrl());
+    }
+
+    private int insert(List<NewProduct> batch, TransactionTemplate transactionTemplate) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        transactionTemplate.executeWithoutResult((status) -> {
+            productRepository.insertProducts(batch, Instant.now());
+            batch.stream().map(NewProduct::categoryId).distinct().forEach(catalogCache::evictCategoryProducts);
+        });
+        int insertedCount = batch.size();
+        batch.clear();
+        return insertedCount;
+    }
+}
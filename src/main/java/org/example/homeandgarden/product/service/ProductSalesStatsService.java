@@ -0,0 +1,69 @@
+package org.example.homeandgarden.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.order.entity.Order;
+import org.example.homeandgarden.order.entity.OrderItem;
+import org.example.homeandgarden.order.entity.enums.OrderStatus;
+import org.example.homeandgarden.product.entity.enums.SalesBucket;
+import org.example.homeandgarden.product.repository.ProductSalesStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Keeps the product sales counters in step with orders, so the top products are read from one row per product
+ * instead of being aggregated over the whole order history. Runs in the transaction that changes the order.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProductSalesStatsService {
+
+    private final ProductSalesStatsRepository productSalesStatsRepository;
+
+    /**
+     * Counts the items of a new order in the bucket of its status.
+     */
+    public void recordOrderPlaced(Order order) {
+        moveSales(order, null, SalesBucket.of(order.getOrderStatus()));
+    }
+
+    /**
+     * Moves the items of the order from the bucket of its previous status to the bucket of its current one.
+     */
+    public void recordStatusChange(Order order, OrderStatus previousStatus) {
+        moveSales(order, SalesBucket.of(previousStatus), SalesBucket.of(order.getOrderStatus()));
+    }
+
+    private void moveSales(Order order, SalesBucket from, SalesBucket to) {
+        if (from == to) {
+            return;
+        }
+
+        // Sorted by product, so concurrent orders lock the shared counter rows in the same order.
+        Map<UUID, Sales> salesByProduct = new TreeMap<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            Sales sales = new Sales(orderItem.getQuantity(), orderItem.getPriceAtPurchase().multiply(BigDecimal.valueOf(orderItem.getQuantity())));
+            salesByProduct.merge(orderItem.getProduct().getProductId(), sales, Sales::plus);
+        }
+
+        salesByProduct.forEach((productId, sales) -> {
+            if (from != null) {
+                productSalesStatsRepository.addSales(productId, from.name(), -sales.units(), sales.revenue().negate());
+            }
+            productSalesStatsRepository.addSales(productId, to.name(), sales.units(), sales.revenue());
+        });
+    }
+
+    private record Sales(long units, BigDecimal revenue) {
+
+        Sales plus(Sales other) {
+            return new Sales(units + other.units, revenue.add(other.revenue));
+        }
+    }
+}
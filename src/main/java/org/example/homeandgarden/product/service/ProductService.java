@@ -1,22 +1,39 @@
 package org.example.homeandgarden.product.service;
 
 import org.example.homeandgarden.product.dto.*;
+import org.example.homeandgarden.shared.CursorPageResponse;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 public interface ProductService {
 
     Page<ProductResponse> getCategoryProducts(String categoryId, BigDecimal minPrice, BigDecimal maxPrice, Integer size, Integer page, String order, String sortBy);
+    Slice<ProductResponse> getCategoryProductsSlice(String categoryId, BigDecimal minPrice, BigDecimal maxPrice, Integer size, Integer page, String order, String sortBy);
+    CursorPageResponse<ProductResponse> getCategoryProductsAfter(String categoryId, BigDecimal minPrice, BigDecimal maxPrice, Integer size, String after, String order, String sortBy);
     Page<ProductResponse> getProductsByStatus(String productStatus, Integer size, Integer page, String order, String sortBy);
+    Slice<ProductResponse> getProductsByStatusSlice(String productStatus, Integer size, Integer page, String order, String sortBy);
+    CursorPageResponse<ProductResponse> getProductsByStatusAfter(String productStatus, Integer size, String after, String order, String sortBy);
     Page<ProductProjectionResponse> getTopProducts(String status, Integer size, Integer page);
+    Slice<ProductProjectionResponse> getTopProductsSlice(String status, Integer size, Integer page);
     Page<ProductProjectionResponse> getPendingProducts(String status, Integer days, Integer size, Integer page);
+    Slice<ProductProjectionResponse> getPendingProductsSlice(String status, Integer days, Integer size, Integer page);
+    CursorPageResponse<ProductResponse> searchProducts(String query, String categoryId, String productStatus, BigDecimal minPrice, BigDecimal maxPrice, Integer size, String after);
     ProductProfitResponse getProfitByPeriod(String period, Integer timePeriod);
+    List<ProductDailyProfitResponse> getDailyProfitByPeriod(String period, Integer timePeriod);
+    List<ProductCategoryProfitResponse> getCategoryProfitByPeriod(String period, Integer timePeriod);
     ProductResponse getProductById(String productId);
+    Optional<Instant> findProductLastModified(String productId);
     ProductResponse addProduct(ProductCreateRequest productCreateRequest);
     ProductResponse updateProduct(String productId, ProductUpdateRequest productUpdateRequest);
     MessageResponse setProductStatus(String productId, String productStatus);
+    MessageResponse changeProductPrices(ProductBulkPriceRequest productBulkPriceRequest);
+    MessageResponse setProductsStatus(ProductBulkStatusRequest productBulkStatusRequest);
 
 
 
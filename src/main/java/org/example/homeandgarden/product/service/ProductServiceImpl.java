@@ -1,29 +1,41 @@
 package org.example.homeandgarden.product.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.catalog.CatalogCache;
 import org.example.homeandgarden.category.entity.Category;
 import org.example.homeandgarden.category.entity.enums.CategoryStatus;
 import org.example.homeandgarden.category.repository.CategoryRepository;
 import org.example.homeandgarden.exception.DataNotFoundException;
 import org.example.homeandgarden.order.entity.enums.OrderStatus;
 import org.example.homeandgarden.product.dto.*;
+import org.example.homeandgarden.product.entity.DailyRevenue;
 import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.product.entity.ProductSearchProjection;
+import org.example.homeandgarden.product.entity.enums.PriceChangeType;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.entity.enums.SalesBucket;
 import org.example.homeandgarden.product.mapper.ProductMapper;
 import org.example.homeandgarden.product.repository.ProductRepository;
+import org.example.homeandgarden.shared.CursorPageResponse;
+import org.example.homeandgarden.shared.EstimatedSlice;
+import org.example.homeandgarden.shared.KeysetCursor;
 import org.example.homeandgarden.shared.MessageResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.example.homeandgarden.shared.RowCountEstimator;
+import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 
@@ -34,44 +46,101 @@ public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final ProductMapper productMapper;
+    private final RowCountEstimator rowCountEstimator;
+    private final CatalogCache catalogCache;
+    private final ProductBulkService productBulkService;
+
+    private static final String PRODUCT_ID = "productId";
+    private static final String PRODUCTS_TABLE = "products";
+    private static final String RANK = "rank";
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ProductResponse> getCategoryProducts(String categoryId, BigDecimal minPrice, BigDecimal maxPrice, Integer size, Integer page, String order, String sortBy) {
 
-        UUID id = UUID.fromString(categoryId);
-        Category existingCategory = categoryRepository.findById(id).orElseThrow(() -> new DataNotFoundException(String.format("Category with id: %s, was not found.", categoryId)));
+        UUID id = getActiveCategoryId(categoryId);
 
-        if (existingCategory.getCategoryStatus().equals(CategoryStatus.INACTIVE)) {
-            throw new IllegalArgumentException(String.format("Category with id: %s, is disabled.", categoryId));
-        }
+        CatalogCache.CategoryProductsKey key = new CatalogCache.CategoryProductsKey(id, minPrice, maxPrice, size, page, order, sortBy);
+        return catalogCache.getCategoryProducts(key, (categoryProductsKey) -> {
+            PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+            return productRepository.findCategoryProductList(id, ProductStatus.AVAILABLE, minPrice, maxPrice, pageRequest).map(productMapper::productListProjectionToResponse);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse> getCategoryProductsSlice(String categoryId, BigDecimal minPrice, BigDecimal maxPrice, Integer size, Integer page, String order, String sortBy) {
+
+        UUID id = getActiveCategoryId(categoryId);
 
         PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
-        return productRepository.findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(id, ProductStatus.AVAILABLE, minPrice, maxPrice, pageRequest).map(productMapper::productToResponse);
+        return productRepository.findCategoryProductListSlice(id, ProductStatus.AVAILABLE, minPrice, maxPrice, pageRequest).map(productMapper::productListProjectionToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductResponse> getCategoryProductsAfter(String categoryId, BigDecimal minPrice, BigDecimal maxPrice, Integer size, String after, String order, String sortBy) {
+
+        UUID id = getActiveCategoryId(categoryId);
+
+        ScrollPosition position = KeysetCursor.decode(after, Set.of(sortBy, PRODUCT_ID));
+        Window<Product> window = productRepository.findByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(id, ProductStatus.AVAILABLE, minPrice, maxPrice, position, Limit.of(size), keysetSort(order, sortBy));
+        return KeysetCursor.toResponse(window, productMapper::productToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<ProductResponse> getProductsByStatus(String productStatus, Integer size, Integer page, String order, String sortBy) {
         Pageable pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
         if(productStatus == null) {
-            return productRepository.findAll(pageRequest).map(productMapper::productToResponse);
+            return productRepository.findProductList(pageRequest).map(productMapper::productListProjectionToResponse);
         } else {
             ProductStatus status = ProductStatus.valueOf(productStatus.toUpperCase());
-            return productRepository.findAllByProductStatus(status, pageRequest).map(productMapper::productToResponse);
+            return productRepository.findProductListByStatus(status, pageRequest).map(productMapper::productListProjectionToResponse);
         }
     }
 
     @Override
-    public Page<ProductProjectionResponse> getTopProducts(String status, Integer size, Integer page) {
-        List<OrderStatus> statuses;
-        if (status.equalsIgnoreCase("PAID")) {
-            statuses = List.of(OrderStatus.PAID, OrderStatus.ON_THE_WAY, OrderStatus.DELIVERED);
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse> getProductsByStatusSlice(String productStatus, Integer size, Integer page, String order, String sortBy) {
+        Pageable pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        if(productStatus == null) {
+            Slice<ProductResponse> slice = productRepository.findProductListSlice(pageRequest).map(productMapper::productListProjectionToResponse);
+            return new EstimatedSlice<>(slice, rowCountEstimator.estimate(PRODUCTS_TABLE, Map.of()));
         } else {
-            statuses = List.of(OrderStatus.CANCELED, OrderStatus.RETURNED);
+            ProductStatus status = ProductStatus.valueOf(productStatus.toUpperCase());
+            Slice<ProductResponse> slice = productRepository.findProductListSliceByStatus(status, pageRequest).map(productMapper::productListProjectionToResponse);
+            return new EstimatedSlice<>(slice, rowCountEstimator.estimate(PRODUCTS_TABLE, Map.of("product_status", status.name())));
         }
-        return productRepository.findTopProducts(statuses, PageRequest.of(page, size)).map(productMapper::productProjectionToResponse);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductResponse> getProductsByStatusAfter(String productStatus, Integer size, String after, String order, String sortBy) {
+
+        ScrollPosition position = KeysetCursor.decode(after, Set.of(sortBy, PRODUCT_ID));
+        Sort sort = keysetSort(order, sortBy);
+
+        Window<Product> window = productStatus == null
+                ? productRepository.findByProductIdIsNotNull(position, Limit.of(size), sort)
+                : productRepository.findByProductStatus(ProductStatus.valueOf(productStatus.toUpperCase()), position, Limit.of(size), sort);
+        return KeysetCursor.toResponse(window, productMapper::productToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductProjectionResponse> getTopProducts(String status, Integer size, Integer page) {
+        return productRepository.findTopProducts(topProductsBucket(status), PageRequest.of(page, size)).map(productMapper::productProjectionToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ProductProjectionResponse> getTopProductsSlice(String status, Integer size, Integer page) {
+        return productRepository.findTopProductsSlice(topProductsBucket(status), PageRequest.of(page, size)).map(productMapper::productProjectionToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<ProductProjectionResponse> getPendingProducts(String orderStatus, Integer days, Integer size, Integer page) {
         OrderStatus status = OrderStatus.valueOf(orderStatus.toUpperCase());
         Instant cutoff = Instant.now().minus(days, ChronoUnit.DAYS);
@@ -79,17 +148,56 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public ProductProfitResponse getProfitByPeriod(String timeUnit, Integer timePeriod) {
+    @Transactional(readOnly = true)
+    public Slice<ProductProjectionResponse> getPendingProductsSlice(String orderStatus, Integer days, Integer size, Integer page) {
+        OrderStatus status = OrderStatus.valueOf(orderStatus.toUpperCase());
+        Instant cutoff = Instant.now().minus(days, ChronoUnit.DAYS);
+        return productRepository.findPendingProductsSlice(status, cutoff, PageRequest.of(page, size)).map(productMapper::productProjectionToResponse);
+    }
 
-        Instant cutoff = switch (timeUnit.toUpperCase()) {
-            case "DAY" -> Instant.now().minus(timePeriod, ChronoUnit.DAYS);
-            case "WEEK" -> Instant.now().minus((timePeriod * 7L), ChronoUnit.DAYS);
-            case "MONTH" -> Instant.now().minus((timePeriod * 30L), ChronoUnit.DAYS);
-            case "YEAR" -> Instant.now().minus((timePeriod * 365L), ChronoUnit.DAYS);
-            default -> throw new IllegalArgumentException(String.format("Unexpected value: %s", timeUnit));
-        };
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductResponse> searchProducts(String query, String categoryId, String productStatus, BigDecimal minPrice, BigDecimal maxPrice, Integer size, String after) {
+
+        UUID category = categoryId == null ? null : UUID.fromString(categoryId);
+        ProductStatus status = ProductStatus.valueOf(productStatus.toUpperCase());
+
+        Map<String, Object> afterKeys = ((KeysetScrollPosition) KeysetCursor.decode(after, Set.of(RANK, PRODUCT_ID))).getKeys();
+        Float afterRank = null;
+        UUID afterProductId = null;
+        if (!afterKeys.isEmpty()) {
+            if (!(afterKeys.get(RANK) instanceof Float rank) || !(afterKeys.get(PRODUCT_ID) instanceof UUID productId)) {
+                throw new IllegalArgumentException("Invalid cursor: The cursor was issued for a different sort field.");
+            }
+            afterRank = rank;
+            afterProductId = productId;
+        }
+
+        List<ProductSearchProjection> hits = productRepository.searchProducts(query.trim(), category, status, minPrice, maxPrice, afterRank, afterProductId, size + 1);
+        boolean hasNext = hits.size() > size;
+        List<ProductSearchProjection> content = hasNext ? hits.subList(0, size) : hits;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Map<String, Object> lastKeys = new LinkedHashMap<>();
+            lastKeys.put(RANK, content.getLast().getRank());
+            lastKeys.put(PRODUCT_ID, content.getLast().getProductId());
+            nextCursor = KeysetCursor.encode(ScrollPosition.forward(lastKeys));
+        }
 
-        BigDecimal profit = Optional.ofNullable(productRepository.findProfitByPeriod(OrderStatus.DELIVERED, cutoff))
+        return CursorPageResponse.<ProductResponse>builder()
+                .content(content.stream().map(productMapper::productSearchProjectionToResponse).toList())
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductProfitResponse getProfitByPeriod(String timeUnit, Integer timePeriod) {
+
+        BigDecimal profit = Optional.ofNullable(productRepository.findProfitByPeriod(OrderStatus.DELIVERED, profitFromDay(timeUnit, timePeriod)))
                 .orElse(BigDecimal.ZERO);
 
         return ProductProfitResponse.builder()
@@ -100,11 +208,42 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<ProductDailyProfitResponse> getDailyProfitByPeriod(String timeUnit, Integer timePeriod) {
+
+        return productRepository.findDailyProfitByPeriod(OrderStatus.DELIVERED, profitFromDay(timeUnit, timePeriod)).stream()
+                .map(productMapper::dailyRevenueProjectionToResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductCategoryProfitResponse> getCategoryProfitByPeriod(String timeUnit, Integer timePeriod) {
+
+        return productRepository.findCategoryProfitByPeriod(OrderStatus.DELIVERED, profitFromDay(timeUnit, timePeriod)).stream()
+                .map(productMapper::categoryRevenueProjectionToResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public ProductResponse getProductById(String productId) {
 
         UUID id = UUID.fromString(productId);
-        Product existingProduct = productRepository.findById(id).orElseThrow(() -> new DataNotFoundException(String.format("Product with id: %s, was not found.", productId)));
-        return productMapper.productToResponse(existingProduct);
+        return catalogCache.getProduct(id, (key) -> {
+            Product existingProduct = productRepository.findById(key).orElseThrow(() -> new DataNotFoundException(String.format("Product with id: %s, was not found.", productId)));
+            return productMapper.productToResponse(existingProduct);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Instant> findProductLastModified(String productId) {
+
+        UUID id = UUID.fromString(productId);
+        return catalogCache.findProduct(id)
+                .map(product -> Objects.requireNonNullElse(product.getUpdatedAt(), product.getAddedAt()))
+                .or(() -> productRepository.findLastModifiedByProductId(id));
     }
 
     @Override
@@ -119,6 +258,7 @@ public class ProductServiceImpl implements ProductService {
         }
         Product productToAdd = productMapper.requestToProduct(productCreateRequest, existingCategory);
         Product addedProduct = productRepository.saveAndFlush(productToAdd);
+        catalogCache.evictCategoryProducts(id);
         return productMapper.productToResponse(addedProduct);
     }
 
@@ -139,6 +279,7 @@ public class ProductServiceImpl implements ProductService {
         Optional.ofNullable(productUpdateRequest.getImageUrl()).ifPresent(existingProduct::setImageUrl);
 
         Product updatedProduct = productRepository.saveAndFlush(existingProduct);
+        catalogCache.evictProduct(id, categoryIdOf(existingProduct));
         return productMapper.productToResponse(updatedProduct);
     }
 
@@ -157,9 +298,110 @@ public class ProductServiceImpl implements ProductService {
 
         existingProduct.setProductStatus(status);
         Product updatedProduct = productRepository.saveAndFlush(existingProduct);
+        catalogCache.evictProduct(id, categoryIdOf(existingProduct));
 
         return MessageResponse.builder()
                 .message(String.format("Status '%s' was set for the product with id: %s.", updatedProduct.getProductStatus().name(), updatedProduct.getProductId().toString()))
                 .build();
     }
+
+    @Override
+    @Transactional
+    public MessageResponse changeProductPrices(ProductBulkPriceRequest productBulkPriceRequest) {
+
+        PriceChangeType changeType = PriceChangeType.valueOf(productBulkPriceRequest.getChangeType().toUpperCase());
+        BigDecimal value = productBulkPriceRequest.getValue();
+
+        if (changeType.equals(PriceChangeType.PERCENTAGE) && value.compareTo(BigDecimal.valueOf(-100)) < 0) {
+            throw new IllegalArgumentException(String.format("Prices can not be reduced by more than 100%%, but the value is %s.", value.toPlainString()));
+        }
+
+        int updatedCount = isCategoryTarget(productBulkPriceRequest.getCategoryId(), productBulkPriceRequest.getProductIds())
+                ? productBulkService.changeCategoryPrices(getExistingCategoryId(productBulkPriceRequest.getCategoryId()), changeType, value)
+                : productBulkService.changePrices(toProductIds(productBulkPriceRequest.getProductIds()), changeType, value);
+
+        return MessageResponse.builder()
+                .message(String.format("Prices of %d products were changed.", updatedCount))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public MessageResponse setProductsStatus(ProductBulkStatusRequest productBulkStatusRequest) {
+
+        ProductStatus status = ProductStatus.valueOf(productBulkStatusRequest.getProductStatus().toUpperCase());
+        EnumSet<ProductStatus> otherStatuses = EnumSet.complementOf(EnumSet.of(status));
+
+        int updatedCount = isCategoryTarget(productBulkStatusRequest.getCategoryId(), productBulkStatusRequest.getProductIds())
+                ? productBulkService.changeCategoryStatuses(getExistingCategoryId(productBulkStatusRequest.getCategoryId()), otherStatuses, status)
+                : productBulkService.changeStatuses(toProductIds(productBulkStatusRequest.getProductIds()), otherStatuses, status);
+
+        return MessageResponse.builder()
+                .message(String.format("Status '%s' was set for %d products.", status.name(), updatedCount))
+                .build();
+    }
+
+    private static boolean isCategoryTarget(String categoryId, List<String> productIds) {
+        boolean hasProductIds = productIds != null && !productIds.isEmpty();
+        if ((categoryId != null) == hasProductIds) {
+            throw new IllegalArgumentException("Either a category id or a list of product ids must be provided, but not both.");
+        }
+        return categoryId != null;
+    }
+
+    private static List<UUID> toProductIds(List<String> productIds) {
+        return productIds.stream().map(UUID::fromString).toList();
+    }
+
+    private UUID getExistingCategoryId(String categoryId) {
+        UUID id = UUID.fromString(categoryId);
+        if (!categoryRepository.existsById(id)) {
+            throw new DataNotFoundException(String.format("Category with id: %s, was not found.", categoryId));
+        }
+        return id;
+    }
+
+    private UUID getActiveCategoryId(String categoryId) {
+        UUID id = UUID.fromString(categoryId);
+        CategoryStatus categoryStatus = catalogCache.getCategoryStatus(id, (key) -> categoryRepository.findById(key)
+                .map(Category::getCategoryStatus)
+                .orElseThrow(() -> new DataNotFoundException(String.format("Category with id: %s, was not found.", categoryId))));
+
+        if (categoryStatus.equals(CategoryStatus.INACTIVE)) {
+            throw new IllegalArgumentException(String.format("Category with id: %s, is disabled.", categoryId));
+        }
+        return id;
+    }
+
+    private static UUID categoryIdOf(Product product) {
+        return product.getCategory() != null ? product.getCategory().getCategoryId() : null;
+    }
+
+    /**
+     * First day of the profit period. Revenue is rolled up per day the orders were created on,
+     * so the period always covers whole days.
+     */
+    private static LocalDate profitFromDay(String timeUnit, Integer timePeriod) {
+
+        Instant cutoff = switch (timeUnit.toUpperCase()) {
+            case "DAY" -> Instant.now().minus(timePeriod, ChronoUnit.DAYS);
+            case "WEEK" -> Instant.now().minus((timePeriod * 7L), ChronoUnit.DAYS);
+            case "MONTH" -> Instant.now().minus((timePeriod * 30L), ChronoUnit.DAYS);
+            case "YEAR" -> Instant.now().minus((timePeriod * 365L), ChronoUnit.DAYS);
+            default -> throw new IllegalArgumentException(String.format("Unexpected value: %s", timeUnit));
+        };
+        return LocalDate.ofInstant(cutoff, DailyRevenue.ZONE);
+    }
+
+    private static SalesBucket topProductsBucket(String status) {
+        return status.equalsIgnoreCase("PAID") ? SalesBucket.PAID : SalesBucket.CANCELED;
+    }
+
+    /**
+     * Sorts by the requested field with the product id as tie-breaker, so every product has a unique keyset position.
+     */
+    private static Sort keysetSort(String order, String sortBy) {
+        Sort.Direction direction = Sort.Direction.fromString(order);
+        return Sort.by(direction, sortBy).and(Sort.by(direction, PRODUCT_ID));
+    }
 }
\ No newline at end of file
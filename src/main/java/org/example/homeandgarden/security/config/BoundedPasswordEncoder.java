@@ -0,0 +1,153 @@
+package org.example.homeandgarden.security.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homeandgarden.exception.PasswordHashingUnavailableException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the expensive password hashing of the delegate on a small dedicated executor,
+ * so a burst of logins can not occupy every request thread and core.
+ * When all hashing threads are busy and the queue is full, the call fails fast with
+ * {@link PasswordHashingUnavailableException} instead of waiting.
+ * <p>
+ * Successful matches are remembered for a short time under a keyed digest of the raw password and the hash,
+ * so clients repeating the same credentials (HTTP Basic) do not pay a full hash verification on every request.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "password.hashing";
+    private static final String MATCH_KEY_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final Counter rejectedCounter;
+    private final Counter matchCacheHitCounter;
+    private final Cache<String, Boolean> recentMatches;
+    private final SecretKey matchKey;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration matchCacheTtl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, METRIC_PREFIX);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Password hashing calls rejected because the hashing executor was saturated")
+                .register(meterRegistry);
+        this.matchCacheHitCounter = Counter.builder(METRIC_PREFIX + ".match.cache.hits")
+                .description("Password checks answered from the recent successful matches")
+                .register(meterRegistry);
+        this.recentMatches = matchCacheTtl.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(matchCacheTtl)
+                .maximumSize(10_000)
+                .build();
+        this.matchKey = generateMatchKey();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        String recentMatchKey = recentMatches != null ? toMatchKey(rawPassword, encodedPassword) : null;
+        if (recentMatchKey != null && recentMatches.getIfPresent(recentMatchKey) != null) {
+            matchCacheHitCounter.increment();
+            return true;
+        }
+
+        boolean matches = execute(() -> delegate.matches(rawPassword, encodedPassword));
+        if (matches && recentMatchKey != null) {
+            recentMatches.put(recentMatchKey, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> hashingTask) {
+        Future<T> result;
+        try {
+            result = monitoredExecutor.submit(hashingTask);
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            log.warn("⚠️ Password hashing rejected | Active: {} | Queued: {}", executor.getActiveCount(), executor.getQueue().size());
+            throw new PasswordHashingUnavailableException("Too many concurrent authentication requests. Please try again later.");
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password hashing was interrupted.");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed.", exception.getCause());
+        }
+    }
+
+    private String toMatchKey(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(MATCH_KEY_ALGORITHM);
+            mac.init(matchKey);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to compute the password match key.", exception);
+        }
+    }
+
+    private static SecretKey generateMatchKey() {
+        try {
+            return KeyGenerator.getInstance(MATCH_KEY_ALGORITHM).generateKey();
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to create the password match key.", exception);
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
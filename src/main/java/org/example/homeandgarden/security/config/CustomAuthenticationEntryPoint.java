@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.example.homeandgarden.exception.PasswordHashingUnavailableException;
 import org.example.homeandgarden.shared.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -21,7 +23,12 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException)
             throws IOException {
 
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        if (authException instanceof PasswordHashingUnavailableException) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        } else {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        }
         response.setContentType("application/json");
 
         ErrorResponse errorResponse = new ErrorResponse(
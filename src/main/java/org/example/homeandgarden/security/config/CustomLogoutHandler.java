@@ -1,26 +1,30 @@
 package org.example.homeandgarden.security.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 
-import org.example.homeandgarden.exception.DataNotFoundException;
-import org.example.homeandgarden.user.entity.User;
-import org.example.homeandgarden.user.repository.UserRepository;
+import org.example.homeandgarden.authentication.service.RefreshSessionService;
+import org.example.homeandgarden.security.entity.UserDetailsImpl;
+import org.example.homeandgarden.security.service.AccessTokenDenylist;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @AllArgsConstructor
 public class CustomLogoutHandler implements LogoutHandler {
 
-    private final UserRepository userRepository;
+    private final RefreshSessionService refreshSessionService;
     private final JwtService jwtService;
+    private final AccessTokenDenylist accessTokenDenylist;
 
-    @Transactional
+    /**
+     * Revokes the access token in its own transaction before closing the session, so the revocation holds whether or
+     * not there was a session left to close.
+     */
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
 
@@ -30,23 +34,23 @@ public class CustomLogoutHandler implements LogoutHandler {
             throw new BadCredentialsException("Access token is missing or empty.");
         }
 
-        if (!jwtService.isAccessTokenValid(accessToken)) {
-            throw new BadCredentialsException("Invalid or expired access token.");
-        }
+        Claims claims = jwtService.verifyAccessToken(accessToken)
+                .orElseThrow(() -> new BadCredentialsException("Invalid or expired access token."));
 
-        String email = jwtService.getUserEmailFromAccessToken(accessToken);
-        if (email == null) {
-            throw new BadCredentialsException("Token does not contain a user identifier.");
-        }
+        accessTokenDenylist.revoke(claims.getId(), claims.getExpiration().toInstant());
 
-        User existingUser = userRepository.findByEmail(email).orElseThrow(() -> new DataNotFoundException((String.format("User with email: %s, was not found.", email))));
+        String sessionId = jwtService.getSessionIdFromClaims(claims);
+        boolean loggedOut;
+        if (sessionId != null) {
+            loggedOut = refreshSessionService.closeSession(sessionId);
+        } else {
+            UserDetailsImpl userDetails = jwtService.getUserDetailsFromClaims(claims)
+                    .orElseThrow(() -> new BadCredentialsException("Token does not contain a user identifier."));
+            loggedOut = refreshSessionService.closeAllSessions(userDetails.getUserId()) > 0;
+        }
 
-        if (existingUser.getRefreshToken() == null) {
+        if (!loggedOut) {
             throw new BadCredentialsException("User is already logged out. No action needed.");
         }
-
-        existingUser.setRefreshToken(null);
-        userRepository.saveAndFlush(existingUser);
     }
 }
-
@@ -1,20 +1,23 @@
 package org.example.homeandgarden.security.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.example.homeandgarden.security.service.UserDetailsServiceImpl;
+import org.example.homeandgarden.security.entity.UserDetailsImpl;
+import org.example.homeandgarden.security.service.AccessTokenDenylist;
+import org.example.homeandgarden.security.service.TokenVersionService;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
@@ -22,19 +25,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
 
-    private final UserDetailsServiceImpl userDetailsService;
+    private final TokenVersionService tokenVersionService;
+
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
 
         String accessToken = jwtService.getTokenFromRequestHeader(request);
 
-        if (accessToken != null && jwtService.isAccessTokenValid(accessToken)) {
+        Optional<Claims> claims = accessToken != null
+                ? jwtService.verifyAccessToken(accessToken).filter(verifiedClaims -> !accessTokenDenylist.isRevoked(verifiedClaims.getId()))
+                : Optional.empty();
+
+        if (claims.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            String email = jwtService.getUserEmailFromAccessToken(accessToken);
+            Optional<UserDetailsImpl> principal = jwtService.getUserDetailsFromClaims(claims.get());
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (principal.isPresent() && isActive(principal.get())) {
+                UserDetailsImpl userDetails = principal.get();
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -43,4 +52,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private boolean isActive(UserDetailsImpl userDetails) {
+        return userDetails.isEnabled()
+                && userDetails.isAccountNonLocked()
+                && tokenVersionService.isCurrent(userDetails.getUserId(), userDetails.getTokenVersion());
+    }
 }
@@ -1,25 +1,40 @@
 package org.example.homeandgarden.security.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.example.homeandgarden.security.entity.UserDetailsImpl;
+import org.example.homeandgarden.user.entity.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtService {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String ENABLED_CLAIM = "enabled";
+    private static final String NON_LOCKED_CLAIM = "nonLocked";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final String SESSION_ID_CLAIM = "sid";
+
     @Value("${jwt.access-token.secret}")
     private String accessTokenSecretKey;
 
@@ -38,6 +53,54 @@ public class JwtService {
     @Value("${jwt.password-reset-token.expiration}")
     private Integer passwordResetTokenExpiration;
 
+    @Value("${jwt.access-token.cache.max-size:10000}")
+    private Integer accessTokenCacheMaxSize;
+
+    private SecretKey accessTokenKey;
+    private SecretKey refreshTokenKey;
+    private SecretKey passwordResetTokenKey;
+
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
+    private JwtParser passwordResetTokenParser;
+
+    /**
+     * Claims of access tokens whose signature was already verified, kept until the token expires.
+     */
+    private Cache<String, Claims> verifiedAccessTokens;
+
+    @PostConstruct
+    void init() {
+        accessTokenKey = getSigningKey(accessTokenSecretKey);
+        refreshTokenKey = getSigningKey(refreshTokenSecretKey);
+        passwordResetTokenKey = getSigningKey(passwordResetTokenSecretKey);
+
+        accessTokenParser = Jwts.parser().verifyWith(accessTokenKey).build();
+        refreshTokenParser = Jwts.parser().verifyWith(refreshTokenKey).build();
+        passwordResetTokenParser = Jwts.parser().verifyWith(passwordResetTokenKey).build();
+
+        verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(accessTokenCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                        long millisLeft = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(millisLeft, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     public String getTokenFromRequestHeader(HttpServletRequest request) {
         final String token = request.getHeader("Authorization");
 
@@ -47,13 +110,45 @@ public class JwtService {
         return null;
     }
 
-    public String getUserEmailFromToken(String token, String secretKey) {
+    /**
+     * Verifies the signature and expiration of the access token once and returns its claims.
+     * Recently verified tokens are answered from memory without repeating the HMAC check.
+     */
+    public Optional<Claims> verifyAccessToken(String accessToken) {
+        Claims cachedClaims = verifiedAccessTokens.getIfPresent(accessToken);
+        if (cachedClaims != null) {
+            return Optional.of(cachedClaims);
+        }
+
+        Optional<Claims> claims = verifyToken(accessToken, accessTokenParser);
+        claims.filter(verifiedClaims -> verifiedClaims.getExpiration() != null)
+                .ifPresent(verifiedClaims -> verifiedAccessTokens.put(accessToken, verifiedClaims));
+        return claims;
+    }
+
+    public Optional<Claims> verifyRefreshToken(String refreshToken) {
+        return verifyToken(refreshToken, refreshTokenParser);
+    }
+
+    public Optional<Claims> verifyPasswordResetToken(String passwordResetToken) {
+        return verifyToken(passwordResetToken, passwordResetTokenParser);
+    }
+
+    private Optional<Claims> verifyToken(String token, JwtParser parser) {
+        try {
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException exception) {
+            log.warn("⚠️ Error: {} | Message: {}", exception.getClass().getSimpleName(), exception.getMessage());
+            return Optional.empty();
+        } catch (Exception exception) {
+            log.error("⚠️ Error: {} | Message: {}", exception.getClass().getSimpleName(), exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String getUserEmailFromToken(String token, JwtParser parser) {
         try {
-            return Jwts.parser()
-                    .verifyWith((SecretKey) getSignigKey(secretKey))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload().getSubject();
+            return parser.parseSignedClaims(token).getPayload().getSubject();
 
         } catch (JwtException | IllegalArgumentException exception) {
             log.warn("⚠️ Error: {} | Message: {}", exception.getClass().getSimpleName(), exception.getMessage());
@@ -64,66 +159,82 @@ public class JwtService {
         }
     }
 
-    public String getUserEmailFromAccessToken(String token) {
-        return getUserEmailFromToken(token, accessTokenSecretKey);
-    }
-
     public String getUserEmailFromRefreshToken(String token) {
-        return getUserEmailFromToken(token, refreshTokenSecretKey);
+        return getUserEmailFromToken(token, refreshTokenParser);
     }
 
     public String getUserEmailFromPasswordResetToken(String token) {
-        return getUserEmailFromToken(token, passwordResetTokenSecretKey);
+        return getUserEmailFromToken(token, passwordResetTokenParser);
     }
 
-    private Key getSignigKey(String jwtSecret) {
+    private SecretKey getSigningKey(String jwtSecret) {
         return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
     }
 
-    public boolean isTokenValid(String token, String secretKey) {
-        try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) getSignigKey(secretKey))
-                    .build().parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException exception) {
-            log.warn("⚠️ Error: {} | Message: {}", exception.getClass().getSimpleName(), exception.getMessage());
-            return false;
-        } catch (Exception exception) {
-            log.error("⚠️ Error: {} | Message: {}", exception.getClass().getSimpleName(), exception.getMessage());
-            return false;
-        }
-    }
-
     public boolean isAccessTokenValid(String accessToken) {
-        return isTokenValid(accessToken, accessTokenSecretKey);
+        return verifyAccessToken(accessToken).isPresent();
     }
 
     public boolean isRefreshTokenValid(String refreshToken) {
-        return isTokenValid(refreshToken, refreshTokenSecretKey);
+        return verifyRefreshToken(refreshToken).isPresent();
     }
 
     public boolean isPasswordResetTokenValid(String passwordResetToken) {
-        return isTokenValid(passwordResetToken, passwordResetTokenSecretKey);
+        return verifyPasswordResetToken(passwordResetToken).isPresent();
     }
 
-    public String generateAccessToken(String email) {
+    /**
+     * Rebuilds the authenticated principal from the signed claims of an access token.
+     * Returns empty for tokens issued without the user claims.
+     */
+    public Optional<UserDetailsImpl> getUserDetailsFromClaims(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (claims.getSubject() == null || userId == null || role == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new UserDetailsImpl(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                role,
+                Boolean.TRUE.equals(claims.get(ENABLED_CLAIM, Boolean.class)),
+                Boolean.TRUE.equals(claims.get(NON_LOCKED_CLAIM, Boolean.class)),
+                claims.get(TOKEN_VERSION_CLAIM, Integer.class)));
+    }
+
+    /**
+     * Returns the id of the refresh session the access token was issued for, or null for tokens issued without one.
+     */
+    public String getSessionIdFromClaims(Claims claims) {
+        return claims.get(SESSION_ID_CLAIM, String.class);
+    }
+
+    public String generateAccessToken(User user, String sessionId) {
 
         return Jwts.builder()
-                .subject(email)
+                .subject(user.getEmail())
+                .id(UUID.randomUUID().toString())
+                .claim(USER_ID_CLAIM, user.getUserId().toString())
+                .claim(ROLE_CLAIM, user.getUserRole().name())
+                .claim(ENABLED_CLAIM, user.getIsEnabled())
+                .claim(NON_LOCKED_CLAIM, user.getIsNonLocked())
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
+                .claim(SESSION_ID_CLAIM, sessionId)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(getSignigKey(accessTokenSecretKey))
+                .signWith(accessTokenKey)
                 .compact();
     }
 
-    public String generateRefreshToken(String email) {
+    public String generateRefreshToken(String email, String sessionId) {
 
         return Jwts.builder()
                 .subject(email)
+                .id(sessionId)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-                .signWith(getSignigKey(refreshTokenSecretKey))
+                .signWith(refreshTokenKey)
                 .compact();
     }
 
@@ -133,7 +244,7 @@ public class JwtService {
                 .subject(email)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + passwordResetTokenExpiration))
-                .signWith(getSignigKey(passwordResetTokenSecretKey))
+                .signWith(passwordResetTokenKey)
                 .compact();
     }
 }
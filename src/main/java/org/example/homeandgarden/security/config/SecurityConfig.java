@@ -2,9 +2,11 @@ package org.example.homeandgarden.security.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.example.homeandgarden.security.service.UserDetailsServiceImpl;
 import org.example.homeandgarden.shared.MessageResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,12 +18,16 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
@@ -31,6 +37,8 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final String BCRYPT_ENCODING_ID = "bcrypt";
+
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomLogoutHandler customLogoutHandler;
@@ -46,7 +54,7 @@ public class SecurityConfig {
         http.sessionManagement(session -> session.sessionCreationPolicy(STATELESS));
 
         http.authorizeHttpRequests(authorizeRequests -> authorizeRequests
-                .requestMatchers(HttpMethod.GET, "/products/status", "/products/top", "/products/pending", "/products/profit").authenticated()
+                .requestMatchers(HttpMethod.GET, "/products/status", "/products/top", "/products/pending", "/products/profit", "/products/profit/*").authenticated()
                 .requestMatchers(HttpMethod.GET, "/categories", "/categories/*/products", "/products/*").permitAll()
                 .requestMatchers(HttpMethod.POST, "/auth/register","/auth/login", "/auth/token" , "/auth/forgot-password", "/auth/reset-password").permitAll()
                 .requestMatchers("/manage/**", "/swagger-ui.html", "/swagger-ui/**", "/api/v1/auth/**", "/v3/api-docs/**").permitAll()
@@ -82,9 +90,24 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * New hashes are stored as {bcrypt} with the configured strength; hashes without a prefix are still read as BCrypt
+     * and are upgraded on the next successful login (see {@link UserDetailsServiceImpl#updatePassword}).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.bcrypt.strength:10}") Integer bcryptStrength,
+            @Value("${app.security.password-hashing.threads:0}") Integer hashingThreads,
+            @Value("${app.security.password-hashing.queue-capacity:50}") Integer hashingQueueCapacity,
+            @Value("${app.security.password-hashing.match-cache.ttl:5m}") Duration matchCacheTtl,
+            MeterRegistry meterRegistry) {
+
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT_ENCODING_ID, Map.of(BCRYPT_ENCODING_ID, bCryptPasswordEncoder));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, threads, hashingQueueCapacity, matchCacheTtl, meterRegistry);
     }
 
     @Bean
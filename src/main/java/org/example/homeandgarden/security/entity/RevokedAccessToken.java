@@ -0,0 +1,23 @@
+package org.example.homeandgarden.security.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "revoked_access_tokens")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RevokedAccessToken {
+
+    @Id
+    @Column(name = "token_id", updatable = false, nullable = false)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -9,22 +9,40 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 public class UserDetailsImpl implements UserDetails {
 
+    private final UUID userId;
     private final String email;
     private final String passwordHash;
     private final String role;
     private final boolean isEnabled;
     private final boolean isNonLocked;
+    private final Integer tokenVersion;
 
     public UserDetailsImpl(User user) {
+        this.userId = user.getUserId();
         this.email = user.getEmail();
         this.passwordHash = user.getPasswordHash();
         this.role = "ROLE_" + user.getUserRole().name();
         this.isEnabled = user.getIsEnabled();
         this.isNonLocked = user.getIsNonLocked();
+        this.tokenVersion = user.getTokenVersion();
+    }
+
+    /**
+     * Builds the principal from the signed claims of an access token, without a password hash.
+     */
+    public UserDetailsImpl(UUID userId, String email, String userRole, boolean isEnabled, boolean isNonLocked, Integer tokenVersion) {
+        this.userId = userId;
+        this.email = email;
+        this.passwordHash = null;
+        this.role = "ROLE_" + userRole;
+        this.isEnabled = isEnabled;
+        this.isNonLocked = isNonLocked;
+        this.tokenVersion = tokenVersion;
     }
 
     @Override
@@ -62,4 +80,3 @@ public class UserDetailsImpl implements UserDetails {
         return isEnabled;
     }
 }
-
@@ -0,0 +1,30 @@
+package org.example.homeandgarden.security.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.homeandgarden.security.entity.RevokedAccessToken;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    List<RevokedAccessToken> findByExpiresAtAfter(Instant now);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revoked_access_tokens"))
+    @Query(value = "INSERT INTO revoked_access_tokens (token_id, expires_at) VALUES (:tokenId, :expiresAt) ON CONFLICT (token_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") String tokenId, @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken token WHERE token.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,133 @@
+package org.example.homeandgarden.security.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homeandgarden.invalidation.CacheInvalidation;
+import org.example.homeandgarden.invalidation.CacheInvalidationHandler;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.security.entity.RevokedAccessToken;
+import org.example.homeandgarden.security.repository.RevokedAccessTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids (jti) of access tokens revoked on logout, kept in memory until the tokens expire.
+ * Lookups go through a Bloom filter first, so the authentication filter rejects revoked tokens without a database read.
+ * Revocations are persisted to a small table, from which the denylist is rebuilt at startup, and sent to the other
+ * instances over the invalidation bus. After the bus was disconnected the denylist is reloaded from the table.
+ */
+@Slf4j
+@Service
+public class AccessTokenDenylist implements CacheInvalidationHandler {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final CacheInvalidationPublisher publisher;
+    private final int expectedSize;
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private volatile TokenIdBloomFilter bloomFilter;
+
+    public AccessTokenDenylist(
+            RevokedAccessTokenRepository revokedAccessTokenRepository,
+            CacheInvalidationPublisher publisher,
+            @Value("${jwt.denylist.expected-size:100000}") Integer expectedSize) {
+
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.publisher = publisher;
+        this.expectedSize = expectedSize;
+        this.bloomFilter = new TokenIdBloomFilter(expectedSize, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    void loadRevokedTokens() {
+        for (RevokedAccessToken revokedToken : revokedAccessTokenRepository.findByExpiresAtAfter(Instant.now())) {
+            revokedTokens.put(revokedToken.getTokenId(), revokedToken.getExpiresAt());
+        }
+        rebuildBloomFilter();
+        log.info("Loaded {} revoked access tokens.", revokedTokens.size());
+    }
+
+    /**
+     * Persists the revocation and announces it to the other instances in one transaction, and adds it to memory once
+     * it has committed, so the denylist never holds a token that would be accepted again after a restart.
+     * Token ids are the UUIDs issued by {@link org.example.homeandgarden.security.config.JwtService}.
+     */
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedAccessTokenRepository.insertIfAbsent(tokenId, expiresAt);
+        publisher.publish(CacheInvalidation.revokedAccessToken(UUID.fromString(tokenId), expiresAt));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToMemory(tokenId, expiresAt);
+                }
+            });
+        } else {
+            addToMemory(tokenId, expiresAt);
+        }
+    }
+
+    /**
+     * Adds a token revoked on another instance.
+     */
+    @Override
+    public void evict(CacheInvalidation invalidation) {
+        if (invalidation.type() == CacheInvalidation.Type.REVOKED_ACCESS_TOKEN
+                && invalidation.expiresAt() != null && invalidation.expiresAt().isAfter(Instant.now())) {
+            addToMemory(invalidation.id().toString(), invalidation.expiresAt());
+        }
+    }
+
+    /**
+     * Reloads the revocations from the table, as some may have been missed while the invalidation bus was disconnected.
+     */
+    @Override
+    public void evictAll() {
+        loadRevokedTokens();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        Instant expiresAt = revokedTokens.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    /**
+     * Drops ids of tokens that expired on their own and rebuilds the Bloom filter without them.
+     */
+    @Scheduled(initialDelayString = "${jwt.denylist.purge-interval:PT5M}", fixedDelayString = "${jwt.denylist.purge-interval:PT5M}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        rebuildBloomFilter();
+        revokedAccessTokenRepository.deleteExpired(now);
+    }
+
+    private synchronized void addToMemory(String tokenId, Instant expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        TokenIdBloomFilter rebuiltFilter = new TokenIdBloomFilter(Math.max(expectedSize, revokedTokens.size() * 2), FALSE_POSITIVE_RATE);
+        revokedTokens.keySet().forEach(rebuiltFilter::put);
+        bloomFilter = rebuiltFilter;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.homeandgarden.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.homeandgarden.invalidation.CacheInvalidation;
+import org.example.homeandgarden.invalidation.CacheInvalidationHandler;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps the current token version of recently seen users for a short time,
+ * so access tokens can be revoked after a lock, role change or unregister without a lookup per request.
+ * An evicted version is also evicted on the other instances once the change has committed.
+ */
+@Service
+public class TokenVersionService implements CacheInvalidationHandler {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Optional<Integer>> tokenVersions;
+    private final CacheInvalidationPublisher publisher;
+
+    public TokenVersionService(
+            UserRepository userRepository,
+            CacheInvalidationPublisher publisher,
+            @Value("${jwt.token-version.cache.ttl:30s}") Duration cacheTtl,
+            @Value("${jwt.token-version.cache.max-size:10000}") Integer cacheMaxSize) {
+
+        this.userRepository = userRepository;
+        this.publisher = publisher;
+        this.tokenVersions = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
+
+    public boolean isCurrent(UUID userId, Integer tokenVersion) {
+        if (userId == null || tokenVersion == null) {
+            return false;
+        }
+        Optional<Integer> currentVersion = tokenVersions.get(userId, userRepository::findTokenVersionByUserId);
+        return currentVersion.isPresent() && currentVersion.get().equals(tokenVersion);
+    }
+
+    /**
+     * Evicts the token version of a user once the transaction changing it has committed, so a concurrent request can
+     * not cache the old version again.
+     */
+    public void evict(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tokenVersions.invalidate(userId);
+                }
+            });
+        } else {
+            tokenVersions.invalidate(userId);
+        }
+        publisher.publish(CacheInvalidation.user(userId));
+    }
+
+    @Override
+    public void evict(CacheInvalidation invalidation) {
+        if (invalidation.type() == CacheInvalidation.Type.USER) {
+            tokenVersions.invalidate(invalidation.id());
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        tokenVersions.invalidateAll();
+    }
+}
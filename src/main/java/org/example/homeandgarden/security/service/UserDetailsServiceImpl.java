@@ -7,14 +7,16 @@ import org.example.homeandgarden.user.entity.User;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.example.homeandgarden.security.entity.UserDetailsImpl;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -32,4 +34,19 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return new UserDetailsImpl(existingUser);
     }
-}
\ No newline at end of file
+
+    /**
+     * Stores the hash re-encoded with the current work factor after a successful login with an outdated hash.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPasswordHash) {
+
+        User existingUser = userRepository.findByEmail(userDetails.getUsername()).orElseThrow(() -> new UsernameNotFoundException(String.format("User with email: %s, was not found.", userDetails.getUsername())));
+
+        existingUser.setPasswordHash(newPasswordHash);
+        User updatedUser = userRepository.saveAndFlush(existingUser);
+
+        return new UserDetailsImpl(updatedUser);
+    }
+}
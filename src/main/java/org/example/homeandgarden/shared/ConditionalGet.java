@@ -0,0 +1,62 @@
+package org.example.homeandgarden.shared;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * HTTP conditional GET support: derives validators from the last modification of the returned data and answers
+ * {@code If-None-Match} / {@code If-Modified-Since} before the response body is built.
+ * <p>
+ * Single resources get a strong ETag from their id and last modification plus a {@code Last-Modified} header.
+ * Pages get a weak ETag from their ids, position and the latest modification of their elements, without
+ * {@code Last-Modified}: an element leaving the page does not move the latest modification forward.
+ * Both methods set the validators on the response, so a 200 response carries them too.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Returns {@code true} when the client already holds the current representation of the resource and should get a 304.
+     */
+    public static boolean isNotModified(WebRequest webRequest, Object id, Instant lastModified) {
+
+        String eTag = "\"" + digest(id + ":" + lastModified) + "\"";
+        return webRequest.checkNotModified(eTag, lastModified.toEpochMilli());
+    }
+
+    /**
+     * Returns {@code true} when the client already holds the current representation of the page and should get a 304.
+     */
+    public static <T> boolean isNotModified(WebRequest webRequest, Slice<T> slice, Function<T, ?> id, Function<T, Instant> lastModified) {
+
+        StringBuilder version = new StringBuilder()
+                .append(slice.getNumber()).append(':')
+                .append(slice.getSize()).append(':')
+                .append(slice.hasNext());
+        if (slice instanceof Page<T> page) {
+            version.append(':').append(page.getTotalElements());
+        }
+        slice.getContent().forEach(element -> version.append(':').append(id.apply(element)));
+        slice.getContent().stream()
+                .map(lastModified)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .ifPresent(latest -> version.append(':').append(latest));
+
+        return webRequest.checkNotModified("W/\"" + digest(version.toString()) + "\"");
+    }
+
+    private static String digest(String version) {
+        return DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8));
+    }
+}
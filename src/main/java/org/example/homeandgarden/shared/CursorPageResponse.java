@@ -0,0 +1,36 @@
+package org.example.homeandgarden.shared;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Response for displaying one page of a cursor (keyset) paginated list")
+public class CursorPageResponse<T> {
+
+    @JsonProperty("content")
+    @Schema(description = "Elements of the page")
+    private List<T> content;
+
+    @JsonProperty("size")
+    @Schema(description = "Number of elements in the page")
+    private Integer size;
+
+    @JsonProperty("hasNext")
+    @Schema(description = "Whether there are more elements after this page")
+    private Boolean hasNext;
+
+    @JsonProperty("nextCursor")
+    @Schema(description = "Opaque cursor to pass as 'after' to fetch the next page, absent on the last page")
+    private String nextCursor;
+}
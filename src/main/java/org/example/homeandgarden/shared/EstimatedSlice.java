@@ -0,0 +1,35 @@
+package org.example.homeandgarden.shared;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * A {@link Slice} that carries the planner's estimate of the total number of elements instead of an exact count,
+ * for listings where an approximate total is enough and a {@code COUNT(*)} would cost as much as the page itself.
+ */
+public class EstimatedSlice<T> extends SliceImpl<T> {
+
+    private final Long estimatedTotalElements;
+
+    public EstimatedSlice(Slice<T> slice, Long estimatedTotalElements) {
+        this(slice.getContent(), slice.getPageable(), slice.hasNext(), estimatedTotalElements);
+    }
+
+    public EstimatedSlice(List<T> content, Pageable pageable, boolean hasNext, Long estimatedTotalElements) {
+        super(content, pageable, hasNext);
+        this.estimatedTotalElements = estimatedTotalElements;
+    }
+
+    @JsonProperty("estimatedTotalElements")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Approximate total number of elements from the database statistics, absent when unavailable")
+    public Long getEstimatedTotalElements() {
+        return estimatedTotalElements;
+    }
+}
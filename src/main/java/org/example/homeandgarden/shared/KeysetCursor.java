@@ -0,0 +1,106 @@
+package org.example.homeandgarden.shared;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Encodes the keyset position of the last element of a page (its sort key and id) into an opaque, URL-safe cursor
+ * and back, so the next page can be read with a seek query instead of an OFFSET scan.
+ */
+public final class KeysetCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Returns the position to continue from: the start of the list for an empty cursor,
+     * otherwise the decoded keys, which must be exactly the expected sort key and id.
+     */
+    public static ScrollPosition decode(String cursor, Set<String> expectedKeys) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            for (String entry : decoded.split("&")) {
+                String[] nameAndValue = entry.split("=", 2);
+                String[] typeAndValue = nameAndValue[1].split(":", 2);
+                keys.put(nameAndValue[0], parseValue(typeAndValue[0], URLDecoder.decode(typeAndValue[1], StandardCharsets.UTF_8)));
+            }
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("Invalid cursor: Pass the 'nextCursor' of the previous page unchanged.");
+        }
+
+        if (!keys.keySet().equals(expectedKeys)) {
+            throw new IllegalArgumentException("Invalid cursor: The cursor was issued for a different sort field.");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(KeysetScrollPosition position) {
+        StringBuilder builder = new StringBuilder();
+        position.getKeys().forEach((name, value) -> {
+            if (!builder.isEmpty()) {
+                builder.append('&');
+            }
+            builder.append(name).append('=').append(formatValue(value));
+        });
+        return ENCODER.encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Maps the elements of the window and attaches the cursor of its last element when more elements follow.
+     */
+    public static <E, T> CursorPageResponse<T> toResponse(Window<E> window, Function<E, T> mapper) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+
+        return CursorPageResponse.<T>builder()
+                .content(window.map(mapper).getContent())
+                .size(window.size())
+                .hasNext(window.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static String formatValue(Object value) {
+        return switch (value) {
+            case Instant instant -> "I:" + instant;
+            case BigDecimal decimal -> "D:" + decimal.toPlainString();
+            case Float number -> "F:" + number;
+            case UUID uuid -> "U:" + uuid;
+            case String string -> "S:" + URLEncoder.encode(string, StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException(String.format("Unsupported keyset value type: %s", value.getClass().getName()));
+        };
+    }
+
+    private static Object parseValue(String type, String value) {
+        return switch (type) {
+            case "I" -> Instant.parse(value);
+            case "D" -> new BigDecimal(value);
+            case "F" -> Float.valueOf(value);
+            case "U" -> UUID.fromString(value);
+            case "S" -> value;
+            default -> throw new IllegalArgumentException(String.format("Unknown keyset value type: %s", type));
+        };
+    }
+}
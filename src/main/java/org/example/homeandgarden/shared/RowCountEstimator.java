@@ -0,0 +1,57 @@
+package org.example.homeandgarden.shared;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Estimates how many rows match simple equality filters from the PostgreSQL planner statistics
+ * ({@code EXPLAIN}), without scanning the table like {@code COUNT(*)} does.
+ * <p>
+ * The estimate is as fresh as the last {@code ANALYZE} of the table, so it is only meant for totals shown as approximate.
+ * Table and column names are written into the statement and must be constants, never request input; values are bound.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RowCountEstimator {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the estimated number of rows of {@code table} whose columns equal the given values
+     * (all rows for no conditions), or {@code null} when the database could not provide an estimate.
+     */
+    public Long estimate(String table, Map<String, Object> conditions) {
+
+        String where = conditions.isEmpty() ? "" : conditions.keySet().stream()
+                .map(column -> column + " = ?")
+                .collect(Collectors.joining(" AND ", " WHERE ", ""));
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + table + where;
+
+        try {
+            String plan = jdbcTemplate.queryForObject(sql, String.class, conditions.values().toArray());
+            return parsePlanRows(plan);
+        } catch (DataAccessException exception) {
+            log.debug("Row count estimate for table {} is unavailable: {}", table, exception.getMessage());
+            return null;
+        }
+    }
+
+    static Long parsePlanRows(String plan) {
+        if (plan == null) {
+            return null;
+        }
+        Matcher matcher = PLAN_ROWS.matcher(plan);
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
@@ -13,6 +13,7 @@ import org.example.homeandgarden.cart.service.CartService;
 import org.example.homeandgarden.order.dto.OrderResponse;
 import org.example.homeandgarden.order.service.OrderService;
 import org.example.homeandgarden.security.entity.UserDetailsImpl;
+import org.example.homeandgarden.shared.CursorPageResponse;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.example.homeandgarden.swagger.GroupOneErrorResponses;
 import org.example.homeandgarden.swagger.GroupTwoErrorResponses;
@@ -23,7 +24,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.homeandgarden.wishlist.dto.WishListItemResponse;
 import org.example.homeandgarden.wishlist.service.WishListService;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -31,6 +32,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 
 @RestController
 @RequestMapping("/users")
@@ -69,7 +72,7 @@ public class UserController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/me/wishListItems")
-    public ResponseEntity<Page<WishListItemResponse>> getMyWishListItems(
+    public ResponseEntity<Slice<WishListItemResponse>> getMyWishListItems(
 
             @AuthenticationPrincipal
             UserDetailsImpl userDetails,
@@ -87,10 +90,16 @@ public class UserController {
             @RequestParam(value = "order", defaultValue = "ASC")
             @Pattern(regexp = "^(ASC|DESC|asc|desc)$", message = "Invalid order: Must be 'ASC' or 'DESC' ('asc' or 'desc')")
             @Parameter(description = "Sort order: 'asc' for ascending, 'desc' for descending", schema = @Schema(allowableValues = {"ASC", "DESC", "asc", "desc"}))
-            String order) {
+            String order,
 
-        String email = userDetails.getUsername();
-        Page<WishListItemResponse> pageResponse = wishListService.getMyWishListItems(email, size, page, order);
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        UUID userId = userDetails.getUserId();
+        Slice<WishListItemResponse> pageResponse = withTotal
+                ? wishListService.getMyWishListItems(userId, size, page, order)
+                : wishListService.getMyWishListItemsSlice(userId, size, page, order);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -100,7 +109,7 @@ public class UserController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/me/cartItems")
-    public ResponseEntity<Page<CartItemResponse>> getMyCartItems(
+    public ResponseEntity<Slice<CartItemResponse>> getMyCartItems(
 
             @AuthenticationPrincipal
             UserDetailsImpl userDetails,
@@ -123,10 +132,16 @@ public class UserController {
             @RequestParam(value = "sortBy", defaultValue = "addedAt")
             @Pattern(regexp = "^(addedAt|quantity)$", message = "Invalid value: Must be either: 'addedAt' or 'quantity'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"addedAt", "quantity"}))
-            String sortBy) {
+            String sortBy,
 
-        String email = userDetails.getUsername();
-        Page<CartItemResponse> pageResponse = cartService.getMyCartItems(email, size, page, order, sortBy);
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        UUID userId = userDetails.getUserId();
+        Slice<CartItemResponse> pageResponse = withTotal
+                ? cartService.getMyCartItems(userId, size, page, order, sortBy)
+                : cartService.getMyCartItemsSlice(userId, size, page, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -136,7 +151,7 @@ public class UserController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/me/orders")
-    public ResponseEntity<Page<OrderResponse>> getMyOrders(
+    public ResponseEntity<Slice<OrderResponse>> getMyOrders(
 
             @AuthenticationPrincipal
             UserDetailsImpl userDetails,
@@ -159,10 +174,16 @@ public class UserController {
             @RequestParam(value = "sortBy", defaultValue = "createdAt")
             @Pattern(regexp = "^(status|createdAt)$", message = "Invalid value: Must be either: 'orderStatus' or 'createdAt'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"status", "createdAt"}))
-            String sortBy) {
+            String sortBy,
 
-        String email = userDetails.getUsername();
-        Page<OrderResponse> pageResponse = orderService.getMyOrders(email, size, page, order, sortBy);
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        UUID userId = userDetails.getUserId();
+        Slice<OrderResponse> pageResponse = withTotal
+                ? orderService.getMyOrders(userId, size, page, order, sortBy)
+                : orderService.getMyOrdersSlice(userId, size, page, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -235,7 +256,7 @@ public class UserController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping
-    public ResponseEntity<Page<UserResponse>> getUsersByStatus(
+    public ResponseEntity<Slice<UserResponse>> getUsersByStatus(
 
             @RequestParam(value = "isEnabled", defaultValue = "true")
             @Parameter(description = "Enabled status: 'true' or 'false'", schema = @Schema(allowableValues = {"true", "false"}))
@@ -263,9 +284,55 @@ public class UserController {
             @RequestParam(value = "sortBy", defaultValue = "registeredAt")
             @Pattern(regexp = "^(firstName|lastName|registeredAt|updatedAt)$", message = "Invalid value: Must be one of the following: 'firstName', 'lastName', 'registeredAt', 'updatedAt'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"firstName", "lastName", "registeredAt", "updatedAt"}))
+            String sortBy,
+
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        Slice<UserResponse> pageResponse = withTotal
+                ? userService.getUsersByStatus(isEnabled, isNonLocked, size, page, order, sortBy)
+                : userService.getUsersByStatusSlice(isEnabled, isNonLocked, size, page, order, sortBy);
+        return new ResponseEntity<>(pageResponse, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get users with filtering and cursor pagination", description = "Fetches user accounts filtered by their enabled and non-locked status page by page with a seek query, so deep pages are as fast as the first one. Pass an empty 'after' for the first page and the returned 'nextCursor' for the following ones, keeping the other parameters unchanged.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved users, possibly an empty list if no matches.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponse.class)))
+    @GroupTwoErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPageResponse<UserResponse>> getUsersByStatusAfter(
+
+            @RequestParam(value = "isEnabled", defaultValue = "true")
+            @Parameter(description = "Enabled status: 'true' or 'false'", schema = @Schema(allowableValues = {"true", "false"}))
+            Boolean isEnabled,
+
+            @RequestParam(value = "isNonLocked", defaultValue = "true")
+            @Parameter(description = "Non-locked status: 'true' or 'false'", schema = @Schema(allowableValues = {"true", "false"}))
+            Boolean isNonLocked,
+
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Invalid parameter: Size must be greater than or equal to 1")
+            @Parameter(description = "Number of elements per one page")
+            Integer size,
+
+            @RequestParam(value = "after")
+            @Pattern(regexp = "^[A-Za-z0-9_-]{0,1024}$", message = "Invalid cursor: Pass the 'nextCursor' of the previous page unchanged, or an empty value for the first page")
+            @Parameter(description = "Opaque cursor from 'nextCursor' of the previous page, empty for the first page")
+            String after,
+
+            @RequestParam(value = "order", defaultValue = "ASC")
+            @Pattern(regexp = "^(ASC|DESC|asc|desc)$", message = "Invalid order: Must be 'ASC' or 'DESC' ('asc' or 'desc')")
+            @Parameter(description = "Sort order: 'asc' for ascending, 'desc' for descending", schema = @Schema(allowableValues = {"ASC", "DESC", "asc", "desc"}))
+            String order,
+
+            @RequestParam(value = "sortBy", defaultValue = "registeredAt")
+            @Pattern(regexp = "^(firstName|lastName|registeredAt)$", message = "Invalid value: Must be one of the following: 'firstName', 'lastName', 'registeredAt'")
+            @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"firstName", "lastName", "registeredAt"}))
             String sortBy) {
 
-        Page<UserResponse> pageResponse = userService.getUsersByStatus(isEnabled, isNonLocked, size, page, order, sortBy);
+        CursorPageResponse<UserResponse> pageResponse = userService.getUsersByStatusAfter(isEnabled, isNonLocked, size, after, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -292,7 +359,7 @@ public class UserController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping("/{userId}/wishListItems")
-    public ResponseEntity<Page<WishListItemResponse>> getUserWishListItems(
+    public ResponseEntity<Slice<WishListItemResponse>> getUserWishListItems(
 
             @PathVariable
             @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
@@ -312,9 +379,15 @@ public class UserController {
             @RequestParam(value = "order", defaultValue = "ASC")
             @Pattern(regexp = "^(ASC|DESC|asc|desc)$", message = "Invalid order: Must be 'ASC' or 'DESC' ('asc' or 'desc')")
             @Parameter(description = "Sort order: 'asc' for ascending, 'desc' for descending", schema = @Schema(allowableValues = {"ASC", "DESC", "asc", "desc"}))
-            String order) {
+            String order,
 
-        Page<WishListItemResponse> pageResponse = wishListService.getUserWishListItems(userId, size, page, order);
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        Slice<WishListItemResponse> pageResponse = withTotal
+                ? wishListService.getUserWishListItems(userId, size, page, order)
+                : wishListService.getUserWishListItemsSlice(userId, size, page, order);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -324,7 +397,7 @@ public class UserController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping("/{userId}/cartItems")
-    public ResponseEntity<Page<CartItemResponse>> getUserCartItems(
+    public ResponseEntity<Slice<CartItemResponse>> getUserCartItems(
 
             @PathVariable
             @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
@@ -349,9 +422,15 @@ public class UserController {
             @RequestParam(value = "sortBy", defaultValue = "addedAt")
             @Pattern(regexp = "^(addedAt|quantity)$", message = "Invalid value: Must be either: 'addedAt' or 'quantity'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"addedAt", "quantity"}))
-            String sortBy) {
+            String sortBy,
 
-        Page<CartItemResponse> pageResponse = cartService.getUserCartItems(userId, size, page, order, sortBy);
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        Slice<CartItemResponse> pageResponse = withTotal
+                ? cartService.getUserCartItems(userId, size, page, order, sortBy)
+                : cartService.getUserCartItemsSlice(userId, size, page, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
@@ -361,7 +440,7 @@ public class UserController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
     @GetMapping("/{userId}/orders")
-    public ResponseEntity<Page<OrderResponse>> getUserOrders(
+    public ResponseEntity<Slice<OrderResponse>> getUserOrders(
 
             @PathVariable
             @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
@@ -386,9 +465,52 @@ public class UserController {
             @RequestParam(value = "sortBy", defaultValue = "createdAt")
             @Pattern(regexp = "^(status|createdAt)$", message = "Invalid value: Must be either: 'orderStatus' or 'createdAt'")
             @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"status", "createdAt"}))
+            String sortBy,
+
+            @RequestParam(value = "withTotal", defaultValue = "true")
+            @Parameter(description = "Whether to count the total number of elements; 'false' skips the count query and returns a slice without totals")
+            Boolean withTotal) {
+
+        Slice<OrderResponse> pageResponse = withTotal
+                ? orderService.getUserOrders(userId, size, page, order, sortBy)
+                : orderService.getUserOrdersSlice(userId, size, page, order, sortBy);
+        return new ResponseEntity<>(pageResponse, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get user's orders with cursor pagination", description = "Fetches the orders of a specific user, identified by its unique Id, page by page with a seek query, so deep pages are as fast as the first one. Pass an empty 'after' for the first page and the returned 'nextCursor' for the following ones, keeping the other parameters unchanged.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved orders. Returns an empty page if the user has no items.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPageResponse.class)))
+    @GroupOneErrorResponses
+    @SecurityRequirement(name = "JWT")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @GetMapping(value = "/{userId}/orders", params = "after")
+    public ResponseEntity<CursorPageResponse<OrderResponse>> getUserOrdersAfter(
+
+            @PathVariable
+            @Pattern(regexp = "^[0-9a-f]{8}-[0-9a-f]{4}-[1-5][0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$", message = "Invalid UUID format")
+            @Parameter(description = "Unique user id (UUID)")
+            String userId,
+
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Invalid parameter: Size must be greater than or equal to 1")
+            @Parameter(description = "Number of elements per one page")
+            Integer size,
+
+            @RequestParam(value = "after")
+            @Pattern(regexp = "^[A-Za-z0-9_-]{0,1024}$", message = "Invalid cursor: Pass the 'nextCursor' of the previous page unchanged, or an empty value for the first page")
+            @Parameter(description = "Opaque cursor from 'nextCursor' of the previous page, empty for the first page")
+            String after,
+
+            @RequestParam(value = "order", defaultValue = "ASC")
+            @Pattern(regexp = "^(ASC|DESC|asc|desc)$", message = "Invalid order: Must be 'ASC' or 'DESC' ('asc' or 'desc')")
+            @Parameter(description = "Sort order: 'asc' for ascending, 'desc' for descending", schema = @Schema(allowableValues = {"ASC", "DESC", "asc", "desc"}))
+            String order,
+
+            @RequestParam(value = "sortBy", defaultValue = "createdAt")
+            @Pattern(regexp = "^(createdAt)$", message = "Invalid value: Must be 'createdAt'")
+            @Parameter(description = "The field the elements are sorted by", schema = @Schema(allowableValues = {"createdAt"}))
             String sortBy) {
 
-        Page<OrderResponse> pageResponse = orderService.getUserOrders(userId, size, page, order, sortBy);
+        CursorPageResponse<OrderResponse> pageResponse = orderService.getUserOrdersAfter(userId, size, after, order, sortBy);
         return new ResponseEntity<>(pageResponse, HttpStatus.OK);
     }
 
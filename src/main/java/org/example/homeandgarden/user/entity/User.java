@@ -51,6 +51,10 @@ public class User {
     @Builder.Default
     private Boolean isNonLocked = true;
 
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
     @CreationTimestamp
     @Column(name = "registered_at", nullable = false)
     private Instant registeredAt;
@@ -59,9 +63,6 @@ public class User {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
-    @Column(name = "refresh_token")
-    private String refreshToken;
-
     @Column(name = "password_reset_token")
     private String passwordResetToken;
 
@@ -1,10 +1,17 @@
 package org.example.homeandgarden.user.repository;
 
 import org.example.homeandgarden.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -12,10 +19,15 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID>, PagingAndSortingRepository<User, UUID> {
 
     Page<User> findAllByIsEnabledAndIsNonLocked(Boolean isEnabled, Boolean isNonLocked, Pageable pageable);
+    Slice<User> findSliceByIsEnabledAndIsNonLocked(Boolean isEnabled, Boolean isNonLocked, Pageable pageable);
+    Window<User> findByIsEnabledAndIsNonLocked(Boolean isEnabled, Boolean isNonLocked, ScrollPosition position, Limit limit, Sort sort);
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByEmailAndIsEnabledFalse(String email);
     boolean existsByEmailAndIsNonLockedFalse(String email);
     boolean existsByUserId(UUID userId);
 
+    @Query("SELECT user.tokenVersion FROM User user WHERE user.userId = :userId")
+    Optional<Integer> findTokenVersionByUserId(@Param("userId") UUID userId);
+
 }
\ No newline at end of file
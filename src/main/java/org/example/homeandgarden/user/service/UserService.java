@@ -1,12 +1,16 @@
 package org.example.homeandgarden.user.service;
 
+import org.example.homeandgarden.shared.CursorPageResponse;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.example.homeandgarden.user.dto.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface UserService {
 
     Page<UserResponse> getUsersByStatus(Boolean isEnabled, Boolean isNonLocked, Integer size, Integer page, String order, String sortBy);
+    Slice<UserResponse> getUsersByStatusSlice(Boolean isEnabled, Boolean isNonLocked, Integer size, Integer page, String order, String sortBy);
+    CursorPageResponse<UserResponse> getUsersByStatusAfter(Boolean isEnabled, Boolean isNonLocked, Integer size, String after, String order, String sortBy);
     UserResponse getUserById(String userId);
     UserResponse getMyProfile(String userEmail);
     UserResponse updateMyProfile(String email, UserUpdateRequest userUpdateRequest);
@@ -1,6 +1,12 @@
 package org.example.homeandgarden.user.service;
 
+import org.example.homeandgarden.authentication.service.RefreshSessionService;
+import org.example.homeandgarden.security.service.TokenVersionService;
+import org.example.homeandgarden.shared.CursorPageResponse;
+import org.example.homeandgarden.shared.EstimatedSlice;
+import org.example.homeandgarden.shared.KeysetCursor;
 import org.example.homeandgarden.shared.MessageResponse;
+import org.example.homeandgarden.shared.RowCountEstimator;
 import org.example.homeandgarden.user.dto.*;
 import org.example.homeandgarden.exception.*;
 import lombok.RequiredArgsConstructor;
@@ -8,10 +14,7 @@ import org.example.homeandgarden.user.entity.enums.UserRole;
 import org.example.homeandgarden.user.entity.User;
 import org.example.homeandgarden.user.mapper.UserMapper;
 import org.example.homeandgarden.user.repository.UserRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.*;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -27,14 +30,40 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final TokenVersionService tokenVersionService;
+    private final RefreshSessionService refreshSessionService;
+    private final RowCountEstimator rowCountEstimator;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserResponse> getUsersByStatus(Boolean isEnabled, Boolean isNonLocked, Integer size, Integer page, String order, String sortBy) {
         Pageable pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
         return userRepository.findAllByIsEnabledAndIsNonLocked(isEnabled, isNonLocked, pageRequest).map(userMapper::userToResponseDetailed);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Slice<UserResponse> getUsersByStatusSlice(Boolean isEnabled, Boolean isNonLocked, Integer size, Integer page, String order, String sortBy) {
+        Pageable pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), sortBy);
+        Slice<UserResponse> slice = userRepository.findSliceByIsEnabledAndIsNonLocked(isEnabled, isNonLocked, pageRequest).map(userMapper::userToResponseDetailed);
+
+        Map<String, Object> conditions = new LinkedHashMap<>();
+        conditions.put("is_enabled", isEnabled);
+        conditions.put("is_non_locked", isNonLocked);
+        return new EstimatedSlice<>(slice, rowCountEstimator.estimate("users", conditions));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> getUsersByStatusAfter(Boolean isEnabled, Boolean isNonLocked, Integer size, String after, String order, String sortBy) {
+        ScrollPosition position = KeysetCursor.decode(after, Set.of(sortBy, "userId"));
+        Sort.Direction direction = Sort.Direction.fromString(order);
+        Window<User> userWindow = userRepository.findByIsEnabledAndIsNonLocked(isEnabled, isNonLocked, position, Limit.of(size), Sort.by(direction, sortBy).and(Sort.by(direction, "userId")));
+        return KeysetCursor.toResponse(userWindow, userMapper::userToResponseDetailed);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public UserResponse getUserById(String userId) {
         UUID id = UUID.fromString(userId);
         User existingUser = userRepository.findById(id).orElseThrow(() -> new DataNotFoundException (String.format("User with id: %s, was not found.", userId)));
@@ -42,6 +71,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserResponse getMyProfile(String email) {
 
         User existingUser = userRepository.findByEmail(email).orElseThrow(() -> new DataNotFoundException (String.format("User with email: %s, was not found.", email)));
@@ -103,7 +133,9 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException(String.format("User with id: %s, already has userRole '%s'.", userId, userRole));
         }
         existingUser.setUserRole(role);
+        existingUser.setTokenVersion(existingUser.getTokenVersion() + 1);
         User promotedUser = userRepository.saveAndFlush(existingUser);
+        tokenVersionService.evict(promotedUser.getUserId());
 
         return MessageResponse.builder()
                 .message(String.format("UserRole %s was set for user with id: %s.", promotedUser.getUserRole().name(), promotedUser.getUserId().toString()))
@@ -123,8 +155,10 @@ public class UserServiceImpl implements UserService {
 
         Boolean lockState = existingUser.getIsNonLocked();
         existingUser.setIsNonLocked(!lockState);
+        existingUser.setTokenVersion(existingUser.getTokenVersion() + 1);
 
         User lockedUser = userRepository.saveAndFlush(existingUser);
+        tokenVersionService.evict(lockedUser.getUserId());
         return MessageResponse.builder()
                 .message(String.format("User with id: %s has been %s.", lockedUser.getUserId().toString(), lockState ? "locked" : "unlocked"))
                 .build();
@@ -147,9 +181,11 @@ public class UserServiceImpl implements UserService {
         existingUser.setEmail(String.format("%s@example.com", existingUser.getUserId()));
         existingUser.setFirstName("Disabled User");
         existingUser.setLastName("Disabled User");
-        existingUser.setRefreshToken(null);
         existingUser.setIsEnabled(Boolean.FALSE);
+        existingUser.setTokenVersion(existingUser.getTokenVersion() + 1);
         userRepository.saveAndFlush(existingUser);
+        refreshSessionService.closeAllSessions(existingUser.getUserId());
+        tokenVersionService.evict(existingUser.getUserId());
 
         return MessageResponse.builder()
                 .message(String.format("User with email: %s, has been unregistered.", email))
@@ -3,6 +3,8 @@ package org.example.homeandgarden.wishlist.repository;
 import org.example.homeandgarden.wishlist.entity.WishListItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -10,6 +12,10 @@ import java.util.UUID;
 
 public interface WishListRepository extends JpaRepository<WishListItem, UUID>, PagingAndSortingRepository<WishListItem, UUID> {
 
+    @EntityGraph(attributePaths = "product")
     Page<WishListItem> findByUserUserId(UUID userId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "product")
+    Slice<WishListItem> findSliceByUserUserId(UUID userId, Pageable pageable);
+
 }
@@ -4,11 +4,16 @@ import org.example.homeandgarden.shared.MessageResponse;
 import org.example.homeandgarden.wishlist.dto.WishListItemRequest;
 import org.example.homeandgarden.wishlist.dto.WishListItemResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
 
 public interface WishListService {
 
     Page<WishListItemResponse> getUserWishListItems(String userId, Integer size, Integer page, String order);
-    Page<WishListItemResponse> getMyWishListItems(String email, Integer size, Integer page, String order);
+    Slice<WishListItemResponse> getUserWishListItemsSlice(String userId, Integer size, Integer page, String order);
+    Page<WishListItemResponse> getMyWishListItems(UUID userId, Integer size, Integer page, String order);
+    Slice<WishListItemResponse> getMyWishListItemsSlice(UUID userId, Integer size, Integer page, String order);
     WishListItemResponse addWishListItem(String email, WishListItemRequest wishListItemRequest);
     MessageResponse removeWishListItem(String email, String wishListItemId);
 
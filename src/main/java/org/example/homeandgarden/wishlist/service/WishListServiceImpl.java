@@ -17,6 +17,7 @@ import org.example.homeandgarden.wishlist.mapper.WishListMapper;
 import org.example.homeandgarden.wishlist.repository.WishListRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,7 @@ public class WishListServiceImpl implements WishListService {
     private final ProductMapper productMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<WishListItemResponse> getUserWishListItems(String userId, Integer size, Integer page, String order) {
 
         UUID id = UUID.fromString(userId);
@@ -50,18 +52,43 @@ public class WishListServiceImpl implements WishListService {
     }
 
     @Override
-    public Page<WishListItemResponse> getMyWishListItems(String email, Integer size, Integer page, String order) {
+    @Transactional(readOnly = true)
+    public Slice<WishListItemResponse> getUserWishListItemsSlice(String userId, Integer size, Integer page, String order) {
 
-        User existingUser = userRepository.findByEmail(email).orElseThrow(() -> new DataNotFoundException(String.format("User with email: %s, was not found.", email)));
+        UUID id = UUID.fromString(userId);
+        if (!userRepository.existsByUserId(id)) {
+            throw new DataNotFoundException(String.format("User with id: %s, was not found.", userId));
+        }
 
-        UUID id = existingUser.getUserId();
         PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), "addedAt");
-        Page<WishListItem> wishListPage = wishListRepository.findByUserUserId(id, pageRequest);
+        Slice<WishListItem> wishListSlice = wishListRepository.findSliceByUserUserId(id, pageRequest);
+
+        return wishListSlice.map((item) -> wishListMapper.wishListItemToResponse(item,
+                productMapper.productToResponse(item.getProduct())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<WishListItemResponse> getMyWishListItems(UUID userId, Integer size, Integer page, String order) {
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), "addedAt");
+        Page<WishListItem> wishListPage = wishListRepository.findByUserUserId(userId, pageRequest);
 
         return wishListPage.map((item) -> wishListMapper.wishListItemToResponse(item,
                 productMapper.productToResponse(item.getProduct())));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<WishListItemResponse> getMyWishListItemsSlice(UUID userId, Integer size, Integer page, String order) {
+
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.Direction.fromString(order), "addedAt");
+        Slice<WishListItem> wishListSlice = wishListRepository.findSliceByUserUserId(userId, pageRequest);
+
+        return wishListSlice.map((item) -> wishListMapper.wishListItemToResponse(item,
+                productMapper.productToResponse(item.getProduct())));
+    }
+
 
     @Override
     @Transactional
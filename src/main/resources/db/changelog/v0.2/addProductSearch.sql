@@ -0,0 +1,19 @@
+--liquibase formatted sql
+
+
+-- ========================================
+-- PRODUCTS
+-- ========================================
+
+--changeset yulia:2026-10-16-create-extension-pg-trgm
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+--changeset yulia:2026-10-16-add-products-search-vector
+ALTER TABLE products ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(product_name, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED;
+
+--changeset yulia:2026-10-16-index-products-search-vector
+CREATE INDEX index_products_search_vector ON products USING GIN (search_vector);
+--changeset yulia:2026-10-16-index-products-product-name-trgm
+CREATE INDEX index_products_product_name_trgm ON products USING GIN (product_name gin_trgm_ops);
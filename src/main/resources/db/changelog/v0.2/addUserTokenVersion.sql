@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+
+-- ========================================
+-- USERS
+-- ========================================
+
+--changeset yulia:2026-10-16-add-users-token-version
+ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,43 @@
+--liquibase formatted sql
+
+-- TIMESTAMP columns hold UTC wall-clock time. Rows written before the application pinned its time zone to UTC hold the
+-- wall-clock time of the zone the application ran in; set spring.liquibase.parameters.legacy-time-zone to that zone
+-- (e.g. Europe/Berlin) before upgrading such a database. With the default UTC the change is only marked as ran.
+
+
+-- ========================================
+-- TIMESTAMPS
+-- ========================================
+
+--changeset yulia:2026-10-17-convert-timestamps-to-utc
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:1 SELECT CASE WHEN '${legacy-time-zone}' IN ('UTC', 'Etc/UTC', 'Z') THEN 0 ELSE 1 END
+UPDATE users SET registered_at = (registered_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC',
+                 updated_at = (updated_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+UPDATE categories SET created_at = (created_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC',
+                      updated_at = (updated_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+UPDATE products SET added_at = (added_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC',
+                    updated_at = (updated_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+UPDATE wish_list_items SET added_at = (added_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+UPDATE cart_items SET added_at = (added_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC',
+                      updated_at = (updated_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+UPDATE orders SET created_at = (created_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC',
+                  updated_at = (updated_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+UPDATE product_sales_stats SET updated_at = (updated_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+UPDATE refresh_sessions SET created_at = (created_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC',
+                            expires_at = (expires_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+UPDATE revoked_access_tokens SET expires_at = (expires_at AT TIME ZONE '${legacy-time-zone}') AT TIME ZONE 'UTC';
+
+-- the days of the rollup move with the order timestamps
+DELETE FROM daily_revenue;
+INSERT INTO daily_revenue (order_status, day, category_id, units, revenue)
+SELECT orders.order_status,
+       CAST(orders.created_at AS DATE),
+       products.category_id,
+       SUM(order_items.quantity),
+       SUM(order_items.quantity * order_items.price_at_purchase)
+FROM order_items
+JOIN orders ON orders.order_id = order_items.order_id
+JOIN products ON products.product_id = order_items.product_id
+WHERE orders.order_status IN ('DELIVERED', 'RETURNED')
+GROUP BY 1, 2, 3;
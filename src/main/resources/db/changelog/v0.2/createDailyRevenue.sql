@@ -0,0 +1,27 @@
+--liquibase formatted sql
+
+
+-- ========================================
+-- DAILY REVENUE
+-- ========================================
+
+--changeset yulia:2026-10-16-create-daily-revenue
+CREATE TABLE daily_revenue (order_status VARCHAR(50) NOT NULL CHECK (order_status IN ('DELIVERED', 'RETURNED')),
+                            day DATE NOT NULL,
+                            category_id UUID NOT NULL REFERENCES categories(category_id),
+                            units BIGINT NOT NULL DEFAULT 0,
+                            revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+                            PRIMARY KEY (order_status, day, category_id));
+
+--changeset yulia:2026-10-16-backfill-daily-revenue
+INSERT INTO daily_revenue (order_status, day, category_id, units, revenue)
+SELECT orders.order_status,
+       CAST(orders.created_at AS DATE),
+       products.category_id,
+       SUM(order_items.quantity),
+       SUM(order_items.quantity * order_items.price_at_purchase)
+FROM order_items
+JOIN orders ON orders.order_id = order_items.order_id
+JOIN products ON products.product_id = order_items.product_id
+WHERE orders.order_status IN ('DELIVERED', 'RETURNED')
+GROUP BY 1, 2, 3;
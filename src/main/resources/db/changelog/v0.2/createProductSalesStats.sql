@@ -0,0 +1,31 @@
+--liquibase formatted sql
+
+
+-- ========================================
+-- PRODUCT SALES STATS
+-- ========================================
+
+--changeset yulia:2026-10-16-create-product-sales-stats
+CREATE TABLE product_sales_stats (product_id UUID NOT NULL REFERENCES products(product_id) ON DELETE CASCADE,
+                                  sales_bucket VARCHAR(20) NOT NULL CHECK (sales_bucket IN ('OPEN', 'PAID', 'CANCELED')),
+                                  units BIGINT NOT NULL DEFAULT 0,
+                                  revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+                                  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                  PRIMARY KEY (product_id, sales_bucket));
+
+--changeset yulia:2026-10-16-index-product-sales-stats-sales-bucket-units
+CREATE INDEX index_product_sales_stats_sales_bucket_units ON product_sales_stats(sales_bucket, units DESC, product_id);
+
+--changeset yulia:2026-10-16-backfill-product-sales-stats
+INSERT INTO product_sales_stats (product_id, sales_bucket, units, revenue)
+SELECT order_items.product_id,
+       CASE
+           WHEN orders.order_status = 'CREATED' THEN 'OPEN'
+           WHEN orders.order_status IN ('CANCELED', 'RETURNED') THEN 'CANCELED'
+           ELSE 'PAID'
+       END AS sales_bucket,
+       SUM(order_items.quantity),
+       SUM(order_items.quantity * order_items.price_at_purchase)
+FROM order_items
+JOIN orders ON orders.order_id = order_items.order_id
+GROUP BY 1, 2;
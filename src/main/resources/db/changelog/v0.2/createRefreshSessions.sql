@@ -0,0 +1,25 @@
+--liquibase formatted sql
+
+
+-- ========================================
+-- REFRESH SESSIONS
+-- ========================================
+
+--changeset yulia:2026-10-16-create-refresh-sessions
+CREATE TABLE refresh_sessions (token_hash VARCHAR(64) PRIMARY KEY,
+                               user_id UUID NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+                               created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                               expires_at TIMESTAMP NOT NULL);
+
+--changeset yulia:2026-10-16-index-refresh-sessions-user-id
+CREATE INDEX index_refresh_sessions_user_id ON refresh_sessions(user_id);
+--changeset yulia:2026-10-16-index-refresh-sessions-expires-at
+CREATE INDEX index_refresh_sessions_expires_at ON refresh_sessions(expires_at);
+
+
+-- ========================================
+-- USERS
+-- ========================================
+
+--changeset yulia:2026-10-16-drop-users-refresh-token
+ALTER TABLE users DROP COLUMN refresh_token;
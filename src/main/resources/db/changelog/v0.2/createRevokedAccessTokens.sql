@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+
+-- ========================================
+-- REVOKED ACCESS TOKENS
+-- ========================================
+
+--changeset yulia:2026-10-16-create-revoked-access-tokens
+CREATE TABLE revoked_access_tokens (token_id VARCHAR(36) PRIMARY KEY,
+                                    expires_at TIMESTAMP NOT NULL);
+
+--changeset yulia:2026-10-16-index-revoked-access-tokens-expires-at
+CREATE INDEX index_revoked_access_tokens_expires_at ON revoked_access_tokens(expires_at);
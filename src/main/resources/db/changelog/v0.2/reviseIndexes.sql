@@ -0,0 +1,99 @@
+--liquibase formatted sql
+
+-- Composite indexes for the filters and sort orders the repositories actually use. They replace
+-- single-column indexes the composite ones cover, or that no query reads but every insert maintains. Indexes are built and dropped
+-- CONCURRENTLY, so the migration does not block writes; each change runs outside a transaction.
+
+
+-- ========================================
+-- USERS
+-- ========================================
+
+--changeset yulia:2026-10-16-index-users-is-enabled-is-non-locked-registered-at runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_users_is_enabled_is_non_locked_registered_at ON users(is_enabled, is_non_locked, registered_at, user_id);
+--changeset yulia:2026-10-16-drop-index-users-role runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_users_role;
+--changeset yulia:2026-10-16-drop-index-users-is-enabled runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_users_is_enabled;
+--changeset yulia:2026-10-16-drop-index-users-is-non-locked runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_users_is_non_locked;
+
+
+-- ========================================
+-- CATEGORIES
+-- ========================================
+
+--changeset yulia:2026-10-16-index-categories-category-status-created-at runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_categories_category_status_created_at ON categories(category_status, created_at);
+--changeset yulia:2026-10-16-drop-index-categories-category-status runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_categories_category_status;
+
+
+-- ========================================
+-- PRODUCTS
+-- ========================================
+
+--changeset yulia:2026-10-16-index-products-category-id-product-status-current-price runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_products_category_id_product_status_current_price ON products(category_id, product_status, current_price);
+--changeset yulia:2026-10-16-index-products-product-status-added-at runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_products_product_status_added_at ON products(product_status, added_at, product_id);
+--changeset yulia:2026-10-16-drop-index-products-category-id runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_products_category_id;
+--changeset yulia:2026-10-16-drop-index-products-product-status runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_products_product_status;
+
+
+-- ========================================
+-- WISH LIST ITEMS
+-- ========================================
+
+--changeset yulia:2026-10-16-index-wish-list-items-user-id-added-at runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_wish_list_items_user_id_added_at ON wish_list_items(user_id, added_at);
+--changeset yulia:2026-10-16-drop-index-wish-list-items-user-id runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_wish_list_items_user_id;
+--changeset yulia:2026-10-16-drop-index-wishlist-added-at runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_wishlist_added_at;
+
+
+-- ========================================
+-- CART ITEMS
+-- ========================================
+
+--changeset yulia:2026-10-16-index-cart-items-user-id-added-at runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_cart_items_user_id_added_at ON cart_items(user_id, added_at);
+--changeset yulia:2026-10-16-drop-index-cart-items-user-id runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_cart_items_user_id;
+--changeset yulia:2026-10-16-drop-index-cart-items-added-at runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_cart_items_added_at;
+--changeset yulia:2026-10-16-drop-index-cart-items-quantity runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_cart_items_quantity;
+
+
+-- ========================================
+-- ORDERS
+-- ========================================
+
+--changeset yulia:2026-10-16-index-orders-user-id-created-at runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_orders_user_id_created_at ON orders(user_id, created_at, order_id);
+--changeset yulia:2026-10-16-index-orders-order-status-created-at runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_orders_order_status_created_at ON orders(order_status, created_at) INCLUDE (order_id);
+--changeset yulia:2026-10-16-drop-index-orders-user-id runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_orders_user_id;
+--changeset yulia:2026-10-16-drop-index-orders-order-status runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_orders_order_status;
+--changeset yulia:2026-10-16-drop-index-orders-created-at runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_orders_created_at;
+
+
+-- ========================================
+-- ORDER ITEMS
+-- ========================================
+
+--changeset yulia:2026-10-16-index-order-items-order-id-covering runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS index_order_items_order_id_covering ON order_items(order_id) INCLUDE (product_id, quantity, price_at_purchase);
+--changeset yulia:2026-10-16-drop-index-order-items-order-id runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_order_items_order_id;
+--changeset yulia:2026-10-16-drop-index-order-items-quantity runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_order_items_quantity;
+--changeset yulia:2026-10-16-drop-index-order-items-price-at-purchase runInTransaction:false
+DROP INDEX CONCURRENTLY IF EXISTS index_order_items_price_at_purchase;
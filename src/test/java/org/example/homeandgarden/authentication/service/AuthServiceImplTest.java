@@ -1,9 +1,13 @@
 package org.example.homeandgarden.authentication.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.example.homeandgarden.authentication.dto.*;
+import org.example.homeandgarden.authentication.entity.RefreshSession;
 import org.example.homeandgarden.email.service.EmailService;
 import org.example.homeandgarden.exception.DataAlreadyExistsException;
 import org.example.homeandgarden.exception.DataNotFoundException;
+import org.example.homeandgarden.exception.PasswordHashingUnavailableException;
 import org.example.homeandgarden.exception.UserDisabledException;
 import org.example.homeandgarden.exception.UserLockedException;
 import org.example.homeandgarden.security.config.JwtService;
@@ -61,6 +65,9 @@ class AuthServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshSessionService refreshSessionService;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -76,6 +83,7 @@ class AuthServiceImplTest {
     private static final String ACCESS_TOKEN = "Access Token";
     private static final String REFRESH_TOKEN = "Refresh Token";
     private static final String PASSWORD_RESET_TOKEN = "Password Reset Token";
+    private static final String SESSION_ID = "1f0b7a52-7c1e-4f39-9a41-2c6f4d1e8b30";
 
     private static final String INVALID_REFRESH_TOKEN = "Invalid Refresh Token";
     private static final String INVALID_PASSWORD_RESET_TOKEN = "Invalid Password Reset Token";
@@ -110,7 +118,6 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(null)
                 .updatedAt(null)
-                .refreshToken(null)
                 .build();
 
         User registeredUser = User.builder()
@@ -124,7 +131,6 @@ class AuthServiceImplTest {
                 .isNonLocked(userToRegister.getIsNonLocked())
                 .registeredAt(TIMESTAMP_NOW)
                 .updatedAt(TIMESTAMP_NOW)
-                .refreshToken(userToRegister.getRefreshToken())
                 .build();
 
         UserResponse userResponse = UserResponse.builder()
@@ -299,7 +305,6 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(null)
                 .build();
 
         UserDetails userDetails = mock(UserDetails.class);
@@ -308,28 +313,24 @@ class AuthServiceImplTest {
         when(authentication.getPrincipal()).thenReturn(userDetails);
         when(userDetails.getUsername()).thenReturn(USER_EMAIL);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
-        when(jwtService.generateAccessToken(USER_EMAIL)).thenReturn(ACCESS_TOKEN);
-        when(jwtService.generateRefreshToken(USER_EMAIL)).thenReturn(REFRESH_TOKEN);
         when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
-        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
-            User user = invocation.getArgument(0);
-            user.setRefreshToken(REFRESH_TOKEN);
-            return user;
-        });
+        when(refreshSessionService.openSession(existingUser)).thenReturn(SESSION_ID);
+        when(jwtService.generateAccessToken(existingUser, SESSION_ID)).thenReturn(ACCESS_TOKEN);
+        when(jwtService.generateRefreshToken(USER_EMAIL, SESSION_ID)).thenReturn(REFRESH_TOKEN);
 
         LoginResponse actualResponse = authService.login(loginRequest);
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(jwtService, times(1)).generateAccessToken(USER_EMAIL);
-        verify(jwtService, times(1)).generateRefreshToken(USER_EMAIL);
         verify(userRepository, times(1)).findByEmail(USER_EMAIL);
-        verify(userRepository, times(1)).saveAndFlush(existingUser);
+        verify(refreshSessionService, times(1)).openSession(existingUser);
+        verify(jwtService, times(1)).generateAccessToken(existingUser, SESSION_ID);
+        verify(jwtService, times(1)).generateRefreshToken(USER_EMAIL, SESSION_ID);
+        verify(userRepository, never()).saveAndFlush(any(User.class));
 
         assertNotNull(actualResponse);
         assertEquals(ACCESS_TOKEN, actualResponse.getAccessToken());
         assertEquals(REFRESH_TOKEN, actualResponse.getRefreshToken());
         assertEquals(authentication, SecurityContextHolder.getContext().getAuthentication());
-        assertEquals(REFRESH_TOKEN, existingUser.getRefreshToken());
     }
 
     @Test
@@ -347,8 +348,9 @@ class AuthServiceImplTest {
                 authService.login(loginRequest));
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(jwtService, never()).generateAccessToken(anyString());
-        verify(jwtService, never()).generateRefreshToken(anyString());
+        verify(refreshSessionService, never()).openSession(any(User.class));
+        verify(jwtService, never()).generateAccessToken(any(User.class), anyString());
+        verify(jwtService, never()).generateRefreshToken(anyString(), anyString());
         verify(userRepository, never()).findByEmail(anyString());
         verify(userRepository, never()).saveAndFlush(any(User.class));
 
@@ -356,6 +358,30 @@ class AuthServiceImplTest {
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
+    @Test
+    void login_shouldRethrowPasswordHashingUnavailableExceptionWhenHashingIsSaturated() {
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email(USER_EMAIL)
+                .password(PASSWORD)
+                .build();
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new PasswordHashingUnavailableException("Too many concurrent authentication requests. Please try again later."));
+
+        PasswordHashingUnavailableException thrown = assertThrows(PasswordHashingUnavailableException.class, () ->
+                authService.login(loginRequest));
+
+        verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        verify(refreshSessionService, never()).openSession(any(User.class));
+        verify(jwtService, never()).generateAccessToken(any(User.class), anyString());
+        verify(jwtService, never()).generateRefreshToken(anyString(), anyString());
+        verify(userRepository, never()).findByEmail(anyString());
+
+        assertEquals("Too many concurrent authentication requests. Please try again later.", thrown.getMessage());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
     @Test
     void login_shouldThrowDataNotFoundExceptionWhenUserNotFoundAfterAuthentication() {
 
@@ -371,16 +397,15 @@ class AuthServiceImplTest {
         when(authentication.getPrincipal()).thenReturn(userDetails);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
-        when(jwtService.generateAccessToken(USER_EMAIL)).thenReturn(ACCESS_TOKEN);
-        when(jwtService.generateRefreshToken(USER_EMAIL)).thenReturn(REFRESH_TOKEN);
         when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.empty());
 
         DataNotFoundException thrown = assertThrows(DataNotFoundException.class, () ->
                 authService.login(loginRequest));
 
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(jwtService, times(1)).generateAccessToken(USER_EMAIL);
-        verify(jwtService, times(1)).generateRefreshToken(USER_EMAIL);
+        verify(refreshSessionService, never()).openSession(any(User.class));
+        verify(jwtService, never()).generateAccessToken(any(User.class), anyString());
+        verify(jwtService, never()).generateRefreshToken(anyString(), anyString());
         verify(userRepository, times(1)).findByEmail(USER_EMAIL);
         verify(userRepository, never()).saveAndFlush(any(User.class));
 
@@ -406,27 +431,29 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .build();
 
-        when(jwtService.isRefreshTokenValid(refreshRequest.getRefreshToken())).thenReturn(true);
-        when(jwtService.getUserEmailFromRefreshToken(refreshRequest.getRefreshToken())).thenReturn(USER_EMAIL);
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
-        when(jwtService.generateAccessToken(USER_EMAIL)).thenReturn(ACCESS_TOKEN);
+        RefreshSession refreshSession = RefreshSession.builder()
+                .user(existingUser)
+                .expiresAt(TIMESTAMP_NOW.plusSeconds(3600))
+                .build();
+
+        when(jwtService.verifyRefreshToken(REFRESH_TOKEN)).thenReturn(Optional.of(refreshTokenClaims(SESSION_ID)));
+        when(refreshSessionService.findActiveSession(SESSION_ID)).thenReturn(Optional.of(refreshSession));
+        when(jwtService.generateAccessToken(existingUser, SESSION_ID)).thenReturn(ACCESS_TOKEN);
 
         RefreshResponse actualResponse = authService.getNewAccessToken(refreshRequest);
 
-        verify(jwtService, times(1)).isRefreshTokenValid(refreshRequest.getRefreshToken());
-        verify(jwtService, times(1)).getUserEmailFromRefreshToken(refreshRequest.getRefreshToken());
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
+        verify(jwtService, times(1)).verifyRefreshToken(REFRESH_TOKEN);
+        verify(refreshSessionService, times(1)).findActiveSession(SESSION_ID);
+        verify(userRepository, never()).findByEmail(any(String.class));
         verify(userRepository, never()).saveAndFlush(any(User.class));
-        verify(jwtService, times(1)).generateAccessToken(USER_EMAIL);
+        verify(jwtService, times(1)).generateAccessToken(existingUser, SESSION_ID);
 
         assertNotNull(actualResponse);
         assertEquals(ACCESS_TOKEN, actualResponse.getAccessToken());
     }
 
-
     @Test
     void getNewAccessToken_shouldThrowBadCredentialsExceptionWhenRefreshTokenMissing() {
 
@@ -437,11 +464,9 @@ class AuthServiceImplTest {
         BadCredentialsException thrown = assertThrows(BadCredentialsException.class, () ->
                 authService.getNewAccessToken(refreshRequest));
 
-        verify(jwtService, never()).isRefreshTokenValid(any(String.class));
-        verify(jwtService, never()).getUserEmailFromRefreshToken(any(String.class));
-        verify(userRepository, never()).findByEmail(any(String.class));
-        verify(userRepository, never()).saveAndFlush(any(User.class));
-        verify(jwtService, never()).generateAccessToken(any(String.class));
+        verify(jwtService, never()).verifyRefreshToken(any(String.class));
+        verify(refreshSessionService, never()).findActiveSession(any(String.class));
+        verify(jwtService, never()).generateAccessToken(any(User.class), any(String.class));
 
         assertEquals("Refresh token is missing or empty. Please log in.", thrown.getMessage());
     }
@@ -456,11 +481,9 @@ class AuthServiceImplTest {
         BadCredentialsException thrown = assertThrows(BadCredentialsException.class, () ->
                 authService.getNewAccessToken(refreshRequest));
 
-        verify(jwtService, never()).isRefreshTokenValid(any(String.class));
-        verify(jwtService, never()).getUserEmailFromRefreshToken(any(String.class));
-        verify(userRepository, never()).findByEmail(any(String.class));
-        verify(userRepository, never()).saveAndFlush(any(User.class));
-        verify(jwtService, never()).generateAccessToken(any(String.class));
+        verify(jwtService, never()).verifyRefreshToken(any(String.class));
+        verify(refreshSessionService, never()).findActiveSession(any(String.class));
+        verify(jwtService, never()).generateAccessToken(any(User.class), any(String.class));
 
         assertEquals("Refresh token is missing or empty. Please log in.", thrown.getMessage());
     }
@@ -472,63 +495,55 @@ class AuthServiceImplTest {
                 .refreshToken(INVALID_REFRESH_TOKEN)
                 .build();
 
-        when(jwtService.isRefreshTokenValid(refreshRequest.getRefreshToken())).thenReturn(false);
+        when(jwtService.verifyRefreshToken(INVALID_REFRESH_TOKEN)).thenReturn(Optional.empty());
 
         BadCredentialsException thrown = assertThrows(BadCredentialsException.class, () ->
                 authService.getNewAccessToken(refreshRequest));
 
-        verify(jwtService, times(1)).isRefreshTokenValid(refreshRequest.getRefreshToken());
-        verify(jwtService, never()).getUserEmailFromRefreshToken(any(String.class));
-        verify(userRepository, never()).findByEmail(any(String.class));
-        verify(userRepository, never()).saveAndFlush(any(User.class));
-        verify(jwtService, never()).generateAccessToken(any(String.class));
+        verify(jwtService, times(1)).verifyRefreshToken(INVALID_REFRESH_TOKEN);
+        verify(refreshSessionService, never()).findActiveSession(any(String.class));
+        verify(jwtService, never()).generateAccessToken(any(User.class), any(String.class));
 
         assertEquals("Invalid or expired refresh token. Please log in.", thrown.getMessage());
     }
 
     @Test
-    void getNewAccessToken_shouldThrowBadCredentialsExceptionWhenRefreshTokenDoesNotContainUserEmail() {
+    void getNewAccessToken_shouldThrowBadCredentialsExceptionWhenRefreshTokenDoesNotContainSessionId() {
 
         RefreshRequest refreshRequest = RefreshRequest.builder()
-                .refreshToken(INVALID_REFRESH_TOKEN)
+                .refreshToken(REFRESH_TOKEN)
                 .build();
 
-        when(jwtService.isRefreshTokenValid(refreshRequest.getRefreshToken())).thenReturn(true);
-        when(jwtService.getUserEmailFromRefreshToken(refreshRequest.getRefreshToken())).thenReturn(null);
+        when(jwtService.verifyRefreshToken(REFRESH_TOKEN)).thenReturn(Optional.of(refreshTokenClaims(null)));
 
         BadCredentialsException thrown = assertThrows(BadCredentialsException.class, () ->
                 authService.getNewAccessToken(refreshRequest));
 
-        verify(jwtService, times(1)).isRefreshTokenValid(refreshRequest.getRefreshToken());
-        verify(jwtService, times(1)).getUserEmailFromRefreshToken(INVALID_REFRESH_TOKEN);
-        verify(userRepository, never()).findByEmail(any(String.class));
-        verify(userRepository, never()).saveAndFlush(any(User.class));
-        verify(jwtService, never()).generateAccessToken(any(String.class));
+        verify(jwtService, times(1)).verifyRefreshToken(REFRESH_TOKEN);
+        verify(refreshSessionService, never()).findActiveSession(any(String.class));
+        verify(jwtService, never()).generateAccessToken(any(User.class), any(String.class));
 
-        assertEquals("Token does not contain a user identifier. Please log in.", thrown.getMessage());
+        assertEquals("Token does not contain a session identifier. Please log in.", thrown.getMessage());
     }
 
     @Test
-    void getNewAccessToken_shouldThrowDataNotFoundExceptionWhenUserNotFoundInDatabase() {
+    void getNewAccessToken_shouldThrowBadCredentialsExceptionWhenSessionIsClosedOrExpired() {
 
         RefreshRequest refreshRequest = RefreshRequest.builder()
                 .refreshToken(REFRESH_TOKEN)
                 .build();
 
-        when(jwtService.isRefreshTokenValid(refreshRequest.getRefreshToken())).thenReturn(true);
-        when(jwtService.getUserEmailFromRefreshToken(refreshRequest.getRefreshToken())).thenReturn(USER_EMAIL);
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.empty());
+        when(jwtService.verifyRefreshToken(REFRESH_TOKEN)).thenReturn(Optional.of(refreshTokenClaims(SESSION_ID)));
+        when(refreshSessionService.findActiveSession(SESSION_ID)).thenReturn(Optional.empty());
 
-        DataNotFoundException thrown = assertThrows(DataNotFoundException.class, () ->
+        BadCredentialsException thrown = assertThrows(BadCredentialsException.class, () ->
                 authService.getNewAccessToken(refreshRequest));
 
-        verify(jwtService, times(1)).isRefreshTokenValid(refreshRequest.getRefreshToken());
-        verify(jwtService, times(1)).getUserEmailFromRefreshToken(REFRESH_TOKEN);
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
-        verify(userRepository, never()).saveAndFlush(any(User.class));
-        verify(jwtService, never()).generateAccessToken(any(String.class));
+        verify(jwtService, times(1)).verifyRefreshToken(REFRESH_TOKEN);
+        verify(refreshSessionService, times(1)).findActiveSession(SESSION_ID);
+        verify(jwtService, never()).generateAccessToken(any(User.class), any(String.class));
 
-        assertEquals(String.format("User with email: %s, associated with refresh token, not found. Please log in.", USER_EMAIL), thrown.getMessage());
+        assertEquals("Refresh token mismatch or reuse detected. Please log in.", thrown.getMessage());
     }
 
     @Test
@@ -549,21 +564,22 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .build();
 
-        when(jwtService.isRefreshTokenValid(refreshRequest.getRefreshToken())).thenReturn(true);
-        when(jwtService.getUserEmailFromRefreshToken(refreshRequest.getRefreshToken())).thenReturn(USER_EMAIL);
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
+        RefreshSession refreshSession = RefreshSession.builder()
+                .user(existingUser)
+                .expiresAt(TIMESTAMP_NOW.plusSeconds(3600))
+                .build();
+
+        when(jwtService.verifyRefreshToken(REFRESH_TOKEN)).thenReturn(Optional.of(refreshTokenClaims(SESSION_ID)));
+        when(refreshSessionService.findActiveSession(SESSION_ID)).thenReturn(Optional.of(refreshSession));
 
         UserDisabledException thrown = assertThrows(UserDisabledException.class, () ->
                 authService.getNewAccessToken(refreshRequest));
 
-        verify(jwtService, times(1)).isRefreshTokenValid(refreshRequest.getRefreshToken());
-        verify(jwtService, times(1)).getUserEmailFromRefreshToken(REFRESH_TOKEN);
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
-        verify(userRepository, never()).saveAndFlush(any(User.class));
-        verify(jwtService, never()).generateAccessToken(any(String.class));
+        verify(jwtService, times(1)).verifyRefreshToken(REFRESH_TOKEN);
+        verify(refreshSessionService, times(1)).findActiveSession(SESSION_ID);
+        verify(jwtService, never()).generateAccessToken(any(User.class), any(String.class));
 
         assertEquals(String.format("User with email: %s, is disabled.", USER_EMAIL), thrown.getMessage());
     }
@@ -586,60 +602,31 @@ class AuthServiceImplTest {
                 .isNonLocked(false)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .build();
 
-        when(jwtService.isRefreshTokenValid(refreshRequest.getRefreshToken())).thenReturn(true);
-        when(jwtService.getUserEmailFromRefreshToken(refreshRequest.getRefreshToken())).thenReturn(USER_EMAIL);
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
+        RefreshSession refreshSession = RefreshSession.builder()
+                .user(existingUser)
+                .expiresAt(TIMESTAMP_NOW.plusSeconds(3600))
+                .build();
+
+        when(jwtService.verifyRefreshToken(REFRESH_TOKEN)).thenReturn(Optional.of(refreshTokenClaims(SESSION_ID)));
+        when(refreshSessionService.findActiveSession(SESSION_ID)).thenReturn(Optional.of(refreshSession));
 
         UserLockedException thrown = assertThrows(UserLockedException.class, () ->
                 authService.getNewAccessToken(refreshRequest));
 
-        verify(jwtService, times(1)).isRefreshTokenValid(refreshRequest.getRefreshToken());
-        verify(jwtService, times(1)).getUserEmailFromRefreshToken(REFRESH_TOKEN);
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
-        verify(userRepository, never()).saveAndFlush(any(User.class));
-        verify(jwtService, never()).generateAccessToken(any(String.class));
+        verify(jwtService, times(1)).verifyRefreshToken(REFRESH_TOKEN);
+        verify(refreshSessionService, times(1)).findActiveSession(SESSION_ID);
+        verify(jwtService, never()).generateAccessToken(any(User.class), any(String.class));
 
         assertEquals(String.format("User with email: %s, is locked.", USER_EMAIL), thrown.getMessage());
     }
 
-    @Test
-    void getNewAccessToken_shouldThrowBadCredentialsExceptionWhenRefreshTokenDoesNotMatchRefreshTokenInDatabase() {
-
-        RefreshRequest refreshRequest = RefreshRequest.builder()
-                .refreshToken(INVALID_REFRESH_TOKEN)
-                .build();
-
-        User existingUser = User.builder()
-                .userId(USER_ID)
-                .email(USER_EMAIL)
-                .passwordHash(PASSWORD_HASH)
-                .firstName("First Name")
-                .lastName("Last Name")
-                .userRole(USER_ROLE_CLIENT)
-                .isEnabled(true)
-                .isNonLocked(true)
-                .registeredAt(TIMESTAMP_PAST)
-                .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
+    private static Claims refreshTokenClaims(String sessionId) {
+        return Jwts.claims()
+                .subject(USER_EMAIL)
+                .id(sessionId)
                 .build();
-
-        when(jwtService.isRefreshTokenValid(refreshRequest.getRefreshToken())).thenReturn(true);
-        when(jwtService.getUserEmailFromRefreshToken(refreshRequest.getRefreshToken())).thenReturn(USER_EMAIL);
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
-
-        BadCredentialsException thrown = assertThrows(BadCredentialsException.class, () ->
-                authService.getNewAccessToken(refreshRequest));
-
-        verify(jwtService, times(1)).isRefreshTokenValid(refreshRequest.getRefreshToken());
-        verify(jwtService, times(1)).getUserEmailFromRefreshToken(refreshRequest.getRefreshToken());
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
-        verify(userRepository, times(1)).saveAndFlush(existingUser);
-        verify(jwtService, never()).generateAccessToken(USER_EMAIL);
-
-        assertEquals("Refresh token mismatch or reuse detected. Please log in.", thrown.getMessage());
     }
 
     @Test
@@ -660,7 +647,6 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .build();
 
         when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(existingUser));
@@ -718,7 +704,6 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .build();
 
         when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(disabledUser));
@@ -751,7 +736,6 @@ class AuthServiceImplTest {
                 .isNonLocked(false)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .build();
 
         when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(lockedUser));
@@ -786,7 +770,6 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .passwordResetToken(PASSWORD_RESET_TOKEN)
                 .build();
 
@@ -962,7 +945,6 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .passwordResetToken(PASSWORD_RESET_TOKEN)
                 .build();
 
@@ -1002,7 +984,6 @@ class AuthServiceImplTest {
                 .isNonLocked(false)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .passwordResetToken(PASSWORD_RESET_TOKEN)
                 .build();
 
@@ -1042,7 +1023,6 @@ class AuthServiceImplTest {
                 .isNonLocked(true)
                 .registeredAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .refreshToken(REFRESH_TOKEN)
                 .passwordResetToken("Other Token")
                 .build();
 
@@ -0,0 +1,137 @@
+package org.example.homeandgarden.authentication.service;
+
+import org.example.homeandgarden.authentication.entity.RefreshSession;
+import org.example.homeandgarden.authentication.repository.RefreshSessionRepository;
+import org.example.homeandgarden.user.entity.User;
+import org.example.homeandgarden.user.entity.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshSessionServiceTest {
+
+    @Mock
+    private RefreshSessionRepository refreshSessionRepository;
+
+    @InjectMocks
+    private RefreshSessionService refreshSessionService;
+
+    private static final UUID USER_ID = UUID.fromString("aebdd1a2-1bc2-4cc9-8496-674e4c7ee5f2");
+    private static final String SESSION_ID = "1f0b7a52-7c1e-4f39-9a41-2c6f4d1e8b30";
+    private static final String SESSION_ID_HASH = "e7e2ee8e1c8b4b27d0b5e5fd1b5c8be2d1af6c1b5d4cf7eb8e7aa29a64d0ac83";
+    private static final int REFRESH_TOKEN_EXPIRATION = 86_400_000;
+
+    private final User existingUser = User.builder()
+            .userId(USER_ID)
+            .email("test@example.com")
+            .userRole(UserRole.CLIENT)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshSessionService, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
+    }
+
+    @Test
+    void openSession_shouldSaveHashedSessionIdAndReturnRawSessionId() {
+
+        ArgumentCaptor<RefreshSession> sessionCaptor = ArgumentCaptor.forClass(RefreshSession.class);
+        Instant before = Instant.now();
+
+        String sessionId = refreshSessionService.openSession(existingUser);
+
+        verify(refreshSessionRepository, times(1)).save(sessionCaptor.capture());
+        RefreshSession savedSession = sessionCaptor.getValue();
+
+        assertNotNull(sessionId);
+        assertNotEquals(sessionId, savedSession.getTokenHash());
+        assertEquals(64, savedSession.getTokenHash().length());
+        assertEquals(existingUser, savedSession.getUser());
+        assertTrue(savedSession.isNew());
+        assertFalse(savedSession.getExpiresAt().isBefore(before.plusMillis(REFRESH_TOKEN_EXPIRATION)));
+    }
+
+    @Test
+    void openSession_shouldReturnDifferentSessionIdsForEveryLogin() {
+
+        String firstSessionId = refreshSessionService.openSession(existingUser);
+        String secondSessionId = refreshSessionService.openSession(existingUser);
+
+        verify(refreshSessionRepository, times(2)).save(any(RefreshSession.class));
+
+        assertNotEquals(firstSessionId, secondSessionId);
+    }
+
+    @Test
+    void findActiveSession_shouldReturnSessionWhenNotExpired() {
+
+        RefreshSession refreshSession = RefreshSession.builder()
+                .tokenHash(SESSION_ID_HASH)
+                .user(existingUser)
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+
+        when(refreshSessionRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(refreshSession));
+
+        Optional<RefreshSession> actualSession = refreshSessionService.findActiveSession(SESSION_ID);
+
+        verify(refreshSessionRepository, times(1)).findWithUserByTokenHash(argThat(hash -> !hash.equals(SESSION_ID) && hash.length() == 64));
+
+        assertTrue(actualSession.isPresent());
+        assertEquals(existingUser, actualSession.get().getUser());
+    }
+
+    @Test
+    void findActiveSession_shouldReturnEmptyWhenSessionIsExpired() {
+
+        RefreshSession refreshSession = RefreshSession.builder()
+                .tokenHash(SESSION_ID_HASH)
+                .user(existingUser)
+                .expiresAt(Instant.now().minusSeconds(1))
+                .build();
+
+        when(refreshSessionRepository.findWithUserByTokenHash(anyString())).thenReturn(Optional.of(refreshSession));
+
+        Optional<RefreshSession> actualSession = refreshSessionService.findActiveSession(SESSION_ID);
+
+        assertTrue(actualSession.isEmpty());
+    }
+
+    @Test
+    void closeSession_shouldReturnFalseWhenSessionDoesNotExist() {
+
+        when(refreshSessionRepository.deleteByTokenHash(anyString())).thenReturn(0);
+
+        boolean closed = refreshSessionService.closeSession(SESSION_ID);
+
+        verify(refreshSessionRepository, times(1)).deleteByTokenHash(anyString());
+        verify(refreshSessionRepository, never()).deleteAllByUserId(any(UUID.class));
+
+        assertFalse(closed);
+    }
+
+    @Test
+    void closeAllSessions_shouldDeleteEverySessionOfUser() {
+
+        when(refreshSessionRepository.deleteAllByUserId(USER_ID)).thenReturn(3);
+
+        int closed = refreshSessionService.closeAllSessions(USER_ID);
+
+        verify(refreshSessionRepository, times(1)).deleteAllByUserId(USER_ID);
+
+        assertEquals(3, closed);
+    }
+}
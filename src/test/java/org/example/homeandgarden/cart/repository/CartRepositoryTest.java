@@ -0,0 +1,67 @@
+package org.example.homeandgarden.cart.repository;
+
+import org.example.homeandgarden.cart.entity.CartItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.example.homeandgarden.metrics.SqlStatementAssertions.assertMaxStatements;
+import static org.example.homeandgarden.shared.UserItemsFixture.persistUserWithItems;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class CartRepositoryTest {
+
+    private static final int CART_SIZE = 30;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = persistUserWithItems(entityManager, "Cart", CART_SIZE, (user, product) -> CartItem.builder().quantity(1).user(user).product(product).build());
+    }
+
+    @Test
+    void findByUserUserId_shouldLoadProductsWithItemsAndCountSeparately_forAnyPageSize() throws Throwable {
+
+        for (int size : List.of(5, CART_SIZE)) {
+            List<String> productNames = assertMaxStatements(2, () -> {
+                Page<CartItem> cartPage = cartRepository.findByUserUserId(userId, PageRequest.of(0, size, Sort.Direction.DESC, "addedAt"));
+                assertEquals(CART_SIZE, cartPage.getTotalElements());
+                return cartPage.map(item -> item.getProduct().getProductName()).getContent();
+            });
+
+            assertEquals(size, productNames.size());
+            entityManager.clear();
+        }
+    }
+
+    @Test
+    void findSliceByUserUserId_shouldLoadProductsWithItemsInOneQuery() throws Throwable {
+
+        List<String> productNames = assertMaxStatements(1, () -> {
+            Slice<CartItem> cartSlice = cartRepository.findSliceByUserUserId(userId, PageRequest.of(0, CART_SIZE, Sort.Direction.DESC, "addedAt"));
+            return cartSlice.map(item -> item.getProduct().getProductName()).getContent();
+        });
+
+        assertEquals(CART_SIZE, productNames.size());
+        assertTrue(productNames.stream().allMatch(name -> name.startsWith("Cart Test Product")));
+    }
+}
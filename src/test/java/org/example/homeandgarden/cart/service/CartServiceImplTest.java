@@ -346,16 +346,15 @@ class CartServiceImplTest {
                 .product(productResponse2)
                 .build();
 
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
         when(cartRepository.findByUserUserId(existingUser.getUserId(), pageRequest)).thenReturn(cartItemPage);
         when(productMapper.productToResponse(product1)).thenReturn(productResponse1);
         when(cartMapper.cartItemToResponse(cartItem1, productResponse1)).thenReturn(cartItemResponse1);
         when(productMapper.productToResponse(product2)).thenReturn(productResponse2);
         when(cartMapper.cartItemToResponse(cartItem2, productResponse2)).thenReturn(cartItemResponse2);
 
-        Page<CartItemResponse> actualResponse = cartService.getMyCartItems(USER_EMAIL, SIZE, PAGE, ORDER, SORT_BY);
+        Page<CartItemResponse> actualResponse = cartService.getMyCartItems(existingUser.getUserId(), SIZE, PAGE, ORDER, SORT_BY);
 
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
+        verify(userRepository, never()).findByEmail(anyString());
         verify(cartRepository, times(1)).findByUserUserId(existingUser.getUserId(), pageRequest);
         verify(productMapper, times(1)).productToResponse(product1);
         verify(cartMapper, times(1)).cartItemToResponse(cartItem1, productResponse1);
@@ -375,21 +374,6 @@ class CartServiceImplTest {
         assertEquals(cartItemResponse2.getCartItemId(), actualResponse.getContent().get(1).getCartItemId());
     }
 
-    @Test
-    void getMyCartItems_shouldThrowDataNotFoundExceptionWhenUserDoesNotExist() {
-
-        when(userRepository.findByEmail(NON_EXISTING_USER_EMAIL)).thenReturn(Optional.empty());
-
-        DataNotFoundException thrownException = assertThrows(DataNotFoundException.class, () -> cartService.getMyCartItems(NON_EXISTING_USER_EMAIL, SIZE, PAGE, ORDER, SORT_BY));
-
-        verify(userRepository, times(1)).findByEmail(NON_EXISTING_USER_EMAIL);
-        verify(cartRepository, never()).findByUserUserId(any(UUID.class), any(PageRequest.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
-        verify(cartMapper, never()).cartItemToResponse(any(CartItem.class), any(ProductResponse.class));
-
-        assertEquals(String.format("User with email: %s, was not found.", NON_EXISTING_USER_EMAIL), thrownException.getMessage());
-    }
-
     @Test
     void getMyCartItems_shouldReturnEmptyPagedModelUserCartIsEmpty() {
 
@@ -410,12 +394,11 @@ class CartServiceImplTest {
 
         Page<CartItem> emptyCartItemPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
 
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
         when(cartRepository.findByUserUserId(existingUser.getUserId(), pageRequest)).thenReturn(emptyCartItemPage);
 
-        Page<CartItemResponse> actualResponse = cartService.getMyCartItems(USER_EMAIL, SIZE, PAGE, ORDER, SORT_BY);
+        Page<CartItemResponse> actualResponse = cartService.getMyCartItems(existingUser.getUserId(), SIZE, PAGE, ORDER, SORT_BY);
 
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
+        verify(userRepository, never()).findByEmail(anyString());
         verify(cartRepository, times(1)).findByUserUserId(existingUser.getUserId(), pageRequest);
         verify(productMapper, never()).productToResponse(any(Product.class));
         verify(cartMapper, never()).cartItemToResponse(any(CartItem.class), any(ProductResponse.class));
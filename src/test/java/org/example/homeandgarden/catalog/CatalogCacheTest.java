@@ -0,0 +1,154 @@
+package org.example.homeandgarden.catalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.homeandgarden.invalidation.CacheInvalidation;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.product.dto.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CatalogCacheTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("f81d4fae-7dec-11d0-a765-00a0c91e6bf6");
+    private static final UUID CATEGORY_1_ID = UUID.fromString("d167268d-305b-426e-9f6f-998da4c2ff76");
+    private static final UUID CATEGORY_2_ID = UUID.fromString("a0f3bd4e-2c9c-4c23-a9b7-e4b2d99d36e5");
+
+    private final CacheInvalidationPublisher publisher = mock(CacheInvalidationPublisher.class);
+    private final CatalogCache catalogCache = new CatalogCache(Duration.ofMinutes(10), 100, publisher);
+
+    @Test
+    void evictProduct_shouldEvictProductAndPagesOfItsCategoryOnly() {
+
+        AtomicInteger loads = new AtomicInteger();
+        CatalogCache.CategoryProductsKey category1Key = pageKey(CATEGORY_1_ID);
+        CatalogCache.CategoryProductsKey category2Key = pageKey(CATEGORY_2_ID);
+
+        catalogCache.getProduct(PRODUCT_ID, (id) -> product(loads));
+        catalogCache.getCategoryProducts(category1Key, (key) -> page(loads));
+        catalogCache.getCategoryProducts(category2Key, (key) -> page(loads));
+        assertEquals(3, loads.get());
+
+        catalogCache.evictProduct(PRODUCT_ID, CATEGORY_1_ID);
+
+        catalogCache.getProduct(PRODUCT_ID, (id) -> product(loads));
+        catalogCache.getCategoryProducts(category1Key, (key) -> page(loads));
+        catalogCache.getCategoryProducts(category2Key, (key) -> page(loads));
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void evictCategoryProducts_shouldNotKeepPageLoadedBeforeEviction() throws Exception {
+
+        AtomicInteger loads = new AtomicInteger();
+        CatalogCache.CategoryProductsKey categoryKey = pageKey(CATEGORY_1_ID);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        CompletableFuture<Page<ProductResponse>> staleLoad = CompletableFuture.supplyAsync(() ->
+                catalogCache.getCategoryProducts(categoryKey, (key) -> {
+                    loading.countDown();
+                    await(evicted);
+                    return page(loads);
+                }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        catalogCache.evictCategoryProducts(CATEGORY_1_ID);
+        evicted.countDown();
+        staleLoad.get(5, TimeUnit.SECONDS);
+
+        catalogCache.getCategoryProducts(categoryKey, (key) -> page(loads));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictProduct_shouldPublishInvalidationToOtherInstances() {
+
+        catalogCache.evictProduct(PRODUCT_ID, CATEGORY_1_ID);
+
+        verify(publisher).publish(CacheInvalidation.product(PRODUCT_ID, CATEGORY_1_ID));
+    }
+
+    @Test
+    void evict_shouldEvictEntriesOfRemoteInvalidationWithoutPublishingIt() {
+
+        AtomicInteger loads = new AtomicInteger();
+        CatalogCache.CategoryProductsKey category1Key = pageKey(CATEGORY_1_ID);
+        CatalogCache.CategoryProductsKey category2Key = pageKey(CATEGORY_2_ID);
+
+        catalogCache.getProduct(PRODUCT_ID, (id) -> product(loads));
+        catalogCache.getCategoryProducts(category1Key, (key) -> page(loads));
+        catalogCache.getCategoryProducts(category2Key, (key) -> page(loads));
+        assertEquals(3, loads.get());
+
+        catalogCache.evict(CacheInvalidation.product(PRODUCT_ID, CATEGORY_1_ID));
+
+        catalogCache.getProduct(PRODUCT_ID, (id) -> product(loads));
+        catalogCache.getCategoryProducts(category1Key, (key) -> page(loads));
+        catalogCache.getCategoryProducts(category2Key, (key) -> page(loads));
+        assertEquals(5, loads.get());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void evictAll_shouldEvictEveryEntry() {
+
+        AtomicInteger loads = new AtomicInteger();
+        CatalogCache.CategoryProductsKey category2Key = pageKey(CATEGORY_2_ID);
+
+        catalogCache.getProduct(PRODUCT_ID, (id) -> product(loads));
+        catalogCache.getCategoryProducts(category2Key, (key) -> page(loads));
+
+        catalogCache.evictAll();
+
+        catalogCache.getProduct(PRODUCT_ID, (id) -> product(loads));
+        catalogCache.getCategoryProducts(category2Key, (key) -> page(loads));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void bindTo_shouldPublishHitAndMissCounts() {
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        catalogCache.bindTo(meterRegistry);
+
+        catalogCache.getProduct(PRODUCT_ID, (id) -> product(new AtomicInteger()));
+        catalogCache.getProduct(PRODUCT_ID, (id) -> product(new AtomicInteger()));
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "catalog.products").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "catalog.products").tag("result", "miss").functionCounter().count());
+    }
+
+    private static CatalogCache.CategoryProductsKey pageKey(UUID categoryId) {
+        return new CatalogCache.CategoryProductsKey(categoryId, BigDecimal.ZERO, BigDecimal.TEN, 10, 0, "ASC", "addedAt");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ProductResponse product(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return ProductResponse.builder().productId(PRODUCT_ID).build();
+    }
+
+    private static Page<ProductResponse> page(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of());
+    }
+}
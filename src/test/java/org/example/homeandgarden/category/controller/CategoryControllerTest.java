@@ -8,6 +8,7 @@ import org.example.homeandgarden.category.service.CategoryServiceImpl;
 import org.example.homeandgarden.product.dto.ProductResponse;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
 import org.example.homeandgarden.product.service.ProductServiceImpl;
+import org.example.homeandgarden.shared.CursorPageResponse;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -370,6 +371,57 @@ class CategoryControllerTest {
                 eq(10), eq(0), eq("ASC"), eq("addedAt"));
     }
 
+    @Test
+    void getCategoryProductsAfter_shouldReturnCursorPage_whenAfterParameterIsPresent() throws Exception {
+
+        String validCategoryId = UUID.randomUUID().toString();
+
+        ProductResponse productResponse = ProductResponse.builder()
+                .productId(UUID.randomUUID())
+                .productName("Product One")
+                .currentPrice(BigDecimal.valueOf(35.00))
+                .productStatus(ProductStatus.AVAILABLE)
+                .build();
+
+        CursorPageResponse<ProductResponse> cursorPage = CursorPageResponse.<ProductResponse>builder()
+                .content(List.of(productResponse))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("bmV4dA")
+                .build();
+
+        when(productService.getCategoryProductsAfter(
+                eq(validCategoryId),
+                eq(new BigDecimal("0.0")),
+                eq(new BigDecimal("999999.0")),
+                eq(1), eq(""), eq("ASC"), eq("addedAt"))).thenReturn(cursorPage);
+
+        mockMvc.perform(get("/categories/{categoryId}/products", validCategoryId)
+                        .param("size", "1")
+                        .param("after", "")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].productName").value("Product One"))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("bmV4dA"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(productService, never()).getCategoryProducts(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getCategoryProductsAfter_shouldReturnBadRequest_whenCursorHasInvalidCharacters() throws Exception {
+
+        mockMvc.perform(get("/categories/{categoryId}/products", UUID.randomUUID().toString())
+                        .param("after", "not a cursor!")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("ConstraintViolationException"));
+
+        verify(productService, never()).getCategoryProductsAfter(any(), any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void getCategoryProducts_shouldReturnBadRequest_whenInvalidCategoryId() throws Exception {
 
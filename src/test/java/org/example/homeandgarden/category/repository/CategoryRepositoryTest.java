@@ -0,0 +1,72 @@
+package org.example.homeandgarden.category.repository;
+
+import org.example.homeandgarden.category.entity.Category;
+import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.example.homeandgarden.metrics.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class CategoryRepositoryTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UUID categoryId;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        Category category = entityManager.persist(Category.builder().categoryName("Second Level Cache Test Category").build());
+        Product product = entityManager.persist(Product.builder()
+                .productName("Second Level Cache Test Product")
+                .description("Description")
+                .listPrice(BigDecimal.TEN)
+                .currentPrice(BigDecimal.TEN)
+                .category(category)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        categoryId = category.getCategoryId();
+        productId = product.getProductId();
+    }
+
+    @Test
+    void findById_shouldLoadCategoryFromSecondLevelCache_inNewPersistenceContext() throws Throwable {
+
+        categoryRepository.findById(categoryId).orElseThrow();
+        entityManager.clear();
+
+        String categoryName = assertMaxStatements(0, () -> categoryRepository.findById(categoryId).orElseThrow().getCategoryName());
+
+        assertEquals("Second Level Cache Test Category", categoryName);
+    }
+
+    @Test
+    void findById_shouldResolveProductAndItsCategoryFromSecondLevelCache_inNewPersistenceContext() throws Throwable {
+
+        productRepository.findById(productId).orElseThrow().getCategory().getCategoryName();
+        entityManager.clear();
+
+        String categoryName = assertMaxStatements(0, () -> productRepository.findById(productId).orElseThrow().getCategory().getCategoryName());
+
+        assertEquals("Second Level Cache Test Category", categoryName);
+    }
+}
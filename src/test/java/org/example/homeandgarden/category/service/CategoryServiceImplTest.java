@@ -1,5 +1,6 @@
 package org.example.homeandgarden.category.service;
 
+import org.example.homeandgarden.catalog.CatalogCache;
 import org.example.homeandgarden.category.dto.CategoryRequest;
 import org.example.homeandgarden.category.dto.CategoryResponse;
 import org.example.homeandgarden.category.entity.Category;
@@ -8,15 +9,20 @@ import org.example.homeandgarden.category.mapper.CategoryMapper;
 import org.example.homeandgarden.category.repository.CategoryRepository;
 import org.example.homeandgarden.exception.DataAlreadyExistsException;
 import org.example.homeandgarden.exception.DataNotFoundException;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.service.ProductBulkService;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 
@@ -33,6 +39,12 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private ProductBulkService productBulkService;
+
+    @Spy
+    private CatalogCache catalogCache = new CatalogCache(Duration.ofMinutes(10), 100, mock(CacheInvalidationPublisher.class));
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -125,6 +137,34 @@ class CategoryServiceImplTest {
         assertEquals(CATEGORY_STATUS_ACTIVE, actualResponse.getContent().get(1).getCategoryStatus());
     }
 
+    @Test
+    void getAllActiveCategories_shouldServeRepeatedReadsFromCacheUntilCategoryStatusChanges() {
+
+        Pageable pageRequest = PageRequest.of(PAGE, SIZE, Sort.Direction.fromString(ORDER), SORT_BY);
+        Page<Category> emptyPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
+
+        Category existingCategory = Category.builder()
+                .categoryId(CATEGORY_ID)
+                .categoryName("Existing Category")
+                .categoryStatus(CATEGORY_STATUS_INACTIVE)
+                .build();
+
+        when(categoryRepository.findAllByCategoryStatus(CATEGORY_STATUS_ACTIVE, pageRequest)).thenReturn(emptyPage);
+        when(categoryRepository.findById(CATEGORY_ID)).thenReturn(Optional.of(existingCategory));
+        when(categoryRepository.saveAndFlush(existingCategory)).thenReturn(existingCategory);
+
+        categoryService.getAllActiveCategories(SIZE, PAGE, ORDER, SORT_BY);
+        categoryService.getAllActiveCategories(SIZE, PAGE, ORDER, SORT_BY);
+        verify(categoryRepository, times(1)).findAllByCategoryStatus(CATEGORY_STATUS_ACTIVE, pageRequest);
+
+        categoryService.setCategoryStatus(CATEGORY_ID.toString(), CATEGORY_STATUS_ACTIVE.name());
+        verify(catalogCache, times(1)).evictCategory(CATEGORY_ID);
+        verify(productBulkService, never()).changeCategoryStatuses(any(), any(), any());
+
+        categoryService.getAllActiveCategories(SIZE, PAGE, ORDER, SORT_BY);
+        verify(categoryRepository, times(2)).findAllByCategoryStatus(CATEGORY_STATUS_ACTIVE, pageRequest);
+    }
+
     @Test
     void getAllActiveCategories_shouldReturnEmptyPagedModelWhenNoActiveCategoriesExist() {
 
@@ -581,6 +621,7 @@ class CategoryServiceImplTest {
 
         verify(categoryRepository, times(1)).findById(CATEGORY_ID);
         verify(categoryRepository, times(1)).saveAndFlush(categoryCaptor.capture());
+        verify(productBulkService, times(1)).changeCategoryStatuses(CATEGORY_ID, EnumSet.of(ProductStatus.AVAILABLE), ProductStatus.OUT_OF_STOCK);
         Category capturedCategory = categoryCaptor.getValue();
         assertNotNull(capturedCategory);
         assertEquals(existingCategory.getCategoryName(), capturedCategory.getCategoryName());
@@ -0,0 +1,79 @@
+package org.example.homeandgarden.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private JdbcTemplate replicaJdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void checkLag_shouldReportReplicaUsable_whenLagIsWithinMaximum() {
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaJdbcTemplate, Duration.ofSeconds(5), meterRegistry);
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(1.5);
+
+        assertFalse(monitor.isReplicaUsable());
+        monitor.checkLag();
+
+        assertTrue(monitor.isReplicaUsable());
+        assertEquals(1.5, meterRegistry.get("app.datasource.replica.lag").gauge().value());
+    }
+
+    @Test
+    void checkLag_shouldReportReplicaUnusable_whenLagExceedsMaximum() {
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaJdbcTemplate, Duration.ofSeconds(5), meterRegistry);
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(0.0, 12.0);
+
+        monitor.checkLag();
+        monitor.checkLag();
+
+        assertFalse(monitor.isReplicaUsable());
+        assertEquals(12.0, monitor.getLagSeconds());
+    }
+
+    @Test
+    void checkLag_shouldReportReplicaUnusable_whenReplicaIsUnreachable() {
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaJdbcTemplate, Duration.ofSeconds(5), meterRegistry);
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class))
+                .thenReturn(0.0)
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        monitor.checkLag();
+        monitor.checkLag();
+
+        assertFalse(monitor.isReplicaUsable());
+        assertTrue(Double.isNaN(meterRegistry.get("app.datasource.replica.lag").gauge().value()));
+    }
+
+    @Test
+    void markUnavailable_shouldKeepReplicaUnusableUntilNextCheck() {
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaJdbcTemplate, Duration.ofSeconds(5), meterRegistry);
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(0.0);
+        monitor.checkLag();
+
+        monitor.markUnavailable(new SQLException("Connection is not available"));
+        assertFalse(monitor.isReplicaUsable());
+
+        monitor.checkLag();
+        assertTrue(monitor.isReplicaUsable());
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.homeandgarden.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_shouldUseReplica_whenTransactionIsReadOnlyAndReplicaIsUsable() throws SQLException {
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertSame(replicaConnection, routingDataSource().getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_whenTransactionIsNotReadOnly() throws SQLException {
+
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource().getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_whenReplicaIsBehind() throws SQLException {
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource().getConnection());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_shouldFallBackToPrimaryAndMarkReplicaUnavailable_whenReplicaConnectionFails() throws SQLException {
+
+        SQLException exception = new SQLException("Connection is not available, request timed out after 2000ms.");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenThrow(exception);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routingDataSource().getConnection());
+        verify(lagMonitor).markUnavailable(exception);
+    }
+
+    @Test
+    void usePrimary_shouldUsePrimaryInsideReadOnlyTransaction() throws SQLException {
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaRoutingDataSource routingDataSource = routingDataSource();
+
+        Connection connection = ReplicaRoutingDataSource.usePrimary(() -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+
+        assertSame(primaryConnection, connection);
+        verify(replica, never()).getConnection();
+        verifyNoInteractions(lagMonitor);
+    }
+
+    private ReplicaRoutingDataSource routingDataSource() {
+        return new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+    }
+}
@@ -0,0 +1,339 @@
+package org.example.homeandgarden.db;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-column index set of {@code createTables.sql} ({@code legacy}) with the composite index set
+ * left by {@code reviseIndexes.sql} ({@code composite}): the cost of inserting an order and a cart item,
+ * and the latency of the query shapes behind the category products, user orders, user cart and pending products listings.
+ * <p>
+ * Needs a PostgreSQL database migrated by the application. The tables are copied without data into a separate
+ * {@value #SCHEMA} schema and filled with generated, deterministic data (50 categories, 20 000 products,
+ * 20 000 users, 200 000 orders with 3 items each, 40 000 cart items), so every run measures the same tables.
+ * Inserts are rolled back, the schema is dropped at the end. Foreign keys are not copied, so the insert numbers
+ * show the index maintenance cost only.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.example.homeandgarden.db.IndexSetBenchmark
+ * -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/home_and_garden -Dbenchmark.jdbc.user=... -Dbenchmark.jdbc.password=...}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexSetBenchmark {
+
+    static final String SCHEMA = "index_benchmark";
+
+    private static final String[] JDBC_PROPERTIES = {"benchmark.jdbc.url", "benchmark.jdbc.user", "benchmark.jdbc.password"};
+
+    private static final List<String> TABLES = List.of("users", "categories", "products", "cart_items", "orders", "order_items");
+
+    private static final List<String> LEGACY_INDEXES = List.of(
+            "CREATE INDEX ON users(first_name)",
+            "CREATE INDEX ON users(last_name)",
+            "CREATE INDEX ON users(role)",
+            "CREATE INDEX ON users(registered_at)",
+            "CREATE INDEX ON users(updated_at)",
+            "CREATE INDEX ON users(is_enabled)",
+            "CREATE INDEX ON users(is_non_locked)",
+            "CREATE INDEX ON categories(category_name)",
+            "CREATE INDEX ON categories(category_status)",
+            "CREATE INDEX ON categories(created_at)",
+            "CREATE INDEX ON categories(updated_at)",
+            "CREATE INDEX ON products(category_id)",
+            "CREATE INDEX ON products(product_name)",
+            "CREATE INDEX ON products(product_status)",
+            "CREATE INDEX ON products(list_price)",
+            "CREATE INDEX ON products(current_price)",
+            "CREATE INDEX ON products(added_at)",
+            "CREATE INDEX ON products(updated_at)",
+            "CREATE INDEX ON cart_items(user_id)",
+            "CREATE INDEX ON cart_items(product_id)",
+            "CREATE INDEX ON cart_items(added_at)",
+            "CREATE INDEX ON cart_items(quantity)",
+            "CREATE INDEX ON orders(user_id)",
+            "CREATE INDEX ON orders(order_status)",
+            "CREATE INDEX ON orders(created_at)",
+            "CREATE INDEX ON order_items(order_id)",
+            "CREATE INDEX ON order_items(product_id)",
+            "CREATE INDEX ON order_items(quantity)",
+            "CREATE INDEX ON order_items(price_at_purchase)");
+
+    private static final List<String> COMPOSITE_INDEXES = List.of(
+            "CREATE INDEX ON users(first_name)",
+            "CREATE INDEX ON users(last_name)",
+            "CREATE INDEX ON users(is_enabled, is_non_locked, registered_at, user_id)",
+            "CREATE INDEX ON users(registered_at)",
+            "CREATE INDEX ON users(updated_at)",
+            "CREATE INDEX ON categories(category_name)",
+            "CREATE INDEX ON categories(category_status, created_at)",
+            "CREATE INDEX ON categories(created_at)",
+            "CREATE INDEX ON categories(updated_at)",
+            "CREATE INDEX ON products(category_id, product_status, current_price)",
+            "CREATE INDEX ON products(product_status, added_at, product_id)",
+            "CREATE INDEX ON products(product_name)",
+            "CREATE INDEX ON products(list_price)",
+            "CREATE INDEX ON products(current_price)",
+            "CREATE INDEX ON products(added_at)",
+            "CREATE INDEX ON products(updated_at)",
+            "CREATE INDEX ON cart_items(user_id, added_at)",
+            "CREATE INDEX ON cart_items(product_id)",
+            "CREATE INDEX ON orders(user_id, created_at, order_id)",
+            "CREATE INDEX ON orders(order_status, created_at) INCLUDE (order_id)",
+            "CREATE INDEX ON order_items(order_id) INCLUDE (product_id, quantity, price_at_purchase)",
+            "CREATE INDEX ON order_items(product_id)");
+
+    private static final List<String> DATA = List.of(
+            """
+            INSERT INTO categories (category_id, category_name, category_status, created_at)
+            SELECT md5('category' || c)::uuid, 'Category ' || c, CASE WHEN c % 10 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END,
+                   TIMESTAMP '2025-01-01' + c * INTERVAL '1 day'
+            FROM generate_series(1, 50) c
+            """,
+            """
+            INSERT INTO products (product_id, product_name, description, list_price, current_price, added_at, product_status, category_id)
+            SELECT md5('product' || p)::uuid, 'Product ' || p, 'Description of product ' || p, 1 + p * 37 % 500, (1 + p * 37 % 500) * 0.9,
+                   TIMESTAMP '2025-01-01' + p * INTERVAL '20 minutes',
+                   (ARRAY['AVAILABLE', 'AVAILABLE', 'AVAILABLE', 'OUT_OF_STOCK', 'SOLD_OUT'])[1 + p % 5],
+                   md5('category' || (1 + p % 50))::uuid
+            FROM generate_series(1, 20000) p
+            """,
+            """
+            INSERT INTO users (user_id, email, password_hash, first_name, last_name, role, registered_at)
+            SELECT md5('user' || u)::uuid, 'user' || u || '@example.com', 'hash', 'First ' || u, 'Last ' || u, 'CLIENT',
+                   TIMESTAMP '2025-01-01' + u * INTERVAL '30 minutes'
+            FROM generate_series(1, 20000) u
+            """,
+            """
+            INSERT INTO orders (order_id, first_name, last_name, address, zip_code, city, phone, delivery_method, order_status, created_at, user_id)
+            SELECT md5('order' || o)::uuid, 'First', 'Last', 'Address', '12345', 'City', '123', 'COURIER_DELIVERY',
+                   (ARRAY['CREATED', 'PAID', 'ON_THE_WAY', 'DELIVERED', 'CANCELED', 'RETURNED'])[1 + o % 6],
+                   TIMESTAMP '2025-01-01' + o * INTERVAL '3 minutes',
+                   md5('user' || (1 + o * 7 % 20000))::uuid
+            FROM generate_series(1, 200000) o
+            """,
+            """
+            INSERT INTO order_items (order_item_id, quantity, price_at_purchase, order_id, product_id)
+            SELECT md5('item' || o || '-' || i)::uuid, 1 + (o + i) % 4, 1 + o * i % 300,
+                   md5('order' || o)::uuid, md5('product' || (1 + (o * 13 + i * 101) % 20000))::uuid
+            FROM generate_series(1, 200000) o, generate_series(1, 3) i
+            """,
+            """
+            INSERT INTO cart_items (cart_item_id, quantity, added_at, product_id, user_id)
+            SELECT md5('cart' || c)::uuid, 1 + c % 5, TIMESTAMP '2026-01-01' + c * INTERVAL '10 minutes',
+                   md5('product' || (1 + c * 17 % 20000))::uuid, md5('user' || (1 + c % 20000))::uuid
+            FROM generate_series(1, 40000) c
+            """);
+
+    @Param({"legacy", "composite"})
+    private String indexSet;
+
+    private Connection readConnection;
+    private Connection writeConnection;
+
+    private PreparedStatement categoryProducts;
+    private PreparedStatement categoryProductsCount;
+    private PreparedStatement userOrders;
+    private PreparedStatement userOrdersCount;
+    private PreparedStatement userCart;
+    private PreparedStatement pendingProducts;
+    private PreparedStatement insertOrder;
+    private PreparedStatement insertOrderItem;
+    private PreparedStatement insertCartItem;
+
+    private List<UUID> categoryIds;
+    private List<UUID> userIds;
+    private List<UUID> productIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        readConnection = connect();
+        writeConnection = connect();
+        writeConnection.setAutoCommit(false);
+
+        try (Statement statement = readConnection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            for (String table : TABLES) {
+                statement.execute(String.format("CREATE TABLE %s.%s (LIKE public.%s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)", SCHEMA, table, table));
+            }
+            statement.execute("SET search_path TO " + SCHEMA);
+            for (String data : DATA) {
+                statement.execute(data);
+            }
+            statement.execute("ALTER TABLE users ADD PRIMARY KEY (user_id), ADD UNIQUE (email)");
+            statement.execute("ALTER TABLE categories ADD PRIMARY KEY (category_id)");
+            statement.execute("ALTER TABLE products ADD PRIMARY KEY (product_id)");
+            statement.execute("ALTER TABLE cart_items ADD PRIMARY KEY (cart_item_id)");
+            statement.execute("ALTER TABLE orders ADD PRIMARY KEY (order_id)");
+            statement.execute("ALTER TABLE order_items ADD PRIMARY KEY (order_item_id)");
+            for (String index : indexSet.equals("legacy") ? LEGACY_INDEXES : COMPOSITE_INDEXES) {
+                statement.execute(index);
+            }
+            statement.execute("VACUUM ANALYZE");
+        }
+        try (Statement statement = writeConnection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA);
+        }
+        writeConnection.commit();
+
+        categoryIds = ids("SELECT category_id FROM categories WHERE category_status = 'ACTIVE' ORDER BY category_id");
+        userIds = ids("SELECT user_id FROM users ORDER BY user_id LIMIT 1000");
+        productIds = ids("SELECT product_id FROM products ORDER BY product_id LIMIT 1000");
+
+        String categoryProductsWhere = "WHERE category_id = ? AND product_status = 'AVAILABLE' AND current_price > ? AND current_price < ?";
+        categoryProducts = readConnection.prepareStatement("SELECT * FROM products " + categoryProductsWhere + " ORDER BY added_at DESC LIMIT 10");
+        categoryProductsCount = readConnection.prepareStatement("SELECT count(*) FROM products " + categoryProductsWhere);
+        userOrders = readConnection.prepareStatement("SELECT * FROM orders WHERE user_id = ? ORDER BY created_at DESC LIMIT 10");
+        userOrdersCount = readConnection.prepareStatement("SELECT count(*) FROM orders WHERE user_id = ?");
+        userCart = readConnection.prepareStatement("SELECT * FROM cart_items WHERE user_id = ? ORDER BY added_at DESC LIMIT 10");
+        pendingProducts = readConnection.prepareStatement("""
+                SELECT products.product_id, products.product_name, SUM(order_items.quantity)
+                FROM order_items
+                JOIN products ON products.product_id = order_items.product_id
+                JOIN orders ON orders.order_id = order_items.order_id
+                WHERE orders.order_status = ? AND orders.created_at < ?
+                GROUP BY products.product_id, products.product_name
+                ORDER BY SUM(order_items.quantity) DESC
+                LIMIT 10
+                """);
+
+        insertOrder = writeConnection.prepareStatement("""
+                INSERT INTO orders (order_id, first_name, last_name, address, zip_code, city, phone, delivery_method, order_status, created_at, user_id)
+                VALUES (?, 'First', 'Last', 'Address', '12345', 'City', '123', 'COURIER_DELIVERY', 'CREATED', CURRENT_TIMESTAMP, ?)
+                """);
+        insertOrderItem = writeConnection.prepareStatement("INSERT INTO order_items (order_item_id, quantity, price_at_purchase, order_id, product_id) VALUES (?, ?, ?, ?, ?)");
+        insertCartItem = writeConnection.prepareStatement("INSERT INTO cart_items (cart_item_id, quantity, added_at, product_id, user_id) VALUES (?, 1, CURRENT_TIMESTAMP, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        writeConnection.rollback();
+        writeConnection.close();
+        try (Statement statement = readConnection.createStatement()) {
+            statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        }
+        readConnection.close();
+    }
+
+    @Benchmark
+    public void insertOrderWithThreeItems() throws SQLException {
+        int step = next++;
+        UUID orderId = UUID.randomUUID();
+
+        insertOrder.setObject(1, orderId);
+        insertOrder.setObject(2, userIds.get(step % userIds.size()));
+        insertOrder.executeUpdate();
+        for (int item = 0; item < 3; item++) {
+            insertOrderItem.setObject(1, UUID.randomUUID());
+            insertOrderItem.setInt(2, 1 + item);
+            insertOrderItem.setBigDecimal(3, BigDecimal.valueOf(9.99));
+            insertOrderItem.setObject(4, orderId);
+            insertOrderItem.setObject(5, productIds.get((step + item) % productIds.size()));
+            insertOrderItem.addBatch();
+        }
+        insertOrderItem.executeBatch();
+        writeConnection.rollback();
+    }
+
+    @Benchmark
+    public void insertCartItem() throws SQLException {
+        int step = next++;
+
+        insertCartItem.setObject(1, UUID.randomUUID());
+        insertCartItem.setObject(2, productIds.get(step % productIds.size()));
+        insertCartItem.setObject(3, userIds.get(step % userIds.size()));
+        insertCartItem.executeUpdate();
+        writeConnection.rollback();
+    }
+
+    @Benchmark
+    public void categoryProductsPage(Blackhole blackhole) throws SQLException {
+        int step = next++;
+        UUID categoryId = categoryIds.get(step % categoryIds.size());
+
+        for (PreparedStatement statement : List.of(categoryProducts, categoryProductsCount)) {
+            statement.setObject(1, categoryId);
+            statement.setInt(2, 10);
+            statement.setInt(3, 200);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void userOrdersPage(Blackhole blackhole) throws SQLException {
+        UUID userId = userIds.get(next++ % userIds.size());
+
+        for (PreparedStatement statement : List.of(userOrders, userOrdersCount)) {
+            statement.setObject(1, userId);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void userCartPage(Blackhole blackhole) throws SQLException {
+        userCart.setObject(1, userIds.get(next++ % userIds.size()));
+        consume(userCart, blackhole);
+    }
+
+    @Benchmark
+    public void pendingProductsPage(Blackhole blackhole) throws SQLException {
+        pendingProducts.setString(1, "CREATED");
+        pendingProducts.setTimestamp(2, Timestamp.valueOf("2025-01-15 00:00:00"));
+        consume(pendingProducts, blackhole);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getObject(1));
+            }
+        }
+    }
+
+    private List<UUID> ids(String query) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (Statement statement = readConnection.createStatement(); ResultSet resultSet = statement.executeQuery(query)) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/home_and_garden"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        List<String> jvmArgs = new ArrayList<>();
+        for (String property : JDBC_PROPERTIES) {
+            if (System.getProperty(property) != null) {
+                jvmArgs.add("-D" + property + "=" + System.getProperty(property));
+            }
+        }
+        Options options = new OptionsBuilder()
+                .include(IndexSetBenchmark.class.getSimpleName())
+                .jvmArgsAppend(jvmArgs.toArray(new String[0]))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.homeandgarden.db;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.homeandgarden.HomeAndGardenApplication;
+import org.example.homeandgarden.order.dto.OrderItemResponse;
+import org.example.homeandgarden.order.entity.OrderItem;
+import org.example.homeandgarden.order.entity.OrderItemProjection;
+import org.example.homeandgarden.order.mapper.OrderItemMapper;
+import org.example.homeandgarden.order.repository.OrderItemRepository;
+import org.example.homeandgarden.product.dto.ProductResponse;
+import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.product.entity.ProductListProjection;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.mapper.ProductMapper;
+import org.example.homeandgarden.product.repository.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a 100-element page as entities ({@code entities}: the rows are hydrated, snapshotted for dirty
+ * checking and flushed with the persistence context, the EAGER associations are loaded too, then copied into the
+ * response) with reading it through the constructor-expression queries of the repositories ({@code projections}),
+ * for the category products and the order items listings.
+ * <p>
+ * Both variants run the same WHERE clause and ordering in a read-write transaction, like a repository call under
+ * open-session-in-view. Needs a PostgreSQL database migrated by the application: the application context is started
+ * against it, one category with 100 products and one order with 100 items are inserted before the run and deleted after it.
+ * The GC profiler is enabled, so {@code gc.alloc.rate.norm} shows the bytes allocated per page.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.example.homeandgarden.db.ListProjectionBenchmark
+ * -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/home_and_garden -Dbenchmark.jdbc.user=... -Dbenchmark.jdbc.password=...}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListProjectionBenchmark {
+
+    static final int PAGE_SIZE = 100;
+
+    private static final String[] JDBC_PROPERTIES = {"benchmark.jdbc.url", "benchmark.jdbc.user", "benchmark.jdbc.password"};
+
+    private static final UUID CATEGORY_ID = UUID.nameUUIDFromBytes("list-projection-benchmark-category".getBytes());
+    private static final UUID USER_ID = UUID.nameUUIDFromBytes("list-projection-benchmark-user".getBytes());
+    private static final UUID ORDER_ID = UUID.nameUUIDFromBytes("list-projection-benchmark-order".getBytes());
+
+    private static final String CATEGORY_PRODUCTS_WHERE = """
+            WHERE product.category.categoryId = :categoryId
+            AND product.productStatus = :status
+            AND product.currentPrice > :minPrice
+            AND product.currentPrice < :maxPrice
+            ORDER BY product.addedAt DESC
+            """;
+
+    private static final String ORDER_ITEMS_ORDER_BY = "ORDER BY orderItem.priceAtPurchase DESC";
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private ProductMapper productMapper;
+    private OrderItemMapper orderItemMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HomeAndGardenApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=" + System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/home_and_garden"),
+                        "--spring.datasource.username=" + System.getProperty("benchmark.jdbc.user", "postgres"),
+                        "--spring.datasource.password=" + System.getProperty("benchmark.jdbc.password", "postgres"),
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        productMapper = context.getBean(ProductMapper.class);
+        orderItemMapper = context.getBean(OrderItemMapper.class);
+
+        deleteData();
+        jdbcTemplate.update("INSERT INTO categories (category_id, category_name, category_status) VALUES (?, 'List projection benchmark', 'ACTIVE')", CATEGORY_ID);
+        jdbcTemplate.update("""
+                INSERT INTO users (user_id, email, password_hash, first_name, last_name, role)
+                VALUES (?, 'list-projection-benchmark@example.com', 'hash', 'First', 'Last', 'CLIENT')
+                """, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO orders (order_id, first_name, last_name, address, zip_code, city, phone, delivery_method, order_status, user_id)
+                VALUES (?, 'First', 'Last', 'Address', '12345', 'City', '123', 'COURIER_DELIVERY', 'PAID', ?)
+                """, ORDER_ID, USER_ID);
+
+        List<Object[]> products = new ArrayList<>();
+        List<Object[]> orderItems = new ArrayList<>();
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            UUID productId = UUID.nameUUIDFromBytes(("list-projection-benchmark-product-" + index).getBytes());
+            BigDecimal price = BigDecimal.valueOf(10 + index);
+            products.add(new Object[]{productId, "Product " + index, "Description of product " + index, price, price, "https://example.com/" + index + ".jpg", CATEGORY_ID});
+            orderItems.add(new Object[]{UUID.nameUUIDFromBytes(("list-projection-benchmark-item-" + index).getBytes()), 1 + index % 4, price, ORDER_ID, productId});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO products (product_id, product_name, description, list_price, current_price, product_status, image_url, category_id)
+                VALUES (?, ?, ?, ?, ?, 'AVAILABLE', ?, ?)
+                """, products);
+        jdbcTemplate.batchUpdate("INSERT INTO order_items (order_item_id, quantity, price_at_purchase, order_id, product_id) VALUES (?, ?, ?, ?, ?)", orderItems);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deleteData();
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductResponse> categoryProductsEntities() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT product FROM Product product " + CATEGORY_PRODUCTS_WHERE, Product.class)
+                .setParameter("categoryId", CATEGORY_ID)
+                .setParameter("status", ProductStatus.AVAILABLE)
+                .setParameter("minPrice", BigDecimal.ZERO)
+                .setParameter("maxPrice", BigDecimal.valueOf(1000))
+                .setMaxResults(PAGE_SIZE)
+                .getResultStream()
+                .map(productMapper::productToResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<ProductResponse> categoryProductsProjections() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery(ProductRepository.PRODUCT_LIST_QUERY + CATEGORY_PRODUCTS_WHERE, ProductListProjection.class)
+                .setParameter("categoryId", CATEGORY_ID)
+                .setParameter("status", ProductStatus.AVAILABLE)
+                .setParameter("minPrice", BigDecimal.ZERO)
+                .setParameter("maxPrice", BigDecimal.valueOf(1000))
+                .setMaxResults(PAGE_SIZE)
+                .getResultStream()
+                .map(productMapper::productListProjectionToResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<OrderItemResponse> orderItemsEntities() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT orderItem FROM OrderItem orderItem WHERE orderItem.order.orderId = :orderId " + ORDER_ITEMS_ORDER_BY, OrderItem.class)
+                .setParameter("orderId", ORDER_ID)
+                .setMaxResults(PAGE_SIZE)
+                .getResultStream()
+                .map(orderItem -> OrderItemResponse.builder()
+                        .orderItemId(orderItem.getOrderItemId())
+                        .quantity(orderItem.getQuantity())
+                        .priceAtPurchase(orderItem.getPriceAtPurchase())
+                        .product(productMapper.productToResponse(orderItem.getProduct()))
+                        .build())
+                .toList());
+    }
+
+    @Benchmark
+    public List<OrderItemResponse> orderItemsProjections() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery(OrderItemRepository.ORDER_ITEM_LIST_QUERY + ORDER_ITEMS_ORDER_BY, OrderItemProjection.class)
+                .setParameter("orderId", ORDER_ID)
+                .setMaxResults(PAGE_SIZE)
+                .getResultStream()
+                .map(orderItemMapper::orderItemProjectionToResponse)
+                .toList());
+    }
+
+    private void deleteData() {
+        jdbcTemplate.update("DELETE FROM order_items WHERE order_id = ?", ORDER_ID);
+        jdbcTemplate.update("DELETE FROM orders WHERE order_id = ?", ORDER_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM products WHERE category_id = ?", CATEGORY_ID);
+        jdbcTemplate.update("DELETE FROM categories WHERE category_id = ?", CATEGORY_ID);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        List<String> jvmArgs = new ArrayList<>();
+        for (String property : JDBC_PROPERTIES) {
+            if (System.getProperty(property) != null) {
+                jvmArgs.add("-D" + property + "=" + System.getProperty(property));
+            }
+        }
+        Options options = new OptionsBuilder()
+                .include(ListProjectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend(jvmArgs.toArray(new String[0]))
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.homeandgarden.db;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.homeandgarden.HomeAndGardenApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the category products endpoint with open-session-in-view on and off: 32 client threads against a pool
+ * of {@value #POOL_SIZE} connections. With open-session-in-view the connection taken by the query is held until the
+ * response has been serialized and written, so the pool becomes the limit long before the database does; without it
+ * the connection goes back to the pool when the read-only service transaction ends.
+ * <p>
+ * Reports the throughput per variant and logs, at the end of each trial, the mean of the
+ * {@code app.request.db.connection.hold} timer of the endpoint. Needs a PostgreSQL database migrated by the application:
+ * the application is started on a random port against it, one category with {@value #PRODUCT_COUNT} products is
+ * inserted before the run and deleted after it.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.example.homeandgarden.db.OpenSessionInViewLoadBenchmark
+ * -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/home_and_garden -Dbenchmark.jdbc.user=... -Dbenchmark.jdbc.password=...}
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+public class OpenSessionInViewLoadBenchmark {
+
+    static final int POOL_SIZE = 4;
+    static final int PRODUCT_COUNT = 100;
+
+    private static final String[] JDBC_PROPERTIES = {"benchmark.jdbc.url", "benchmark.jdbc.user", "benchmark.jdbc.password"};
+
+    private static final UUID CATEGORY_ID = UUID.nameUUIDFromBytes("open-session-in-view-benchmark-category".getBytes());
+    private static final String ENDPOINT = "/categories/{categoryId}/products";
+
+    @Param({"true", "false"})
+    public boolean openInView;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HomeAndGardenApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(
+                        "--spring.datasource.url=" + System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/home_and_garden"),
+                        "--spring.datasource.username=" + System.getProperty("benchmark.jdbc.user", "postgres"),
+                        "--spring.datasource.password=" + System.getProperty("benchmark.jdbc.password", "postgres"),
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.jpa.open-in-view=" + openInView,
+                        "--server.port=0",
+                        "--app.logging.aspect.mode=ERRORS_ONLY",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level." + OpenSessionInViewLoadBenchmark.class.getName() + "=INFO");
+
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        deleteData();
+        jdbcTemplate.update("INSERT INTO categories (category_id, category_name, category_status) VALUES (?, 'Open session in view benchmark', 'ACTIVE')", CATEGORY_ID);
+        List<Object[]> products = new ArrayList<>();
+        for (int index = 0; index < PRODUCT_COUNT; index++) {
+            BigDecimal price = BigDecimal.valueOf(10 + index);
+            products.add(new Object[]{UUID.nameUUIDFromBytes(("open-session-in-view-benchmark-product-" + index).getBytes()), "Product " + index, "Description of product " + index, price, price, "https://example.com/" + index + ".jpg", CATEGORY_ID});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO products (product_id, product_name, description, list_price, current_price, product_status, image_url, category_id)
+                VALUES (?, ?, ?, ?, ?, 'AVAILABLE', ?, ?)
+                """, products);
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/categories/" + CATEGORY_ID + "/products?after=&size=" + PRODUCT_COUNT)).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Timer connectionHold = context.getBean(MeterRegistry.class).find("app.request.db.connection.hold").tag("uri", ENDPOINT).timer();
+        if (connectionHold != null) {
+            log.info("open-in-view={}: {} requests, mean connection hold {} ms", openInView, connectionHold.count(),
+                    String.format("%.3f", connectionHold.mean(TimeUnit.MILLISECONDS)));
+        }
+        deleteData();
+        context.close();
+    }
+
+    @Benchmark
+    public int categoryProducts() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + new String(response.body()));
+        }
+        return response.body().length;
+    }
+
+    private void deleteData() {
+        jdbcTemplate.update("DELETE FROM products WHERE category_id = ?", CATEGORY_ID);
+        jdbcTemplate.update("DELETE FROM categories WHERE category_id = ?", CATEGORY_ID);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        List<String> jvmArgs = new ArrayList<>();
+        for (String property : JDBC_PROPERTIES) {
+            if (System.getProperty(property) != null) {
+                jvmArgs.add("-D" + property + "=" + System.getProperty(property));
+            }
+        }
+        Options options = new OptionsBuilder()
+                .include(OpenSessionInViewLoadBenchmark.class.getSimpleName())
+                .jvmArgsAppend(jvmArgs.toArray(new String[0]))
+                .build();
+        new Runner(options).run();
+    }
+}
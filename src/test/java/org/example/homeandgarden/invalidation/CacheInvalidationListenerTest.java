@@ -0,0 +1,93 @@
+package org.example.homeandgarden.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    private static final String INSTANCE_ID = "3b2c7a4e-6f55-4e63-9d0a-1f1b5c9e8d21";
+    private static final String OTHER_INSTANCE_ID = "a5d0e2f1-0c3b-4f4e-8b8e-2d6c1e7f9a30";
+    private static final UUID PRODUCT_ID = UUID.fromString("f81d4fae-7dec-11d0-a765-00a0c91e6bf6");
+    private static final UUID CATEGORY_ID = UUID.fromString("d167268d-305b-426e-9f6f-998da4c2ff76");
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    @Mock
+    private CacheInvalidationHandler firstHandler;
+
+    @Mock
+    private CacheInvalidationHandler secondHandler;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        when(publisher.getInstanceId()).thenReturn(INSTANCE_ID);
+        listener = new CacheInvalidationListener(new DataSourceProperties(), List.of(firstHandler, secondHandler), publisher,
+                meterRegistry, Duration.ofSeconds(10), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void handle_shouldPassInvalidationOfOtherInstanceToEveryHandler() {
+
+        CacheInvalidation invalidation = CacheInvalidation.product(PRODUCT_ID, CATEGORY_ID);
+        doThrow(new IllegalStateException("Cache closed")).when(firstHandler).evict(invalidation);
+
+        listener.handle(OTHER_INSTANCE_ID + " " + invalidation.encode());
+
+        verify(firstHandler).evict(invalidation);
+        verify(secondHandler).evict(invalidation);
+        assertEquals(1.0, meterRegistry.get("app.cache.invalidation.received").counter().count());
+    }
+
+    @Test
+    void handle_shouldSkipOwnInvalidation() {
+
+        listener.handle(INSTANCE_ID + " " + CacheInvalidation.category(CATEGORY_ID).encode());
+
+        verifyNoInteractions(firstHandler, secondHandler);
+        assertEquals(0.0, meterRegistry.get("app.cache.invalidation.received").counter().count());
+    }
+
+    @Test
+    void handle_shouldEvictAllEntries_whenInvalidationIsUnknown() {
+
+        listener.handle(OTHER_INSTANCE_ID + " PRICE_LIST:" + PRODUCT_ID + ":");
+
+        verify(firstHandler).evictAll();
+        verify(secondHandler).evictAll();
+        verify(firstHandler, never()).evict(any());
+        assertEquals(1.0, meterRegistry.get("app.cache.invalidation.flushes").counter().count());
+    }
+
+    @Test
+    void decode_shouldRestoreEncodedInvalidation() {
+
+        CacheInvalidation categoryProducts = CacheInvalidation.categoryProducts(CATEGORY_ID);
+        CacheInvalidation products = CacheInvalidation.products();
+        CacheInvalidation revokedAccessToken = CacheInvalidation.revokedAccessToken(PRODUCT_ID, Instant.ofEpochMilli(1_790_000_000_000L));
+
+        assertEquals(categoryProducts, CacheInvalidation.decode(categoryProducts.encode()));
+        assertEquals(products, CacheInvalidation.decode(products.encode()));
+        assertEquals(revokedAccessToken, CacheInvalidation.decode(revokedAccessToken.encode()));
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.decode("PRODUCT:" + PRODUCT_ID));
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.decode("PRODUCT:not-a-uuid:"));
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.homeandgarden.logging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogFormatterTest {
+
+    @Test
+    void result_shouldSummarizePageInsteadOfRenderingContent() {
+
+        PageImpl<String> page = new PageImpl<>(List.of("First Product", "Second Product"), PageRequest.of(1, 2), 10);
+
+        String summary = LogFormatter.result(ResponseEntity.status(HttpStatus.OK).body(page), 300).toString();
+
+        assertEquals("ResponseEntity[status=200, body=Page<String>[number=1, size=2, elements=2, totalElements=10, totalPages=5]]", summary);
+    }
+
+    @Test
+    void result_shouldSummarizeCollectionBySize() {
+
+        String summary = LogFormatter.result(List.of("First Product", "Second Product", "Third Product"), 300).toString();
+
+        assertTrue(summary.endsWith("<String>[size=3]"));
+        assertFalse(summary.contains("First Product"));
+    }
+
+    @Test
+    void arguments_shouldTruncateLongValues() {
+
+        String longValue = "x".repeat(50);
+
+        String formatted = LogFormatter.arguments(new Object[]{"id", longValue, null}, 10).toString();
+
+        assertEquals("[id, xxxxxxxxxx...(50 chars), null]", formatted);
+    }
+
+    @Test
+    void arguments_shouldNotFormatUntilRendered() {
+
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("Formatted eagerly.");
+            }
+        };
+
+        Object formatted = LogFormatter.arguments(new Object[]{argument}, 300);
+
+        assertThrows(IllegalStateException.class, formatted::toString);
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.homeandgarden.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the overhead the logging aspect adds to one service call returning a list of 20 products.
+ * <p>
+ * Log events are formatted by an appender that discards the output, so the numbers include message formatting
+ * but not console or file I/O. {@code legacy} reproduces the previous aspect (eager argument formatting,
+ * full result rendering and a random UUID per call).
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.example.homeandgarden.logging.LoggingAspectBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    private CatalogService direct;
+    private CatalogService legacy;
+    private CatalogService full;
+    private CatalogService sampled;
+    private CatalogService errorsOnly;
+
+    @Setup
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger rootLogger = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        rootLogger.detachAndStopAllAppenders();
+        AppenderBase<ILoggingEvent> discardingAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                event.getFormattedMessage();
+            }
+        };
+        discardingAppender.setContext(loggerContext);
+        discardingAppender.start();
+        rootLogger.addAppender(discardingAppender);
+        rootLogger.setLevel(Level.INFO);
+
+        direct = new CatalogService();
+        legacy = proxy(new LegacyLoggingAspect());
+        full = proxy(new LoggingAspect(LoggingMode.FULL, 1.0, 1.0, 300));
+        sampled = proxy(new LoggingAspect(LoggingMode.SAMPLED, 1.0, 0.1, 300));
+        errorsOnly = proxy(new LoggingAspect(LoggingMode.ERRORS_ONLY, 1.0, 1.0, 300));
+    }
+
+    @Benchmark
+    public List<String> direct() {
+        return direct.getProducts("category", 20, 0);
+    }
+
+    @Benchmark
+    public List<String> legacy() {
+        return legacy.getProducts("category", 20, 0);
+    }
+
+    @Benchmark
+    public List<String> full() {
+        return full.getProducts("category", 20, 0);
+    }
+
+    @Benchmark
+    public List<String> sampled() {
+        return sampled.getProducts("category", 20, 0);
+    }
+
+    @Benchmark
+    public List<String> errorsOnly() {
+        return errorsOnly.getProducts("category", 20, 0);
+    }
+
+    private static CatalogService proxy(Object aspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CatalogService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+
+    @Service
+    public static class CatalogService {
+
+        private static final List<String> PRODUCTS = IntStream.range(0, 20)
+                .mapToObj(i -> "ProductResponse(productId=" + UUID.nameUUIDFromBytes(new byte[]{(byte) i}) + ", productName=Product " + i + ", description=Garden product number " + i + ")")
+                .toList();
+
+        public List<String> getProducts(String categoryId, Integer size, Integer page) {
+            return PRODUCTS;
+        }
+    }
+
+    @Slf4j
+    @Aspect
+    public static class LegacyLoggingAspect {
+
+        @Around("@within(org.springframework.stereotype.Service)")
+        public Object logExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+            long startTime = System.currentTimeMillis();
+
+            String methodName = joinPoint.getSignature().getName();
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            String argsAsString = Arrays.toString(joinPoint.getArgs());
+
+            if (MDC.get("REQUEST_ID") == null) {
+                MDC.put("REQUEST_ID", UUID.randomUUID().toString());
+            }
+            MDC.put("LAYER", "SERVICE");
+            MDC.put("METHOD", methodName);
+
+            log.info("[START] {} | args={}", className + "." + methodName, argsAsString);
+            try {
+                Object result = joinPoint.proceed();
+                long duration = System.currentTimeMillis() - startTime;
+                MDC.put("DURATION", duration + "ms");
+                log.info("[END] {} | duration={} ms | result={}", className + "." + methodName, duration, result);
+                return result;
+            } finally {
+                MDC.clear();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LoggingAspectBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
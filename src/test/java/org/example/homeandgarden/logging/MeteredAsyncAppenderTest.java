@@ -0,0 +1,114 @@
+package org.example.homeandgarden.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredAsyncAppenderTest {
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+    private BlockedAppender blockedAppender;
+    private MeteredAsyncAppender asyncAppender;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+        logger = loggerContext.getLogger(MeteredAsyncAppenderTest.class);
+
+        blockedAppender = new BlockedAppender();
+        blockedAppender.setContext(loggerContext);
+        blockedAppender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockedAppender.release.countDown();
+        asyncAppender.stop();
+        loggerContext.stop();
+    }
+
+    @Test
+    void append_shouldCountEventsDroppedWhenQueueIsFull() throws InterruptedException {
+
+        startAsyncAppender(4, 0);
+        occupyWorker();
+
+        for (int i = 0; i < 7; i++) {
+            asyncAppender.doAppend(event(Level.WARN));
+        }
+
+        assertEquals(4, asyncAppender.getNumberOfElementsInQueue());
+        assertEquals(3, asyncAppender.getDroppedEventCount());
+        assertEquals(0, asyncAppender.getDiscardedEventCount());
+    }
+
+    @Test
+    void append_shouldCountInfoEventsDiscardedBelowThresholdAndKeepWarnings() throws InterruptedException {
+
+        startAsyncAppender(4, 2);
+        occupyWorker();
+
+        for (int i = 0; i < 4; i++) {
+            asyncAppender.doAppend(event(Level.INFO));
+        }
+        asyncAppender.doAppend(event(Level.WARN));
+
+        assertEquals(4, asyncAppender.getNumberOfElementsInQueue());
+        assertEquals(1, asyncAppender.getDiscardedEventCount());
+        assertEquals(0, asyncAppender.getDroppedEventCount());
+    }
+
+    private void startAsyncAppender(int queueSize, int discardingThreshold) {
+        asyncAppender = new MeteredAsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setName("ASYNC_TEST");
+        asyncAppender.setQueueSize(queueSize);
+        asyncAppender.setDiscardingThreshold(discardingThreshold);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setMaxFlushTime(100);
+        asyncAppender.addAppender(blockedAppender);
+        asyncAppender.start();
+    }
+
+    /**
+     * Hands one event to the worker thread and waits until the worker is stuck writing it, so the queue only fills up.
+     */
+    private void occupyWorker() throws InterruptedException {
+        asyncAppender.doAppend(event(Level.WARN));
+        assertTrue(blockedAppender.writing.await(5, TimeUnit.SECONDS));
+    }
+
+    private ILoggingEvent event(Level level) {
+        return new LoggingEvent(MeteredAsyncAppenderTest.class.getName(), logger, level, "message", null, null);
+    }
+
+    private static class BlockedAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
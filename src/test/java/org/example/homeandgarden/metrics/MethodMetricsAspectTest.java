@@ -0,0 +1,72 @@
+package org.example.homeandgarden.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.homeandgarden.exception.DataNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CatalogService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MethodMetricsAspect(meterRegistry));
+        catalogService = proxyFactory.getProxy();
+    }
+
+    @Test
+    void timeExecution_shouldRecordSuccessfulCallsPerMethod() {
+
+        catalogService.findProduct("1");
+        catalogService.findProduct("2");
+
+        Timer timer = meterRegistry.get(MethodMetricsAspect.METRIC_NAME)
+                .tag("class", "CatalogService")
+                .tag("method", "findProduct")
+                .tag("outcome", "SUCCESS")
+                .tag("exception", "none")
+                .timer();
+
+        assertEquals(2, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void timeExecution_shouldRecordFailedCallsWithExceptionTypeAndRethrow() {
+
+        assertThrows(DataNotFoundException.class, () -> catalogService.findProduct("missing"));
+
+        Timer timer = meterRegistry.get(MethodMetricsAspect.METRIC_NAME)
+                .tag("method", "findProduct")
+                .tag("outcome", "ERROR")
+                .tag("exception", "DataNotFoundException")
+                .timer();
+
+        assertEquals(1, timer.count());
+        assertNull(meterRegistry.find(MethodMetricsAspect.METRIC_NAME).tag("outcome", "SUCCESS").timer());
+    }
+
+    @Service
+    public static class CatalogService {
+
+        public String findProduct(String productId) {
+            if ("missing".equals(productId)) {
+                throw new DataNotFoundException("Product not found.");
+            }
+            return "Product " + productId;
+        }
+    }
+}
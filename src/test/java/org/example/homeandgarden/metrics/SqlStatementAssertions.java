@@ -0,0 +1,54 @@
+package org.example.homeandgarden.metrics;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test helpers asserting an upper bound on the SQL statements issued by a call or an HTTP request,
+ * so N+1 regressions fail the build instead of showing up in production.
+ */
+public final class SqlStatementAssertions {
+
+    private static final Pattern STATEMENTS = Pattern.compile("statements=(\\d+)");
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Runs the call (e.g. a repository or service method in a {@code @DataJpaTest}) and fails
+     * if it executed more than {@code maxStatements} statements.
+     */
+    public static <T> T assertMaxStatements(int maxStatements, ThrowingSupplier<T> call) throws Throwable {
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+        try {
+            T result = call.get();
+            assertTrue(statistics.getStatementCount() <= maxStatements,
+                    String.format("Expected at most %d SQL statements but %d were executed.", maxStatements, statistics.getStatementCount()));
+            return result;
+        } finally {
+            SqlStatementStatistics.stop();
+        }
+    }
+
+    /**
+     * MockMvc matcher reading the {@value SqlStatisticsResponseAdvice#HEADER_NAME} header,
+     * requires {@code app.sql.debug-header.enabled=true} in the test.
+     */
+    public static ResultMatcher maxStatements(int maxStatements) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatisticsResponseAdvice.HEADER_NAME);
+            assertNotNull(header, "Response has no " + SqlStatisticsResponseAdvice.HEADER_NAME + " header, is app.sql.debug-header.enabled set?");
+
+            Matcher matcher = STATEMENTS.matcher(header);
+            assertTrue(matcher.find(), "Unexpected header value: " + header);
+            int statementCount = Integer.parseInt(matcher.group(1));
+            assertTrue(statementCount <= maxStatements,
+                    String.format("Expected at most %d SQL statements but %d were executed.", maxStatements, statementCount));
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.homeandgarden.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementStatisticsTest {
+
+    private final SqlStatementCountingInspector inspector = new SqlStatementCountingInspector();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementStatistics.stop();
+    }
+
+    @Test
+    void shapeOf_shouldCollapseLiteralsParameterListsAndWhitespace() {
+
+        String first = SqlStatementStatistics.shapeOf("select p1_0.product_id from products p1_0\n where p1_0.product_id in (?, ?, ?) and p1_0.status='ACTIVE' limit 10");
+        String second = SqlStatementStatistics.shapeOf("SELECT p1_0.product_id FROM products p1_0 WHERE p1_0.product_id IN (?) AND p1_0.status='INACTIVE' LIMIT 20");
+
+        assertEquals("select p1_0.product_id from products p1_0 where p1_0.product_id in (?) and p1_0.status=? limit ?", first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void inspect_shouldCountStatementsAndReportRepeatedShapes() {
+
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+
+        inspector.inspect("select * from orders o1_0 where o1_0.user_id=?");
+        for (int i = 0; i < 4; i++) {
+            inspector.inspect("select * from products p1_0 where p1_0.product_id=?");
+        }
+
+        assertEquals(5, statistics.getStatementCount());
+        assertEquals(Map.of("select * from products p1_0 where p1_0.product_id=?", 4), statistics.getRepeatedStatements(3));
+        assertTrue(statistics.getRepeatedStatements(4).isEmpty());
+    }
+
+    @Test
+    void inspect_shouldReturnSqlUnchangedAndIgnoreThreadsWithoutCollection() {
+
+        String sql = "select * from categories";
+
+        assertEquals(sql, inspector.inspect(sql));
+        assertTrue(SqlStatementStatistics.current().isEmpty());
+    }
+
+    @Test
+    void jdbcTimingSessionListener_shouldAddConnectionHoldTimeOfEveryAcquisition() throws InterruptedException {
+
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+        JdbcTimingSessionListener listener = new JdbcTimingSessionListener();
+
+        listener.jdbcConnectionAcquisitionEnd();
+        Thread.sleep(5);
+        listener.jdbcConnectionReleaseEnd();
+        long firstHold = statistics.getConnectionHoldNanos();
+
+        listener.jdbcConnectionAcquisitionEnd();
+        Thread.sleep(5);
+        listener.jdbcConnectionReleaseEnd();
+
+        assertTrue(firstHold >= 5_000_000);
+        assertTrue(statistics.getConnectionHoldNanos() >= firstHold + 5_000_000);
+        assertEquals(0, statistics.getJdbcNanos());
+    }
+
+    @Test
+    void assertMaxStatements_shouldFailWhenLimitIsExceeded() {
+
+        assertThrows(AssertionError.class, () -> SqlStatementAssertions.assertMaxStatements(1, () -> {
+            inspector.inspect("select * from products p1_0 where p1_0.product_id=?");
+            return inspector.inspect("select * from products p1_0 where p1_0.product_id=?");
+        }));
+        assertTrue(SqlStatementStatistics.current().isEmpty());
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.homeandgarden.order.repository;
+
+import org.example.homeandgarden.order.entity.Order;
+import org.example.homeandgarden.order.entity.enums.DeliveryMethod;
+import org.example.homeandgarden.order.entity.enums.OrderStatus;
+import org.example.homeandgarden.user.entity.User;
+import org.example.homeandgarden.user.entity.enums.UserRole;
+import org.example.homeandgarden.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private UUID userId;
+    private UUID orderId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(User.builder()
+                    .email("order.lock." + UUID.randomUUID() + "@example.com")
+                    .passwordHash("hash")
+                    .firstName("Order")
+                    .lastName("Lock")
+                    .userRole(UserRole.CLIENT)
+                    .build());
+            Order order = orderRepository.save(Order.builder()
+                    .firstName("Order")
+                    .lastName("Lock")
+                    .address("Main Street 1")
+                    .zipCode("12345")
+                    .city("Berlin")
+                    .phone("+491234567890")
+                    .deliveryMethod(DeliveryMethod.COURIER_DELIVERY)
+                    .user(user)
+                    .build());
+            userId = user.getUserId();
+            orderId = order.getOrderId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.deleteById(orderId);
+            userRepository.deleteById(userId);
+        });
+    }
+
+    @Test
+    void findForUpdateByOrderId_shouldMakeConcurrentStatusChangeWaitForCommitOfFirstOne() throws Exception {
+
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<OrderStatus> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                Order order = orderRepository.findForUpdateByOrderId(orderId).orElseThrow();
+                firstLocked.countDown();
+                sleep(300);
+                return advance(order);
+            }));
+            assertTrue(firstLocked.await(5, TimeUnit.SECONDS));
+
+            Future<OrderStatus> second = executor.submit(() -> transactionTemplate.execute(status ->
+                    advance(orderRepository.findForUpdateByOrderId(orderId).orElseThrow())));
+
+            assertEquals(OrderStatus.CREATED, first.get(10, TimeUnit.SECONDS));
+            assertEquals(OrderStatus.PAID, second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(OrderStatus.ON_THE_WAY, orderRepository.findById(orderId).orElseThrow().getOrderStatus());
+    }
+
+    private static OrderStatus advance(Order order) {
+        OrderStatus initialStatus = order.getOrderStatus();
+        order.setOrderStatus(initialStatus == OrderStatus.CREATED ? OrderStatus.PAID : OrderStatus.ON_THE_WAY);
+        return initialStatus;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
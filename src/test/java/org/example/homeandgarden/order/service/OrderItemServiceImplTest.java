@@ -3,16 +3,14 @@ package org.example.homeandgarden.order.service;
 import org.example.homeandgarden.exception.DataNotFoundException;
 import org.example.homeandgarden.order.dto.OrderItemResponse;
 import org.example.homeandgarden.order.entity.Order;
-import org.example.homeandgarden.order.entity.OrderItem;
+import org.example.homeandgarden.order.entity.OrderItemProjection;
 import org.example.homeandgarden.order.entity.enums.DeliveryMethod;
 import org.example.homeandgarden.order.entity.enums.OrderStatus;
 import org.example.homeandgarden.order.mapper.OrderItemMapper;
 import org.example.homeandgarden.order.repository.OrderItemRepository;
 import org.example.homeandgarden.order.repository.OrderRepository;
 import org.example.homeandgarden.product.dto.ProductResponse;
-import org.example.homeandgarden.product.entity.Product;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
-import org.example.homeandgarden.product.mapper.ProductMapper;
 import org.example.homeandgarden.user.entity.User;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,9 +40,6 @@ class OrderItemServiceImplTest {
     @Mock
     private OrderItemMapper orderItemMapper;
 
-    @Mock
-    private ProductMapper productMapper;
-
     @InjectMocks
     private OrderItemServiceImpl orderItemService;
 
@@ -69,7 +64,10 @@ class OrderItemServiceImplTest {
 
         Pageable pageRequest = PageRequest.of(PAGE, SIZE, Sort.Direction.fromString(ORDER), SORT_BY);
 
-        Product product1 = Product.builder()
+        OrderItemProjection orderItem1 = OrderItemProjection.builder()
+                .orderItemId(UUID.randomUUID())
+                .quantity(3)
+                .priceAtPurchase(BigDecimal.valueOf(40.00))
                 .productId(UUID.randomUUID())
                 .productName("Product One")
                 .listPrice(BigDecimal.valueOf(40.00))
@@ -79,16 +77,11 @@ class OrderItemServiceImplTest {
                 .updatedAt(TIMESTAMP_PAST)
                 .build();
 
-        OrderItem orderItem1 = OrderItem.builder()
-                .orderItemId(UUID.randomUUID())
-                .quantity(3)
-                .priceAtPurchase(BigDecimal.valueOf(40.00))
-                .order(Order.builder().build())
-                .product(product1)
-                .build();
-
 
-        Product product2 = Product.builder()
+        OrderItemProjection orderItem2 = OrderItemProjection.builder()
+                .orderItemId(UUID.randomUUID())
+                .quantity(1)
+                .priceAtPurchase(BigDecimal.valueOf(15.00))
                 .productId(UUID.randomUUID())
                 .productName("Product Two")
                 .listPrice(BigDecimal.valueOf(20.00))
@@ -98,27 +91,19 @@ class OrderItemServiceImplTest {
                 .updatedAt(TIMESTAMP_PAST)
                 .build();
 
-        OrderItem orderItem2 = OrderItem.builder()
-                .orderItemId(UUID.randomUUID())
-                .quantity(1)
-                .priceAtPurchase(BigDecimal.valueOf(15.00))
-                .order(Order.builder().build())
-                .product(product2)
-                .build();
-
-        List<OrderItem> orderItems = List.of(orderItem1, orderItem2);
-        Page<OrderItem> orderItemPage = new PageImpl<>(orderItems, pageRequest, orderItems.size());
+        List<OrderItemProjection> orderItems = List.of(orderItem1, orderItem2);
+        Page<OrderItemProjection> orderItemPage = new PageImpl<>(orderItems, pageRequest, orderItems.size());
         long expectedTotalPages = (long) Math.ceil((double) orderItems.size() / SIZE);
 
 
         ProductResponse productResponse1 = ProductResponse.builder()
-                .productId(product1.getProductId())
-                .productName(product1.getProductName())
-                .listPrice(product1.getListPrice())
-                .currentPrice(product1.getCurrentPrice())
-                .productStatus(product1.getProductStatus())
-                .addedAt(product1.getAddedAt())
-                .updatedAt(product1.getUpdatedAt())
+                .productId(orderItem1.getProductId())
+                .productName(orderItem1.getProductName())
+                .listPrice(orderItem1.getListPrice())
+                .currentPrice(orderItem1.getCurrentPrice())
+                .productStatus(orderItem1.getProductStatus())
+                .addedAt(orderItem1.getAddedAt())
+                .updatedAt(orderItem1.getUpdatedAt())
                 .build();
 
         OrderItemResponse orderItemResponse1 = OrderItemResponse.builder()
@@ -129,13 +114,13 @@ class OrderItemServiceImplTest {
                 .build();
 
         ProductResponse productResponse2 = ProductResponse.builder()
-                .productId(product2.getProductId())
-                .productName(product2.getProductName())
-                .listPrice(product2.getListPrice())
-                .currentPrice(product2.getCurrentPrice())
-                .productStatus(product2.getProductStatus())
-                .addedAt(product2.getAddedAt())
-                .updatedAt(product2.getUpdatedAt())
+                .productId(orderItem2.getProductId())
+                .productName(orderItem2.getProductName())
+                .listPrice(orderItem2.getListPrice())
+                .currentPrice(orderItem2.getCurrentPrice())
+                .productStatus(orderItem2.getProductStatus())
+                .addedAt(orderItem2.getAddedAt())
+                .updatedAt(orderItem2.getUpdatedAt())
                 .build();
 
         OrderItemResponse orderItemResponse2 = OrderItemResponse.builder()
@@ -146,20 +131,16 @@ class OrderItemServiceImplTest {
                 .build();
 
         when(orderRepository.existsByOrderId(ORDER_ID)).thenReturn(true);
-        when(orderItemRepository.findByOrderOrderId(ORDER_ID, pageRequest)).thenReturn(orderItemPage);
-        when(productMapper.productToResponse(product1)).thenReturn(productResponse1);
-        when(orderItemMapper.orderItemToResponse(orderItem1, productResponse1)).thenReturn(orderItemResponse1);
-        when(productMapper.productToResponse(product2)).thenReturn(productResponse2);
-        when(orderItemMapper.orderItemToResponse(orderItem2, productResponse2)).thenReturn(orderItemResponse2);
+        when(orderItemRepository.findOrderItemList(ORDER_ID, pageRequest)).thenReturn(orderItemPage);
+        when(orderItemMapper.orderItemProjectionToResponse(orderItem1)).thenReturn(orderItemResponse1);
+        when(orderItemMapper.orderItemProjectionToResponse(orderItem2)).thenReturn(orderItemResponse2);
 
         Page<OrderItemResponse> actualResponse = orderItemService.getUserOrderItems(ORDER_ID.toString(), SIZE, PAGE, ORDER, SORT_BY);
 
         verify(orderRepository, times(1)).existsByOrderId(ORDER_ID);
-        verify(orderItemRepository, times(1)).findByOrderOrderId(ORDER_ID, pageRequest);
-        verify(productMapper, times(1)).productToResponse(product1);
-        verify(orderItemMapper, times(1)).orderItemToResponse(orderItem1, productResponse1);
-        verify(productMapper, times(1)).productToResponse(product2);
-        verify(orderItemMapper, times(1)).orderItemToResponse(orderItem2, productResponse2);
+        verify(orderItemRepository, times(1)).findOrderItemList(ORDER_ID, pageRequest);
+        verify(orderItemMapper, times(1)).orderItemProjectionToResponse(orderItem1);
+        verify(orderItemMapper, times(1)).orderItemProjectionToResponse(orderItem2);
 
         assertNotNull(actualResponse);
         assertNotNull(actualResponse.getContent());
@@ -181,9 +162,8 @@ class OrderItemServiceImplTest {
                 orderItemService.getUserOrderItems(INVALID_ID, SIZE, PAGE, ORDER, SORT_BY));
 
         verify(orderRepository, never()).existsByOrderId(any(UUID.class));
-        verify(orderItemRepository, never()).findByOrderOrderId(any(UUID.class), any(PageRequest.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
-        verify(orderItemMapper, never()).orderItemToResponse(any(OrderItem.class), any(ProductResponse.class));
+        verify(orderItemRepository, never()).findOrderItemList(any(UUID.class), any(PageRequest.class));
+        verify(orderItemMapper, never()).orderItemProjectionToResponse(any(OrderItemProjection.class));
     }
 
     @Test
@@ -195,9 +175,8 @@ class OrderItemServiceImplTest {
 
         verify(orderRepository, times(1)).existsByOrderId(NON_EXISTING_ORDER_ID);
 
-        verify(orderItemRepository, never()).findByOrderOrderId(any(UUID.class), any(PageRequest.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
-        verify(orderItemMapper, never()).orderItemToResponse(any(OrderItem.class), any(ProductResponse.class));
+        verify(orderItemRepository, never()).findOrderItemList(any(UUID.class), any(PageRequest.class));
+        verify(orderItemMapper, never()).orderItemProjectionToResponse(any(OrderItemProjection.class));
 
         assertEquals(String.format("Order with id: %s, was not found.", NON_EXISTING_ORDER_ID), thrownException.getMessage());
     }
@@ -222,7 +201,10 @@ class OrderItemServiceImplTest {
 
         Pageable pageRequest = PageRequest.of(PAGE, SIZE, Sort.Direction.fromString(ORDER), SORT_BY);
 
-        Product product1 = Product.builder()
+        OrderItemProjection orderItem1 = OrderItemProjection.builder()
+                .orderItemId(UUID.randomUUID())
+                .quantity(3)
+                .priceAtPurchase(BigDecimal.valueOf(40.00))
                 .productId(UUID.randomUUID())
                 .productName("Product One")
                 .listPrice(BigDecimal.valueOf(40.00))
@@ -232,15 +214,10 @@ class OrderItemServiceImplTest {
                 .updatedAt(TIMESTAMP_PAST)
                 .build();
 
-        OrderItem orderItem1 = OrderItem.builder()
+        OrderItemProjection orderItem2 = OrderItemProjection.builder()
                 .orderItemId(UUID.randomUUID())
-                .quantity(3)
-                .priceAtPurchase(BigDecimal.valueOf(40.00))
-                .order(Order.builder().build())
-                .product(product1)
-                .build();
-
-        Product product2 = Product.builder()
+                .quantity(1)
+                .priceAtPurchase(BigDecimal.valueOf(15.00))
                 .productId(UUID.randomUUID())
                 .productName("Product Two")
                 .listPrice(BigDecimal.valueOf(20.00))
@@ -250,26 +227,18 @@ class OrderItemServiceImplTest {
                 .updatedAt(TIMESTAMP_PAST)
                 .build();
 
-        OrderItem orderItem2 = OrderItem.builder()
-                .orderItemId(UUID.randomUUID())
-                .quantity(1)
-                .priceAtPurchase(BigDecimal.valueOf(15.00))
-                .order(Order.builder().build())
-                .product(product2)
-                .build();
-
-        List<OrderItem> orderItems = List.of(orderItem1, orderItem2);
-        Page<OrderItem> orderItemPage = new PageImpl<>(orderItems, pageRequest, orderItems.size());
+        List<OrderItemProjection> orderItems = List.of(orderItem1, orderItem2);
+        Page<OrderItemProjection> orderItemPage = new PageImpl<>(orderItems, pageRequest, orderItems.size());
         long expectedTotalPages = (long) Math.ceil((double) orderItems.size() / SIZE);
 
         ProductResponse productResponse1 = ProductResponse.builder()
-                .productId(product1.getProductId())
-                .productName(product1.getProductName())
-                .listPrice(product1.getListPrice())
-                .currentPrice(product1.getCurrentPrice())
-                .productStatus(product1.getProductStatus())
-                .addedAt(product1.getAddedAt())
-                .updatedAt(product1.getUpdatedAt())
+                .productId(orderItem1.getProductId())
+                .productName(orderItem1.getProductName())
+                .listPrice(orderItem1.getListPrice())
+                .currentPrice(orderItem1.getCurrentPrice())
+                .productStatus(orderItem1.getProductStatus())
+                .addedAt(orderItem1.getAddedAt())
+                .updatedAt(orderItem1.getUpdatedAt())
                 .build();
 
         OrderItemResponse orderItemResponse1 = OrderItemResponse.builder()
@@ -280,13 +249,13 @@ class OrderItemServiceImplTest {
                 .build();
 
         ProductResponse productResponse2 = ProductResponse.builder()
-                .productId(product2.getProductId())
-                .productName(product2.getProductName())
-                .listPrice(product2.getListPrice())
-                .currentPrice(product2.getCurrentPrice())
-                .productStatus(product2.getProductStatus())
-                .addedAt(product2.getAddedAt())
-                .updatedAt(product2.getUpdatedAt())
+                .productId(orderItem2.getProductId())
+                .productName(orderItem2.getProductName())
+                .listPrice(orderItem2.getListPrice())
+                .currentPrice(orderItem2.getCurrentPrice())
+                .productStatus(orderItem2.getProductStatus())
+                .addedAt(orderItem2.getAddedAt())
+                .updatedAt(orderItem2.getUpdatedAt())
                 .build();
 
         OrderItemResponse orderItemResponse2 = OrderItemResponse.builder()
@@ -297,20 +266,16 @@ class OrderItemServiceImplTest {
                 .build();
 
         when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
-        when(orderItemRepository.findByOrderOrderId(ORDER_ID, pageRequest)).thenReturn(orderItemPage);
-        when(productMapper.productToResponse(product1)).thenReturn(productResponse1);
-        when(orderItemMapper.orderItemToResponse(orderItem1, productResponse1)).thenReturn(orderItemResponse1);
-        when(productMapper.productToResponse(product2)).thenReturn(productResponse2);
-        when(orderItemMapper.orderItemToResponse(orderItem2, productResponse2)).thenReturn(orderItemResponse2);
+        when(orderItemRepository.findOrderItemList(ORDER_ID, pageRequest)).thenReturn(orderItemPage);
+        when(orderItemMapper.orderItemProjectionToResponse(orderItem1)).thenReturn(orderItemResponse1);
+        when(orderItemMapper.orderItemProjectionToResponse(orderItem2)).thenReturn(orderItemResponse2);
 
         Page<OrderItemResponse> actualResponse = orderItemService.getMyOrderItems(USER_EMAIL, ORDER_ID.toString(), SIZE, PAGE, ORDER, SORT_BY);
 
         verify(orderRepository, times(1)).findById(ORDER_ID);
-        verify(orderItemRepository, times(1)).findByOrderOrderId(ORDER_ID, pageRequest);
-        verify(productMapper, times(1)).productToResponse(product1);
-        verify(orderItemMapper, times(1)).orderItemToResponse(orderItem1, productResponse1);
-        verify(productMapper, times(1)).productToResponse(product2);
-        verify(orderItemMapper, times(1)).orderItemToResponse(orderItem2, productResponse2);
+        verify(orderItemRepository, times(1)).findOrderItemList(ORDER_ID, pageRequest);
+        verify(orderItemMapper, times(1)).orderItemProjectionToResponse(orderItem1);
+        verify(orderItemMapper, times(1)).orderItemProjectionToResponse(orderItem2);
 
         assertNotNull(actualResponse);
         assertNotNull(actualResponse.getContent());
@@ -332,9 +297,8 @@ class OrderItemServiceImplTest {
                 orderItemService.getMyOrderItems(USER_EMAIL, INVALID_ID, SIZE, PAGE, ORDER, SORT_BY));
 
         verify(orderRepository, never()).findById(any(UUID.class));
-        verify(orderItemRepository, never()).findByOrderOrderId(any(UUID.class), any(PageRequest.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
-        verify(orderItemMapper, never()).orderItemToResponse(any(OrderItem.class), any(ProductResponse.class));
+        verify(orderItemRepository, never()).findOrderItemList(any(UUID.class), any(PageRequest.class));
+        verify(orderItemMapper, never()).orderItemProjectionToResponse(any(OrderItemProjection.class));
     }
 
     @Test
@@ -346,9 +310,8 @@ class OrderItemServiceImplTest {
 
         verify(orderRepository, times(1)).findById(NON_EXISTING_ORDER_ID);
 
-        verify(orderItemRepository, never()).findByOrderOrderId(any(UUID.class), any(PageRequest.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
-        verify(orderItemMapper, never()).orderItemToResponse(any(OrderItem.class), any(ProductResponse.class));
+        verify(orderItemRepository, never()).findOrderItemList(any(UUID.class), any(PageRequest.class));
+        verify(orderItemMapper, never()).orderItemProjectionToResponse(any(OrderItemProjection.class));
 
         assertEquals(String.format("Order with id: %s, was not found.", NON_EXISTING_ORDER_ID), thrownException.getMessage());
     }
@@ -15,6 +15,8 @@ import org.example.homeandgarden.order.mapper.OrderMapper;
 import org.example.homeandgarden.order.repository.OrderRepository;
 import org.example.homeandgarden.product.entity.Product;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.service.DailyRevenueService;
+import org.example.homeandgarden.product.service.ProductSalesStatsService;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.example.homeandgarden.user.entity.User;
 import org.example.homeandgarden.user.entity.enums.UserRole;
@@ -54,6 +56,12 @@ class OrderServiceImplTest {
     @Mock
     private OrderItemMapper orderItemMapper;
 
+    @Mock
+    private ProductSalesStatsService productSalesStatsService;
+
+    @Mock
+    private DailyRevenueService dailyRevenueService;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -311,14 +319,13 @@ class OrderServiceImplTest {
                 .updatedAt(order2.getUpdatedAt())
                 .build();
 
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
         when(orderRepository.findByUserUserId(existingUser.getUserId(), pageRequest)).thenReturn(orderPage);
         when(orderMapper.orderToResponse(order1)).thenReturn(orderResponse1);
         when(orderMapper.orderToResponse(order2)).thenReturn(orderResponse2);
 
-        Page<OrderResponse> actualResponse = orderService.getMyOrders(USER_EMAIL, SIZE, PAGE, ORDER, SORT_BY);
+        Page<OrderResponse> actualResponse = orderService.getMyOrders(existingUser.getUserId(), SIZE, PAGE, ORDER, SORT_BY);
 
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
+        verify(userRepository, never()).findByEmail(anyString());
         verify(orderRepository, times(1)).findByUserUserId(existingUser.getUserId(), pageRequest);
         verify(orderMapper, times(1)).orderToResponse(order1);
         verify(orderMapper, times(1)).orderToResponse(order2);
@@ -336,20 +343,6 @@ class OrderServiceImplTest {
         assertEquals(orderResponse2.getOrderId(), actualResponse.getContent().get(1).getOrderId());
     }
 
-    @Test
-    void getMyOrders_shouldThrowDataNotFoundExceptionWhenUserDoesNotExist() {
-
-        when(userRepository.findByEmail(NON_EXISTING_USER_EMAIL)).thenReturn(Optional.empty());
-
-        DataNotFoundException thrownException = assertThrows(DataNotFoundException.class, () -> orderService.getMyOrders(NON_EXISTING_USER_EMAIL, SIZE, PAGE, ORDER, SORT_BY));
-
-        verify(userRepository, times(1)).findByEmail(NON_EXISTING_USER_EMAIL);
-        verify(orderRepository, never()).findByUserUserId(any(UUID.class), any(PageRequest.class));
-        verify(orderMapper, never()).orderToResponse(any(Order.class));
-
-        assertEquals(String.format("User with email: %s, was not found.", NON_EXISTING_USER_EMAIL), thrownException.getMessage());
-    }
-
     @Test
     void getMyOrders_shouldReturnEmptyPagedModelUserHasNoOrders() {
 
@@ -370,12 +363,11 @@ class OrderServiceImplTest {
 
         Page<Order> emptyOrderPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
 
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
         when(orderRepository.findByUserUserId(existingUser.getUserId(), pageRequest)).thenReturn(emptyOrderPage);
 
-        Page<OrderResponse> actualResponse = orderService.getMyOrders(USER_EMAIL, SIZE, PAGE, ORDER, SORT_BY);
+        Page<OrderResponse> actualResponse = orderService.getMyOrders(existingUser.getUserId(), SIZE, PAGE, ORDER, SORT_BY);
 
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
+        verify(userRepository, never()).findByEmail(anyString());
         verify(orderRepository, times(1)).findByUserUserId(existingUser.getUserId(), pageRequest);
         verify(orderMapper, never()).orderToResponse(any(Order.class));
 
@@ -819,6 +811,7 @@ class OrderServiceImplTest {
         assertEquals(ORDER_STATUS_CREATED, capturedOrder.getOrderStatus());
         assertEquals(COURIER_DELIVERY, capturedOrder.getDeliveryMethod());
 
+        verify(productSalesStatsService, times(1)).recordOrderPlaced(addedOrder);
         verify(cartRepository, times(1)).deleteAllInBatch(cartItems);
         verify(orderMapper, times(1)).orderToResponse(addedOrder);
 
@@ -1237,12 +1230,12 @@ class OrderServiceImplTest {
 
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findForUpdateByOrderId(ORDER_ID)).thenReturn(Optional.of(existingOrder));
         when(orderRepository.saveAndFlush(existingOrder)).thenReturn(updatedOrder);
 
         MessageResponse actualResponse = orderService.cancelOrder(USER_EMAIL, ORDER_ID.toString());
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(ORDER_ID);
 
         verify(orderRepository, times(1)).saveAndFlush(orderCaptor.capture());
         Order capturedOrder = orderCaptor.getValue();
@@ -1252,6 +1245,8 @@ class OrderServiceImplTest {
         assertEquals(existingOrder.getDeliveryMethod(), capturedOrder.getDeliveryMethod());
         assertEquals(ORDER_STATUS_CANCELED, capturedOrder.getOrderStatus());
 
+        verify(productSalesStatsService, times(1)).recordStatusChange(updatedOrder, ORDER_STATUS_CREATED);
+
         assertNotNull(actualResponse);
         assertEquals(messageResponse.getMessage(), actualResponse.getMessage());
     }
@@ -1261,18 +1256,18 @@ class OrderServiceImplTest {
 
         assertThrows(IllegalArgumentException.class, () -> orderService.cancelOrder(USER_EMAIL, INVALID_ID));
 
-        verify(orderRepository, never()).findById(any(UUID.class));
+        verify(orderRepository, never()).findForUpdateByOrderId(any(UUID.class));
         verify(orderRepository, never()).saveAndFlush(any(Order.class));
     }
 
     @Test
     void cancelOrder_shouldThrowDataNotFoundExceptionWhenOrderDoesNotExist() {
 
-        when(orderRepository.findById(NON_EXISTING_ORDER_ID)).thenReturn(Optional.empty());
+        when(orderRepository.findForUpdateByOrderId(NON_EXISTING_ORDER_ID)).thenReturn(Optional.empty());
 
         DataNotFoundException thrownException = assertThrows(DataNotFoundException.class, () -> orderService.cancelOrder(USER_EMAIL, NON_EXISTING_ORDER_ID.toString()));
 
-        verify(orderRepository, times(1)).findById(NON_EXISTING_ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(NON_EXISTING_ORDER_ID);
         verify(orderRepository, never()).saveAndFlush(any(Order.class));
 
         assertEquals(String.format("Order with id: %s, was not found.", NON_EXISTING_ORDER_ID), thrownException.getMessage());
@@ -1296,11 +1291,11 @@ class OrderServiceImplTest {
                 .user(User.builder().email("anotherUser@example.com").build())
                 .build();
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findForUpdateByOrderId(ORDER_ID)).thenReturn(Optional.of(existingOrder));
 
         AccessDeniedException thrownException = assertThrows(AccessDeniedException.class, () -> orderService.cancelOrder(USER_EMAIL, ORDER_ID.toString()));
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(ORDER_ID);
         verify(orderRepository, never()).saveAndFlush(any(Order.class));
 
         assertEquals(String.format("Order with id: %s, does not belong to the user with email: %s.", ORDER_ID, USER_EMAIL), thrownException.getMessage());
@@ -1324,11 +1319,11 @@ class OrderServiceImplTest {
                 .user(User.builder().email(USER_EMAIL).build())
                 .build();
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findForUpdateByOrderId(ORDER_ID)).thenReturn(Optional.of(existingOrder));
 
         IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, () -> orderService.cancelOrder(USER_EMAIL, ORDER_ID.toString()));
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(ORDER_ID);
         verify(orderRepository, never()).saveAndFlush(any(Order.class));
 
         assertEquals(String.format("Order with id: %s is already in status '%s' and can not be canceled.", ORDER_ID, existingOrder.getOrderStatus().name()), thrownException.getMessage());
@@ -1373,12 +1368,12 @@ class OrderServiceImplTest {
 
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findForUpdateByOrderId(ORDER_ID)).thenReturn(Optional.of(existingOrder));
         when(orderRepository.saveAndFlush(existingOrder)).thenReturn(updatedOrder);
 
         MessageResponse actualResponse = orderService.toggleOrderStatus(ORDER_ID.toString());
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(ORDER_ID);
 
         verify(orderRepository, times(1)).saveAndFlush(orderCaptor.capture());
         Order capturedOrder = orderCaptor.getValue();
@@ -1388,6 +1383,8 @@ class OrderServiceImplTest {
         assertEquals(existingOrder.getDeliveryMethod(), capturedOrder.getDeliveryMethod());
         assertEquals(ORDER_STATUS_PAID, capturedOrder.getOrderStatus());
 
+        verify(productSalesStatsService, times(1)).recordStatusChange(updatedOrder, ORDER_STATUS_CREATED);
+
         assertNotNull(actualResponse);
         assertEquals(messageResponse.getMessage(), actualResponse.getMessage());
     }
@@ -1431,12 +1428,12 @@ class OrderServiceImplTest {
 
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findForUpdateByOrderId(ORDER_ID)).thenReturn(Optional.of(existingOrder));
         when(orderRepository.saveAndFlush(existingOrder)).thenReturn(updatedOrder);
 
         MessageResponse actualResponse = orderService.toggleOrderStatus(ORDER_ID.toString());
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(ORDER_ID);
 
         verify(orderRepository, times(1)).saveAndFlush(orderCaptor.capture());
         Order capturedOrder = orderCaptor.getValue();
@@ -1489,12 +1486,12 @@ class OrderServiceImplTest {
 
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findForUpdateByOrderId(ORDER_ID)).thenReturn(Optional.of(existingOrder));
         when(orderRepository.saveAndFlush(existingOrder)).thenReturn(updatedOrder);
 
         MessageResponse actualResponse = orderService.toggleOrderStatus(ORDER_ID.toString());
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(ORDER_ID);
 
         verify(orderRepository, times(1)).saveAndFlush(orderCaptor.capture());
         Order capturedOrder = orderCaptor.getValue();
@@ -1547,12 +1544,12 @@ class OrderServiceImplTest {
 
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findForUpdateByOrderId(ORDER_ID)).thenReturn(Optional.of(existingOrder));
         when(orderRepository.saveAndFlush(existingOrder)).thenReturn(updatedOrder);
 
         MessageResponse actualResponse = orderService.toggleOrderStatus(ORDER_ID.toString());
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(ORDER_ID);
 
         verify(orderRepository, times(1)).saveAndFlush(orderCaptor.capture());
         Order capturedOrder = orderCaptor.getValue();
@@ -1562,6 +1559,8 @@ class OrderServiceImplTest {
         assertEquals(existingOrder.getDeliveryMethod(), capturedOrder.getDeliveryMethod());
         assertEquals(ORDER_STATUS_RETURNED, capturedOrder.getOrderStatus());
 
+        verify(dailyRevenueService, times(1)).recordStatusChange(updatedOrder, ORDER_STATUS_DELIVERED);
+
         assertNotNull(actualResponse);
         assertEquals(messageResponse.getMessage(), actualResponse.getMessage());
     }
@@ -1571,18 +1570,18 @@ class OrderServiceImplTest {
 
         assertThrows(IllegalArgumentException.class, () -> orderService.toggleOrderStatus(INVALID_ID));
 
-        verify(orderRepository, never()).findById(any(UUID.class));
+        verify(orderRepository, never()).findForUpdateByOrderId(any(UUID.class));
         verify(orderRepository, never()).saveAndFlush(any(Order.class));
     }
 
     @Test
     void toggleOrderStatus_shouldThrowDataNotFoundExceptionWhenOrderDoesNotExist() {
 
-        when(orderRepository.findById(NON_EXISTING_ORDER_ID)).thenReturn(Optional.empty());
+        when(orderRepository.findForUpdateByOrderId(NON_EXISTING_ORDER_ID)).thenReturn(Optional.empty());
 
         DataNotFoundException thrownException = assertThrows(DataNotFoundException.class, () -> orderService.toggleOrderStatus(NON_EXISTING_ORDER_ID.toString()));
 
-        verify(orderRepository, times(1)).findById(NON_EXISTING_ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(NON_EXISTING_ORDER_ID);
         verify(orderRepository, never()).saveAndFlush(any(Order.class));
 
         assertEquals(String.format("Order with id: %s, was not found.", NON_EXISTING_ORDER_ID), thrownException.getMessage());
@@ -1606,12 +1605,13 @@ class OrderServiceImplTest {
                 .user(User.builder().build())
                 .build();
 
-        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(existingOrder));
+        when(orderRepository.findForUpdateByOrderId(ORDER_ID)).thenReturn(Optional.of(existingOrder));
 
         IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, () -> orderService.toggleOrderStatus(ORDER_ID.toString()));
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findForUpdateByOrderId(ORDER_ID);
         verify(orderRepository, never()).saveAndFlush(any(Order.class));
+        verify(productSalesStatsService, never()).recordStatusChange(any(), any());
 
         assertEquals(String.format("Order with id: %s is in final status %s and the status can not be changed.", ORDER_ID, existingOrder.getOrderStatus().name()), thrownException.getMessage());
     }
@@ -3,7 +3,10 @@ package org.example.homeandgarden.product.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.homeandgarden.product.dto.*;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.service.ProductImportService;
 import org.example.homeandgarden.product.service.ProductServiceImpl;
+import org.example.homeandgarden.shared.CursorPageResponse;
+import org.example.homeandgarden.shared.EstimatedSlice;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -17,21 +20,27 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -56,14 +65,22 @@ class ProductControllerTest {
         public ProductServiceImpl productService() {
             return mock(ProductServiceImpl.class);
         }
+
+        @Bean @Primary
+        public ProductImportService productImportService() {
+            return mock(ProductImportService.class);
+        }
     }
 
     @Autowired
     private ProductServiceImpl productService;
 
+    @Autowired
+    private ProductImportService productImportService;
+
     @AfterEach
     void resetMocks() {
-        reset(productService);
+        reset(productService, productImportService);
     }
 
 
@@ -105,6 +122,58 @@ class ProductControllerTest {
         verify(productService, times(1)).getProductById(eq(validProductId));
     }
 
+    @Test
+    void getProductById_shouldReturnETagAndLastModified_whenProductLastModifiedKnown() throws Exception {
+
+        String validProductId = UUID.randomUUID().toString();
+        Instant lastModified = Instant.now().minus(5, ChronoUnit.DAYS);
+
+        ProductResponse expectedProduct = ProductResponse.builder()
+                .productId(UUID.fromString(validProductId))
+                .productName("Product Name")
+                .updatedAt(lastModified)
+                .build();
+
+        when(productService.findProductLastModified(eq(validProductId))).thenReturn(Optional.of(lastModified));
+        when(productService.getProductById(eq(validProductId))).thenReturn(expectedProduct);
+
+        mockMvc.perform(get("/products/{productId}", validProductId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.productId").value(validProductId));
+
+        verify(productService, times(1)).getProductById(eq(validProductId));
+    }
+
+    @Test
+    void getProductById_shouldReturnNotModified_whenETagMatches() throws Exception {
+
+        String validProductId = UUID.randomUUID().toString();
+        Instant lastModified = Instant.now().minus(5, ChronoUnit.DAYS);
+
+        when(productService.findProductLastModified(eq(validProductId))).thenReturn(Optional.of(lastModified));
+        when(productService.getProductById(eq(validProductId))).thenReturn(ProductResponse.builder().productId(UUID.fromString(validProductId)).build());
+
+        String eTag = mockMvc.perform(get("/products/{productId}", validProductId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/products/{productId}", validProductId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(productService, times(2)).findProductLastModified(eq(validProductId));
+        verify(productService, times(1)).getProductById(eq(validProductId));
+    }
+
     @Test
     void getProductById_shouldReturnBadRequest_whenInvalidProductIdFormat() throws Exception {
 
@@ -123,6 +192,53 @@ class ProductControllerTest {
     }
 
 
+    @Test
+    void searchProducts_shouldReturnMatchingProductsWithNextCursor_whenValidParameters() throws Exception {
+
+        ProductResponse productResponse = ProductResponse.builder()
+                .productId(UUID.randomUUID())
+                .productName("Garden Hose")
+                .productStatus(ProductStatus.AVAILABLE)
+                .build();
+
+        CursorPageResponse<ProductResponse> mockResponse = CursorPageResponse.<ProductResponse>builder()
+                .content(List.of(productResponse))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("cmFuaz1GOjAuOQ")
+                .build();
+
+        when(productService.searchProducts(eq("garden hse"), isNull(), eq("AVAILABLE"), eq(new BigDecimal("0.0")), eq(new BigDecimal("999999.0")), eq(1), eq(""))).thenReturn(mockResponse);
+
+        mockMvc.perform(get("/products/search")
+                        .param("query", "garden hse")
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].productName").value("Garden Hose"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("cmFuaz1GOjAuOQ"));
+
+        verify(productService, times(1)).searchProducts(eq("garden hse"), isNull(), eq("AVAILABLE"), eq(new BigDecimal("0.0")), eq(new BigDecimal("999999.0")), eq(1), eq(""));
+    }
+
+    @Test
+    void searchProducts_shouldReturnBadRequest_whenQueryIsBlank() throws Exception {
+
+        mockMvc.perform(get("/products/search")
+                        .param("query", " ")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("ConstraintViolationException"))
+                .andExpect(jsonPath("$.details", containsInAnyOrder("Search query is required")))
+                .andExpect(jsonPath("$.path").exists())
+                .andExpect(jsonPath("$.timestamp").exists());
+
+        verify(productService, never()).searchProducts(any(), any(), any(), any(), any(), any(), any());
+    }
+
     // 👮 Admin access endpoints — restricted to users with administrative privileges
 
     @Test
@@ -434,6 +550,65 @@ class ProductControllerTest {
         verify(productService, times(1)).getTopProducts(eq("CANCELED"), eq(2), eq(0));
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMINISTRATOR"})
+    void getTopProducts_shouldReturnSliceWithoutTotals_whenWithTotalIsFalse() throws Exception {
+
+        ProductProjectionResponse productProjection = ProductProjectionResponse.builder()
+                .productId(UUID.randomUUID())
+                .productName("Projection One")
+                .totalAmount(56L)
+                .build();
+
+        when(productService.getTopProductsSlice(eq("PAID"), eq(1), eq(0))).thenReturn(new SliceImpl<>(List.of(productProjection), PageRequest.of(0, 1), true));
+
+        mockMvc.perform(get("/products/top")
+                        .param("status", "PAID")
+                        .param("size", "1")
+                        .param("page", "0")
+                        .param("withTotal", "false")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].productName").value("Projection One"))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        verify(productService, times(1)).getTopProductsSlice(eq("PAID"), eq(1), eq(0));
+        verify(productService, never()).getTopProducts(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMINISTRATOR"})
+    void getProductsByStatus_shouldReturnSliceWithEstimatedTotal_whenWithTotalIsFalse() throws Exception {
+
+        ProductResponse product = ProductResponse.builder()
+                .productId(UUID.randomUUID())
+                .productName("Product One")
+                .productStatus(ProductStatus.AVAILABLE)
+                .build();
+
+        when(productService.getProductsByStatusSlice(eq("AVAILABLE"), eq(1), eq(0), eq("ASC"), eq("addedAt")))
+                .thenReturn(new EstimatedSlice<>(List.of(product), PageRequest.of(0, 1), false, 120L));
+
+        mockMvc.perform(get("/products/status")
+                        .param("productStatus", "AVAILABLE")
+                        .param("size", "1")
+                        .param("page", "0")
+                        .param("order", "ASC")
+                        .param("withTotal", "false")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].productName").value("Product One"))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.estimatedTotalElements").value(120))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(productService, never()).getProductsByStatus(any(), any(), any(), any(), any());
+    }
+
     @Test
     @WithMockUser(roles = {"CLIENT"})
     void getTopProducts_shouldReturnForbidden_whenUserHasInsufficientRole() throws Exception {
@@ -816,6 +991,41 @@ class ProductControllerTest {
         verify(productService, times(1)).getProfitByPeriod(eq("WEEK"), eq(4));
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMINISTRATOR"})
+    void getDailyProfitByPeriod_shouldReturnProfitPerDay_whenValidParametersAndAdminRole() throws Exception {
+
+        List<ProductDailyProfitResponse> expectedResponse = List.of(
+                ProductDailyProfitResponse.builder().day(LocalDate.of(2026, 10, 14)).profit(BigDecimal.valueOf(10.50)).build(),
+                ProductDailyProfitResponse.builder().day(LocalDate.of(2026, 10, 15)).profit(BigDecimal.valueOf(20.25)).build());
+
+        when(productService.getDailyProfitByPeriod(eq("DAY"), eq(3))).thenReturn(expectedResponse);
+
+        mockMvc.perform(get("/products/profit/daily")
+                        .param("timeUnit", "DAY")
+                        .param("timePeriod", "3")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].day").value("2026-10-14"))
+                .andExpect(jsonPath("$[1].profit").value(20.25));
+
+        verify(productService, times(1)).getDailyProfitByPeriod(eq("DAY"), eq(3));
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void getCategoryProfitByPeriod_shouldReturnForbidden_whenUserHasInsufficientRole() throws Exception {
+
+        mockMvc.perform(get("/products/profit/categories")
+                        .param("timeUnit", "MONTH")
+                        .param("timePeriod", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+
+        verify(productService, never()).getCategoryProfitByPeriod(any(), any());
+    }
+
     @Test
     @WithMockUser(roles = {"CLIENT"})
     void getProfitByPeriod_shouldReturnForbidden_whenUserHasInsufficientRole() throws Exception {
@@ -2083,4 +2293,167 @@ class ProductControllerTest {
 
         verify(productService, never()).setProductStatus(any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = {"ADMINISTRATOR"})
+    void changeProductPrices_shouldReturnOk_whenValidRequestAndAdminRole() throws Exception {
+
+        String categoryId = UUID.randomUUID().toString();
+
+        ProductBulkPriceRequest priceRequest = ProductBulkPriceRequest.builder()
+                .categoryId(categoryId)
+                .changeType("PERCENTAGE")
+                .value(BigDecimal.valueOf(-15))
+                .build();
+
+        MessageResponse expectedMessage = new MessageResponse("Prices of 120 products were changed.");
+
+        when(productService.changeProductPrices(eq(priceRequest))).thenReturn(expectedMessage);
+
+        mockMvc.perform(patch("/products/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(priceRequest))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(expectedMessage.getMessage()));
+
+        verify(productService, times(1)).changeProductPrices(eq(priceRequest));
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void changeProductPrices_shouldReturnForbidden_whenUserHasInsufficientRole() throws Exception {
+
+        ProductBulkPriceRequest priceRequest = ProductBulkPriceRequest.builder()
+                .categoryId(UUID.randomUUID().toString())
+                .changeType("AMOUNT")
+                .value(BigDecimal.ONE)
+                .build();
+
+        mockMvc.perform(patch("/products/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(priceRequest))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error").value("AuthorizationDeniedException"));
+
+        verify(productService, never()).changeProductPrices(any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMINISTRATOR"})
+    void changeProductPrices_shouldReturnBadRequest_whenInvalidRequest() throws Exception {
+
+        ProductBulkPriceRequest priceRequest = ProductBulkPriceRequest.builder()
+                .productIds(List.of(UUID.randomUUID().toString(), "INVALID_UUID"))
+                .changeType("DOUBLE")
+                .build();
+
+        mockMvc.perform(patch("/products/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(priceRequest))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("MethodArgumentNotValidException"))
+                .andExpect(jsonPath("$.details", containsInAnyOrder(
+                        "Invalid UUID format",
+                        "Invalid change type: Must be 'PERCENTAGE' or 'AMOUNT' ('percentage' or 'amount')",
+                        "Value is required")))
+                .andExpect(jsonPath("$.path").value("/products/prices"))
+                .andExpect(jsonPath("$.timestamp").exists());
+
+        verify(productService, never()).changeProductPrices(any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMINISTRATOR"})
+    void setProductsStatus_shouldReturnOk_whenValidRequestAndAdminRole() throws Exception {
+
+        List<String> productIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        ProductBulkStatusRequest statusRequest = ProductBulkStatusRequest.builder()
+                .productIds(productIds)
+                .productStatus("SOLD_OUT")
+                .build();
+
+        MessageResponse expectedMessage = new MessageResponse("Status 'SOLD_OUT' was set for 2 products.");
+
+        when(productService.setProductsStatus(eq(statusRequest))).thenReturn(expectedMessage);
+
+        mockMvc.perform(patch("/products/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(statusRequest))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(expectedMessage.getMessage()));
+
+        verify(productService, times(1)).setProductsStatus(eq(statusRequest));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMINISTRATOR"})
+    void setProductsStatus_shouldReturnBadRequest_whenInvalidProductStatus() throws Exception {
+
+        ProductBulkStatusRequest statusRequest = ProductBulkStatusRequest.builder()
+                .categoryId(UUID.randomUUID().toString())
+                .productStatus("INVALID_STATUS")
+                .build();
+
+        mockMvc.perform(patch("/products/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(statusRequest))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("MethodArgumentNotValidException"))
+                .andExpect(jsonPath("$.details", containsInAnyOrder("Invalid product status: Must be one of the: 'AVAILABLE', 'OUT_OF_STOCK' or 'SOLD_OUT' ('available', 'out_of_stock' or 'sold_out')")));
+
+        verify(productService, never()).setProductsStatus(any());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMINISTRATOR"})
+    void importProducts_shouldReturnCreated_whenCsvAndAdminRole() throws Exception {
+
+        String csv = "categoryId,productName,description,listPrice,imageUrl\n" +
+                UUID.randomUUID() + ",Pot,Clay pot,19.90,https://example.com/pot.jpg\n";
+
+        ProductImportResponse expectedResponse = ProductImportResponse.builder()
+                .importId(UUID.randomUUID())
+                .importedCount(1L)
+                .rejectedCount(0L)
+                .build();
+
+        when(productImportService.importProducts(any(), eq(MediaType.valueOf("text/csv")))).thenReturn(expectedResponse);
+
+        mockMvc.perform(post("/products/import")
+                        .contentType("text/csv")
+                        .content(csv)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importId").value(expectedResponse.getImportId().toString()))
+                .andExpect(jsonPath("$.importedCount").value(1))
+                .andExpect(jsonPath("$.rejectedCount").value(0))
+                .andExpect(jsonPath("$.rejectsUrl").doesNotExist());
+
+        verify(productImportService, times(1)).importProducts(any(), eq(MediaType.valueOf("text/csv")));
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void importProducts_shouldReturnForbidden_whenUserHasInsufficientRole() throws Exception {
+
+        mockMvc.perform(post("/products/import")
+                        .contentType("application/x-ndjson")
+                        .content("{}\n")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error").value("AuthorizationDeniedException"));
+
+        verify(productImportService, never()).importProducts(any(), any());
+    }
+}
@@ -1,12 +1,17 @@
 package org.example.homeandgarden.product.repository;
 
+import org.example.homeandgarden.category.entity.Category;
 import org.example.homeandgarden.order.entity.enums.OrderStatus;
+import org.example.homeandgarden.product.entity.Product;
 import org.example.homeandgarden.product.entity.ProductProjection;
+import org.example.homeandgarden.product.entity.enums.PriceChangeType;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.entity.enums.SalesBucket;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +21,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
@@ -27,13 +33,14 @@ public class ProductRepositoryTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
-    void findTopProducts_shouldReturnOrderedProductProjections_whenValidStatusesAndPaging() {
+    void findTopProducts_shouldReturnOrderedProductProjections_whenValidSalesBucketAndPaging() {
 
         Pageable pageable = PageRequest.of(0, 10);
-        List<OrderStatus> statuses = List.of(OrderStatus.PAID);
-
-        Page<ProductProjection> result = productRepository.findTopProducts(statuses, pageable);
+        Page<ProductProjection> result = productRepository.findTopProducts(SalesBucket.PAID, pageable);
 
         assertThat(result).isNotEmpty();
         assertNotNull(result);
@@ -79,10 +86,31 @@ public class ProductRepositoryTest {
     @Test
     void findProfitByPeriod_shouldReturnBigDecimal_whenValidParameters() {
 
-        Instant cutoff = Instant.now().minus((5*365L), ChronoUnit.DAYS);
-        BigDecimal result = productRepository.findProfitByPeriod(OrderStatus.DELIVERED, cutoff);
+        LocalDate fromDay = LocalDate.now().minusYears(5);
+        BigDecimal result = productRepository.findProfitByPeriod(OrderStatus.DELIVERED, fromDay);
 
         assertNotNull(result);
         assertThat(result).isInstanceOf(BigDecimal.class);
     }
+
+    @Test
+    void changePrices_shouldEvictUpdatedProductsFromSecondLevelCache() {
+
+        Category category = entityManager.persist(Category.builder().categoryName("Bulk Price Test Category").build());
+        Product product = entityManager.persist(Product.builder()
+                .productName("Bulk Price Test Product")
+                .description("Description")
+                .listPrice(BigDecimal.TEN)
+                .currentPrice(BigDecimal.TEN)
+                .category(category)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        productRepository.findById(product.getProductId()).orElseThrow();
+        entityManager.clear();
+
+        productRepository.changePrices(List.of(product.getProductId()), PriceChangeType.AMOUNT, BigDecimal.ONE, Instant.now());
+
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getCurrentPrice()).isEqualByComparingTo("11");
+    }
 }
@@ -0,0 +1,78 @@
+package org.example.homeandgarden.product.service;
+
+import org.example.homeandgarden.order.entity.Order;
+import org.example.homeandgarden.order.entity.enums.OrderStatus;
+import org.example.homeandgarden.product.repository.DailyRevenueRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyRevenueServiceTest {
+
+    @Mock
+    private DailyRevenueRepository dailyRevenueRepository;
+
+    @InjectMocks
+    private DailyRevenueService dailyRevenueService;
+
+    private static final UUID ORDER_ID = UUID.fromString("5a7f1c3e-8d2b-4e6a-9f1c-3b5d7e9a1c2f");
+
+    @Test
+    void recordStatusChange_shouldAddRevenueWhenOrderIsDelivered() {
+
+        Order order = Order.builder().orderId(ORDER_ID).orderStatus(OrderStatus.DELIVERED).build();
+
+        dailyRevenueService.recordStatusChange(order, OrderStatus.ON_THE_WAY);
+
+        verify(dailyRevenueRepository, times(1)).addOrderRevenue(ORDER_ID, "DELIVERED", 1);
+        verifyNoMoreInteractions(dailyRevenueRepository);
+    }
+
+    @Test
+    void recordStatusChange_shouldMoveRevenueWhenDeliveredOrderIsReturned() {
+
+        Order order = Order.builder().orderId(ORDER_ID).orderStatus(OrderStatus.RETURNED).build();
+
+        dailyRevenueService.recordStatusChange(order, OrderStatus.DELIVERED);
+
+        verify(dailyRevenueRepository, times(1)).addOrderRevenue(ORDER_ID, "DELIVERED", -1);
+        verify(dailyRevenueRepository, times(1)).addOrderRevenue(ORDER_ID, "RETURNED", 1);
+    }
+
+    @Test
+    void recordStatusChange_shouldIgnoreUntrackedStatuses() {
+
+        Order order = Order.builder().orderId(ORDER_ID).orderStatus(OrderStatus.PAID).build();
+
+        dailyRevenueService.recordStatusChange(order, OrderStatus.CREATED);
+
+        verify(dailyRevenueRepository, never()).addOrderRevenue(any(), any(), anyInt());
+    }
+
+    @Test
+    void reconcile_shouldLockThenReplaceRowsSinceFromDay() {
+
+        LocalDate fromDay = LocalDate.now().minusDays(7);
+        when(dailyRevenueRepository.insertFromDay(fromDay)).thenReturn(12);
+
+        int rows = dailyRevenueService.reconcile(fromDay);
+
+        InOrder inOrder = inOrder(dailyRevenueRepository);
+        inOrder.verify(dailyRevenueRepository).lockForReconciliation();
+        inOrder.verify(dailyRevenueRepository).deleteFromDay(fromDay);
+        inOrder.verify(dailyRevenueRepository).insertFromDay(fromDay);
+
+        assertEquals(12, rows);
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.homeandgarden.product.service;
+
+import org.example.homeandgarden.catalog.CatalogCache;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.product.entity.enums.PriceChangeType;
+import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.repository.ProductBulkRepository.UpdatedProduct;
+import org.example.homeandgarden.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductBulkServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private CatalogCache catalogCache = new CatalogCache(Duration.ofMinutes(10), 100, mock(CacheInvalidationPublisher.class));
+
+    @InjectMocks
+    private ProductBulkService productBulkService;
+
+    private static final UUID CATEGORY_ID = UUID.fromString("d167268d-305b-426e-9f6f-998da4c2ff76");
+    private static final UUID FIRST_PRODUCT_ID = new UUID(0, 0);
+
+    // Ordered as PostgreSQL orders them, which differs from UUID.compareTo for ids with the highest bit set.
+    private static final UUID PRODUCT_1_ID = UUID.fromString("1b9d6bcd-bbfd-4b2d-9b5d-ab8dfbbd4bed");
+    private static final UUID PRODUCT_2_ID = UUID.fromString("6ec0bd7f-11c0-43da-975e-2a8ad9ebae0b");
+    private static final UUID PRODUCT_3_ID = UUID.fromString("9f3a1c2e-8b4d-4e5f-a6b7-c8d9e0f1a2b3");
+    private static final UUID PRODUCT_4_ID = UUID.fromString("f81d4fae-7dec-11d0-a765-00a0c91e6bf6");
+
+    private static final BigDecimal VALUE = BigDecimal.valueOf(-10);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productBulkService, "chunkSize", 2);
+    }
+
+    @Test
+    void changeCategoryPrices_shouldUpdateChunksAfterLastProductIdUntilChunkIsNotFull() {
+
+        when(productRepository.changeCategoryPrices(eq(CATEGORY_ID), eq(PriceChangeType.PERCENTAGE), eq(VALUE), any(), eq(FIRST_PRODUCT_ID), eq(2)))
+                .thenReturn(List.of(updated(PRODUCT_4_ID), updated(PRODUCT_3_ID)));
+        when(productRepository.changeCategoryPrices(eq(CATEGORY_ID), eq(PriceChangeType.PERCENTAGE), eq(VALUE), any(), eq(PRODUCT_4_ID), eq(2)))
+                .thenReturn(List.of(updated(PRODUCT_2_ID)));
+
+        int updatedCount = productBulkService.changeCategoryPrices(CATEGORY_ID, PriceChangeType.PERCENTAGE, VALUE);
+
+        assertEquals(3, updatedCount);
+        verify(productRepository, times(2)).changeCategoryPrices(any(), any(), any(), any(), any(), anyInt());
+        verify(catalogCache, times(1)).evictProducts(Set.of(PRODUCT_2_ID, PRODUCT_3_ID, PRODUCT_4_ID), Set.of(CATEGORY_ID));
+    }
+
+    @Test
+    void changeCategoryStatuses_shouldNotEvictAnythingWhenNoProductChanged() {
+
+        when(productRepository.changeCategoryStatuses(eq(CATEGORY_ID), eq(EnumSet.of(ProductStatus.AVAILABLE)), eq(ProductStatus.OUT_OF_STOCK), any(), eq(FIRST_PRODUCT_ID), eq(2)))
+                .thenReturn(List.of());
+
+        int updatedCount = productBulkService.changeCategoryStatuses(CATEGORY_ID, EnumSet.of(ProductStatus.AVAILABLE), ProductStatus.OUT_OF_STOCK);
+
+        assertEquals(0, updatedCount);
+        verify(catalogCache, never()).evictProducts(any(), any());
+    }
+
+    @Test
+    void changePrices_shouldUpdateDistinctIdsInDatabaseOrderInChunks() {
+
+        when(productRepository.changePrices(eq(List.of(PRODUCT_1_ID, PRODUCT_2_ID)), eq(PriceChangeType.AMOUNT), eq(VALUE), any()))
+                .thenReturn(List.of(updated(PRODUCT_1_ID), updated(PRODUCT_2_ID)));
+        when(productRepository.changePrices(eq(List.of(PRODUCT_3_ID, PRODUCT_4_ID)), eq(PriceChangeType.AMOUNT), eq(VALUE), any()))
+                .thenReturn(List.of(updated(PRODUCT_4_ID)));
+
+        int updatedCount = productBulkService.changePrices(List.of(PRODUCT_4_ID, PRODUCT_2_ID, PRODUCT_1_ID, PRODUCT_3_ID, PRODUCT_2_ID), PriceChangeType.AMOUNT, VALUE);
+
+        assertEquals(3, updatedCount);
+        verify(productRepository, times(2)).changePrices(any(), any(), any(), any());
+        verify(catalogCache, times(1)).evictProducts(Set.of(PRODUCT_1_ID, PRODUCT_2_ID, PRODUCT_4_ID), Set.of(CATEGORY_ID));
+    }
+
+    private static UpdatedProduct updated(UUID productId) {
+        return new UpdatedProduct(productId, CATEGORY_ID);
+    }
+}
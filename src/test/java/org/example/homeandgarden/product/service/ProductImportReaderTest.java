@@ -0,0 +1,94 @@
+package org.example.homeandgarden.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductImportReaderTest {
+
+    private static final String CATEGORY_ID = "d167268d-305b-426e-9f6f-998da4c2ff76";
+
+    @Test
+    void csv_shouldReadQuotedFieldsInHeaderOrderAndSkipBlankLines() {
+
+        ProductImportReader reader = ProductImportReader.csv(new StringReader(
+                "imageUrl,categoryId,productName,description,listPrice\r\n" +
+                "https://example.com/a.jpg," + CATEGORY_ID + ",\"Pot, large\",\"Clay \"\"terracotta\"\" pot\",19.90\r\n" +
+                "\r\n" +
+                "https://example.com/b.jpg," + CATEGORY_ID + ",Rake,\"Steel rake\nwith handle\",7\n" +
+                "https://example.com/c.jpg," + CATEGORY_ID + ",Hose,Garden hose,9.50\n"));
+
+        ProductImportReader.Row first = reader.next();
+        assertEquals(2, first.line());
+        assertNull(first.error());
+        assertEquals("Pot, large", first.request().getProductName());
+        assertEquals("Clay \"terracotta\" pot", first.request().getDescription());
+        assertEquals(new BigDecimal("19.90"), first.request().getListPrice());
+        assertEquals(CATEGORY_ID, first.request().getCategoryId());
+        assertEquals("https://example.com/a.jpg", first.request().getImageUrl());
+        assertEquals("https://example.com/a.jpg," + CATEGORY_ID + ",\"Pot, large\",\"Clay \"\"terracotta\"\" pot\",19.90", first.raw());
+
+        ProductImportReader.Row second = reader.next();
+        assertEquals(4, second.line());
+        assertEquals("Steel rake\nwith handle", second.request().getDescription());
+
+        ProductImportReader.Row third = reader.next();
+        assertEquals(6, third.line());
+        assertEquals("Hose", third.request().getProductName());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    void csv_shouldReturnRowErrorsForWrongFieldCountAndInvalidPrice() {
+
+        ProductImportReader reader = ProductImportReader.csv(new StringReader(
+                "categoryId,productName,description,listPrice,imageUrl\n" +
+                CATEGORY_ID + ",Pot,Clay pot\n" +
+                CATEGORY_ID + ",Pot,Clay pot,cheap,https://example.com/a.jpg\n"));
+
+        ProductImportReader.Row first = reader.next();
+        assertNull(first.request());
+        assertEquals("Expected 5 fields, found 3.", first.error());
+
+        ProductImportReader.Row second = reader.next();
+        assertNull(second.request());
+        assertEquals("Invalid list price: 'cheap'.", second.error());
+        assertEquals(3, second.line());
+    }
+
+    @Test
+    void csv_shouldThrowIllegalArgumentExceptionWhenHeaderMissesColumns() {
+
+        ProductImportReader reader = ProductImportReader.csv(new StringReader("categoryId,productName\n"));
+
+        IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, reader::next);
+
+        assertEquals("The CSV header misses the columns: description, listPrice, imageUrl.", thrownException.getMessage());
+    }
+
+    @Test
+    void ndjson_shouldReadOneRequestPerLineAndReturnErrorForInvalidJson() {
+
+        ProductImportReader reader = ProductImportReader.ndjson(new StringReader(
+                "{\"categoryId\":\"" + CATEGORY_ID + "\",\"productName\":\"Pot\",\"description\":\"Clay pot\",\"listPrice\":19.90,\"imageUrl\":\"https://example.com/a.jpg\"}\n" +
+                "\n" +
+                "{\"productName\":\"Rake\"\n"), new ObjectMapper());
+
+        ProductImportReader.Row first = reader.next();
+        assertEquals(1, first.line());
+        assertEquals("Pot", first.request().getProductName());
+        assertEquals(0, new BigDecimal("19.90").compareTo(first.request().getListPrice()));
+
+        ProductImportReader.Row second = reader.next();
+        assertEquals(3, second.line());
+        assertNull(second.request());
+        assertTrue(second.error().startsWith("Invalid JSON: "));
+
+        assertNull(reader.next());
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.homeandgarden.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.example.homeandgarden.catalog.CatalogCache;
+import org.example.homeandgarden.category.entity.Category;
+import org.example.homeandgarden.category.entity.enums.CategoryStatus;
+import org.example.homeandgarden.category.repository.CategoryRepository;
+import org.example.homeandgarden.exception.DataNotFoundException;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.product.dto.ProductImportResponse;
+import org.example.homeandgarden.product.repository.ProductBulkRepository.NewProduct;
+import org.example.homeandgarden.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path rejectDirectory;
+
+    private ProductImportService productImportService;
+
+    private static final UUID ACTIVE_CATEGORY_ID = UUID.fromString("d167268d-305b-426e-9f6f-998da4c2ff76");
+    private static final UUID INACTIVE_CATEGORY_ID = UUID.fromString("a0f3bd4e-2c9c-4c23-a9b7-e4b2d99d36e5");
+    private static final UUID MISSING_CATEGORY_ID = UUID.fromString("de305d54-75b4-431b-adb2-eb6b9e546014");
+
+    private static final String HEADER = "categoryId,productName,description,listPrice,imageUrl\n";
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new ProductImportService(
+                productRepository,
+                categoryRepository,
+                new CatalogCache(Duration.ofMinutes(10), 100, mock(CacheInvalidationPublisher.class)),
+                new ProductImportRejectStore(rejectDirectory.toString(), Duration.ofDays(1)),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                transactionManager);
+        ReflectionTestUtils.setField(productImportService, "batchSize", 2);
+    }
+
+    @Test
+    void importProducts_shouldInsertValidRowsInBatchesAndLookUpEachCategoryOnce() {
+
+        when(categoryRepository.findById(ACTIVE_CATEGORY_ID)).thenReturn(Optional.of(category(ACTIVE_CATEGORY_ID, CategoryStatus.ACTIVE)));
+
+        List<List<NewProduct>> batches = new ArrayList<>();
+        doAnswer(invocation -> batches.add(List.copyOf(invocation.getArgument(0))))
+                .when(productRepository).insertProducts(any(), any(Instant.class));
+
+        ProductImportResponse response = productImportService.importProducts(csv(
+                row(ACTIVE_CATEGORY_ID, "Pot"),
+                row(ACTIVE_CATEGORY_ID, "Rake"),
+                row(ACTIVE_CATEGORY_ID, "Hose")), MediaType.valueOf("text/csv"));
+
+        assertEquals(3, response.getImportedCount());
+        assertEquals(0, response.getRejectedCount());
+        assertNull(response.getRejectsUrl());
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).toList());
+        assertEquals("Hose", batches.get(1).getFirst().productName());
+        verify(categoryRepository, times(1)).findById(ACTIVE_CATEGORY_ID);
+        verify(transactionManager, times(2)).commit(any());
+        assertThrows(DataNotFoundException.class, () -> productImportService.getImportRejects(response.getImportId().toString()));
+    }
+
+    @Test
+    void importProducts_shouldWriteInvalidRowsAndUnknownOrInactiveCategoriesToRejectFile() throws Exception {
+
+        when(categoryRepository.findById(ACTIVE_CATEGORY_ID)).thenReturn(Optional.of(category(ACTIVE_CATEGORY_ID, CategoryStatus.ACTIVE)));
+        when(categoryRepository.findById(INACTIVE_CATEGORY_ID)).thenReturn(Optional.of(category(INACTIVE_CATEGORY_ID, CategoryStatus.INACTIVE)));
+        when(categoryRepository.findById(MISSING_CATEGORY_ID)).thenReturn(Optional.empty());
+
+        ProductImportResponse response = productImportService.importProducts(csv(
+                row(ACTIVE_CATEGORY_ID, "Pot"),
+                row(INACTIVE_CATEGORY_ID, "Rake"),
+                row(MISSING_CATEGORY_ID, "Hose"),
+                row(ACTIVE_CATEGORY_ID, "X")), MediaType.valueOf("text/csv"));
+
+        assertEquals(1, response.getImportedCount());
+        assertEquals(3, response.getRejectedCount());
+        assertEquals(String.format("/products/import/%s/rejects", response.getImportId()), response.getRejectsUrl());
+        verify(productRepository, times(1)).insertProducts(any(), any(Instant.class));
+
+        Path rejects = productImportService.getImportRejects(response.getImportId().toString()).getFile().toPath();
+        List<String> lines = Files.readAllLines(rejects, StandardCharsets.UTF_8);
+        assertEquals(List.of(
+                "line,error,row",
+                String.format("3,\"Category with id: %s, is disabled and no product can be added to this category.\",\"%s\"", INACTIVE_CATEGORY_ID, row(INACTIVE_CATEGORY_ID, "Rake").strip()),
+                String.format("4,\"Category with id: %s, was not found.\",\"%s\"", MISSING_CATEGORY_ID, row(MISSING_CATEGORY_ID, "Hose").strip()),
+                String.format("5,\"Invalid name: Must be of 2 - 50 characters\",\"%s\"", row(ACTIVE_CATEGORY_ID, "X").strip())), lines);
+    }
+
+    @Test
+    void getImportRejects_shouldThrowDataNotFoundExceptionWhenImportHasNoRejects() {
+
+        String importId = UUID.randomUUID().toString();
+
+        DataNotFoundException thrownException = assertThrows(DataNotFoundException.class, () ->
+                productImportService.getImportRejects(importId));
+
+        assertEquals(String.format("Rejected rows of the import with id: %s, were not found.", importId), thrownException.getMessage());
+    }
+
+    private static Category category(UUID categoryId, CategoryStatus categoryStatus) {
+        return Category.builder().categoryId(categoryId).categoryName("Category").categoryStatus(categoryStatus).build();
+    }
+
+    private static String row(UUID categoryId, String productName) {
+        return categoryId + "," + productName + ",Garden tool,9.90,https://example.com/image.jpg\n";
+    }
+
+    private static ByteArrayInputStream csv(String... rows) {
+        return new ByteArrayInputStream((HEADER + String.join("", rows)).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.homeandgarden.product.service;
+
+import org.example.homeandgarden.order.entity.Order;
+import org.example.homeandgarden.order.entity.OrderItem;
+import org.example.homeandgarden.order.entity.enums.OrderStatus;
+import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.product.repository.ProductSalesStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSalesStatsServiceTest {
+
+    @Mock
+    private ProductSalesStatsRepository productSalesStatsRepository;
+
+    @InjectMocks
+    private ProductSalesStatsService productSalesStatsService;
+
+    private static final UUID PRODUCT_1_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID PRODUCT_2_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private final Product product1 = Product.builder().productId(PRODUCT_1_ID).build();
+    private final Product product2 = Product.builder().productId(PRODUCT_2_ID).build();
+
+    private Order order(OrderStatus orderStatus) {
+        Order order = Order.builder().orderStatus(orderStatus).build();
+        order.getOrderItems().addAll(Set.of(
+                OrderItem.builder().product(product2).quantity(1).priceAtPurchase(new BigDecimal("10.00")).order(order).build(),
+                OrderItem.builder().product(product1).quantity(2).priceAtPurchase(new BigDecimal("5.50")).order(order).build(),
+                OrderItem.builder().product(product1).quantity(1).priceAtPurchase(new BigDecimal("6.00")).order(order).build()));
+        return order;
+    }
+
+    @Test
+    void recordOrderPlaced_shouldAddItemsToOpenBucketOncePerProductInProductOrder() {
+
+        productSalesStatsService.recordOrderPlaced(order(OrderStatus.CREATED));
+
+        InOrder inOrder = inOrder(productSalesStatsRepository);
+        inOrder.verify(productSalesStatsRepository).addSales(PRODUCT_1_ID, "OPEN", 3L, new BigDecimal("17.00"));
+        inOrder.verify(productSalesStatsRepository).addSales(PRODUCT_2_ID, "OPEN", 1L, new BigDecimal("10.00"));
+        verifyNoMoreInteractions(productSalesStatsRepository);
+    }
+
+    @Test
+    void recordStatusChange_shouldMoveItemsBetweenBucketsWhenBucketChanges() {
+
+        productSalesStatsService.recordStatusChange(order(OrderStatus.RETURNED), OrderStatus.DELIVERED);
+
+        verify(productSalesStatsRepository, times(1)).addSales(PRODUCT_1_ID, "PAID", -3L, new BigDecimal("-17.00"));
+        verify(productSalesStatsRepository, times(1)).addSales(PRODUCT_1_ID, "CANCELED", 3L, new BigDecimal("17.00"));
+        verify(productSalesStatsRepository, times(1)).addSales(PRODUCT_2_ID, "PAID", -1L, new BigDecimal("-10.00"));
+        verify(productSalesStatsRepository, times(1)).addSales(PRODUCT_2_ID, "CANCELED", 1L, new BigDecimal("10.00"));
+        verifyNoMoreInteractions(productSalesStatsRepository);
+    }
+
+    @Test
+    void recordStatusChange_shouldNotTouchCountersWhenBucketStaysTheSame() {
+
+        productSalesStatsService.recordStatusChange(order(OrderStatus.ON_THE_WAY), OrderStatus.PAID);
+
+        verify(productSalesStatsRepository, never()).addSales(any(), any(), anyLong(), any());
+    }
+}
@@ -1,27 +1,43 @@
 package org.example.homeandgarden.product.service;
 
+import org.example.homeandgarden.catalog.CatalogCache;
 import org.example.homeandgarden.category.entity.Category;
 import org.example.homeandgarden.category.entity.enums.CategoryStatus;
 import org.example.homeandgarden.category.repository.CategoryRepository;
 import org.example.homeandgarden.exception.DataNotFoundException;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
 import org.example.homeandgarden.order.entity.enums.OrderStatus;
 import org.example.homeandgarden.product.dto.*;
+import org.example.homeandgarden.product.entity.CategoryRevenueProjection;
+import org.example.homeandgarden.product.entity.DailyRevenue;
+import org.example.homeandgarden.product.entity.DailyRevenueProjection;
 import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.product.entity.ProductListProjection;
 import org.example.homeandgarden.product.entity.ProductProjection;
+import org.example.homeandgarden.product.entity.ProductSearchProjection;
+import org.example.homeandgarden.product.entity.enums.PriceChangeType;
 import org.example.homeandgarden.product.entity.enums.ProductStatus;
+import org.example.homeandgarden.product.entity.enums.SalesBucket;
 import org.example.homeandgarden.product.mapper.ProductMapper;
 import org.example.homeandgarden.product.repository.ProductRepository;
+import org.example.homeandgarden.shared.CursorPageResponse;
+import org.example.homeandgarden.shared.EstimatedSlice;
+import org.example.homeandgarden.shared.KeysetCursor;
 import org.example.homeandgarden.shared.MessageResponse;
+import org.example.homeandgarden.shared.RowCountEstimator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +56,15 @@ class ProductServiceImplTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    @Mock
+    private ProductBulkService productBulkService;
+
+    @Spy
+    private CatalogCache catalogCache = new CatalogCache(Duration.ofMinutes(10), 100, mock(CacheInvalidationPublisher.class));
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -86,7 +111,7 @@ class ProductServiceImplTest {
                 .updatedAt(TIMESTAMP_PAST)
                 .build();
 
-        Product product1 = Product.builder()
+        ProductListProjection product1 = ProductListProjection.builder()
                 .productId(PRODUCT_1_ID)
                 .productName("Product One")
                 .listPrice(BigDecimal.valueOf(40.00))
@@ -94,10 +119,9 @@ class ProductServiceImplTest {
                 .productStatus(PRODUCT_STATUS_AVAILABLE)
                 .addedAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .category(existingCategory)
                 .build();
 
-        Product product2 = Product.builder()
+        ProductListProjection product2 = ProductListProjection.builder()
                 .productId(PRODUCT_2_ID)
                 .productName("Product Two")
                 .listPrice(BigDecimal.valueOf(30.00))
@@ -105,11 +129,10 @@ class ProductServiceImplTest {
                 .productStatus(PRODUCT_STATUS_AVAILABLE)
                 .addedAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .category(existingCategory)
                 .build();
 
-        List<Product> products = List.of(product1, product2);
-        Page<Product> productPage = new PageImpl<>(products, pageRequest, products.size());
+        List<ProductListProjection> products = List.of(product1, product2);
+        Page<ProductListProjection> productPage = new PageImpl<>(products, pageRequest, products.size());
         long expectedTotalPages = (long) Math.ceil((double) products.size() / SIZE);
 
         ProductResponse productResponse1 = ProductResponse.builder()
@@ -133,18 +156,18 @@ class ProductServiceImplTest {
                 .build();
 
         when(categoryRepository.findById(CATEGORY_ID)).thenReturn(Optional.of(existingCategory));
-        when(productRepository.findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(
+        when(productRepository.findCategoryProductList(
                 CATEGORY_ID, PRODUCT_STATUS_AVAILABLE, MIN_PRICE, MAX_PRICE, pageRequest)).thenReturn(productPage);
-        when(productMapper.productToResponse(product1)).thenReturn(productResponse1);
-        when(productMapper.productToResponse(product2)).thenReturn(productResponse2);
+        when(productMapper.productListProjectionToResponse(product1)).thenReturn(productResponse1);
+        when(productMapper.productListProjectionToResponse(product2)).thenReturn(productResponse2);
 
         Page<ProductResponse> actualResponse = productService.getCategoryProducts(CATEGORY_ID.toString(), MIN_PRICE, MAX_PRICE, SIZE, PAGE, ORDER, SORT_BY);
 
         verify(categoryRepository, times(1)).findById(CATEGORY_ID);
-        verify(productRepository, times(1)).findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(
+        verify(productRepository, times(1)).findCategoryProductList(
                 CATEGORY_ID, PRODUCT_STATUS_AVAILABLE, MIN_PRICE, MAX_PRICE, pageRequest);
-        verify(productMapper, times(1)).productToResponse(product1);
-        verify(productMapper, times(1)).productToResponse(product2);
+        verify(productMapper, times(1)).productListProjectionToResponse(product1);
+        verify(productMapper, times(1)).productListProjectionToResponse(product2);
 
         assertNotNull(actualResponse);
         assertNotNull(actualResponse.getContent());
@@ -170,8 +193,8 @@ class ProductServiceImplTest {
                 productService.getCategoryProducts(INVALID_ID, MIN_PRICE, MAX_PRICE, SIZE, PAGE, ORDER, SORT_BY));
 
         verify(categoryRepository, never()).findById(any(UUID.class));
-        verify(productRepository, never()).findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(any(UUID.class), any(ProductStatus.class), any(BigDecimal.class), any(BigDecimal.class), any(PageRequest.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
+        verify(productRepository, never()).findCategoryProductList(any(UUID.class), any(ProductStatus.class), any(BigDecimal.class), any(BigDecimal.class), any(PageRequest.class));
+        verify(productMapper, never()).productListProjectionToResponse(any(ProductListProjection.class));
     }
 
     @Test
@@ -183,9 +206,9 @@ class ProductServiceImplTest {
                 productService.getCategoryProducts(NON_EXISTING_CATEGORY_ID.toString(), MIN_PRICE, MAX_PRICE, SIZE, PAGE, ORDER, SORT_BY));
 
         verify(categoryRepository, times(1)).findById(NON_EXISTING_CATEGORY_ID);
-        verify(productRepository, never()).findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(
+        verify(productRepository, never()).findCategoryProductList(
                 any(UUID.class), any(ProductStatus.class), any(BigDecimal.class), any(BigDecimal.class), any(Pageable.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
+        verify(productMapper, never()).productListProjectionToResponse(any(ProductListProjection.class));
 
         assertEquals(String.format("Category with id: %s, was not found.", NON_EXISTING_CATEGORY_ID), thrownException.getMessage());
     }
@@ -207,9 +230,9 @@ class ProductServiceImplTest {
                 productService.getCategoryProducts(CATEGORY_ID.toString(), MIN_PRICE, MAX_PRICE, SIZE, PAGE, ORDER, SORT_BY));
 
         verify(categoryRepository, times(1)).findById(CATEGORY_ID);
-        verify(productRepository, never()).findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(
+        verify(productRepository, never()).findCategoryProductList(
                 any(UUID.class), any(ProductStatus.class), any(BigDecimal.class), any(BigDecimal.class), any(Pageable.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
+        verify(productMapper, never()).productListProjectionToResponse(any(ProductListProjection.class));
 
         assertEquals(String.format("Category with id: %s, is disabled.", CATEGORY_ID), thrownException.getMessage());
     }
@@ -229,17 +252,17 @@ class ProductServiceImplTest {
                 .build();
 
         Pageable pageRequest = PageRequest.of(PAGE, SIZE, Sort.Direction.fromString(ORDER), SORT_BY);
-        Page<Product> emptyProductPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
+        Page<ProductListProjection> emptyProductPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
 
         when(categoryRepository.findById(CATEGORY_ID)).thenReturn(Optional.of(existingCategory));
-        when(productRepository.findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(CATEGORY_ID, PRODUCT_STATUS_AVAILABLE, minPrice, maxPrice, pageRequest)).thenReturn(emptyProductPage);
+        when(productRepository.findCategoryProductList(CATEGORY_ID, PRODUCT_STATUS_AVAILABLE, minPrice, maxPrice, pageRequest)).thenReturn(emptyProductPage);
 
         Page<ProductResponse> actualResponse = productService.getCategoryProducts(CATEGORY_ID.toString(), minPrice, maxPrice, SIZE, PAGE, ORDER, SORT_BY);
 
         verify(categoryRepository, times(1)).findById(CATEGORY_ID);
-        verify(productRepository, times(1)).findAllByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(
+        verify(productRepository, times(1)).findCategoryProductList(
                 CATEGORY_ID, PRODUCT_STATUS_AVAILABLE, minPrice, maxPrice, pageRequest);
-        verify(productMapper, never()).productToResponse(any(Product.class));
+        verify(productMapper, never()).productListProjectionToResponse(any(ProductListProjection.class));
 
         assertNotNull(actualResponse);
         assertNotNull(actualResponse.getContent());
@@ -253,12 +276,81 @@ class ProductServiceImplTest {
         assertEquals(0, actualResponse.getContent().size());
     }
 
+    @Test
+    void getCategoryProductsAfter_shouldSeekFromCursorAndReturnCursorOfLastProduct() {
+
+        Category existingCategory = Category.builder()
+                .categoryId(CATEGORY_ID)
+                .categoryName("Existing Category")
+                .categoryStatus(CATEGORY_STATUS_ACTIVE)
+                .createdAt(TIMESTAMP_PAST)
+                .updatedAt(TIMESTAMP_PAST)
+                .build();
+
+        Product product = Product.builder()
+                .productId(PRODUCT_2_ID)
+                .productName("Product Two")
+                .listPrice(BigDecimal.valueOf(30.00))
+                .currentPrice(BigDecimal.valueOf(20.00))
+                .productStatus(PRODUCT_STATUS_AVAILABLE)
+                .addedAt(TIMESTAMP_PAST)
+                .updatedAt(TIMESTAMP_PAST)
+                .category(existingCategory)
+                .build();
+
+        ProductResponse productResponse = ProductResponse.builder()
+                .productId(product.getProductId())
+                .productName(product.getProductName())
+                .build();
+
+        KeysetScrollPosition afterPosition = ScrollPosition.forward(Map.of(SORT_BY, "Product One", "productId", PRODUCT_1_ID));
+        KeysetScrollPosition lastPosition = ScrollPosition.forward(Map.of(SORT_BY, "Product Two", "productId", PRODUCT_2_ID));
+        String after = KeysetCursor.encode(afterPosition);
+        Sort expectedSort = Sort.by(Sort.Direction.ASC, SORT_BY).and(Sort.by(Sort.Direction.ASC, "productId"));
+
+        Window<Product> window = Window.from(List.of(product), index -> lastPosition, true);
+
+        when(categoryRepository.findById(CATEGORY_ID)).thenReturn(Optional.of(existingCategory));
+        when(productRepository.findByCategoryCategoryIdAndProductStatusIsAndCurrentPriceGreaterThanAndCurrentPriceLessThan(
+                CATEGORY_ID, PRODUCT_STATUS_AVAILABLE, MIN_PRICE, MAX_PRICE, afterPosition, Limit.of(1), expectedSort)).thenReturn(window);
+        when(productMapper.productToResponse(product)).thenReturn(productResponse);
+
+        CursorPageResponse<ProductResponse> actualResponse = productService.getCategoryProductsAfter(CATEGORY_ID.toString(), MIN_PRICE, MAX_PRICE, 1, after, ORDER, SORT_BY);
+
+        verify(productRepository, never()).findCategoryProductList(any(), any(), any(), any(), any(Pageable.class));
+
+        assertEquals(List.of(productResponse), actualResponse.getContent());
+        assertEquals(1, actualResponse.getSize());
+        assertTrue(actualResponse.getHasNext());
+        assertEquals(KeysetCursor.encode(lastPosition), actualResponse.getNextCursor());
+    }
+
+    @Test
+    void getCategoryProductsAfter_shouldThrowIllegalArgumentExceptionWhenCursorWasIssuedForAnotherSortField() {
+
+        Category existingCategory = Category.builder()
+                .categoryId(CATEGORY_ID)
+                .categoryName("Existing Category")
+                .categoryStatus(CATEGORY_STATUS_ACTIVE)
+                .build();
+
+        String after = KeysetCursor.encode(ScrollPosition.forward(Map.of("addedAt", TIMESTAMP_PAST, "productId", PRODUCT_1_ID)));
+
+        when(categoryRepository.findById(CATEGORY_ID)).thenReturn(Optional.of(existingCategory));
+
+        IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, () ->
+                productService.getCategoryProductsAfter(CATEGORY_ID.toString(), MIN_PRICE, MAX_PRICE, SIZE, after, ORDER, SORT_BY));
+
+        assertEquals("Invalid cursor: The cursor was issued for a different sort field.", thrownException.getMessage());
+        verifyNoInteractions(productRepository);
+    }
+
     @Test
     void getProductsByStatus_shouldRetrieveAndMapProductsByCertainStatusWithPagination() {
 
         Pageable pageRequest = PageRequest.of(PAGE, SIZE, Sort.Direction.fromString(ORDER), SORT_BY);
 
-        Product product1 = Product.builder()
+        ProductListProjection product1 = ProductListProjection.builder()
                 .productId(PRODUCT_1_ID)
                 .productName("Product One")
                 .listPrice(BigDecimal.valueOf(40.00))
@@ -266,10 +358,9 @@ class ProductServiceImplTest {
                 .productStatus(PRODUCT_STATUS_AVAILABLE)
                 .addedAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .category(Category.builder().build())
                 .build();
 
-        Product product2 = Product.builder()
+        ProductListProjection product2 = ProductListProjection.builder()
                 .productId(PRODUCT_2_ID)
                 .productName("Product Two")
                 .listPrice(BigDecimal.valueOf(30.00))
@@ -277,11 +368,10 @@ class ProductServiceImplTest {
                 .productStatus(PRODUCT_STATUS_AVAILABLE)
                 .addedAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .category(Category.builder().build())
                 .build();
 
-        List<Product> products = List.of(product1, product2);
-        Page<Product> productPage = new PageImpl<>(products, pageRequest, products.size());
+        List<ProductListProjection> products = List.of(product1, product2);
+        Page<ProductListProjection> productPage = new PageImpl<>(products, pageRequest, products.size());
         long expectedTotalPages = (long) Math.ceil((double) products.size() / SIZE);
 
         ProductResponse productResponse1 = ProductResponse.builder()
@@ -304,15 +394,15 @@ class ProductServiceImplTest {
                 .updatedAt(product2.getUpdatedAt())
                 .build();
 
-        when(productRepository.findAllByProductStatus(PRODUCT_STATUS_AVAILABLE, pageRequest)).thenReturn(productPage);
-        when(productMapper.productToResponse(product1)).thenReturn(productResponse1);
-        when(productMapper.productToResponse(product2)).thenReturn(productResponse2);
+        when(productRepository.findProductListByStatus(PRODUCT_STATUS_AVAILABLE, pageRequest)).thenReturn(productPage);
+        when(productMapper.productListProjectionToResponse(product1)).thenReturn(productResponse1);
+        when(productMapper.productListProjectionToResponse(product2)).thenReturn(productResponse2);
 
         Page<ProductResponse> actualResponse = productService.getProductsByStatus(PRODUCT_STATUS_AVAILABLE.name(), SIZE, PAGE, ORDER, SORT_BY);
 
-        verify(productRepository, times(1)).findAllByProductStatus(PRODUCT_STATUS_AVAILABLE, pageRequest);
-        verify(productMapper, times(1)).productToResponse(product1);
-        verify(productMapper, times(1)).productToResponse(product2);
+        verify(productRepository, times(1)).findProductListByStatus(PRODUCT_STATUS_AVAILABLE, pageRequest);
+        verify(productMapper, times(1)).productListProjectionToResponse(product1);
+        verify(productMapper, times(1)).productListProjectionToResponse(product2);
 
         assertNotNull(actualResponse);
         assertNotNull(actualResponse.getContent());
@@ -336,7 +426,7 @@ class ProductServiceImplTest {
 
         Pageable pageRequest = PageRequest.of(PAGE, SIZE, Sort.Direction.fromString(ORDER), SORT_BY);
 
-        Product product1 = Product.builder()
+        ProductListProjection product1 = ProductListProjection.builder()
                 .productId(PRODUCT_1_ID)
                 .productName("Product One")
                 .listPrice(BigDecimal.valueOf(40.00))
@@ -344,10 +434,9 @@ class ProductServiceImplTest {
                 .productStatus(PRODUCT_STATUS_AVAILABLE)
                 .addedAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .category(Category.builder().build())
                 .build();
 
-        Product product2 = Product.builder()
+        ProductListProjection product2 = ProductListProjection.builder()
                 .productId(PRODUCT_2_ID)
                 .productName("Product Two")
                 .listPrice(BigDecimal.valueOf(30.00))
@@ -355,11 +444,10 @@ class ProductServiceImplTest {
                 .productStatus(PRODUCT_STATUS_OUT_OF_STOCK)
                 .addedAt(TIMESTAMP_PAST)
                 .updatedAt(TIMESTAMP_PAST)
-                .category(Category.builder().build())
                 .build();
 
-        List<Product> products = List.of(product1, product2);
-        Page<Product> productPage = new PageImpl<>(products, pageRequest, products.size());
+        List<ProductListProjection> products = List.of(product1, product2);
+        Page<ProductListProjection> productPage = new PageImpl<>(products, pageRequest, products.size());
         long expectedTotalPages = (long) Math.ceil((double) products.size() / SIZE);
 
         ProductResponse productResponse1 = ProductResponse.builder()
@@ -382,15 +470,15 @@ class ProductServiceImplTest {
                 .updatedAt(product2.getUpdatedAt())
                 .build();
 
-        when(productRepository.findAll(pageRequest)).thenReturn(productPage);
-        when(productMapper.productToResponse(product1)).thenReturn(productResponse1);
-        when(productMapper.productToResponse(product2)).thenReturn(productResponse2);
+        when(productRepository.findProductList(pageRequest)).thenReturn(productPage);
+        when(productMapper.productListProjectionToResponse(product1)).thenReturn(productResponse1);
+        when(productMapper.productListProjectionToResponse(product2)).thenReturn(productResponse2);
 
         Page<ProductResponse> actualResponse = productService.getProductsByStatus(null, SIZE, PAGE, ORDER, SORT_BY);
 
-        verify(productRepository, times(1)).findAll(pageRequest);
-        verify(productMapper, times(1)).productToResponse(product1);
-        verify(productMapper, times(1)).productToResponse(product2);
+        verify(productRepository, times(1)).findProductList(pageRequest);
+        verify(productMapper, times(1)).productListProjectionToResponse(product1);
+        verify(productMapper, times(1)).productListProjectionToResponse(product2);
 
         assertNotNull(actualResponse);
         assertNotNull(actualResponse.getContent());
@@ -415,15 +503,83 @@ class ProductServiceImplTest {
         assertThrows(IllegalArgumentException.class, () ->
                 productService.getProductsByStatus(INVALID_STATUS, SIZE, PAGE, ORDER, SORT_BY));
 
-        verify(productRepository, never()).findAllByProductStatus(any(ProductStatus.class), any(Pageable.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
+        verify(productRepository, never()).findProductListByStatus(any(ProductStatus.class), any(Pageable.class));
+        verify(productMapper, never()).productListProjectionToResponse(any(ProductListProjection.class));
+    }
+
+    @Test
+    void getProductsByStatusSlice_shouldReturnSliceWithEstimatedTotalWithoutCountQuery() {
+
+        Pageable pageRequest = PageRequest.of(PAGE, SIZE, Sort.Direction.fromString(ORDER), SORT_BY);
+
+        ProductListProjection product1 = ProductListProjection.builder()
+                .productId(PRODUCT_1_ID)
+                .productName("Product One")
+                .productStatus(PRODUCT_STATUS_AVAILABLE)
+                .build();
+
+        ProductResponse productResponse1 = ProductResponse.builder()
+                .productId(product1.getProductId())
+                .productName(product1.getProductName())
+                .productStatus(product1.getProductStatus())
+                .build();
+
+        Slice<ProductListProjection> productSlice = new SliceImpl<>(List.of(product1), pageRequest, true);
+
+        when(productRepository.findProductListSliceByStatus(PRODUCT_STATUS_AVAILABLE, pageRequest)).thenReturn(productSlice);
+        when(productMapper.productListProjectionToResponse(product1)).thenReturn(productResponse1);
+        when(rowCountEstimator.estimate("products", Map.of("product_status", PRODUCT_STATUS_AVAILABLE.name()))).thenReturn(120L);
+
+        Slice<ProductResponse> actualResponse = productService.getProductsByStatusSlice(PRODUCT_STATUS_AVAILABLE.name(), SIZE, PAGE, ORDER, SORT_BY);
+
+        verify(productRepository, never()).findProductListByStatus(any(), any());
+
+        EstimatedSlice<ProductResponse> estimatedSlice = assertInstanceOf(EstimatedSlice.class, actualResponse);
+        assertEquals(120L, estimatedSlice.getEstimatedTotalElements());
+        assertTrue(estimatedSlice.hasNext());
+        assertEquals((long) SIZE, estimatedSlice.getSize());
+        assertEquals(1, estimatedSlice.getContent().size());
+        assertEquals(productResponse1.getProductId(), estimatedSlice.getContent().getFirst().getProductId());
+    }
+
+    @Test
+    void getTopProductsSlice_shouldReturnSliceOfTopProductsWithoutCountQuery() {
+
+        PageRequest pageRequest = PageRequest.of(PAGE, SIZE);
+        SalesBucket expectedBucket = SalesBucket.PAID;
+
+        ProductProjection productProjection1 = ProductProjection.builder()
+                .productId(PRODUCT_1_ID)
+                .productName("Projection One")
+                .totalAmount(56L)
+                .build();
+
+        ProductProjectionResponse productProjectionResponse1 = ProductProjectionResponse.builder()
+                .productId(productProjection1.getProductId())
+                .productName(productProjection1.getProductName())
+                .totalAmount(productProjection1.getTotalAmount())
+                .build();
+
+        Slice<ProductProjection> projectionSlice = new SliceImpl<>(List.of(productProjection1), pageRequest, false);
+
+        when(productRepository.findTopProductsSlice(eq(expectedBucket), eq(pageRequest))).thenReturn(projectionSlice);
+        when(productMapper.productProjectionToResponse(productProjection1)).thenReturn(productProjectionResponse1);
+
+        Slice<ProductProjectionResponse> actualResponse = productService.getTopProductsSlice("PAID", SIZE, PAGE);
+
+        verify(productRepository, never()).findTopProducts(any(), any());
+
+        assertNotNull(actualResponse);
+        assertFalse(actualResponse.hasNext());
+        assertEquals(1, actualResponse.getContent().size());
+        assertEquals(productProjectionResponse1.getTotalAmount(), actualResponse.getContent().getFirst().getTotalAmount());
     }
 
     @Test
     void getTopProducts_shouldRetrieveAndMapTopProductsForPaidStatusWithPagination() {
 
         PageRequest pageRequest = PageRequest.of(PAGE, SIZE);
-        List<OrderStatus> expectedStatuses = List.of(OrderStatus.PAID, OrderStatus.ON_THE_WAY, OrderStatus.DELIVERED);
+        SalesBucket expectedBucket = SalesBucket.PAID;
 
         ProductProjection productProjection1 = ProductProjection.builder()
                 .productId(PRODUCT_1_ID)
@@ -473,13 +629,13 @@ class ProductServiceImplTest {
                 .totalAmount(productProjection2.getTotalAmount())
                 .build();
 
-        when(productRepository.findTopProducts(eq(expectedStatuses), eq(pageRequest))).thenReturn(productProjectionPage).thenReturn(productProjectionPage);
+        when(productRepository.findTopProducts(eq(expectedBucket), eq(pageRequest))).thenReturn(productProjectionPage).thenReturn(productProjectionPage);
         when(productMapper.productProjectionToResponse(productProjection1)).thenReturn(productProjectionResponse1);
         when(productMapper.productProjectionToResponse(productProjection2)).thenReturn(productProjectionResponse2);
 
         Page<ProductProjectionResponse> actualResponse = productService.getTopProducts("PAID", SIZE, PAGE);
 
-        verify(productRepository, times(1)).findTopProducts(eq(expectedStatuses), eq(pageRequest));
+        verify(productRepository, times(1)).findTopProducts(eq(expectedBucket), eq(pageRequest));
         verify(productMapper, times(1)).productProjectionToResponse(productProjection1);
         verify(productMapper, times(1)).productProjectionToResponse(productProjection2);
 
@@ -500,7 +656,7 @@ class ProductServiceImplTest {
     void getTopProducts_shouldRetrieveAndMapTopProductsForCanceledStatusWithPagination() {
 
         PageRequest pageRequest = PageRequest.of(PAGE, SIZE);
-        List<OrderStatus> expectedStatuses = List.of(OrderStatus.CANCELED, OrderStatus.RETURNED);
+        SalesBucket expectedBucket = SalesBucket.CANCELED;
 
         ProductProjection productProjection1 = ProductProjection.builder()
                 .productId(PRODUCT_1_ID)
@@ -550,13 +706,13 @@ class ProductServiceImplTest {
                 .totalAmount(productProjection2.getTotalAmount())
                 .build();
 
-        when(productRepository.findTopProducts(eq(expectedStatuses), eq(pageRequest))).thenReturn(productProjectionPage).thenReturn(productProjectionPage);
+        when(productRepository.findTopProducts(eq(expectedBucket), eq(pageRequest))).thenReturn(productProjectionPage).thenReturn(productProjectionPage);
         when(productMapper.productProjectionToResponse(productProjection1)).thenReturn(productProjectionResponse1);
         when(productMapper.productProjectionToResponse(productProjection2)).thenReturn(productProjectionResponse2);
 
         Page<ProductProjectionResponse> actualResponse = productService.getTopProducts("CANCELED", SIZE, PAGE);
 
-        verify(productRepository, times(1)).findTopProducts(eq(expectedStatuses), eq(pageRequest));
+        verify(productRepository, times(1)).findTopProducts(eq(expectedBucket), eq(pageRequest));
         verify(productMapper, times(1)).productProjectionToResponse(productProjection1);
         verify(productMapper, times(1)).productProjectionToResponse(productProjection2);
 
@@ -577,14 +733,14 @@ class ProductServiceImplTest {
     void getTopProducts_shouldReturnEmptyPagedModelIfNoTopProductsFound() {
 
         PageRequest pageRequest = PageRequest.of(PAGE, SIZE);
-        List<OrderStatus> expectedStatuses = List.of(OrderStatus.CANCELED, OrderStatus.RETURNED);
+        SalesBucket expectedBucket = SalesBucket.CANCELED;
         Page<ProductProjection> emptyPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
 
-        when(productRepository.findTopProducts(expectedStatuses, pageRequest)).thenReturn(emptyPage);
+        when(productRepository.findTopProducts(expectedBucket, pageRequest)).thenReturn(emptyPage);
 
         Page<ProductProjectionResponse> actualResponse = productService.getTopProducts("CANCELED", SIZE, PAGE);
 
-        verify(productRepository, times(1)).findTopProducts(expectedStatuses, pageRequest);
+        verify(productRepository, times(1)).findTopProducts(expectedBucket, pageRequest);
         verify(productMapper, never()).productProjectionToResponse(any(ProductProjection.class));
 
         assertNotNull(actualResponse);
@@ -710,6 +866,76 @@ class ProductServiceImplTest {
         verify(productMapper, never()).productProjectionToResponse(any(ProductProjection.class));
     }
 
+    @Test
+    void searchProducts_shouldReturnBestMatchesWithCursorOfLastMatchWhenMoreMatchesFollow() {
+
+        ProductSearchProjection hit1 = ProductSearchProjection.builder()
+                .productId(PRODUCT_1_ID)
+                .productName("Garden Hose")
+                .productStatus(PRODUCT_STATUS_AVAILABLE)
+                .rank(0.9f)
+                .build();
+
+        ProductSearchProjection hit2 = ProductSearchProjection.builder()
+                .productId(PRODUCT_2_ID)
+                .productName("Garden Hose Reel")
+                .productStatus(PRODUCT_STATUS_AVAILABLE)
+                .rank(0.6f)
+                .build();
+
+        ProductResponse productResponse1 = ProductResponse.builder()
+                .productId(hit1.getProductId())
+                .productName(hit1.getProductName())
+                .build();
+
+        when(productRepository.searchProducts("garden hose", CATEGORY_ID, PRODUCT_STATUS_AVAILABLE, MIN_PRICE, MAX_PRICE, null, null, 2)).thenReturn(List.of(hit1, hit2));
+        when(productMapper.productSearchProjectionToResponse(hit1)).thenReturn(productResponse1);
+
+        CursorPageResponse<ProductResponse> actualResponse = productService.searchProducts(" garden hose ", CATEGORY_ID.toString(), "available", MIN_PRICE, MAX_PRICE, 1, "");
+
+        verify(productMapper, never()).productSearchProjectionToResponse(hit2);
+
+        assertEquals(1, actualResponse.getSize());
+        assertTrue(actualResponse.getHasNext());
+        assertEquals(productResponse1.getProductId(), actualResponse.getContent().getFirst().getProductId());
+
+        Map<String, Object> cursorKeys = ((KeysetScrollPosition) KeysetCursor.decode(actualResponse.getNextCursor(), Set.of("rank", "productId"))).getKeys();
+        assertEquals(0.9f, cursorKeys.get("rank"));
+        assertEquals(PRODUCT_1_ID, cursorKeys.get("productId"));
+    }
+
+    @Test
+    void searchProducts_shouldContinueAfterCursorPosition() {
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("rank", 0.9f);
+        keys.put("productId", PRODUCT_1_ID);
+        String after = KeysetCursor.encode(ScrollPosition.forward(keys));
+
+        when(productRepository.searchProducts("hose", null, PRODUCT_STATUS_AVAILABLE, MIN_PRICE, MAX_PRICE, 0.9f, PRODUCT_1_ID, 6)).thenReturn(List.of());
+
+        CursorPageResponse<ProductResponse> actualResponse = productService.searchProducts("hose", null, "AVAILABLE", MIN_PRICE, MAX_PRICE, SIZE, after);
+
+        assertTrue(actualResponse.getContent().isEmpty());
+        assertFalse(actualResponse.getHasNext());
+        assertNull(actualResponse.getNextCursor());
+    }
+
+    @Test
+    void searchProducts_shouldThrowIllegalArgumentExceptionWhenCursorWasIssuedForAnotherListing() {
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("rank", Instant.parse("2024-12-01T12:00:00Z"));
+        keys.put("productId", PRODUCT_1_ID);
+        String after = KeysetCursor.encode(ScrollPosition.forward(keys));
+
+        IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, () ->
+                productService.searchProducts("hose", null, "AVAILABLE", MIN_PRICE, MAX_PRICE, SIZE, after));
+
+        verify(productRepository, never()).searchProducts(any(), any(), any(), any(), any(), any(), any(), anyInt());
+        assertEquals("Invalid cursor: The cursor was issued for a different sort field.", thrownException.getMessage());
+    }
+
     @Test
     void getProfitByPeriod_shouldReturnProfitForDayPeriod() {
 
@@ -717,11 +943,11 @@ class ProductServiceImplTest {
         Integer timePeriod = 5;
         BigDecimal expectedProfit = BigDecimal.valueOf(123.45);
 
-        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class))).thenReturn(expectedProfit);
+        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class))).thenReturn(expectedProfit);
 
         ProductProfitResponse actualResponse = productService.getProfitByPeriod(timeUnit, timePeriod);
 
-        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class));
+        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class));
 
         assertNotNull(actualResponse);
         assertEquals(timeUnit.toUpperCase(), actualResponse.getTimeUnit());
@@ -736,11 +962,11 @@ class ProductServiceImplTest {
         Integer timePeriod = 2;
         BigDecimal expectedProfit = BigDecimal.valueOf(500.00);
 
-        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class))).thenReturn(expectedProfit);
+        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class))).thenReturn(expectedProfit);
 
         ProductProfitResponse actualResponse = productService.getProfitByPeriod(timeUnit, timePeriod);
 
-        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class));
+        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class));
 
         assertNotNull(actualResponse);
         assertEquals(timeUnit.toUpperCase(), actualResponse.getTimeUnit());
@@ -755,11 +981,11 @@ class ProductServiceImplTest {
         Integer timePeriod = 3;
         BigDecimal expectedProfit = BigDecimal.valueOf(1500.75);
 
-        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class))).thenReturn(expectedProfit);
+        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class))).thenReturn(expectedProfit);
 
         ProductProfitResponse actualResponse = productService.getProfitByPeriod(timeUnit, timePeriod);
 
-        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class));
+        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class));
 
         assertNotNull(actualResponse);
         assertEquals(timeUnit.toUpperCase(), actualResponse.getTimeUnit());
@@ -774,11 +1000,11 @@ class ProductServiceImplTest {
         Integer timePeriod = 1;
         BigDecimal expectedProfit = BigDecimal.valueOf(10000.00);
 
-        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class))).thenReturn(expectedProfit);
+        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class))).thenReturn(expectedProfit);
 
         ProductProfitResponse actualResponse = productService.getProfitByPeriod(timeUnit, timePeriod);
 
-        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class));
+        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class));
 
         assertNotNull(actualResponse);
         assertEquals(timeUnit.toUpperCase(), actualResponse.getTimeUnit());
@@ -793,11 +1019,11 @@ class ProductServiceImplTest {
         Integer timePeriod = 1;
         BigDecimal expectedProfit = BigDecimal.ZERO;
 
-        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class))).thenReturn(expectedProfit);
+        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class))).thenReturn(expectedProfit);
 
         ProductProfitResponse actualResponse = productService.getProfitByPeriod(timeUnit, timePeriod);
 
-        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(Instant.class));
+        verify(productRepository, times(1)).findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class));
 
         assertNotNull(actualResponse);
         assertEquals(timeUnit.toUpperCase(), actualResponse.getTimeUnit());
@@ -814,11 +1040,67 @@ class ProductServiceImplTest {
         IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, () ->
                 productService.getProfitByPeriod(invalidTimeUnit, timePeriod));
 
-        verify(productRepository, never()).findProfitByPeriod(any(OrderStatus.class), any(Instant.class));
+        verify(productRepository, never()).findProfitByPeriod(any(OrderStatus.class), any(LocalDate.class));
 
         assertEquals(String.format("Unexpected value: %s", invalidTimeUnit), thrownException.getMessage());
     }
 
+    @Test
+    void getProfitByPeriod_shouldSumRollupFromFirstDayOfPeriod() {
+
+        when(productRepository.findProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class))).thenReturn(BigDecimal.TEN);
+
+        productService.getProfitByPeriod("WEEK", 2);
+
+        verify(productRepository, times(1)).findProfitByPeriod(OrderStatus.DELIVERED, LocalDate.now(DailyRevenue.ZONE).minusDays(14));
+    }
+
+    @Test
+    void getDailyProfitByPeriod_shouldReturnProfitPerDay() {
+
+        DailyRevenueProjection dailyRevenueProjection = DailyRevenueProjection.builder()
+                .day(LocalDate.now().minusDays(1))
+                .revenue(BigDecimal.valueOf(42.50))
+                .build();
+        ProductDailyProfitResponse dailyProfitResponse = ProductDailyProfitResponse.builder()
+                .day(dailyRevenueProjection.getDay())
+                .profit(dailyRevenueProjection.getRevenue())
+                .build();
+
+        when(productRepository.findDailyProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class))).thenReturn(List.of(dailyRevenueProjection));
+        when(productMapper.dailyRevenueProjectionToResponse(dailyRevenueProjection)).thenReturn(dailyProfitResponse);
+
+        List<ProductDailyProfitResponse> actualResponse = productService.getDailyProfitByPeriod("DAY", 3);
+
+        verify(productRepository, times(1)).findDailyProfitByPeriod(OrderStatus.DELIVERED, LocalDate.now(DailyRevenue.ZONE).minusDays(3));
+
+        assertEquals(List.of(dailyProfitResponse), actualResponse);
+    }
+
+    @Test
+    void getCategoryProfitByPeriod_shouldReturnProfitPerCategory() {
+
+        CategoryRevenueProjection categoryRevenueProjection = CategoryRevenueProjection.builder()
+                .categoryId(CATEGORY_ID)
+                .categoryName("Category")
+                .revenue(BigDecimal.valueOf(99.90))
+                .build();
+        ProductCategoryProfitResponse categoryProfitResponse = ProductCategoryProfitResponse.builder()
+                .categoryId(categoryRevenueProjection.getCategoryId())
+                .categoryName(categoryRevenueProjection.getCategoryName())
+                .profit(categoryRevenueProjection.getRevenue())
+                .build();
+
+        when(productRepository.findCategoryProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class))).thenReturn(List.of(categoryRevenueProjection));
+        when(productMapper.categoryRevenueProjectionToResponse(categoryRevenueProjection)).thenReturn(categoryProfitResponse);
+
+        List<ProductCategoryProfitResponse> actualResponse = productService.getCategoryProfitByPeriod("MONTH", 1);
+
+        verify(productRepository, times(1)).findCategoryProfitByPeriod(eq(OrderStatus.DELIVERED), any(LocalDate.class));
+
+        assertEquals(List.of(categoryProfitResponse), actualResponse);
+    }
+
     @Test
     void getProductById_shouldReturnProductResponseWhenProductExists() {
 
@@ -856,6 +1138,40 @@ class ProductServiceImplTest {
         assertEquals(productResponse.getProductStatus(), actualResponse.getProductStatus());
     }
 
+    @Test
+    void getProductById_shouldServeRepeatedReadsFromCacheUntilProductIsUpdated() {
+
+        Product existingProduct = Product.builder()
+                .productId(PRODUCT_ID)
+                .productName("Existing Product")
+                .productStatus(PRODUCT_STATUS_AVAILABLE)
+                .category(Category.builder().categoryId(CATEGORY_ID).build())
+                .build();
+
+        ProductResponse productResponse = ProductResponse.builder()
+                .productId(existingProduct.getProductId())
+                .productName(existingProduct.getProductName())
+                .build();
+
+        ProductUpdateRequest productUpdateRequest = ProductUpdateRequest.builder()
+                .productName("Updated Product")
+                .build();
+
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(existingProduct));
+        when(productMapper.productToResponse(existingProduct)).thenReturn(productResponse);
+        when(productRepository.saveAndFlush(existingProduct)).thenReturn(existingProduct);
+
+        productService.getProductById(PRODUCT_ID.toString());
+        productService.getProductById(PRODUCT_ID.toString());
+        verify(productRepository, times(1)).findById(PRODUCT_ID);
+
+        productService.updateProduct(PRODUCT_ID.toString(), productUpdateRequest);
+        verify(catalogCache, times(1)).evictProduct(PRODUCT_ID, CATEGORY_ID);
+
+        productService.getProductById(PRODUCT_ID.toString());
+        verify(productRepository, times(3)).findById(PRODUCT_ID);
+    }
+
     @Test
     void getProductById_shouldThrowDataNotFoundExceptionWhenProductDoesNotExist() {
 
@@ -1353,4 +1669,119 @@ class ProductServiceImplTest {
 
         assertEquals(String.format("Product with id: %s, already has status '%s'.", PRODUCT_ID, PRODUCT_STATUS_OUT_OF_STOCK.name()), thrownException.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void changeProductPrices_shouldChangePricesOfCategoryProductsWhenCategoryExists() {
+
+        ProductBulkPriceRequest priceRequest = ProductBulkPriceRequest.builder()
+                .categoryId(CATEGORY_ID.toString())
+                .changeType("percentage")
+                .value(BigDecimal.valueOf(-15))
+                .build();
+
+        when(categoryRepository.existsById(CATEGORY_ID)).thenReturn(true);
+        when(productBulkService.changeCategoryPrices(CATEGORY_ID, PriceChangeType.PERCENTAGE, BigDecimal.valueOf(-15))).thenReturn(120);
+
+        MessageResponse actualResponse = productService.changeProductPrices(priceRequest);
+
+        verify(productBulkService, never()).changePrices(any(), any(), any());
+        assertEquals("Prices of 120 products were changed.", actualResponse.getMessage());
+    }
+
+    @Test
+    void changeProductPrices_shouldChangePricesOfListedProducts() {
+
+        ProductBulkPriceRequest priceRequest = ProductBulkPriceRequest.builder()
+                .productIds(List.of(PRODUCT_1_ID.toString(), PRODUCT_2_ID.toString()))
+                .changeType("AMOUNT")
+                .value(BigDecimal.valueOf(2.50))
+                .build();
+
+        when(productBulkService.changePrices(List.of(PRODUCT_1_ID, PRODUCT_2_ID), PriceChangeType.AMOUNT, BigDecimal.valueOf(2.50))).thenReturn(2);
+
+        MessageResponse actualResponse = productService.changeProductPrices(priceRequest);
+
+        verify(categoryRepository, never()).existsById(any());
+        assertEquals("Prices of 2 products were changed.", actualResponse.getMessage());
+    }
+
+    @Test
+    void changeProductPrices_shouldThrowIllegalArgumentExceptionWhenBothCategoryAndProductsAreGiven() {
+
+        ProductBulkPriceRequest priceRequest = ProductBulkPriceRequest.builder()
+                .categoryId(CATEGORY_ID.toString())
+                .productIds(List.of(PRODUCT_1_ID.toString()))
+                .changeType("AMOUNT")
+                .value(BigDecimal.ONE)
+                .build();
+
+        IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, () ->
+                productService.changeProductPrices(priceRequest));
+
+        verifyNoInteractions(productBulkService);
+        assertEquals("Either a category id or a list of product ids must be provided, but not both.", thrownException.getMessage());
+    }
+
+    @Test
+    void changeProductPrices_shouldThrowIllegalArgumentExceptionWhenPercentageIsBelowMinus100() {
+
+        ProductBulkPriceRequest priceRequest = ProductBulkPriceRequest.builder()
+                .categoryId(CATEGORY_ID.toString())
+                .changeType("PERCENTAGE")
+                .value(BigDecimal.valueOf(-150))
+                .build();
+
+        IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, () ->
+                productService.changeProductPrices(priceRequest));
+
+        verifyNoInteractions(productBulkService);
+        assertEquals("Prices can not be reduced by more than 100%, but the value is -150.", thrownException.getMessage());
+    }
+
+    @Test
+    void changeProductPrices_shouldThrowDataNotFoundExceptionWhenCategoryDoesNotExist() {
+
+        ProductBulkPriceRequest priceRequest = ProductBulkPriceRequest.builder()
+                .categoryId(NON_EXISTING_CATEGORY_ID.toString())
+                .changeType("AMOUNT")
+                .value(BigDecimal.ONE)
+                .build();
+
+        when(categoryRepository.existsById(NON_EXISTING_CATEGORY_ID)).thenReturn(false);
+
+        DataNotFoundException thrownException = assertThrows(DataNotFoundException.class, () ->
+                productService.changeProductPrices(priceRequest));
+
+        verifyNoInteractions(productBulkService);
+        assertEquals(String.format("Category with id: %s, was not found.", NON_EXISTING_CATEGORY_ID), thrownException.getMessage());
+    }
+
+    @Test
+    void setProductsStatus_shouldSetStatusOfCategoryProductsWithOtherStatuses() {
+
+        ProductBulkStatusRequest statusRequest = ProductBulkStatusRequest.builder()
+                .categoryId(CATEGORY_ID.toString())
+                .productStatus("sold_out")
+                .build();
+
+        when(categoryRepository.existsById(CATEGORY_ID)).thenReturn(true);
+        when(productBulkService.changeCategoryStatuses(CATEGORY_ID, EnumSet.of(ProductStatus.AVAILABLE, ProductStatus.OUT_OF_STOCK), ProductStatus.SOLD_OUT)).thenReturn(7);
+
+        MessageResponse actualResponse = productService.setProductsStatus(statusRequest);
+
+        assertEquals("Status 'SOLD_OUT' was set for 7 products.", actualResponse.getMessage());
+    }
+
+    @Test
+    void setProductsStatus_shouldThrowIllegalArgumentExceptionWhenNeitherCategoryNorProductsAreGiven() {
+
+        ProductBulkStatusRequest statusRequest = ProductBulkStatusRequest.builder()
+                .productIds(List.of())
+                .productStatus("AVAILABLE")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> productService.setProductsStatus(statusRequest));
+
+        verifyNoInteractions(productBulkService);
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.homeandgarden.security.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.homeandgarden.exception.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    private static final String PASSWORD = "Raw Password";
+    private static final String WRONG_PASSWORD = "Wrong Password";
+    private static final String PASSWORD_HASH = "{bcrypt}Hashed Password";
+
+    @AfterEach
+    void closeEncoder() {
+        if (passwordEncoder != null) {
+            passwordEncoder.close();
+        }
+    }
+
+    @Test
+    void encode_shouldReturnHashOfDelegate() {
+
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMinutes(5), meterRegistry);
+        when(delegate.encode(PASSWORD)).thenReturn(PASSWORD_HASH);
+
+        String actualHash = passwordEncoder.encode(PASSWORD);
+
+        verify(delegate, times(1)).encode(PASSWORD);
+        assertEquals(PASSWORD_HASH, actualHash);
+    }
+
+    @Test
+    void matches_shouldAnswerRepeatedSuccessfulMatchFromCache() {
+
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMinutes(5), meterRegistry);
+        when(delegate.matches(PASSWORD, PASSWORD_HASH)).thenReturn(true);
+
+        assertTrue(passwordEncoder.matches(PASSWORD, PASSWORD_HASH));
+        assertTrue(passwordEncoder.matches(PASSWORD, PASSWORD_HASH));
+
+        verify(delegate, times(1)).matches(PASSWORD, PASSWORD_HASH);
+        assertEquals(1.0, meterRegistry.get("password.hashing.match.cache.hits").counter().count());
+    }
+
+    @Test
+    void matches_shouldNotCacheFailedMatch() {
+
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMinutes(5), meterRegistry);
+        when(delegate.matches(WRONG_PASSWORD, PASSWORD_HASH)).thenReturn(false);
+
+        assertFalse(passwordEncoder.matches(WRONG_PASSWORD, PASSWORD_HASH));
+        assertFalse(passwordEncoder.matches(WRONG_PASSWORD, PASSWORD_HASH));
+
+        verify(delegate, times(2)).matches(WRONG_PASSWORD, PASSWORD_HASH);
+    }
+
+    @Test
+    void matches_shouldAlwaysUseDelegateWhenMatchCacheIsDisabled() {
+
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ZERO, meterRegistry);
+        when(delegate.matches(PASSWORD, PASSWORD_HASH)).thenReturn(true);
+
+        assertTrue(passwordEncoder.matches(PASSWORD, PASSWORD_HASH));
+        assertTrue(passwordEncoder.matches(PASSWORD, PASSWORD_HASH));
+
+        verify(delegate, times(2)).matches(PASSWORD, PASSWORD_HASH);
+    }
+
+    @Test
+    void encode_shouldThrowPasswordHashingUnavailableExceptionWhenExecutorIsSaturated() throws Exception {
+
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMinutes(5), meterRegistry);
+
+        CountDownLatch hashingStarted = new CountDownLatch(1);
+        CountDownLatch releaseHashing = new CountDownLatch(1);
+        when(delegate.encode(PASSWORD)).thenAnswer(invocation -> {
+            hashingStarted.countDown();
+            releaseHashing.await(5, TimeUnit.SECONDS);
+            return PASSWORD_HASH;
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode(PASSWORD));
+        assertTrue(hashingStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode(PASSWORD));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        PasswordHashingUnavailableException thrown = assertThrows(PasswordHashingUnavailableException.class, () -> passwordEncoder.encode(PASSWORD));
+
+        releaseHashing.countDown();
+        assertEquals(PASSWORD_HASH, running.get(5, TimeUnit.SECONDS));
+        assertEquals(PASSWORD_HASH, queued.get(5, TimeUnit.SECONDS));
+
+        assertEquals("Too many concurrent authentication requests. Please try again later.", thrown.getMessage());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void upgradeEncoding_shouldDelegateWithoutExecutor() {
+
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMinutes(5), meterRegistry);
+        when(delegate.upgradeEncoding(PASSWORD_HASH)).thenReturn(true);
+
+        assertTrue(passwordEncoder.upgradeEncoding(PASSWORD_HASH));
+
+        verify(delegate, times(1)).upgradeEncoding(PASSWORD_HASH);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.homeandgarden.security.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.example.homeandgarden.user.entity.User;
+import org.example.homeandgarden.user.entity.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of authenticating one request with an access token.
+ * <p>
+ * {@code legacyFilterPath} repeats what the filter used to do (decode the secret, build a parser and verify
+ * the signature twice), {@code verifyOnce} skips the verified-claims cache and {@code verifyCached} is the
+ * steady state for a client that sends the same token repeatedly.
+ * <p>
+ * Run with: {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.example.homeandgarden.security.config.JwtServiceBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String ACCESS_TOKEN_SECRET = "AccessTokenSecretSignatureStringAtLeast32CharactersLong";
+
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = createJwtService(10_000);
+        uncachedJwtService = createJwtService(0);
+        accessToken = jwtService.generateAccessToken(User.builder()
+                .userId(UUID.randomUUID())
+                .email("user@example.com")
+                .userRole(UserRole.CLIENT)
+                .isEnabled(true)
+                .isNonLocked(true)
+                .build(), UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public String legacyFilterPath() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ACCESS_TOKEN_SECRET));
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken);
+
+        SecretKey keyAgain = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ACCESS_TOKEN_SECRET));
+        return Jwts.parser().verifyWith(keyAgain).build().parseSignedClaims(accessToken).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Optional<Claims> verifyOnce() {
+        return uncachedJwtService.verifyAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<Claims> verifyCached() {
+        return jwtService.verifyAccessToken(accessToken);
+    }
+
+    private static JwtService createJwtService(int cacheMaxSize) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "accessTokenSecretKey", ACCESS_TOKEN_SECRET);
+        ReflectionTestUtils.setField(service, "refreshTokenSecretKey", "RefreshTokenSecretSignatureStringAtLeast32CharactersLong");
+        ReflectionTestUtils.setField(service, "passwordResetTokenSecretKey", "PasswordResetTokenSecretSignatureStringAtLeast32CharactersLong");
+        ReflectionTestUtils.setField(service, "accessTokenExpiration", 3_600_000);
+        ReflectionTestUtils.setField(service, "refreshTokenExpiration", 86_400_000);
+        ReflectionTestUtils.setField(service, "passwordResetTokenExpiration", 1_800_000);
+        ReflectionTestUtils.setField(service, "accessTokenCacheMaxSize", cacheMaxSize);
+        service.init();
+        return service;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.homeandgarden.security.service;
+
+import org.example.homeandgarden.invalidation.CacheInvalidation;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.security.entity.RevokedAccessToken;
+import org.example.homeandgarden.security.repository.RevokedAccessTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenDenylistTest {
+
+    @Mock
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private AccessTokenDenylist accessTokenDenylist;
+
+    private static final String TOKEN_ID = "3c0f4a8e-5b7d-4d2a-9f1e-6a2b8c4d0e11";
+    private static final String OTHER_TOKEN_ID = "8d2e6f1a-0c3b-4e5d-a7f9-1b2c3d4e5f60";
+
+    @BeforeEach
+    void setUp() {
+        accessTokenDenylist = new AccessTokenDenylist(revokedAccessTokenRepository, publisher, 1000);
+    }
+
+    @Test
+    void revoke_shouldPersistAndRejectTokenImmediately() {
+
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        accessTokenDenylist.revoke(TOKEN_ID, expiresAt);
+
+        verify(revokedAccessTokenRepository, times(1)).insertIfAbsent(TOKEN_ID, expiresAt);
+        verify(publisher, times(1)).publish(CacheInvalidation.revokedAccessToken(UUID.fromString(TOKEN_ID), expiresAt));
+
+        assertTrue(accessTokenDenylist.isRevoked(TOKEN_ID));
+        assertFalse(accessTokenDenylist.isRevoked(OTHER_TOKEN_ID));
+    }
+
+    @Test
+    void revoke_shouldRejectTokenOnlyAfterRevocationCommitted() {
+
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            accessTokenDenylist.revoke(TOKEN_ID, expiresAt);
+            assertFalse(accessTokenDenylist.isRevoked(TOKEN_ID));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(revokedAccessTokenRepository, times(1)).insertIfAbsent(TOKEN_ID, expiresAt);
+        assertTrue(accessTokenDenylist.isRevoked(TOKEN_ID));
+    }
+
+    @Test
+    void revoke_shouldIgnoreAlreadyExpiredTokenAndTokenWithoutId() {
+
+        accessTokenDenylist.revoke(TOKEN_ID, Instant.now().minusSeconds(1));
+        accessTokenDenylist.revoke(null, Instant.now().plusSeconds(600));
+
+        verify(revokedAccessTokenRepository, never()).insertIfAbsent(anyString(), any(Instant.class));
+        verifyNoInteractions(publisher);
+
+        assertFalse(accessTokenDenylist.isRevoked(TOKEN_ID));
+        assertFalse(accessTokenDenylist.isRevoked(null));
+    }
+
+    @Test
+    void loadRevokedTokens_shouldRestoreDenylistFromDatabase() {
+
+        RevokedAccessToken revokedToken = RevokedAccessToken.builder()
+                .tokenId(TOKEN_ID)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+
+        when(revokedAccessTokenRepository.findByExpiresAtAfter(any(Instant.class))).thenReturn(List.of(revokedToken));
+
+        accessTokenDenylist.loadRevokedTokens();
+
+        verify(revokedAccessTokenRepository, times(1)).findByExpiresAtAfter(any(Instant.class));
+
+        assertTrue(accessTokenDenylist.isRevoked(TOKEN_ID));
+        assertFalse(accessTokenDenylist.isRevoked(OTHER_TOKEN_ID));
+    }
+
+    @Test
+    void evict_shouldRejectTokenRevokedOnOtherInstance() {
+
+        accessTokenDenylist.evict(CacheInvalidation.revokedAccessToken(UUID.fromString(TOKEN_ID), Instant.now().plusSeconds(600)));
+        accessTokenDenylist.evict(CacheInvalidation.revokedAccessToken(UUID.fromString(OTHER_TOKEN_ID), Instant.now().minusSeconds(1)));
+        accessTokenDenylist.evict(CacheInvalidation.user(UUID.fromString(OTHER_TOKEN_ID)));
+
+        assertTrue(accessTokenDenylist.isRevoked(TOKEN_ID));
+        assertFalse(accessTokenDenylist.isRevoked(OTHER_TOKEN_ID));
+        verifyNoInteractions(revokedAccessTokenRepository);
+    }
+
+    @Test
+    void evictAll_shouldReloadRevocationsMissedWhileDisconnected() {
+
+        RevokedAccessToken revokedToken = RevokedAccessToken.builder()
+                .tokenId(TOKEN_ID)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+
+        when(revokedAccessTokenRepository.findByExpiresAtAfter(any(Instant.class))).thenReturn(List.of(revokedToken));
+
+        accessTokenDenylist.evictAll();
+
+        assertTrue(accessTokenDenylist.isRevoked(TOKEN_ID));
+    }
+
+    @Test
+    void purgeExpired_shouldForgetExpiredTokensAndKeepActiveOnes() {
+
+        RevokedAccessToken expiringToken = RevokedAccessToken.builder()
+                .tokenId(TOKEN_ID)
+                .expiresAt(Instant.now().plusMillis(50))
+                .build();
+        RevokedAccessToken activeToken = RevokedAccessToken.builder()
+                .tokenId(OTHER_TOKEN_ID)
+                .expiresAt(Instant.now().plusSeconds(600))
+                .build();
+
+        when(revokedAccessTokenRepository.findByExpiresAtAfter(any(Instant.class))).thenReturn(List.of(expiringToken, activeToken));
+        accessTokenDenylist.loadRevokedTokens();
+
+        await(Instant.now().plusMillis(100));
+        accessTokenDenylist.purgeExpired();
+
+        verify(revokedAccessTokenRepository, times(1)).deleteExpired(any(Instant.class));
+
+        assertFalse(accessTokenDenylist.isRevoked(TOKEN_ID));
+        assertTrue(accessTokenDenylist.isRevoked(OTHER_TOKEN_ID));
+    }
+
+    @Test
+    void isRevoked_shouldNotReportManyUnrevokedTokensAsRevoked() {
+
+        for (int i = 0; i < 1000; i++) {
+            accessTokenDenylist.revoke(UUID.randomUUID().toString(), Instant.now().plusSeconds(600));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(accessTokenDenylist.isRevoked(UUID.randomUUID().toString()));
+        }
+    }
+
+    private static void await(Instant until) {
+        while (Instant.now().isBefore(until)) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.homeandgarden.security.service;
+
+import org.example.homeandgarden.invalidation.CacheInvalidation;
+import org.example.homeandgarden.invalidation.CacheInvalidationPublisher;
+import org.example.homeandgarden.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionServiceTest {
+
+    private static final UUID USER_ID = UUID.fromString("aebc5a49-5b2c-4f63-9f5e-7c1a2b3d4e5f");
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private TokenVersionService tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionService = new TokenVersionService(userRepository, publisher, Duration.ofSeconds(30), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evict_shouldKeepCachedVersionUntilTransactionCommits() {
+
+        when(userRepository.findTokenVersionByUserId(USER_ID)).thenReturn(Optional.of(1), Optional.of(2));
+        assertTrue(tokenVersionService.isCurrent(USER_ID, 1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        tokenVersionService.evict(USER_ID);
+
+        assertTrue(tokenVersionService.isCurrent(USER_ID, 1));
+        verify(publisher).publish(CacheInvalidation.user(USER_ID));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertTrue(tokenVersionService.isCurrent(USER_ID, 2));
+        verify(userRepository, times(2)).findTokenVersionByUserId(USER_ID);
+    }
+
+    @Test
+    void evict_shouldEvictAtOnce_whenNoTransactionIsActive() {
+
+        when(userRepository.findTokenVersionByUserId(USER_ID)).thenReturn(Optional.of(1), Optional.of(2));
+        assertTrue(tokenVersionService.isCurrent(USER_ID, 1));
+
+        tokenVersionService.evict(USER_ID);
+
+        assertFalse(tokenVersionService.isCurrent(USER_ID, 1));
+    }
+}
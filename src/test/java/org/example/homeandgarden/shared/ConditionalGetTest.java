@@ -0,0 +1,111 @@
+package org.example.homeandgarden.shared;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-12-01T12:00:00.123456Z");
+
+    private record Item(String id, Instant updatedAt) {
+    }
+
+    @Test
+    void isNotModified_shouldSetStrongETagAndLastModified_whenRequestIsUnconditional() {
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean notModified = ConditionalGet.isNotModified(webRequest(new MockHttpServletRequest("GET", "/products/1"), response), "1", LAST_MODIFIED);
+
+        assertFalse(notModified);
+        assertTrue(response.getHeader(HttpHeaders.ETAG).matches("^\"[0-9a-f]{32}\"$"));
+        assertEquals(LAST_MODIFIED.toEpochMilli() / 1000 * 1000, response.getDateHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void isNotModified_shouldReturnTrue_whenETagMatches() {
+
+        String eTag = eTagOf("1", LAST_MODIFIED);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(ConditionalGet.isNotModified(webRequest(request, response), "1", LAST_MODIFIED));
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    void isNotModified_shouldReturnFalse_whenResourceChangedAfterETag() {
+
+        String eTag = eTagOf("1", LAST_MODIFIED);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        assertFalse(ConditionalGet.isNotModified(webRequest(request, new MockHttpServletResponse()), "1", LAST_MODIFIED.plusNanos(1000)));
+    }
+
+    @Test
+    void isNotModified_shouldReturnTrue_whenNotModifiedSinceDate() {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED.plusSeconds(60).toEpochMilli());
+
+        assertTrue(ConditionalGet.isNotModified(webRequest(request, new MockHttpServletResponse()), "1", LAST_MODIFIED));
+    }
+
+    @Test
+    void isNotModified_shouldSetWeakETagDependingOnPageElementsAndLatestModification() {
+
+        List<Item> content = List.of(new Item("a", LAST_MODIFIED), new Item("b", null));
+
+        String eTag = pageETagOf(new PageImpl<>(content, PageRequest.of(0, 2), 10));
+
+        assertTrue(eTag.matches("^W/\"[0-9a-f]{32}\"$"));
+        assertEquals(eTag, pageETagOf(new PageImpl<>(content, PageRequest.of(0, 2), 10)));
+        assertNotEquals(eTag, pageETagOf(new PageImpl<>(List.of(new Item("a", LAST_MODIFIED), new Item("b", LAST_MODIFIED.plusSeconds(1))), PageRequest.of(0, 2), 10)));
+        assertNotEquals(eTag, pageETagOf(new PageImpl<>(List.of(new Item("a", LAST_MODIFIED), new Item("c", null)), PageRequest.of(0, 2), 10)));
+        assertNotEquals(eTag, pageETagOf(new PageImpl<>(content, PageRequest.of(0, 2), 11)));
+        assertNotEquals(eTag, pageETagOf(new SliceImpl<>(content, PageRequest.of(0, 2), false)));
+    }
+
+    @Test
+    void isNotModified_shouldReturnTrue_whenPageETagMatches() {
+
+        PageImpl<Item> page = new PageImpl<>(List.of(new Item("a", LAST_MODIFIED)), PageRequest.of(0, 10), 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/categories");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, pageETagOf(page));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(ConditionalGet.isNotModified(webRequest(request, response), page, Item::id, Item::updatedAt));
+        assertEquals(304, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    private static ServletWebRequest webRequest(MockHttpServletRequest request, MockHttpServletResponse response) {
+        return new ServletWebRequest(request, response);
+    }
+
+    private static String eTagOf(Object id, Instant lastModified) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ConditionalGet.isNotModified(webRequest(new MockHttpServletRequest("GET", "/"), response), id, lastModified);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private static String pageETagOf(Slice<Item> slice) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ConditionalGet.isNotModified(webRequest(new MockHttpServletRequest("GET", "/"), response), slice, Item::id, Item::updatedAt);
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+}
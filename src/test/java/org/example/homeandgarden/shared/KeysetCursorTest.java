@@ -0,0 +1,52 @@
+package org.example.homeandgarden.shared;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("f81d4fae-7dec-11d0-a765-00a0c91e6bf6");
+
+    @Test
+    void decode_shouldRestoreTypedKeysOfEncodedPosition() {
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("addedAt", Instant.parse("2024-12-01T12:00:00.123456Z"));
+        keys.put("currentPrice", new BigDecimal("19.90"));
+        keys.put("productName", "Pots & Pans = 50% off");
+        keys.put("productId", PRODUCT_ID);
+
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(keys));
+        ScrollPosition decoded = KeysetCursor.decode(cursor, keys.keySet());
+
+        assertTrue(cursor.matches("^[A-Za-z0-9_-]+$"));
+        assertEquals(keys, ((KeysetScrollPosition) decoded).getKeys());
+    }
+
+    @Test
+    void decode_shouldStartFromBeginningForEmptyCursor() {
+
+        ScrollPosition decoded = KeysetCursor.decode("", Set.of("addedAt", "productId"));
+
+        assertTrue(decoded.isInitial());
+    }
+
+    @Test
+    void decode_shouldThrowIllegalArgumentExceptionForTamperedCursor() {
+
+        IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class, () ->
+                KeysetCursor.decode("bm90LWEtY3Vyc29y", Set.of("addedAt", "productId")));
+
+        assertEquals("Invalid cursor: Pass the 'nextCursor' of the previous page unchanged.", thrownException.getMessage());
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.homeandgarden.shared;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RowCountEstimatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private RowCountEstimator rowCountEstimator;
+
+    private static final String PLAN = """
+            [{"Plan": {"Node Type": "Seq Scan", "Relation Name": "users", "Startup Cost": 0.00, "Total Cost": 12.50, "Plan Rows": 245, "Plan Width": 0}}]
+            """;
+
+    @Test
+    void estimate_shouldExplainFilteredSelectAndReturnPlannedRows() {
+
+        Map<String, Object> conditions = new LinkedHashMap<>();
+        conditions.put("is_enabled", true);
+        conditions.put("is_non_locked", false);
+
+        when(jdbcTemplate.queryForObject(eq("EXPLAIN (FORMAT JSON) SELECT 1 FROM users WHERE is_enabled = ? AND is_non_locked = ?"), eq(String.class), eq(true), eq(false))).thenReturn(PLAN);
+
+        assertEquals(245L, rowCountEstimator.estimate("users", conditions));
+    }
+
+    @Test
+    void estimate_shouldExplainWholeTableWhenNoConditions() {
+
+        when(jdbcTemplate.queryForObject(eq("EXPLAIN (FORMAT JSON) SELECT 1 FROM users"), eq(String.class), any(Object[].class))).thenReturn(PLAN);
+
+        assertEquals(245L, rowCountEstimator.estimate("users", Map.of()));
+    }
+
+    @Test
+    void estimate_shouldReturnNullWhenDatabaseCannotExplain() {
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(String.class), any(Object[].class))).thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        assertNull(rowCountEstimator.estimate("users", Map.of()));
+    }
+
+    @Test
+    void parsePlanRows_shouldReturnNullForPlanWithoutRowEstimate() {
+
+        assertNull(RowCountEstimator.parsePlanRows("[{\"Plan\": {}}]"));
+        assertNull(RowCountEstimator.parsePlanRows(null));
+    }
+}
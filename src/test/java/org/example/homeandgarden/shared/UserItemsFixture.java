@@ -0,0 +1,51 @@
+package org.example.homeandgarden.shared;
+
+import org.example.homeandgarden.category.entity.Category;
+import org.example.homeandgarden.product.entity.Product;
+import org.example.homeandgarden.user.entity.User;
+import org.example.homeandgarden.user.entity.enums.UserRole;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Test data for the per-user item lists (cart, wish list): one client with one item for each of {@code count} new
+ * products named {@code "<name> Test Product <index>"}.
+ */
+public final class UserItemsFixture {
+
+    private UserItemsFixture() {
+    }
+
+    /**
+     * Persists the user, the products and the items created by {@code item}, then flushes and clears the persistence
+     * context. Returns the id of the user.
+     */
+    public static UUID persistUserWithItems(TestEntityManager entityManager, String name, int count, BiFunction<User, Product, ?> item) {
+
+        Category category = entityManager.persist(Category.builder().categoryName(name + " Test Category").build());
+        User user = entityManager.persist(User.builder()
+                .email(name.toLowerCase().replace(' ', '-') + "-repository-test@example.com")
+                .passwordHash("hash")
+                .firstName("First")
+                .lastName("Last")
+                .userRole(UserRole.CLIENT)
+                .build());
+
+        for (int index = 0; index < count; index++) {
+            Product product = entityManager.persist(Product.builder()
+                    .productName(name + " Test Product " + index)
+                    .description("Description")
+                    .listPrice(BigDecimal.TEN)
+                    .currentPrice(BigDecimal.TEN)
+                    .category(category)
+                    .build());
+            entityManager.persist(item.apply(user, product));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return user.getUserId();
+    }
+}
@@ -210,7 +210,7 @@ class UserControllerTest {
         PageRequest pageRequest = PageRequest.of(0, 2, Sort.Direction.DESC, "addedAt");
         Page<WishListItemResponse> mockPage = new PageImpl<>(content, pageRequest, 5);
 
-        when(wishListService.getMyWishListItems(eq(USER_EMAIL), eq(2), eq(0), eq("DESC"))).thenReturn(mockPage);
+        when(wishListService.getMyWishListItems(eq(USER_ID), eq(2), eq(0), eq("DESC"))).thenReturn(mockPage);
 
         mockMvc.perform(get("/users/me/wishListItems")
                         .with(user(USER_DETAILS))
@@ -233,7 +233,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(5))
                 .andExpect(jsonPath("$.totalPages").value(3));
 
-        verify(wishListService, times(1)).getMyWishListItems(eq(USER_EMAIL), eq(2), eq(0), eq("DESC"));
+        verify(wishListService, times(1)).getMyWishListItems(eq(USER_ID), eq(2), eq(0), eq("DESC"));
     }
 
 
@@ -283,7 +283,7 @@ class UserControllerTest {
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "addedAt");
         Page<WishListItemResponse> mockPage = new PageImpl<>(content, pageRequest, 10);
 
-        when(wishListService.getMyWishListItems(eq(USER_EMAIL), eq(10), eq(0), eq("ASC")))
+        when(wishListService.getMyWishListItems(eq(USER_ID), eq(10), eq(0), eq("ASC")))
                 .thenReturn(mockPage);
 
         mockMvc.perform(get("/users/me/wishListItems")
@@ -304,7 +304,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(10))
                 .andExpect(jsonPath("$.totalPages").value(1));
 
-        verify(wishListService, times(1)).getMyWishListItems(eq(USER_EMAIL), eq(10), eq(0), eq("ASC"));
+        verify(wishListService, times(1)).getMyWishListItems(eq(USER_ID), eq(10), eq(0), eq("ASC"));
     }
 
     @Test
@@ -390,7 +390,7 @@ class UserControllerTest {
         PageRequest pageRequest = PageRequest.of(0, 2, Sort.Direction.DESC, "quantity");
         Page<CartItemResponse> mockPage = new PageImpl<>(content, pageRequest, 5);
 
-        when(cartService.getMyCartItems(eq(USER_EMAIL), eq(2), eq(0), eq("DESC"), eq("quantity"))).thenReturn(mockPage);
+        when(cartService.getMyCartItems(eq(USER_ID), eq(2), eq(0), eq("DESC"), eq("quantity"))).thenReturn(mockPage);
 
         mockMvc.perform(get("/users/me/cartItems")
                         .with(user(USER_DETAILS))
@@ -415,7 +415,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(5))
                 .andExpect(jsonPath("$.totalPages").value(3));
 
-        verify(cartService, times(1)).getMyCartItems(eq(USER_EMAIL), eq(2), eq(0), eq("DESC"), eq("quantity"));
+        verify(cartService, times(1)).getMyCartItems(eq(USER_ID), eq(2), eq(0), eq("DESC"), eq("quantity"));
     }
 
     @Test
@@ -467,7 +467,7 @@ class UserControllerTest {
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "addedAt");
         Page<CartItemResponse> mockPage = new PageImpl<>(content, pageRequest, 2);
 
-        when(cartService.getMyCartItems(eq(USER_EMAIL), eq(10), eq(0), eq("ASC"), eq("addedAt")))
+        when(cartService.getMyCartItems(eq(USER_ID), eq(10), eq(0), eq("ASC"), eq("addedAt")))
                 .thenReturn(mockPage);
 
         mockMvc.perform(get("/users/me/cartItems")
@@ -490,7 +490,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(2))
                 .andExpect(jsonPath("$.totalPages").value(1));
 
-        verify(cartService, times(1)).getMyCartItems(eq(USER_EMAIL), eq(10), eq(0), eq("ASC"), eq("addedAt"));
+        verify(cartService, times(1)).getMyCartItems(eq(USER_ID), eq(10), eq(0), eq("ASC"), eq("addedAt"));
     }
 
     @Test
@@ -592,7 +592,7 @@ class UserControllerTest {
         PageRequest pageRequest = PageRequest.of(0, 2, Sort.Direction.DESC, "status");
         Page<OrderResponse> mockPage = new PageImpl<>(content, pageRequest, 5);
 
-        when(orderService.getMyOrders(eq(USER_EMAIL), eq(2), eq(0), eq("DESC"), eq("status"))).thenReturn(mockPage);
+        when(orderService.getMyOrders(eq(USER_ID), eq(2), eq(0), eq("DESC"), eq("status"))).thenReturn(mockPage);
 
         mockMvc.perform(get("/users/me/orders")
                         .with(user(USER_DETAILS))
@@ -630,7 +630,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(5))
                 .andExpect(jsonPath("$.totalPages").value(3));
 
-        verify(orderService, times(1)).getMyOrders(eq(USER_EMAIL), eq(2), eq(0), eq("DESC"), eq("status"));
+        verify(orderService, times(1)).getMyOrders(eq(USER_ID), eq(2), eq(0), eq("DESC"), eq("status"));
     }
 
     @Test
@@ -682,7 +682,7 @@ class UserControllerTest {
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "createdAt");
         Page<OrderResponse> mockPage = new PageImpl<>(content, pageRequest, 2);
 
-        when(orderService.getMyOrders(eq(USER_EMAIL), eq(10), eq(0), eq("ASC"), eq("createdAt"))).thenReturn(mockPage);
+        when(orderService.getMyOrders(eq(USER_ID), eq(10), eq(0), eq("ASC"), eq("createdAt"))).thenReturn(mockPage);
 
         mockMvc.perform(get("/users/me/orders")
                         .with(user(USER_DETAILS))
@@ -716,7 +716,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(2))
                 .andExpect(jsonPath("$.totalPages").value(1));
 
-        verify(orderService, times(1)).getMyOrders(eq(USER_EMAIL), eq(10), eq(0), eq("ASC"), eq("createdAt"));
+        verify(orderService, times(1)).getMyOrders(eq(USER_ID), eq(10), eq(0), eq("ASC"), eq("createdAt"));
     }
 
     @Test
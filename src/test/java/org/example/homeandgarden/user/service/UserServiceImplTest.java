@@ -3,6 +3,8 @@ package org.example.homeandgarden.user.service;
 import org.example.homeandgarden.exception.DataNotFoundException;
 import org.example.homeandgarden.exception.UserDisabledException;
 import org.example.homeandgarden.exception.UserLockedException;
+import org.example.homeandgarden.authentication.service.RefreshSessionService;
+import org.example.homeandgarden.security.service.TokenVersionService;
 import org.example.homeandgarden.shared.MessageResponse;
 import org.example.homeandgarden.user.dto.ChangePasswordRequest;
 import org.example.homeandgarden.user.dto.UserResponse;
@@ -44,6 +46,12 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenVersionService tokenVersionService;
+
+    @Mock
+    private RefreshSessionService refreshSessionService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -976,7 +984,9 @@ class UserServiceImplTest {
 
         verify(userRepository, times(1)).findById(USER_ID);
         verify(userRepository, times(1)).saveAndFlush(userCaptor.capture());
+        verify(tokenVersionService, times(1)).evict(USER_ID);
         User capturedUser = userCaptor.getValue();
+        assertEquals(1, capturedUser.getTokenVersion());
         assertNotNull(capturedUser);
         assertEquals(existingUser.getUserId(), capturedUser.getUserId());
         assertEquals(existingUser.getEmail(), capturedUser.getEmail());
@@ -1038,6 +1048,7 @@ class UserServiceImplTest {
 
         verify(userRepository, times(1)).findById(USER_ID);
         verify(userRepository, never()).saveAndFlush(any(User.class));
+        verify(tokenVersionService, never()).evict(any(UUID.class));
 
         assertEquals(String.format("User with id: %s, is locked and his userRole can not be changed.", USER_ID), thrownException.getMessage());
     }
@@ -1138,7 +1149,9 @@ class UserServiceImplTest {
 
         verify(userRepository, times(1)).findById(USER_ID);
         verify(userRepository, times(1)).saveAndFlush(userCaptor.capture());
+        verify(tokenVersionService, times(1)).evict(USER_ID);
         User capturedUser = userCaptor.getValue();
+        assertEquals(1, capturedUser.getTokenVersion());
         assertNotNull(capturedUser);
         assertEquals(existingUser.getUserId(), capturedUser.getUserId());
         assertEquals(existingUser.getEmail(), capturedUser.getEmail());
@@ -1197,7 +1210,9 @@ class UserServiceImplTest {
 
         verify(userRepository, times(1)).findById(USER_ID);
         verify(userRepository, times(1)).saveAndFlush(userCaptor.capture());
+        verify(tokenVersionService, times(1)).evict(USER_ID);
         User capturedUser = userCaptor.getValue();
+        assertEquals(1, capturedUser.getTokenVersion());
         assertNotNull(capturedUser);
         assertEquals(existingUser.getUserId(), capturedUser.getUserId());
         assertEquals(existingUser.getEmail(), capturedUser.getEmail());
@@ -1259,6 +1274,7 @@ class UserServiceImplTest {
 
         verify(userRepository, times(1)).findById(USER_ID);
         verify(userRepository, never()).saveAndFlush(any(User.class));
+        verify(tokenVersionService, never()).evict(any(UUID.class));
 
         assertEquals(String.format("User with id: %s, is disabled and can not be locked or unlocked.", USER_ID), thrown.getMessage());
     }
@@ -1309,11 +1325,13 @@ class UserServiceImplTest {
         verify(passwordEncoder, times(1)).matches(PASSWORD, PASSWORD_HASH);
         verify(userRepository, times(1)).saveAndFlush(userCaptor.capture());
 
+        verify(refreshSessionService, times(1)).closeAllSessions(USER_ID);
+        verify(tokenVersionService, times(1)).evict(USER_ID);
         User capturedUser = userCaptor.getValue();
+        assertEquals(1, capturedUser.getTokenVersion());
         assertEquals(String.format("%s@example.com", USER_ID), capturedUser.getEmail());
         assertEquals("Disabled User", capturedUser.getFirstName());
         assertEquals("Disabled User", capturedUser.getLastName());
-        assertNull(capturedUser.getRefreshToken());
         assertFalse(capturedUser.getIsEnabled());
 
         assertNotNull(messageResponse);
@@ -0,0 +1,44 @@
+package org.example.homeandgarden.wishlist.repository;
+
+import org.example.homeandgarden.wishlist.entity.WishListItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.example.homeandgarden.metrics.SqlStatementAssertions.assertMaxStatements;
+import static org.example.homeandgarden.shared.UserItemsFixture.persistUserWithItems;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class WishListRepositoryTest {
+
+    @Autowired
+    private WishListRepository wishListRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findByUserUserId_shouldLoadProductsWithItemsAndCountSeparately() throws Throwable {
+
+        UUID userId = persistUserWithItems(entityManager, "Wish List", 12, (user, product) -> WishListItem.builder().user(user).product(product).build());
+
+        List<String> productNames = assertMaxStatements(2, () -> {
+            Page<WishListItem> wishListPage = wishListRepository.findByUserUserId(userId, PageRequest.of(0, 5, Sort.Direction.DESC, "addedAt"));
+            assertEquals(12, wishListPage.getTotalElements());
+            return wishListPage.map(item -> item.getProduct().getProductName()).getContent();
+        });
+
+        assertEquals(5, productNames.size());
+        assertTrue(productNames.stream().allMatch(name -> name.startsWith("Wish List Test Product")));
+    }
+}
@@ -328,16 +328,15 @@ class WishListServiceImplTest {
                 .product(productResponse2)
                 .build();
 
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
         when(wishListRepository.findByUserUserId(existingUser.getUserId(), pageRequest)).thenReturn(wishListItemPage);
         when(productMapper.productToResponse(product1)).thenReturn(productResponse1);
         when(wishListMapper.wishListItemToResponse(wishListItem1, productResponse1)).thenReturn(wishListItemResponse1);
         when(productMapper.productToResponse(product2)).thenReturn(productResponse2);
         when(wishListMapper.wishListItemToResponse(wishListItem2, productResponse2)).thenReturn(wishListItemResponse2);
 
-        Page<WishListItemResponse> actualResponse = wishListService.getMyWishListItems(USER_EMAIL, SIZE, PAGE, ORDER);
+        Page<WishListItemResponse> actualResponse = wishListService.getMyWishListItems(existingUser.getUserId(), SIZE, PAGE, ORDER);
 
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
+        verify(userRepository, never()).findByEmail(anyString());
         verify(wishListRepository, times(1)).findByUserUserId(existingUser.getUserId(), pageRequest);
         verify(productMapper, times(1)).productToResponse(product1);
         verify(wishListMapper, times(1)).wishListItemToResponse(wishListItem1, productResponse1);
@@ -357,21 +356,6 @@ class WishListServiceImplTest {
         assertEquals(wishListItemResponse2.getWishListItemId(), actualResponse.getContent().get(1).getWishListItemId());
     }
 
-    @Test
-    void getMyWishListItems_shouldThrowDataNotFoundExceptionWhenUserDoesNotExist() {
-
-        when(userRepository.findByEmail(NON_EXISTING_USER_EMAIL)).thenReturn(Optional.empty());
-
-        DataNotFoundException thrownException = assertThrows(DataNotFoundException.class, () -> wishListService.getMyWishListItems(NON_EXISTING_USER_EMAIL, SIZE, PAGE, ORDER));
-
-        verify(userRepository, times(1)).findByEmail(NON_EXISTING_USER_EMAIL);
-        verify(wishListRepository, never()).findByUserUserId(any(UUID.class), any(PageRequest.class));
-        verify(productMapper, never()).productToResponse(any(Product.class));
-        verify(wishListMapper, never()).wishListItemToResponse(any(WishListItem.class), any(ProductResponse.class));
-
-        assertEquals(String.format("User with email: %s, was not found.", NON_EXISTING_USER_EMAIL), thrownException.getMessage());
-    }
-
     @Test
     void getMyWishListItems_shouldReturnEmptyPagedModelUserWishListIsEmpty() {
 
@@ -392,12 +376,11 @@ class WishListServiceImplTest {
 
         Page<WishListItem> emptyWishListItemPage = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
 
-        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(existingUser));
         when(wishListRepository.findByUserUserId(existingUser.getUserId(), pageRequest)).thenReturn(emptyWishListItemPage);
 
-        Page<WishListItemResponse> actualResponse = wishListService.getMyWishListItems(USER_EMAIL, SIZE, PAGE, ORDER);
+        Page<WishListItemResponse> actualResponse = wishListService.getMyWishListItems(existingUser.getUserId(), SIZE, PAGE, ORDER);
 
-        verify(userRepository, times(1)).findByEmail(USER_EMAIL);
+        verify(userRepository, never()).findByEmail(anyString());
         verify(wishListRepository, times(1)).findByUserUserId(existingUser.getUserId(), pageRequest);
         verify(productMapper, never()).productToResponse(any(Product.class));
         verify(wishListMapper, never()).wishListItemToResponse(any(WishListItem.class), any(ProductResponse.class));